@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.lookup.FieldBinding;
+import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
+import org.eclipse.jdt.internal.compiler.lookup.MethodBinding;
+import org.eclipse.jdt.internal.compiler.lookup.ReferenceBinding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates the bindings of the class files of the corpus in a new {@link LookupEnvironment}, and of the JDK types
+ * their members refer to, as done when compiling against a library.
+ * <p>
+ * The class files are read from a class folder and the JDK, whose contents are cached by the name environment
+ * shared by all the invocations: the benchmark measures the decoding of the class files and the creation of the
+ * bindings, not I/O.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryTypeBenchmark {
+
+	private Path classFolder;
+	private FileSystem nameEnvironment;
+	private char[][][] typeNames;
+
+	@Setup
+	public void setup() throws IOException {
+		Corpus corpus = Corpus.load();
+		this.classFolder = Files.createTempDirectory("corpus"); //$NON-NLS-1$
+		this.typeNames = corpus.compileTo(this.classFolder).keySet().stream()
+				.filter(name -> name.indexOf('$') < 0) // member types are reached from their enclosing type
+				.map(name -> CharOperation.splitOn('/', name.toCharArray()))
+				.toArray(char[][][]::new);
+		this.nameEnvironment = Corpus.nameEnvironment(this.classFolder.toString());
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		this.nameEnvironment.cleanup();
+		try (Stream<Path> files = Files.walk(this.classFolder)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@Benchmark
+	public int createBindings() {
+		LookupEnvironment environment = Corpus.newCompiler(this.nameEnvironment, result -> { /* no sources */ }).lookupEnvironment;
+		int members = 0;
+		for (char[][] typeName : this.typeNames)
+			members += complete(environment.getType(typeName));
+		return members;
+	}
+
+	private int complete(ReferenceBinding type) {
+		type.superclass();
+		type.superInterfaces();
+		int members = 0;
+		for (MethodBinding method : type.methods()) {
+			method.returnType.erasure();
+			members++;
+		}
+		for (FieldBinding field : type.fields()) {
+			field.type.erasure();
+			members++;
+		}
+		for (ReferenceBinding memberType : type.memberTypes())
+			members += complete(memberType);
+		return members;
+	}
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.eclipse.jdt.internal.compiler.parser.TerminalToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Applies the {@link CharOperation} utilities most used by the compiler to the identifiers and the qualified names
+ * (imports and packages) of the corpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharOperationBenchmark {
+
+	private char[][] identifiers;
+	/** Copies of the identifiers, so that equality is not decided by identity */
+	private char[][] copies;
+	private char[][][] compoundNames;
+	private char[][] qualifiedNames;
+
+	@Setup
+	public void setup() throws InvalidInputException {
+		List<char[]> names = new ArrayList<>();
+		List<char[][]> compounds = new ArrayList<>();
+		Scanner scanner = new Scanner(false, false, false, ClassFileConstants.JDK17, null, null, true);
+		for (char[] source : Corpus.load().contents) {
+			scanner.setSource(source);
+			List<char[]> compound = new ArrayList<>();
+			TerminalToken token;
+			while ((token = scanner.getNextToken()) != TerminalToken.TokenNameEOF) {
+				if (token == TerminalToken.TokenNameIdentifier) {
+					char[] name = scanner.getCurrentIdentifierSource();
+					names.add(name);
+					compound.add(name);
+				} else if (token != TerminalToken.TokenNameDOT) {
+					if (compound.size() > 1)
+						compounds.add(compound.toArray(new char[compound.size()][]));
+					compound.clear();
+				}
+			}
+		}
+		this.identifiers = names.toArray(new char[names.size()][]);
+		this.copies = new char[this.identifiers.length][];
+		for (int i = 0; i < this.identifiers.length; i++)
+			this.copies[i] = this.identifiers[i].clone();
+		this.compoundNames = compounds.toArray(new char[compounds.size()][][]);
+		this.qualifiedNames = new char[this.compoundNames.length][];
+		for (int i = 0; i < this.compoundNames.length; i++)
+			this.qualifiedNames[i] = CharOperation.concatWith(this.compoundNames[i], '.');
+	}
+
+	@Benchmark
+	public int equal() {
+		int count = 0;
+		for (int i = 0; i < this.identifiers.length; i++) {
+			if (CharOperation.equals(this.identifiers[i], this.copies[i]))
+				count++;
+			if (i > 0 && CharOperation.equals(this.identifiers[i], this.identifiers[i - 1]))
+				count++;
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int hash() {
+		int hash = 0;
+		for (char[] identifier : this.identifiers)
+			hash += CharOperation.hashCode(identifier);
+		return hash;
+	}
+
+	@Benchmark
+	public int indexOf() {
+		int sum = 0;
+		for (char[] identifier : this.identifiers)
+			sum += CharOperation.indexOf('e', identifier) + CharOperation.lastIndexOf('t', identifier);
+		return sum;
+	}
+
+	@Benchmark
+	public int concatWith() {
+		int length = 0;
+		for (char[][] compoundName : this.compoundNames)
+			length += CharOperation.concatWith(compoundName, '/').length;
+		return length;
+	}
+
+	@Benchmark
+	public int splitOn() {
+		int segments = 0;
+		for (char[] qualifiedName : this.qualifiedNames)
+			segments += CharOperation.splitOn('.', qualifiedName).length;
+		return segments;
+	}
+
+	@Benchmark
+	public int replace() {
+		int count = 0;
+		for (char[] qualifiedName : this.qualifiedNames) {
+			char[] copy = qualifiedName.clone();
+			CharOperation.replace(copy, '.', '/');
+			if (copy[copy.length - 1] != '.')
+				count++;
+		}
+		return count;
+	}
+}
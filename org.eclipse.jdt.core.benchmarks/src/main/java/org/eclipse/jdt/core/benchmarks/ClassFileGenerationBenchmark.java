@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Generates the class files of the corpus from resolved and analyzed units, exercising
+ * {@link org.eclipse.jdt.internal.compiler.codegen.CodeStream} and {@link ClassFile}.
+ * <p>
+ * Code generation cannot be run twice on the same units, so each invocation is given units freshly resolved by an
+ * untimed setup. The time of an invocation being in the order of milliseconds, the overhead of such a setup on the
+ * measure is negligible.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClassFileGenerationBenchmark {
+
+	private Corpus corpus;
+	private FileSystem nameEnvironment;
+	private CompilationUnitDeclaration[] units;
+
+	@Setup
+	public void setup() {
+		this.corpus = Corpus.load();
+		this.nameEnvironment = Corpus.nameEnvironment();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.nameEnvironment.cleanup();
+	}
+
+	@Setup(Level.Invocation)
+	public void resolve() {
+		// the units of the corpus do not refer to each other, they can be resolved one at a time
+		Compiler compiler = Corpus.newCompiler(this.nameEnvironment, result -> { /* ignore */ });
+		CompilationUnit[] sources = this.corpus.units();
+		this.units = new CompilationUnitDeclaration[sources.length];
+		for (int i = 0; i < sources.length; i++)
+			this.units[i] = compiler.resolve(sources[i], true, true, false);
+	}
+
+	@Benchmark
+	public int generate() {
+		int size = 0;
+		for (CompilationUnitDeclaration unit : this.units) {
+			unit.generateCode();
+			for (ClassFile classFile : unit.compilationResult.getClassFiles())
+				size += classFile.getBytes().length;
+		}
+		return size;
+	}
+}
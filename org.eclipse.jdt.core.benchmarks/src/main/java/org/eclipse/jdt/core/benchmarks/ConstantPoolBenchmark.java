@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Generates the class files of generated sources whose constant pools are large, like the ones of generated
+ * accessors and mappers: each class refers to many of its fields and methods, to many strings and to library members,
+ * exercising {@link org.eclipse.jdt.internal.compiler.codegen.ConstantPool}.
+ * <p>
+ * As in {@link ClassFileGenerationBenchmark}, each invocation is given units freshly resolved by an untimed setup.
+ * The class files are given back once generated, so that their constant pools are reused as in a batch compilation.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConstantPoolBenchmark {
+
+	private static final int TYPES = 20;
+
+	/** Number of fields, and of methods, of each generated class */
+	@Param({ "100", "1000" })
+	public int members;
+
+	private char[][] sources;
+	private FileSystem nameEnvironment;
+	private Compiler compiler;
+	private CompilationUnitDeclaration[] units;
+
+	@Setup
+	public void setup() {
+		this.sources = new char[TYPES][];
+		for (int i = 0; i < TYPES; i++)
+			this.sources[i] = generate(i, this.members).toCharArray();
+		this.nameEnvironment = Corpus.nameEnvironment();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.nameEnvironment.cleanup();
+	}
+
+	private static String generate(int type, int members) {
+		StringBuilder source = new StringBuilder();
+		source.append("package generated;\n"); //$NON-NLS-1$
+		source.append("public class G").append(type).append(" {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int i = 0; i < members; i++) {
+			source.append("\tpublic String f").append(i).append(" = \"").append(type).append('_').append(i).append("\";\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			source.append("\tpublic String m").append(i).append("(G").append(type).append(" other, int i) {\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			source.append("\t\treturn i == 0 ? this.f").append(i).append(" : other.m").append((i + 1) % members) //$NON-NLS-1$ //$NON-NLS-2$
+					.append("(null, i - 1) + other.f").append(i).append(" + java.util.Objects.toString(\"") //$NON-NLS-1$ //$NON-NLS-2$
+					.append(i).append("\");\n\t}\n"); //$NON-NLS-1$
+		}
+		source.append("}\n"); //$NON-NLS-1$
+		return source.toString();
+	}
+
+	@Setup(Level.Invocation)
+	public void resolve() {
+		// the generated units do not refer to each other, they can be resolved one at a time
+		this.compiler = Corpus.newCompiler(this.nameEnvironment, result -> { /* ignore */ });
+		this.units = new CompilationUnitDeclaration[TYPES];
+		for (int i = 0; i < TYPES; i++) {
+			CompilationUnit source = new CompilationUnit(this.sources[i], "generated/G" + i + ".java", "UTF-8"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			this.units[i] = this.compiler.resolve(source, true, true, false);
+		}
+	}
+
+	@Benchmark
+	public int generate() {
+		int size = 0;
+		for (CompilationUnitDeclaration unit : this.units) {
+			unit.generateCode();
+			for (ClassFile classFile : unit.compilationResult.getClassFiles())
+				size += classFile.getBytes().length;
+			// give the class files back for the next units, as Compiler.process(..) does
+			this.compiler.lookupEnvironment.releaseClassFiles(unit.compilationResult.getClassFiles());
+		}
+		return size;
+	}
+}
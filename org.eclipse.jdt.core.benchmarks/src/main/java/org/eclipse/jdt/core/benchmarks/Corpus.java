@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.ICompilerRequestor;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.INameEnvironment;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.eclipse.jdt.internal.compiler.util.JRTUtil;
+
+/**
+ * The sources the benchmarks work on, bundled as resources of this module so that the numbers of two runs can be
+ * compared. The sources are listed by <code>corpus/files.txt</code> and compile without error at Java 17 against
+ * the JDK running the benchmarks, which is the only other input.
+ */
+public final class Corpus {
+
+	private static final String INDEX = "corpus/files.txt"; //$NON-NLS-1$
+	private static final String RELEASE = CompilerOptions.VERSION_17;
+
+	/** Resource names of the sources, e.g. <code>corpus/graph/Graph.java</code> */
+	public final String[] fileNames;
+	public final char[][] contents;
+
+	private Corpus(String[] fileNames, char[][] contents) {
+		this.fileNames = fileNames;
+		this.contents = contents;
+	}
+
+	public static Corpus load() {
+		List<String> names = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(INDEX), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (!line.isEmpty())
+					names.add(line);
+			}
+			char[][] contents = new char[names.size()][];
+			for (int i = 0; i < contents.length; i++) {
+				try (InputStream stream = open(names.get(i))) {
+					contents[i] = new String(stream.readAllBytes(), StandardCharsets.UTF_8).toCharArray();
+				}
+			}
+			return new Corpus(names.toArray(new String[names.size()]), contents);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static InputStream open(String resource) throws IOException {
+		InputStream stream = Corpus.class.getClassLoader().getResourceAsStream(resource);
+		if (stream == null)
+			throw new IOException("Missing corpus resource " + resource); //$NON-NLS-1$
+		return stream;
+	}
+
+	/**
+	 * Answers a new compilation unit for each source of the corpus, or for the ones whose name ends with the given
+	 * suffix. A compilation unit must not be given to several compilers, as it remembers its module binding.
+	 */
+	public CompilationUnit[] units(String suffix) {
+		List<CompilationUnit> units = new ArrayList<>();
+		for (int i = 0; i < this.fileNames.length; i++) {
+			if (suffix == null || this.fileNames[i].endsWith(suffix))
+				units.add(new CompilationUnit(this.contents[i], this.fileNames[i], "UTF-8")); //$NON-NLS-1$
+		}
+		return units.toArray(new CompilationUnit[units.size()]);
+	}
+
+	public CompilationUnit[] units() {
+		return units(null);
+	}
+
+	public static CompilerOptions options() {
+		Map<String, String> settings = new CompilerOptions().getMap();
+		settings.put(CompilerOptions.OPTION_Compliance, RELEASE);
+		settings.put(CompilerOptions.OPTION_Source, RELEASE);
+		settings.put(CompilerOptions.OPTION_TargetPlatform, RELEASE);
+		CompilerOptions options = new CompilerOptions(settings);
+		options.performMethodsFullRecovery = false;
+		options.performStatementsRecovery = false;
+		return options;
+	}
+
+	/**
+	 * Answers a name environment on the running JDK, followed by the given class folders.
+	 */
+	public static FileSystem nameEnvironment(String... folders) {
+		String[] classpath = new String[folders.length + 1];
+		classpath[0] = Paths.get(System.getProperty("java.home"), "lib", JRTUtil.JRT_FS_JAR).toString(); //$NON-NLS-1$ //$NON-NLS-2$
+		System.arraycopy(folders, 0, classpath, 1, folders.length);
+		return new FileSystem(classpath, null, "UTF-8"); //$NON-NLS-1$
+	}
+
+	public static Compiler newCompiler(INameEnvironment environment, ICompilerRequestor requestor) {
+		return new Compiler(environment, DefaultErrorHandlingPolicies.proceedWithAllProblems(), options(), requestor,
+				new DefaultProblemFactory());
+	}
+
+	/**
+	 * Compiles the corpus, and answers the bytes of the generated class files by class file name, e.g.
+	 * <code>corpus/graph/Graph$Edge</code>.
+	 *
+	 * @throws IllegalStateException if the corpus does not compile
+	 */
+	public Map<String, byte[]> compile() {
+		Map<String, byte[]> classFiles = new LinkedHashMap<>();
+		FileSystem environment = nameEnvironment();
+		try {
+			newCompiler(environment, result -> {
+				if (result.hasErrors()) {
+					for (CategorizedProblem problem : result.getErrors())
+						throw new IllegalStateException(new String(result.getFileName()) + ':' + problem.getSourceLineNumber()
+								+ ": " + problem.getMessage()); //$NON-NLS-1$
+				}
+				for (ClassFile classFile : result.getClassFiles())
+					classFiles.put(new String(classFile.fileName()), classFile.getBytes());
+			}).compile(units());
+		} finally {
+			environment.cleanup();
+		}
+		return classFiles;
+	}
+
+	/**
+	 * Compiles the corpus into the given folder, and answers the bytes of the generated class files as
+	 * {@link #compile()} does.
+	 */
+	public Map<String, byte[]> compileTo(Path folder) throws IOException {
+		Map<String, byte[]> classFiles = compile();
+		for (Map.Entry<String, byte[]> entry : classFiles.entrySet()) {
+			Path file = folder.resolve(entry.getKey() + ".class"); //$NON-NLS-1$
+			Files.createDirectories(file.getParent());
+			Files.write(file, entry.getValue());
+		}
+		return classFiles;
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolves the stream pipelines of the corpus, whose resolution time is dominated by the type inference of generic
+ * method invocations, lambda expressions and method references (see
+ * {@link org.eclipse.jdt.internal.compiler.lookup.InferenceContext18}).
+ * <p>
+ * Each invocation uses a new compiler, so that no inference result is reused from a previous invocation, but the
+ * JDK types are read from the name environment shared by all the invocations.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InferenceBenchmark {
+
+	private Corpus corpus;
+	private FileSystem nameEnvironment;
+
+	@Setup
+	public void setup() {
+		this.corpus = Corpus.load();
+		this.nameEnvironment = Corpus.nameEnvironment();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.nameEnvironment.cleanup();
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration resolve() {
+		// a compilation unit is bound to the module of the first compiler using it
+		CompilationUnit unit = this.corpus.units("/Pipelines.java")[0]; //$NON-NLS-1$
+		CompilationUnitDeclaration declaration = Corpus.newCompiler(this.nameEnvironment, result -> { /* ignore */ })
+				.resolve(unit, true, false, false);
+		if (declaration.compilationResult.hasErrors())
+			throw new IllegalStateException(declaration.compilationResult.toString());
+		return declaration;
+	}
+}
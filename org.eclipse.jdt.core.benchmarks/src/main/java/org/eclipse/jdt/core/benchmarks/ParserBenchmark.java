@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses the whole corpus, either fully or skipping the method bodies as done by the compiler before resolving the
+ * types (diet parse).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+	@Param({ "full", "diet" })
+	public String mode;
+
+	private CompilationUnit[] units;
+	private CompilerOptions options;
+	private Parser parser;
+	private boolean diet;
+
+	@Setup
+	public void setup() {
+		this.units = Corpus.load().units();
+		this.options = Corpus.options();
+		this.parser = new Parser(
+				new ProblemReporter(DefaultErrorHandlingPolicies.proceedWithAllProblems(), this.options, new DefaultProblemFactory()),
+				this.options.parseLiteralExpressionsAsConstants);
+		this.diet = "diet".equals(this.mode); //$NON-NLS-1$
+	}
+
+	@Benchmark
+	public int parse() {
+		int types = 0;
+		for (int i = 0; i < this.units.length; i++) {
+			CompilationResult result = new CompilationResult(this.units[i], i, this.units.length, this.options.maxProblemsPerUnit);
+			CompilationUnitDeclaration unit = this.diet
+					? this.parser.dietParse(this.units[i], result)
+					: this.parser.parse(this.units[i], result);
+			types += unit.types.length;
+		}
+		return types;
+	}
+}
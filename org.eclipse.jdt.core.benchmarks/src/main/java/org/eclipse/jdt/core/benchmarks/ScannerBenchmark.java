@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.eclipse.jdt.internal.compiler.parser.TerminalToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Tokenizes the whole corpus with {@link Scanner#getNextToken()}, with and without comments and white spaces.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScannerBenchmark {
+
+	private char[][] sources;
+	private Scanner scanner;
+	private Scanner commentScanner;
+
+	@Setup
+	public void setup() {
+		this.sources = Corpus.load().contents;
+		this.scanner = new Scanner(false, false, false, ClassFileConstants.JDK17, null, null, true);
+		this.commentScanner = new Scanner(true, true, false, ClassFileConstants.JDK17, null, null, true);
+	}
+
+	@Benchmark
+	public int tokens() throws InvalidInputException {
+		return scan(this.scanner);
+	}
+
+	@Benchmark
+	public int tokensAndComments() throws InvalidInputException {
+		return scan(this.commentScanner);
+	}
+
+	private int scan(Scanner tokenizer) throws InvalidInputException {
+		int count = 0;
+		for (char[] source : this.sources) {
+			tokenizer.setSource(source);
+			while (tokenizer.getNextToken() != TerminalToken.TokenNameEOF)
+				count++;
+		}
+		return count;
+	}
+}
@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package corpus.events;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A synchronous event bus dispatching events to the listeners registered for their type or a super type.
+ */
+public class EventBus implements AutoCloseable {
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.METHOD)
+	public @interface Subscribe {
+		Priority priority() default Priority.NORMAL;
+
+		boolean receiveCancelled() default false;
+	}
+
+	public enum Priority {
+		LOW(-10), NORMAL(0), HIGH(10) {
+			@Override
+			boolean isUrgent() {
+				return true;
+			}
+		};
+
+		private final int weight;
+
+		Priority(int weight) {
+			this.weight = weight;
+		}
+
+		public int weight() {
+			return this.weight;
+		}
+
+		boolean isUrgent() {
+			return false;
+		}
+	}
+
+	public interface Event {
+		default boolean isCancelled() {
+			return false;
+		}
+	}
+
+	public abstract static class CancellableEvent implements Event {
+		private volatile boolean cancelled;
+
+		public void cancel() {
+			this.cancelled = true;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return this.cancelled;
+		}
+	}
+
+	public static class MessageEvent extends CancellableEvent {
+		public final String message;
+
+		public MessageEvent(String message) {
+			this.message = message;
+		}
+	}
+
+	public static final class ErrorEvent extends MessageEvent {
+		public final Throwable cause;
+
+		public ErrorEvent(String message, Throwable cause) {
+			super(message);
+			this.cause = cause;
+		}
+	}
+
+	private static final class Registration<E extends Event> implements Comparable<Registration<?>> {
+		final Class<E> type;
+		final Consumer<? super E> listener;
+		final Priority priority;
+		final boolean receiveCancelled;
+
+		Registration(Class<E> type, Consumer<? super E> listener, Priority priority, boolean receiveCancelled) {
+			this.type = type;
+			this.listener = listener;
+			this.priority = priority;
+			this.receiveCancelled = receiveCancelled;
+		}
+
+		void dispatch(Event event) {
+			if (event.isCancelled() && !this.receiveCancelled)
+				return;
+			this.listener.accept(this.type.cast(event));
+		}
+
+		@Override
+		public int compareTo(Registration<?> other) {
+			return Integer.compare(other.priority.weight(), this.priority.weight());
+		}
+	}
+
+	private final Map<Class<?>, List<Registration<?>>> registrations = new ConcurrentHashMap<>();
+	private final AtomicLong dispatched = new AtomicLong();
+	private final EnumSet<Priority> seenPriorities = EnumSet.noneOf(Priority.class);
+	private volatile boolean closed;
+
+	public <E extends Event> Runnable register(Class<E> type, Consumer<? super E> listener) {
+		return register(type, listener, Priority.NORMAL, false);
+	}
+
+	public synchronized <E extends Event> Runnable register(Class<E> type, Consumer<? super E> listener, Priority priority,
+			boolean receiveCancelled) {
+		if (this.closed)
+			throw new IllegalStateException("closed"); //$NON-NLS-1$
+		Registration<E> registration = new Registration<>(type, listener, priority, receiveCancelled);
+		List<Registration<?>> list = this.registrations.computeIfAbsent(type, t -> new CopyOnWriteArrayList<>());
+		list.add(registration);
+		list.sort(null);
+		this.seenPriorities.add(priority);
+		return () -> list.remove(registration);
+	}
+
+	public int post(Event event) {
+		if (this.closed)
+			return 0;
+		int delivered = 0;
+		for (Class<?> type = event.getClass(); type != null; type = type.getSuperclass()) {
+			delivered += dispatch(type, event);
+			for (Class<?> superInterface : type.getInterfaces())
+				delivered += dispatch(superInterface, event);
+		}
+		this.dispatched.addAndGet(delivered);
+		return delivered;
+	}
+
+	private int dispatch(Class<?> type, Event event) {
+		List<Registration<?>> list = this.registrations.get(type);
+		if (list == null)
+			return 0;
+		int count = 0;
+		for (Registration<?> registration : list) {
+			try {
+				registration.dispatch(event);
+				count++;
+			} catch (RuntimeException e) {
+				if (!(event instanceof ErrorEvent))
+					post(new ErrorEvent("Listener failed: " + e.getMessage(), e)); //$NON-NLS-1$
+			}
+		}
+		return count;
+	}
+
+	public long dispatchedCount() {
+		return this.dispatched.get();
+	}
+
+	public synchronized boolean hasUrgentListeners() {
+		for (Priority priority : this.seenPriorities) {
+			if (priority.isUrgent())
+				return true;
+		}
+		return false;
+	}
+
+	public List<String> collectMessages(Iterable<? extends Event> events) {
+		List<String> messages = new ArrayList<>();
+		Runnable unregister = register(MessageEvent.class, e -> messages.add(e.message));
+		try {
+			for (Event event : events)
+				post(event);
+		} finally {
+			unregister.run();
+		}
+		return messages;
+	}
+
+	@Override
+	public synchronized void close() {
+		this.closed = true;
+		this.registrations.clear();
+	}
+}
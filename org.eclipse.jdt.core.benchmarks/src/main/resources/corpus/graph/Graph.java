@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package corpus.graph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * A directed weighted graph with the usual traversals.
+ *
+ * @param <V> the type of the vertices
+ */
+public class Graph<V extends Comparable<? super V>> implements Iterable<V> {
+
+	public static final class Edge<V> {
+		public final V source;
+		public final V target;
+		public final double weight;
+
+		Edge(V source, V target, double weight) {
+			this.source = source;
+			this.target = target;
+			this.weight = weight;
+		}
+	}
+
+	private final Map<V, List<Edge<V>>> adjacency = new LinkedHashMap<>();
+	private int edgeCount;
+
+	public void addVertex(V vertex) {
+		this.adjacency.computeIfAbsent(vertex, v -> new ArrayList<>());
+	}
+
+	public void addEdge(V source, V target, double weight) {
+		if (weight < 0)
+			throw new IllegalArgumentException("Negative weight: " + weight); //$NON-NLS-1$
+		addVertex(source);
+		addVertex(target);
+		this.adjacency.get(source).add(new Edge<>(source, target, weight));
+		this.edgeCount++;
+	}
+
+	public int vertexCount() {
+		return this.adjacency.size();
+	}
+
+	public int edgeCount() {
+		return this.edgeCount;
+	}
+
+	public List<Edge<V>> edgesFrom(V vertex) {
+		List<Edge<V>> edges = this.adjacency.get(vertex);
+		return edges == null ? Collections.emptyList() : Collections.unmodifiableList(edges);
+	}
+
+	@Override
+	public Iterator<V> iterator() {
+		return new Iterator<V>() {
+			private final Iterator<V> delegate = Graph.this.adjacency.keySet().iterator();
+
+			@Override
+			public boolean hasNext() {
+				return this.delegate.hasNext();
+			}
+
+			@Override
+			public V next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return this.delegate.next();
+			}
+		};
+	}
+
+	public List<V> breadthFirst(V start) {
+		List<V> order = new ArrayList<>();
+		Set<V> seen = new HashSet<>();
+		Deque<V> queue = new ArrayDeque<>();
+		queue.add(start);
+		seen.add(start);
+		while (!queue.isEmpty()) {
+			V vertex = queue.poll();
+			order.add(vertex);
+			for (Edge<V> edge : edgesFrom(vertex)) {
+				if (seen.add(edge.target))
+					queue.add(edge.target);
+			}
+		}
+		return order;
+	}
+
+	public List<V> topologicalOrder() {
+		Map<V, Integer> inDegrees = new HashMap<>();
+		for (V vertex : this)
+			inDegrees.putIfAbsent(vertex, Integer.valueOf(0));
+		for (List<Edge<V>> edges : this.adjacency.values()) {
+			for (Edge<V> edge : edges)
+				inDegrees.merge(edge.target, Integer.valueOf(1), Integer::sum);
+		}
+		PriorityQueue<V> ready = new PriorityQueue<>();
+		inDegrees.forEach((vertex, degree) -> {
+			if (degree.intValue() == 0)
+				ready.add(vertex);
+		});
+		List<V> order = new ArrayList<>(vertexCount());
+		while (!ready.isEmpty()) {
+			V vertex = ready.poll();
+			order.add(vertex);
+			for (Edge<V> edge : edgesFrom(vertex)) {
+				int degree = inDegrees.merge(edge.target, Integer.valueOf(-1), Integer::sum).intValue();
+				if (degree == 0)
+					ready.add(edge.target);
+			}
+		}
+		if (order.size() != vertexCount())
+			throw new IllegalStateException("Graph has a cycle"); //$NON-NLS-1$
+		return order;
+	}
+
+	public Map<V, Double> shortestDistances(V source) {
+		Map<V, Double> distances = new HashMap<>();
+		PriorityQueue<Map.Entry<V, Double>> queue = new PriorityQueue<>(Map.Entry.comparingByValue());
+		distances.put(source, Double.valueOf(0));
+		queue.add(Map.entry(source, Double.valueOf(0)));
+		while (!queue.isEmpty()) {
+			Map.Entry<V, Double> entry = queue.poll();
+			V vertex = entry.getKey();
+			double distance = entry.getValue().doubleValue();
+			if (distance > distances.get(vertex).doubleValue())
+				continue;
+			for (Edge<V> edge : edgesFrom(vertex)) {
+				double candidate = distance + edge.weight;
+				Double known = distances.get(edge.target);
+				if (known == null || candidate < known.doubleValue()) {
+					distances.put(edge.target, Double.valueOf(candidate));
+					queue.add(Map.entry(edge.target, Double.valueOf(candidate)));
+				}
+			}
+		}
+		return distances;
+	}
+
+	public List<Set<V>> stronglyConnectedComponents() {
+		class Tarjan {
+			final Map<V, int[]> indices = new HashMap<>(); // index, low link
+			final Deque<V> stack = new ArrayDeque<>();
+			final Set<V> onStack = new HashSet<>();
+			final List<Set<V>> components = new ArrayList<>();
+			int index;
+
+			void visit(V vertex) {
+				int[] state = { this.index, this.index };
+				this.index++;
+				this.indices.put(vertex, state);
+				this.stack.push(vertex);
+				this.onStack.add(vertex);
+				for (Edge<V> edge : edgesFrom(vertex)) {
+					int[] targetState = this.indices.get(edge.target);
+					if (targetState == null) {
+						visit(edge.target);
+						state[1] = Math.min(state[1], this.indices.get(edge.target)[1]);
+					} else if (this.onStack.contains(edge.target)) {
+						state[1] = Math.min(state[1], targetState[0]);
+					}
+				}
+				if (state[0] == state[1]) {
+					Set<V> component = new HashSet<>();
+					V member;
+					do {
+						member = this.stack.pop();
+						this.onStack.remove(member);
+						component.add(member);
+					} while (!member.equals(vertex));
+					this.components.add(component);
+				}
+			}
+		}
+		Tarjan tarjan = new Tarjan();
+		for (V vertex : this) {
+			if (!tarjan.indices.containsKey(vertex))
+				tarjan.visit(vertex);
+		}
+		tarjan.components.sort(Comparator.comparingInt(Set::size));
+		return tarjan.components;
+	}
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package corpus.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A closed hierarchy of shapes, with records, sealed types, pattern matching and switch expressions.
+ */
+public final class Shapes {
+
+	private Shapes() {
+	}
+
+	public sealed interface Shape permits Circle, Rectangle, Triangle, Group {
+		double area();
+
+		default double perimeter() {
+			return Shapes.perimeter(this);
+		}
+	}
+
+	public record Point(double x, double y) {
+		public Point translate(double dx, double dy) {
+			return new Point(this.x + dx, this.y + dy);
+		}
+
+		public double distance(Point other) {
+			return Math.hypot(other.x - this.x, other.y - this.y);
+		}
+	}
+
+	public record Circle(Point center, double radius) implements Shape {
+		public Circle {
+			if (radius < 0)
+				throw new IllegalArgumentException("radius"); //$NON-NLS-1$
+			Objects.requireNonNull(center);
+		}
+
+		@Override
+		public double area() {
+			return Math.PI * this.radius * this.radius;
+		}
+	}
+
+	public record Rectangle(Point corner, double width, double height) implements Shape {
+		@Override
+		public double area() {
+			return this.width * this.height;
+		}
+	}
+
+	public record Triangle(Point a, Point b, Point c) implements Shape {
+		@Override
+		public double area() {
+			return Math.abs((this.b.x() - this.a.x()) * (this.c.y() - this.a.y())
+					- (this.c.x() - this.a.x()) * (this.b.y() - this.a.y())) / 2;
+		}
+	}
+
+	public record Group(List<Shape> members) implements Shape {
+		@Override
+		public double area() {
+			double total = 0;
+			for (Shape member : this.members)
+				total += member.area();
+			return total;
+		}
+	}
+
+	public static double perimeter(Shape shape) {
+		if (shape instanceof Circle circle)
+			return 2 * Math.PI * circle.radius();
+		if (shape instanceof Rectangle rectangle)
+			return 2 * (rectangle.width() + rectangle.height());
+		if (shape instanceof Triangle t)
+			return t.a().distance(t.b()) + t.b().distance(t.c()) + t.c().distance(t.a());
+		if (shape instanceof Group group)
+			return group.members().stream().mapToDouble(Shape::perimeter).sum();
+		throw new IllegalStateException();
+	}
+
+	public static Shape translate(Shape shape, double dx, double dy) {
+		if (shape instanceof Circle c)
+			return new Circle(c.center().translate(dx, dy), c.radius());
+		if (shape instanceof Rectangle r)
+			return new Rectangle(r.corner().translate(dx, dy), r.width(), r.height());
+		if (shape instanceof Triangle t)
+			return new Triangle(t.a().translate(dx, dy), t.b().translate(dx, dy), t.c().translate(dx, dy));
+		Group group = (Group) shape;
+		return new Group(group.members().stream().map(s -> translate(s, dx, dy)).toList());
+	}
+
+	public static String describe(Shape shape) {
+		String kind = switch (shape.getClass().getSimpleName()) {
+			case "Circle" -> "round"; //$NON-NLS-1$ //$NON-NLS-2$
+			case "Rectangle", "Triangle" -> "polygon"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			default -> {
+				int size = shape instanceof Group g ? g.members().size() : 0;
+				yield "group of " + size; //$NON-NLS-1$
+			}
+		};
+		return String.format("%s with area %.2f", kind, Double.valueOf(shape.area())); //$NON-NLS-1$
+	}
+
+	public static int quadrant(Point point) {
+		int result;
+		if (point.x() >= 0) {
+			result = point.y() >= 0 ? 1 : 4;
+		} else {
+			result = point.y() >= 0 ? 2 : 3;
+		}
+		return result;
+	}
+
+	public static long checksum(double[] values) {
+		long hash = 17;
+		for (int i = 0; i < values.length; i++) {
+			long bits = Double.doubleToLongBits(values[i]);
+			hash = 31 * hash + (bits ^ (bits >>> 32));
+			if ((i & 7) == 7)
+				hash = Long.rotateLeft(hash, 5);
+		}
+		return hash;
+	}
+}
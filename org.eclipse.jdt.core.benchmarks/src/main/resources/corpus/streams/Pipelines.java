@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package corpus.streams;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Stream pipelines over orders, written the way generic-heavy application code usually is: nested collectors,
+ * method references, wildcards and generic helper methods, leaving most of the typing to inference.
+ */
+public class Pipelines {
+
+	public record Customer(String name, String country, int rating) {
+	}
+
+	public record Line(String product, int quantity, double price) {
+		double total() {
+			return this.quantity * this.price;
+		}
+	}
+
+	public record Order(long id, Customer customer, List<Line> lines) {
+		double total() {
+			return this.lines.stream().mapToDouble(Line::total).sum();
+		}
+	}
+
+	public static <T, K> Map<K, List<T>> groupBy(Collection<? extends T> items, Function<? super T, ? extends K> key) {
+		return items.stream().collect(Collectors.groupingBy(key, TreeMap::new, Collectors.toList()));
+	}
+
+	public static <T, R> List<R> mapAll(Collection<? extends T> items, Function<? super T, ? extends R> mapper) {
+		return items.stream().<R>map(mapper).collect(Collectors.toList());
+	}
+
+	public static <T> Optional<T> best(Stream<T> stream, Comparator<? super T> comparator) {
+		return stream.reduce(BinaryOperator.maxBy(comparator));
+	}
+
+	public static <T, A, R> R collectIf(Collection<T> items, Predicate<? super T> filter, Collector<? super T, A, R> collector) {
+		return items.stream().filter(filter).collect(collector);
+	}
+
+	public static <A, B, C> Function<A, C> compose(Function<? super A, ? extends B> first, Function<? super B, ? extends C> second) {
+		return first.andThen(second)::apply;
+	}
+
+	public static <T, U, R> List<R> zip(List<T> left, List<U> right, BiFunction<? super T, ? super U, ? extends R> zipper) {
+		return IntStream.range(0, Math.min(left.size(), right.size()))
+				.mapToObj(i -> zipper.apply(left.get(i), right.get(i)))
+				.collect(Collectors.toList());
+	}
+
+	public static Map<String, Double> revenueByCountry(List<Order> orders) {
+		return orders.stream()
+				.collect(Collectors.groupingBy(o -> o.customer().country(), TreeMap::new,
+						Collectors.summingDouble(Order::total)));
+	}
+
+	public static Map<String, Map<String, Integer>> quantitiesByCountryAndProduct(List<Order> orders) {
+		return orders.stream()
+				.flatMap(o -> o.lines().stream().map(l -> Map.entry(o.customer().country(), l)))
+				.collect(Collectors.groupingBy(Map.Entry::getKey, TreeMap::new,
+						Collectors.groupingBy(e -> e.getValue().product(), TreeMap::new,
+								Collectors.summingInt(e -> e.getValue().quantity()))));
+	}
+
+	public static Map<Boolean, Set<String>> customersPartitionedByRating(List<Order> orders, int threshold) {
+		return orders.stream()
+				.map(Order::customer)
+				.collect(Collectors.partitioningBy(c -> c.rating() >= threshold,
+						Collectors.mapping(Customer::name, Collectors.toSet())));
+	}
+
+	public static Optional<Map.Entry<String, Double>> bestProduct(List<Order> orders) {
+		Map<String, Double> revenue = orders.stream()
+				.flatMap(o -> o.lines().stream())
+				.collect(Collectors.toMap(Line::product, Line::total, Double::sum));
+		return best(revenue.entrySet().stream(), Map.Entry.comparingByValue());
+	}
+
+	public static Map<String, DoubleSummaryStatistics> statisticsByCustomer(List<Order> orders) {
+		return collectIf(orders, o -> !o.lines().isEmpty(),
+				Collectors.groupingBy(o -> o.customer().name(), Collectors.summarizingDouble(Order::total)));
+	}
+
+	public static List<String> describe(List<Order> orders) {
+		Function<Order, String> label = compose(Order::customer, Customer::name);
+		Function<Order, String> describer = compose(label, name -> name + ": " + orders.size()); //$NON-NLS-1$
+		return mapAll(orders, describer);
+	}
+
+	public static <T extends Comparable<? super T>> List<T> topN(Stream<? extends T> stream, int n) {
+		return stream.sorted(Comparator.<T>reverseOrder()).limit(n).collect(Collectors.toList());
+	}
+
+	public static List<Order> sample(Supplier<? extends Stream<Customer>> customers) {
+		List<Line> lines = Arrays.asList(new Line("apple", 3, 0.5), new Line("pear", 2, 0.75), //$NON-NLS-1$ //$NON-NLS-2$
+				new Line("plum", 12, 0.25)); //$NON-NLS-1$
+		long[] ids = { 0 };
+		return customers.get()
+				.map(c -> new Order(++ids[0], c, lines.subList(0, (int) (ids[0] % lines.size()) + 1)))
+				.sorted(Comparator.comparing(Order::total).reversed().thenComparing(Order::id))
+				.collect(Collectors.toList());
+	}
+
+	public static Map<Integer, List<String>> namesByLength(Stream<String> names) {
+		return names.collect(Collectors.groupingBy(String::length, TreeMap::new,
+				Collectors.collectingAndThen(Collectors.toList(), l -> l.stream().sorted().distinct().toList())));
+	}
+
+	public static <K, V extends Comparable<? super V>> List<K> keysSortedByValue(Map<K, V> map) {
+		return map.entrySet().stream()
+				.sorted(Map.Entry.<K, V>comparingByValue().reversed())
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+	}
+
+	public static double averageLineCount(List<Order> orders) {
+		return orders.stream().mapToInt(o -> o.lines().size()).average().orElse(Double.NaN);
+	}
+}
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package corpus.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A lexer for a small expression language: numbers, identifiers, strings, operators and comments.
+ */
+public class Lexer {
+
+	public enum Kind {
+		NUMBER, IDENTIFIER, STRING, OPERATOR, LEFT_PAREN, RIGHT_PAREN, COMMA, END
+	}
+
+	public static final class Token {
+		public final Kind kind;
+		public final String text;
+		public final int offset;
+
+		Token(Kind kind, String text, int offset) {
+			this.kind = kind;
+			this.text = text;
+			this.offset = offset;
+		}
+
+		@Override
+		public String toString() {
+			return this.kind + "(" + this.text + ")@" + this.offset; //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	public static class LexerException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		public LexerException(String message, int offset) {
+			super(message + " at " + offset); //$NON-NLS-1$
+		}
+	}
+
+	private static final String OPERATORS = "+-*/%<>=!&|^~?:"; //$NON-NLS-1$
+
+	private final char[] source;
+	private int position;
+
+	public Lexer(String source) {
+		this.source = source.toCharArray();
+	}
+
+	public List<Token> tokenize() {
+		List<Token> tokens = new ArrayList<>();
+		Token token;
+		do {
+			token = next();
+			tokens.add(token);
+		} while (token.kind != Kind.END);
+		return tokens;
+	}
+
+	public Token next() {
+		skipWhitespaceAndComments();
+		if (this.position >= this.source.length)
+			return new Token(Kind.END, "", this.position); //$NON-NLS-1$
+		int start = this.position;
+		char c = this.source[this.position];
+		if (Character.isDigit(c))
+			return number(start);
+		if (Character.isJavaIdentifierStart(c))
+			return identifier(start);
+		switch (c) {
+			case '"':
+				return string(start);
+			case '(':
+				this.position++;
+				return new Token(Kind.LEFT_PAREN, "(", start); //$NON-NLS-1$
+			case ')':
+				this.position++;
+				return new Token(Kind.RIGHT_PAREN, ")", start); //$NON-NLS-1$
+			case ',':
+				this.position++;
+				return new Token(Kind.COMMA, ",", start); //$NON-NLS-1$
+			default:
+				if (OPERATORS.indexOf(c) >= 0)
+					return operator(start);
+				throw new LexerException("Unexpected character '" + c + "'", start); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private void skipWhitespaceAndComments() {
+		while (this.position < this.source.length) {
+			char c = this.source[this.position];
+			if (Character.isWhitespace(c)) {
+				this.position++;
+			} else if (c == '/' && peek(1) == '/') {
+				while (this.position < this.source.length && this.source[this.position] != '\n')
+					this.position++;
+			} else if (c == '/' && peek(1) == '*') {
+				int end = indexOf("*/", this.position + 2); //$NON-NLS-1$
+				if (end < 0)
+					throw new LexerException("Unterminated comment", this.position); //$NON-NLS-1$
+				this.position = end + 2;
+			} else {
+				return;
+			}
+		}
+	}
+
+	private char peek(int offset) {
+		int index = this.position + offset;
+		return index < this.source.length ? this.source[index] : '\0';
+	}
+
+	private int indexOf(String text, int from) {
+		outer: for (int i = from, max = this.source.length - text.length(); i <= max; i++) {
+			for (int j = 0; j < text.length(); j++) {
+				if (this.source[i + j] != text.charAt(j))
+					continue outer;
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	private Token number(int start) {
+		boolean seenDot = false, seenExponent = false;
+		loop: while (this.position < this.source.length) {
+			char c = this.source[this.position];
+			switch (c) {
+				case '0': case '1': case '2': case '3': case '4':
+				case '5': case '6': case '7': case '8': case '9':
+				case '_':
+					break;
+				case '.':
+					if (seenDot || seenExponent)
+						break loop;
+					seenDot = true;
+					break;
+				case 'e':
+				case 'E':
+					if (seenExponent)
+						break loop;
+					seenExponent = true;
+					if (peek(1) == '+' || peek(1) == '-')
+						this.position++;
+					break;
+				default:
+					break loop;
+			}
+			this.position++;
+		}
+		return new Token(Kind.NUMBER, new String(this.source, start, this.position - start), start);
+	}
+
+	private Token identifier(int start) {
+		while (this.position < this.source.length && Character.isJavaIdentifierPart(this.source[this.position]))
+			this.position++;
+		return new Token(Kind.IDENTIFIER, new String(this.source, start, this.position - start), start);
+	}
+
+	private Token string(int start) {
+		StringBuilder buffer = new StringBuilder();
+		this.position++;
+		while (true) {
+			if (this.position >= this.source.length)
+				throw new LexerException("Unterminated string", start); //$NON-NLS-1$
+			char c = this.source[this.position++];
+			if (c == '"')
+				break;
+			if (c == '\\') {
+				char escaped = this.source[this.position++];
+				switch (escaped) {
+					case 'n' -> buffer.append('\n');
+					case 't' -> buffer.append('\t');
+					case 'r' -> buffer.append('\r');
+					case 'u' -> {
+						buffer.append((char) Integer.parseInt(new String(this.source, this.position, 4), 16));
+						this.position += 4;
+					}
+					default -> buffer.append(escaped);
+				}
+			} else {
+				buffer.append(c);
+			}
+		}
+		return new Token(Kind.STRING, buffer.toString(), start);
+	}
+
+	private Token operator(int start) {
+		char c = this.source[this.position++];
+		char next = peek(0);
+		boolean twoChars = switch (c) {
+			case '<', '>', '=', '!' -> next == '=';
+			case '&' -> next == '&';
+			case '|' -> next == '|';
+			default -> false;
+		};
+		if (twoChars)
+			this.position++;
+		return new Token(Kind.OPERATOR, new String(this.source, start, this.position - start), start);
+	}
+
+	public static int countIdentifiers(String source) {
+		int count = 0;
+		for (Token token : new Lexer(source).tokenize()) {
+			if (token.kind == Kind.IDENTIFIER)
+				count++;
+		}
+		return count;
+	}
+}
@@ -46,16 +46,12 @@ public class GenerateParserScript {
 				System.exit(1);
 		}
 
-		// Update parserNN.rsc and readableNames.props
+		// Update parser.rsc, which holds the parser tables and the readable names
 		File javadclFile = new File(grammarDir, "javadcl.java");
 		File javahdrFile = new File(grammarDir, "javahdr.java");
 		Parser.buildFilesFromLPG(javadclFile.toString(), javahdrFile.toString());
-		for (int i = 1; i <= 24; i++) {
-			String filename = "parser"+i+".rsc";
-			Files.move(new File(filename).toPath(), new File(parserDir, filename).toPath(), StandardCopyOption.REPLACE_EXISTING);
-		}
 		{
-			String filename = "readableNames.props";
+			String filename = "parser.rsc";
 			Files.move(new File(filename).toPath(), new File(parserDir, filename).toPath(), StandardCopyOption.REPLACE_EXISTING);
 		}
 
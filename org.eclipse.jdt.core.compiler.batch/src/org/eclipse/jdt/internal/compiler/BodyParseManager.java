@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.compiler;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+
+/**
+ * Parses the method bodies of the units to process on a bounded pool of workers, one window of units ahead of
+ * {@link Compiler#process(CompilationUnitDeclaration, int)}.
+ * <p>
+ * Resolution, flow analysis and code generation share the lookup environment and the problem reporter, which are not
+ * thread safe, so they remain sequential. Body parsing only touches the unit itself: each worker uses its own
+ * {@link Parser} and {@link ProblemReporter}, and a window is completely parsed before the first of its units is
+ * processed, so no unit is ever parsed and resolved at the same time. Failures are rethrown when the failing unit is
+ * reached, which keeps problems and class files in the same order as a sequential compile.
+ * </p>
+ */
+public class BodyParseManager implements AutoCloseable {
+
+	/** units parsed per worker and window - bounds the number of full ASTs kept in memory **/
+	private static final int UNITS_PER_WORKER = 8;
+
+	private static final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+		Thread t = new Thread(r, "Compiler Body Parser"); //$NON-NLS-1$
+		t.setDaemon(true);
+		return t;
+	});
+
+	private final Compiler compiler;
+	private final Parser[] parsers;
+	/** exclusive end of the units already parsed, only accessed by the processing thread **/
+	private int parsedEnd;
+	private final Map<CompilationUnitDeclaration, Throwable> failures = new ConcurrentHashMap<>();
+
+	public BodyParseManager(Compiler compiler, int workerCount) {
+		this.compiler = compiler;
+		this.parsers = new Parser[workerCount];
+		ProblemReporter problemReporter = compiler.problemReporter;
+		for (int i = 0; i < workerCount; i++) {
+			this.parsers[i] = new Parser(
+					new ProblemReporter(problemReporter.policy, compiler.options, problemReporter.problemFactory),
+					compiler.options.parseLiteralExpressionsAsConstants);
+		}
+		compiler.stats.parseWorkers = workerCount;
+	}
+
+	/**
+	 * Makes sure the method bodies of the given unit have been parsed, parsing the window of units starting at the
+	 * given index if needed. Meant to be called by the processing thread in the order of the units to process.
+	 */
+	public void parseMethodBodies(CompilationUnitDeclaration unit, int index) throws Error {
+		if (index >= this.parsedEnd) {
+			parseWindow(unit, index);
+		}
+		Throwable failure = this.failures.remove(unit);
+		if (failure instanceof Error error) {
+			throw error;
+		}
+		if (failure instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+	}
+
+	private void parseWindow(CompilationUnitDeclaration unit, int index) {
+		CompilationUnitDeclaration[] window;
+		synchronized (this.compiler) { // units may be injected by the lookup environment
+			int end = Math.max(index + 1, Math.min(this.compiler.totalUnits, index + this.parsers.length * UNITS_PER_WORKER));
+			window = Arrays.copyOfRange(this.compiler.unitsToProcess, index, end);
+			this.parsedEnd = end;
+		}
+		window[0] = unit; // already removed from unitsToProcess by the processing loop
+		long start = System.currentTimeMillis();
+		AtomicInteger next = new AtomicInteger();
+		AtomicLong workerTime = new AtomicLong();
+		int taskCount = Math.min(this.parsers.length, window.length);
+		Future<?>[] tasks = new Future<?>[taskCount];
+		for (int i = 0; i < taskCount; i++) {
+			Parser parser = this.parsers[i];
+			tasks[i] = executor.submit(() -> parseUnits(parser, window, next, workerTime));
+		}
+		try {
+			for (Future<?> task : tasks) {
+				task.get();
+			}
+		} catch (InterruptedException interrupt) {
+			throw new AbortCompilation(true/* silent */, new RuntimeException(interrupt));
+		} catch (ExecutionException e) {
+			// parseUnits() records all failures, should not happen
+			if (e.getCause() instanceof Error err) {
+				throw err;
+			}
+			throw new RuntimeException(e.getCause());
+		} finally {
+			for (Future<?> task : tasks) {
+				task.cancel(true);
+			}
+		}
+		long elapsed = System.currentTimeMillis() - start;
+		this.compiler.stats.parseTime += elapsed;
+		this.compiler.stats.parallelParseTime += elapsed;
+		this.compiler.stats.parseWorkerTime += workerTime.get();
+	}
+
+	private void parseUnits(Parser parser, CompilationUnitDeclaration[] window, AtomicInteger next, AtomicLong workerTime) {
+		long start = System.currentTimeMillis();
+		try {
+			int i;
+			while ((i = next.getAndIncrement()) < window.length) {
+				CompilationUnitDeclaration unit = window[i];
+				if (unit == null || unit.compilationResult == null || unit.compilationResult.hasBeenAccepted) {
+					continue;
+				}
+				try {
+					ICompilerEventListener listener = this.compiler.getEventListener();
+					long eventStart = listener == null ? 0 : System.nanoTime();
+					parser.getMethodBodies(unit);
+					if (listener != null)
+						listener.event(ICompilerEventListener.Phase.PARSE, unit.getFileName(), eventStart, System.nanoTime() - eventStart);
+				} catch (Error | RuntimeException uncheckedThrowable) {
+					this.failures.put(unit, uncheckedThrowable);
+				}
+			}
+		} finally {
+			parser.scanner.source = null; // do not hold onto the last parsed unit
+			workerTime.addAndGet(System.currentTimeMillis() - start);
+		}
+	}
+
+	@Override
+	public void close() {
+		this.failures.clear();
+	}
+}
@@ -658,10 +658,11 @@ public class ClassFile implements TypeConstants, TypeIds {
 		this.contentsOffset += 2;
 
 		SourceTypeBinding currentBinding = this.referenceBinding;
+		boolean headersOnly = currentBinding.scope.compilerOptions().headersOnly;
 		FieldDeclaration[] fieldDecls = currentBinding.scope.referenceContext.fields;
 		for (int i = 0, max = fieldDecls == null ? 0 : fieldDecls.length; i < max; i++) {
 			FieldDeclaration fieldDecl = fieldDecls[i];
-			if (fieldDecl.binding != null) {
+			if (fieldDecl.binding != null && !(headersOnly && fieldDecl.binding.isPrivate())) {
 				addFieldInfo(fieldDecl.binding);
 				fieldCount++;
 			}
@@ -669,6 +670,9 @@ public class ClassFile implements TypeConstants, TypeIds {
 		FieldBinding[] syntheticFields = currentBinding.syntheticFields();
 		if (syntheticFields != null) {
 			for (FieldBinding syntheticField : syntheticFields) {
+				// headers keep the fields of the record components only, the others are implementation details
+				if (headersOnly && !syntheticField.isRecordComponent())
+					continue;
 				if (syntheticField.type != null) { // complained already if null, skip field in problem type
 					addFieldInfo(syntheticField);
 					fieldCount++;
@@ -1077,6 +1081,38 @@ public class ClassFile implements TypeConstants, TypeIds {
 		}
 	}
 
+	/**
+	 * INTERNAL USE-ONLY
+	 * Generate the method infos without code of the special methods that are part of the API of the receiver, in
+	 * header only mode (see {@link CompilerOptions#headersOnly}):
+	 * - default abstract methods
+	 * - enum values() and valueOf(String)
+	 * - implicit members of records.
+	 * Access methods, bridges and lambda methods are implementation details and are not generated.
+	 */
+	public void addSpecialMethodHeaders() {
+		MethodBinding[] defaultAbstractMethods = this.referenceBinding.getDefaultAbstractMethods();
+		for (MethodBinding methodBinding : defaultAbstractMethods) {
+			addAbstractMethod(null, methodBinding);
+		}
+		SyntheticMethodBinding[] syntheticMethods = this.referenceBinding.syntheticMethods();
+		if (syntheticMethods == null)
+			return;
+		for (SyntheticMethodBinding syntheticMethod : syntheticMethods) {
+			switch (syntheticMethod.purpose) {
+				case SyntheticMethodBinding.EnumValues :
+				case SyntheticMethodBinding.EnumValueOf :
+				case SyntheticMethodBinding.RecordComponentReadAccess :
+				case SyntheticMethodBinding.RecordCanonicalConstructor :
+				case SyntheticMethodBinding.RecordOverrideEquals :
+				case SyntheticMethodBinding.RecordOverrideHashCode :
+				case SyntheticMethodBinding.RecordOverrideToString :
+					addAbstractMethod(null, syntheticMethod);
+					break;
+			}
+		}
+	}
+
 	private void addSyntheticRecordCanonicalConstructor(TypeDeclaration typeDecl, SyntheticMethodBinding methodBinding) {
 		generateMethodInfoHeader(methodBinding);
 		int methodAttributeOffset = this.contentsOffset;
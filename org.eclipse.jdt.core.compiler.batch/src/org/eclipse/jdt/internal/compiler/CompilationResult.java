@@ -62,6 +62,7 @@ public class CompilationResult {
 	public char[][][] qualifiedReferences;
 	public char[][] simpleNameReferences;
 	public char[][] rootReferences;
+	public char[][] memberNameReferences;
 	public boolean hasAnnotations = false;
 	public boolean hasFunctionalTypes = false;
 	public int lineSeparatorPositions[];
@@ -459,6 +460,20 @@ public void removeProblem(CategorizedProblem problem) {
 	}
 	this.problemCount--;
 }
+/**
+ * Forgets the problems and tasks recorded so far, e.g. before restoring the ones of a cached result.
+ */
+public void resetProblems() {
+	this.problems = null;
+	this.problemCount = 0;
+	this.tasks = null;
+	this.taskCount = 0;
+	this.problemsMap = null;
+	this.firstErrors = null;
+	this.numberOfErrors = 0;
+	this.hasMandatoryErrors = false;
+	this.hasSyntaxError = false;
+}
 public CompilationResult tagAsAccepted(){
 	this.hasBeenAccepted = true;
 	this.problemsMap = null; // flush
@@ -0,0 +1,681 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.ast.ASTNode;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.ImportReference;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.classfmt.BinaryTypeFingerprint;
+import org.eclipse.jdt.internal.compiler.env.AccessRestriction;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.env.INameEnvironment;
+import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.lookup.BinaryTypeBinding.ExternalAnnotationStatus;
+import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
+import org.eclipse.jdt.internal.compiler.lookup.ReferenceBinding;
+import org.eclipse.jdt.internal.compiler.lookup.SourceTypeBinding;
+import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblem;
+
+/**
+ * Disk backed cache of the class files and problems produced for a compilation unit.
+ * <p>
+ * An entry is found through a digest of the compiler, the compiler options, the file name and the contents of the
+ * unit. It holds the references recorded while the unit was compiled (see
+ * {@link CompilationResult#qualifiedReferences} and {@link CompilationResult#simpleNameReferences}) together with a
+ * digest of the types these references denoted: source types by their contents, binary types by their
+ * {@link BinaryTypeFingerprint}, missing types by their absence. The entry is only used if the same references denote
+ * the same types in the current compilation, in which case {@link Compiler#process(CompilationUnitDeclaration, int)}
+ * restores the result and skips the body parsing, resolution, analysis and code generation of the unit.
+ * </p>
+ * <p>
+ * Only results without errors are stored. The entries least recently used are deleted once the cache grows beyond
+ * its maximum size.
+ * </p>
+ */
+public class CompilationResultCache {
+
+	private static final int FORMAT_VERSION = 2;
+	private static final String ENTRY_SUFFIX = ".result"; //$NON-NLS-1$
+	private static final byte[] ABSENT = new byte[0];
+
+	private static final Map<File, CompilationResultCache> caches = new HashMap<>();
+	private static String compilerStamp;
+
+	private final File directory;
+	private final long maxSize;
+	private final String compilerVersion;
+	private long size = -1; // unknown until the directory is scanned
+	private int hits;
+	private int misses;
+	private int stores;
+	private int evictions;
+
+	/**
+	 * @param directory the directory holding the entries, created if needed
+	 * @param maxSize the maximum size of the entries in bytes
+	 * @param compilerVersion a version of the compiler, entries stored by other versions are ignored
+	 */
+	public CompilationResultCache(File directory, long maxSize, String compilerVersion) {
+		this.directory = directory;
+		this.maxSize = maxSize;
+		this.compilerVersion = compilerVersion;
+	}
+
+	/**
+	 * Answers the cache configured by the <code>jdt.compiler.resultCache</code> system property (the cache directory)
+	 * and the <code>jdt.compiler.resultCacheSize</code> system property (its maximum size in megabytes, 512 by default),
+	 * or <code>null</code> if no cache is configured. Compilers using the same directory in a VM share their cache.
+	 */
+	public static CompilationResultCache fromSystemProperties(String compilerVersion) {
+		String directory = System.getProperty("jdt.compiler.resultCache"); //$NON-NLS-1$
+		if (directory == null || directory.isEmpty())
+			return null;
+		long maxSize = Long.getLong("jdt.compiler.resultCacheSize", 512).longValue() * 1024 * 1024; //$NON-NLS-1$
+		File key = new File(directory).getAbsoluteFile();
+		synchronized (caches) {
+			CompilationResultCache cache = caches.get(key);
+			if (cache == null || cache.maxSize != maxSize || !cache.compilerVersion.equals(compilerVersion)) {
+				cache = new CompilationResultCache(key, maxSize, compilerVersion);
+				caches.put(key, cache);
+			}
+			return cache;
+		}
+	}
+
+	/**
+	 * Answers a new session for the current compilation of the given compiler.
+	 */
+	public Session newSession(Compiler compiler) {
+		return new Session(compiler);
+	}
+
+	public synchronized int getHits() {
+		return this.hits;
+	}
+
+	public synchronized int getMisses() {
+		return this.misses;
+	}
+
+	public synchronized int getStores() {
+		return this.stores;
+	}
+
+	public synchronized int getEvictions() {
+		return this.evictions;
+	}
+
+	public File getDirectory() {
+		return this.directory;
+	}
+
+	/**
+	 * Answers the size of the entries stored in the cache directory.
+	 */
+	public synchronized long getSize() {
+		if (this.size < 0) {
+			this.size = 0;
+			for (File entry : entries())
+				this.size += entry.length();
+		}
+		return this.size;
+	}
+
+	private File[] entries() {
+		File[] entries = this.directory.listFiles((dir, name) -> name.endsWith(ENTRY_SUFFIX));
+		return entries == null ? new File[0] : entries;
+	}
+
+	synchronized byte[] load(String key) {
+		File file = new File(this.directory, key + ENTRY_SUFFIX);
+		try {
+			byte[] contents = Files.readAllBytes(file.toPath());
+			file.setLastModified(System.currentTimeMillis()); // least recently used entries are evicted first
+			return contents;
+		} catch (IOException e) {
+			return null; // no entry or deleted concurrently
+		}
+	}
+
+	synchronized void store(String key, byte[] contents) {
+		getSize(); // scan the existing entries first
+		File file = new File(this.directory, key + ENTRY_SUFFIX);
+		File temp = null;
+		try {
+			Files.createDirectories(this.directory.toPath());
+			long previousLength = file.length();
+			// other compilers may share the directory, never expose a partially written entry
+			temp = File.createTempFile(key, ".tmp", this.directory); //$NON-NLS-1$
+			Files.write(temp.toPath(), contents);
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			this.size += contents.length - previousLength;
+			this.stores++;
+		} catch (IOException e) {
+			if (temp != null)
+				temp.delete();
+			return; // the cache is an optimization only
+		}
+		if (this.size > this.maxSize)
+			evict();
+	}
+
+	private void evict() {
+		File[] entries = entries();
+		long[] lastModified = new long[entries.length];
+		Integer[] order = new Integer[entries.length];
+		for (int i = 0; i < entries.length; i++) {
+			lastModified[i] = entries[i].lastModified();
+			order[i] = Integer.valueOf(i);
+		}
+		Arrays.sort(order, (i1, i2) -> Long.compare(lastModified[i1.intValue()], lastModified[i2.intValue()]));
+		this.size = 0;
+		for (File entry : entries)
+			this.size += entry.length();
+		long target = this.maxSize - this.maxSize / 4; // make room for more than a single entry
+		for (int i = 0; i < order.length && this.size > target; i++) {
+			File entry = entries[order[i].intValue()];
+			long length = entry.length();
+			if (entry.delete()) {
+				this.size -= length;
+				this.evictions++;
+			}
+		}
+	}
+
+	synchronized void recordHit() {
+		this.hits++;
+	}
+
+	synchronized void recordMiss() {
+		this.misses++;
+	}
+
+	/**
+	 * Answers a stamp changing with each build of the compiler classes, on top of the given compiler version which may
+	 * not change between development builds.
+	 */
+	private static synchronized String getCompilerStamp() {
+		if (compilerStamp == null) {
+			URL url = Compiler.class.getResource("Compiler.class"); //$NON-NLS-1$
+			StringBuilder stamp = new StringBuilder(String.valueOf(url));
+			if (url != null) {
+				String path = url.getPath();
+				if ("jar".equals(url.getProtocol())) { //$NON-NLS-1$
+					path = path.substring(0, Math.max(0, path.indexOf("!/"))); //$NON-NLS-1$
+					path = path.startsWith("file:") ? path.substring(5) : null; //$NON-NLS-1$
+				} else if (!"file".equals(url.getProtocol())) { //$NON-NLS-1$
+					path = null;
+				}
+				if (path != null) {
+					File file = new File(path);
+					stamp.append(' ').append(file.length()).append(' ').append(file.lastModified());
+				}
+			}
+			compilerStamp = stamp.toString();
+		}
+		return compilerStamp;
+	}
+
+	static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e); // mandatory algorithm of every Java platform
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder buffer = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			buffer.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * State of the cache for a single compilation: the types found in its environment and the contents of its units.
+	 * Only used by the thread processing the units.
+	 */
+	public class Session {
+
+		private final Compiler compiler;
+		private final LookupEnvironment environment;
+		private final INameEnvironment nameEnvironment;
+		private final byte[] optionsDigest;
+		private final Map<String, ICompilationUnit> sourceUnits = new ConcurrentHashMap<>();
+		private final Map<String, byte[]> typeDigests = new HashMap<>();
+
+		Session(Compiler compiler) {
+			this.compiler = compiler;
+			this.environment = compiler.lookupEnvironment;
+			this.nameEnvironment = compiler.lookupEnvironment.nameEnvironment;
+			this.optionsDigest = digestOptions(compiler.options);
+		}
+
+		private byte[] digestOptions(CompilerOptions options) {
+			MessageDigest digest = newDigest();
+			update(digest, String.valueOf(FORMAT_VERSION));
+			update(digest, getCompilerStamp());
+			update(digest, CompilationResultCache.this.compilerVersion);
+			for (Map.Entry<String, String> option : new TreeMap<>(options.getMap()).entrySet()) {
+				update(digest, option.getKey());
+				update(digest, String.valueOf(option.getValue()));
+			}
+			// options not part of the map
+			update(digest, String.valueOf(options.ignoreMethodBodies));
+			update(digest, String.valueOf(options.headersOnly));
+			update(digest, String.valueOf(options.storeAnnotations));
+			update(digest, String.valueOf(options.parseLiteralExpressionsAsConstants));
+			update(digest, String.valueOf(options.performMethodsFullRecovery));
+			update(digest, String.valueOf(options.performStatementsRecovery));
+			update(digest, String.valueOf(options.generateClassFiles));
+			update(digest, String.valueOf(options.maxProblemsPerUnit));
+			return digest.digest();
+		}
+
+		/**
+		 * Records a unit added to the compilation, its types are fingerprinted by the contents of the unit.
+		 */
+		public void recordSourceUnit(ICompilationUnit sourceUnit) {
+			this.sourceUnits.put(new String(sourceUnit.getFileName()), sourceUnit);
+		}
+
+		/**
+		 * Answers the cached result of the given unit if its entry is still valid, <code>null</code> otherwise.
+		 */
+		public CachedResult lookup(CompilationUnitDeclaration unit) {
+			CompilationResult result = unit.compilationResult;
+			if (result.compilationUnit == null || result.hasErrors())
+				return null; // errors found while building the types depend on the other units
+			long start = System.currentTimeMillis();
+			try {
+				byte[] contents = load(entryKey(result.compilationUnit));
+				CachedResult cachedResult = contents == null ? null : read(unit, contents);
+				if (cachedResult != null) {
+					recordHit();
+					this.compiler.stats.resultCacheHits++;
+				} else {
+					recordMiss();
+					this.compiler.stats.resultCacheMisses++;
+				}
+				return cachedResult;
+			} finally {
+				this.compiler.stats.resultCacheTime += System.currentTimeMillis() - start;
+			}
+		}
+
+		/**
+		 * Stores the result of the given unit in the cache if it has no errors.
+		 */
+		public void store(CompilationUnitDeclaration unit) {
+			CompilationResult result = unit.compilationResult;
+			if (result.compilationUnit == null || result.hasErrors() || result.hasInconsistentToplevelHierarchies
+					|| result.qualifiedReferences == null)
+				return;
+			long start = System.currentTimeMillis();
+			try {
+				byte[] fingerprint = referencesFingerprint(unit, result.qualifiedReferences, result.simpleNameReferences,
+						result.rootReferences);
+				if (fingerprint == null)
+					return;
+				byte[] contents = write(result, fingerprint);
+				if (contents != null)
+					CompilationResultCache.this.store(entryKey(result.compilationUnit), contents);
+			} catch (IOException e) {
+				// not cached
+			} finally {
+				this.compiler.stats.resultCacheTime += System.currentTimeMillis() - start;
+			}
+		}
+
+		private String entryKey(ICompilationUnit sourceUnit) {
+			MessageDigest digest = newDigest();
+			digest.update(this.optionsDigest);
+			update(digest, new String(sourceUnit.getFileName()));
+			update(digest, new String(sourceUnit.getContents()));
+			return toHex(digest.digest());
+		}
+
+		private byte[] write(CompilationResult result, byte[] fingerprint) throws IOException {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				out.writeInt(FORMAT_VERSION);
+				writeNames(out, result.qualifiedReferences);
+				writeNames(out, new char[][][] { result.simpleNameReferences });
+				writeNames(out, new char[][][] { result.rootReferences });
+				writeNames(out, new char[][][] { result.memberNameReferences });
+				out.writeInt(fingerprint.length);
+				out.write(fingerprint);
+				out.writeBoolean(result.hasAnnotations);
+				out.writeBoolean(result.hasFunctionalTypes);
+				out.writeBoolean(result.usesPreview);
+
+				ClassFile[] classFiles = result.getClassFiles();
+				out.writeInt(classFiles.length);
+				for (ClassFile classFile : classFiles) {
+					out.writeUTF(new String(classFile.fileName()));
+					out.writeBoolean(classFile.isNestedType);
+					ClassFile enclosing = classFile.enclosingClassFile;
+					out.writeUTF(enclosing == null ? "" : new String(enclosing.fileName())); //$NON-NLS-1$
+					out.writeInt(classFile.headerOffset + classFile.contentsOffset);
+					out.write(classFile.header, 0, classFile.headerOffset);
+					out.write(classFile.contents, 0, classFile.contentsOffset);
+				}
+
+				CategorizedProblem[] problems = result.getProblems();
+				CategorizedProblem[] tasks = result.getTasks();
+				int problemCount = problems == null ? 0 : problems.length;
+				int taskCount = tasks == null ? 0 : tasks.length;
+				out.writeInt(problemCount + taskCount);
+				for (int i = 0; i < problemCount + taskCount; i++) {
+					CategorizedProblem problem = i < problemCount ? problems[i] : tasks[i - problemCount];
+					if (problem.getClass() != DefaultProblem.class)
+						return null; // cannot be restored faithfully
+					DefaultProblem defaultProblem = (DefaultProblem) problem;
+					out.writeInt(defaultProblem.getID());
+					out.writeInt(defaultProblem.severity);
+					out.writeInt(defaultProblem.getSourceStart());
+					out.writeInt(defaultProblem.getSourceEnd());
+					out.writeInt(defaultProblem.getSourceLineNumber());
+					out.writeInt(defaultProblem.column);
+					writeString(out, defaultProblem.getMessage());
+					String[] arguments = defaultProblem.getArguments();
+					out.writeInt(arguments == null ? -1 : arguments.length);
+					for (int j = 0; arguments != null && j < arguments.length; j++)
+						writeString(out, arguments[j]);
+				}
+			}
+			return bytes.toByteArray();
+		}
+
+		private CachedResult read(CompilationUnitDeclaration unit, byte[] contents) {
+			try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(contents))) {
+				if (in.readInt() != FORMAT_VERSION)
+					return null;
+				CachedResult cachedResult = new CachedResult();
+				cachedResult.qualifiedReferences = readNames(in);
+				cachedResult.simpleNameReferences = readNames(in)[0];
+				cachedResult.rootReferences = readNames(in)[0];
+				cachedResult.memberNameReferences = readNames(in)[0];
+				byte[] fingerprint = new byte[in.readInt()];
+				in.readFully(fingerprint);
+				if (!Arrays.equals(fingerprint, referencesFingerprint(unit, cachedResult.qualifiedReferences,
+						cachedResult.simpleNameReferences, cachedResult.rootReferences)))
+					return null; // some referenced type changed
+				cachedResult.hasAnnotations = in.readBoolean();
+				cachedResult.hasFunctionalTypes = in.readBoolean();
+				cachedResult.usesPreview = in.readBoolean();
+
+				int classFileCount = in.readInt();
+				Map<String, CachedClassFile> classFilesByName = new HashMap<>();
+				String[] enclosingNames = new String[classFileCount];
+				cachedResult.classFiles = new CachedClassFile[classFileCount];
+				for (int i = 0; i < classFileCount; i++) {
+					char[] fileName = in.readUTF().toCharArray();
+					boolean isNestedType = in.readBoolean();
+					enclosingNames[i] = in.readUTF();
+					byte[] bytes = new byte[in.readInt()];
+					in.readFully(bytes);
+					cachedResult.classFiles[i] = new CachedClassFile(fileName, isNestedType, bytes);
+					classFilesByName.put(new String(fileName), cachedResult.classFiles[i]);
+				}
+				for (int i = 0; i < classFileCount; i++)
+					cachedResult.classFiles[i].enclosingClassFile = classFilesByName.get(enclosingNames[i]);
+
+				char[] fileName = unit.compilationResult.getFileName();
+				cachedResult.problems = new CategorizedProblem[in.readInt()];
+				for (int i = 0; i < cachedResult.problems.length; i++) {
+					int id = in.readInt();
+					int severity = in.readInt();
+					int start = in.readInt();
+					int end = in.readInt();
+					int line = in.readInt();
+					int column = in.readInt();
+					String message = readString(in);
+					int argumentCount = in.readInt();
+					String[] arguments = argumentCount < 0 ? null : new String[argumentCount];
+					for (int j = 0; j < argumentCount; j++)
+						arguments[j] = readString(in);
+					cachedResult.problems[i] = new DefaultProblem(fileName, message, id, arguments, severity, start, end, line, column);
+				}
+				return cachedResult;
+			} catch (IOException | RuntimeException e) {
+				return null; // corrupted entry, recompile the unit
+			}
+		}
+
+		/**
+		 * Answers a digest of the types the given references denote in the current environment, or
+		 * <code>null</code> if one of them cannot be fingerprinted.
+		 * <p>
+		 * A qualified reference may denote a top level or a member type, and a simple name may denote a type of any
+		 * package seen by the unit, so all the combinations are digested: the absence of a type is as significant as
+		 * its presence.
+		 * </p>
+		 */
+		private byte[] referencesFingerprint(CompilationUnitDeclaration unit, char[][][] qualifiedReferences,
+				char[][] simpleNameReferences, char[][] rootReferences) {
+			if (unit.isModuleInfo() || unit.isSimpleCompilationUnit())
+				return null; // these units see the types of whole modules
+			// packages whose types are seen by their simple name
+			TreeSet<String> packages = new TreeSet<>();
+			packages.add(CharOperation.toString(unit.currentPackage == null ? CharOperation.NO_CHAR_CHAR : unit.currentPackage.tokens));
+			packages.add(CharOperation.toString(TypeConstants.JAVA_LANG));
+			if (unit.imports != null) {
+				for (ImportReference importReference : unit.imports) {
+					if ((importReference.modifiers & ClassFileConstants.AccModule) != 0)
+						return null;
+					if ((importReference.bits & ASTNode.OnDemand) != 0 && !importReference.isStatic())
+						packages.add(CharOperation.toString(importReference.tokens));
+				}
+			}
+			MessageDigest digest = newDigest();
+			for (char[][] reference : qualifiedReferences) {
+				for (int i = reference.length - 1; i >= 0; i--) {
+					char[][] packageName = CharOperation.subarray(reference, 0, i);
+					char[] typeName = CharOperation.concatWith(CharOperation.subarray(reference, i, -1), '$');
+					if (!addTypeDigest(digest, typeDigest(packageName, typeName)))
+						return null;
+				}
+			}
+			for (String packageName : packages) {
+				char[][] compoundName = packageName.isEmpty() ? CharOperation.NO_CHAR_CHAR : CharOperation.splitOn('.', packageName.toCharArray());
+				for (char[] simpleName : simpleNameReferences) {
+					if (!addTypeDigest(digest, typeDigest(compoundName, simpleName)))
+						return null;
+				}
+				for (char[] rootName : rootReferences) {
+					if (!addTypeDigest(digest, typeDigest(compoundName, rootName)))
+						return null;
+				}
+			}
+			return digest.digest();
+		}
+
+		private boolean addTypeDigest(MessageDigest digest, byte[] typeDigest) {
+			if (typeDigest == null)
+				return false;
+			digest.update(typeDigest);
+			digest.update((byte) 0);
+			return true;
+		}
+
+		private byte[] typeDigest(char[][] packageName, char[] typeName) {
+			String key = CharOperation.toString(packageName) + '/' + new String(typeName);
+			byte[] typeDigest = this.typeDigests.get(key);
+			if (typeDigest == null && !this.typeDigests.containsKey(key)) {
+				typeDigest = computeTypeDigest(packageName, typeName);
+				this.typeDigests.put(key, typeDigest);
+			}
+			return typeDigest;
+		}
+
+		private byte[] computeTypeDigest(char[][] packageName, char[] typeName) {
+			// member types are compiled with their top level type
+			int dollar = CharOperation.indexOf('$', typeName);
+			char[] topLevelName = dollar > 0 ? CharOperation.subarray(typeName, 0, dollar) : typeName;
+			ReferenceBinding cachedType = this.environment.getCachedType(CharOperation.arrayConcat(packageName, topLevelName));
+			if (cachedType instanceof SourceTypeBinding) {
+				ICompilationUnit sourceUnit = this.sourceUnits.get(new String(cachedType.getFileName()));
+				return sourceUnit == null ? null : sourceDigest(sourceUnit);
+			}
+			NameEnvironmentAnswer answer = this.nameEnvironment.findType(typeName, packageName);
+			if (answer == null)
+				return ABSENT;
+			MessageDigest digest = newDigest();
+			AccessRestriction restriction = answer.getAccessRestriction();
+			if (restriction != null)
+				update(digest, restriction.getProblemId() + " " + restriction.ignoreIfBetter() + " " + restriction.classpathEntryName); //$NON-NLS-1$ //$NON-NLS-2$
+			update(digest, String.valueOf(answer.moduleName()));
+			if (answer.isCompilationUnit()) {
+				digest.update(sourceDigest(answer.getCompilationUnit()));
+			} else if (answer.isBinaryType() && answer.getBinaryType().getExternalAnnotationStatus() != ExternalAnnotationStatus.TYPE_IS_ANNOTATED) {
+				digest.update(BinaryTypeFingerprint.compute(answer.getBinaryType()));
+			} else {
+				return null; // source models and externally annotated types are not fingerprinted
+			}
+			return digest.digest();
+		}
+
+		private byte[] sourceDigest(ICompilationUnit sourceUnit) {
+			MessageDigest digest = newDigest();
+			update(digest, new String(sourceUnit.getFileName()));
+			update(digest, new String(sourceUnit.getContents()));
+			return digest.digest();
+		}
+	}
+
+	private static void writeNames(DataOutputStream out, char[][][] names) throws IOException {
+		out.writeInt(names.length);
+		for (char[][] name : names) {
+			out.writeInt(name == null ? -1 : name.length);
+			for (int i = 0; name != null && i < name.length; i++)
+				out.writeUTF(new String(name[i]));
+		}
+	}
+
+	private static char[][][] readNames(DataInputStream in) throws IOException {
+		char[][][] names = new char[in.readInt()][][];
+		for (int i = 0; i < names.length; i++) {
+			int length = in.readInt();
+			if (length < 0)
+				continue;
+			names[i] = new char[length][];
+			for (int j = 0; j < length; j++)
+				names[i][j] = in.readUTF().toCharArray();
+		}
+		return names;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes == null ? -1 : bytes.length);
+		if (bytes != null)
+			out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0)
+			return null;
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Valid entry of the cache, restored into the result of its unit once the types of the unit are resolved.
+	 */
+	public static class CachedResult {
+
+		char[][][] qualifiedReferences;
+		char[][] simpleNameReferences;
+		char[][] rootReferences;
+		char[][] memberNameReferences;
+		boolean hasAnnotations;
+		boolean hasFunctionalTypes;
+		boolean usesPreview;
+		CachedClassFile[] classFiles;
+		CategorizedProblem[] problems;
+
+		/**
+		 * Replaces the problems recorded so far in the given result with the cached problems, and records the cached
+		 * class files and references.
+		 */
+		public void restoreInto(CompilationResult result) {
+			result.resetProblems();
+			for (CategorizedProblem problem : this.problems)
+				result.record(problem, null, false);
+			for (CachedClassFile classFile : this.classFiles)
+				result.record(classFile.fileName(), classFile);
+			result.qualifiedReferences = this.qualifiedReferences;
+			result.simpleNameReferences = this.simpleNameReferences;
+			result.rootReferences = this.rootReferences;
+			result.memberNameReferences = this.memberNameReferences;
+			result.hasAnnotations = this.hasAnnotations;
+			result.hasFunctionalTypes = this.hasFunctionalTypes;
+			result.usesPreview = this.usesPreview;
+		}
+	}
+
+	/**
+	 * Class file restored from the cache, its bytes are held in the header.
+	 */
+	static class CachedClassFile extends ClassFile {
+
+		private final char[] fileName;
+
+		CachedClassFile(char[] fileName, boolean isNestedType, byte[] bytes) {
+			this.fileName = fileName;
+			this.isNestedType = isNestedType;
+			this.header = bytes;
+			this.headerOffset = bytes.length;
+			this.contents = new byte[0];
+			this.contentsOffset = 0;
+		}
+
+		@Override
+		public char[] fileName() {
+			return this.fileName;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -79,6 +79,11 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	public int annotationProcessorStartIndex = 0;
 	public ReferenceBinding[] referenceBindings;
 	public boolean useSingleThread = true; // by default the compiler will not use worker threads to read/process/write
+	public int parseWorkers = 1; // number of worker threads parsing method bodies ahead of processing (1: none)
+	private BodyParseManager bodyParseManager;
+	public CompilationResultCache resultCache; // restores the results of unchanged units (null: none)
+	private CompilationResultCache.Session resultCacheSession;
+	private ICompilerEventListener eventListener; // notified of the phases of each unit (null: none)
 
 	// number of initial units parsed at once (-1: none)
 
@@ -263,6 +268,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 				0,
 				this.totalUnits);
 		this.unitsToProcess[this.totalUnits++] = parsedUnit;
+		if (this.resultCacheSession != null)
+			this.resultCacheSession.recordSourceUnit(sourceUnit);
 	}
 
 	/**
@@ -273,6 +280,10 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		int maxUnits = sourceUnits.length;
 		this.totalUnits = 0;
 		this.unitsToProcess = new CompilationUnitDeclaration[maxUnits];
+		if (this.resultCache != null && this.annotationProcessorManager == null) {
+			// generated units would not be restored with the result of the unit
+			this.resultCacheSession = this.resultCache.newSession(this);
+		}
 
 		internalBeginToCompile(sourceUnits, maxUnits);
 	}
@@ -305,6 +316,28 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		}
 	}
 
+	/**
+	 * Sets the listener notified of the phases of each compilation unit, the type inferences, the annotation
+	 * processing rounds and the type lookups, <code>null</code> for none.
+	 */
+	public void setEventListener(ICompilerEventListener listener) {
+		this.eventListener = listener;
+		this.lookupEnvironment.eventListener = listener;
+	}
+
+	public ICompilerEventListener getEventListener() {
+		return this.eventListener;
+	}
+
+	/**
+	 * Notifies the listener of an event started at the given time, and answers the current time.
+	 */
+	private static long notifyEvent(ICompilerEventListener listener, ICompilerEventListener.Phase phase, char[] subject, long startNanos) {
+		long now = System.nanoTime();
+		listener.event(phase, subject, startNanos, now - startNanos);
+		return now;
+	}
+
 	public void compile(ICompilationUnit[] sourceUnits) {
 		compile(sourceUnits, false);
 	}
@@ -437,6 +470,11 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 
 	protected void processCompiledUnits(int startingIndex, boolean lastRound) throws java.lang.Error {
 		CompilationUnitDeclaration unit = null;
+		BodyParseManager previousBodyParseManager = this.bodyParseManager;
+		if (this.parseWorkers > 1 && this.parser.getClass() == Parser.class && !this.options.headersOnly) {
+			// subclasses may customize the parser, which the workers could not replicate
+			this.bodyParseManager = new BodyParseManager(this, this.parseWorkers);
+		}
 		try {
 			if (this.useSingleThread) {
 				// process all units (some more could be injected in the loop by the lookup environment)
@@ -530,6 +568,10 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 			this.handleInternalException(e, unit, null);
 			throw e; // rethrow
 		} finally {
+			if (this.bodyParseManager != previousBodyParseManager) {
+				this.bodyParseManager.close();
+				this.bodyParseManager = previousBodyParseManager;
+			}
 			reset();
 			this.annotationProcessorStartIndex  = 0;
 			this.stats.endTime = System.currentTimeMillis();
@@ -749,6 +791,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					// diet parsing for large collection of units
 					CompilationUnitDeclaration parsedUnit;
 					unitResult = new CompilationResult(sourceUnits[i], i, maxUnits, this.options.maxProblemsPerUnit);
+					ICompilerEventListener listener = this.eventListener;
+					long eventStart = listener == null ? 0 : System.nanoTime();
 					long parseStart = System.currentTimeMillis();
 					if (this.totalUnits < this.parseThreshold) {
 						parsedUnit = this.parser.parse(sourceUnits[i], unitResult);
@@ -758,9 +802,13 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					}
 					long resolveStart = System.currentTimeMillis();
 					this.stats.parseTime += resolveStart - parseStart;
+					if (listener != null)
+						eventStart = notifyEvent(listener, ICompilerEventListener.Phase.PARSE, unitResult.getFileName(), eventStart);
 					// initial type binding creation
 					this.lookupEnvironment.buildTypeBindings(parsedUnit, null /*no access restriction*/);
 					this.stats.resolveTime += System.currentTimeMillis() - resolveStart;
+					if (listener != null)
+						notifyEvent(listener, ICompilerEventListener.Phase.RESOLVE, unitResult.getFileName(), eventStart);
 					addCompilationUnit(sourceUnits[i], parsedUnit);
 					ImportReference currentPackage = parsedUnit.currentPackage;
 					if (currentPackage != null) {
@@ -792,12 +840,28 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	 */
 	public void process(CompilationUnitDeclaration unit, int i) {
 		this.lookupEnvironment.unitBeingCompleted = unit;
+		CompilationResultCache.CachedResult cachedResult = this.resultCacheSession == null ? null : this.resultCacheSession.lookup(unit);
+		if (cachedResult != null) {
+			processCached(unit, cachedResult);
+			return;
+		}
+		if (this.bodyParseManager != null)
+			this.bodyParseManager.parseMethodBodies(unit, i);
+
+		ICompilerEventListener listener = this.eventListener;
+		char[] fileName = listener == null ? null : unit.getFileName();
+		long eventStart = listener == null ? 0 : System.nanoTime();
 		long parseStart = System.currentTimeMillis();
 
-		this.parser.getMethodBodies(unit);
+		// header only compilation keeps the diet units, only the API of their types is generated
+		if (!this.options.headersOnly) this.parser.getMethodBodies(unit);
 
 		long resolveStart = System.currentTimeMillis();
 		this.stats.parseTime += resolveStart - parseStart;
+		if (listener != null && this.bodyParseManager == null && !this.options.headersOnly) // else notified by the workers
+			eventStart = notifyEvent(listener, ICompilerEventListener.Phase.PARSE, fileName, eventStart);
+		else if (listener != null)
+			eventStart = System.nanoTime();
 
 		// fault in fields & methods
 		if (unit.scope != null)
@@ -812,12 +876,16 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 
 		long analyzeStart = System.currentTimeMillis();
 		this.stats.resolveTime += analyzeStart - resolveStart;
+		if (listener != null)
+			eventStart = notifyEvent(listener, ICompilerEventListener.Phase.RESOLVE, fileName, eventStart);
 
 		//No need of analysis or generation of code if statements are not required
-		if (!this.options.ignoreMethodBodies) unit.analyseCode(); // flow analysis
+		if (!this.options.ignoreMethodBodies && !this.options.headersOnly) unit.analyseCode(); // flow analysis
 
 		long generateStart = System.currentTimeMillis();
 		this.stats.analyzeTime += generateStart - analyzeStart;
+		if (listener != null)
+			eventStart = notifyEvent(listener, ICompilerEventListener.Phase.ANALYZE, fileName, eventStart);
 
 		if (!this.options.ignoreMethodBodies) unit.generateCode(); // code generation
 
@@ -829,6 +897,11 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		unit.finalizeProblems();
 
 		this.stats.generateTime += System.currentTimeMillis() - generateStart;
+		if (listener != null)
+			notifyEvent(listener, ICompilerEventListener.Phase.GENERATE, fileName, eventStart);
+
+		if (this.resultCacheSession != null)
+			this.resultCacheSession.store(unit);
 
 		// refresh the total number of units known at this stage
 		unit.compilationResult.totalUnitsKnown = this.totalUnits;
@@ -836,6 +909,28 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		this.lookupEnvironment.unitBeingCompleted = null;
 	}
 
+	/**
+	 * Restores the cached result of the given unit. The types of the unit are still resolved since the units
+	 * processed next may use them, but the method bodies are neither parsed nor resolved, analyzed or generated.
+	 */
+	private void processCached(CompilationUnitDeclaration unit, CompilationResultCache.CachedResult cachedResult) {
+		ICompilerEventListener listener = this.eventListener;
+		long eventStart = listener == null ? 0 : System.nanoTime();
+		long resolveStart = System.currentTimeMillis();
+		if (unit.scope != null) {
+			unit.scope.faultInTypes();
+			unit.scope.verifyMethods(this.lookupEnvironment.methodVerifier());
+		}
+		unit.resolve();
+		this.stats.resolveTime += System.currentTimeMillis() - resolveStart;
+		if (listener != null)
+			notifyEvent(listener, ICompilerEventListener.Phase.RESOLVE, unit.getFileName(), eventStart);
+
+		cachedResult.restoreInto(unit.compilationResult);
+		unit.compilationResult.totalUnitsKnown = this.totalUnits;
+		this.lookupEnvironment.unitBeingCompleted = null;
+	}
+
 	protected void processAnnotations() {
 		int newUnitSize = 0;
 		int newClassFilesSize = 0;
@@ -844,6 +939,9 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		ReferenceBinding[] binaryTypeBindingsTemp = this.referenceBindings;
 		if (top == 0 && binaryTypeBindingsTemp == null) return;
 		this.referenceBindings = null;
+		ICompilerEventListener listener = this.eventListener;
+		long eventStart = listener == null ? 0 : System.nanoTime();
+		int round = 0;
 		do {
 			// extract units to process
 			int length = top - bottom;
@@ -892,6 +990,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 				bottom = top;
 				this.annotationProcessorManager.reset();
 			}
+			if (listener != null)
+				eventStart = notifyEvent(listener, ICompilerEventListener.Phase.ANNOTATION_PROCESSING, String.valueOf(++round).toCharArray(), eventStart);
 		} while (newUnitSize != 0 || newClassFilesSize != 0);
 
 		this.annotationProcessorManager.processAnnotations(null, null, true);
@@ -915,6 +1015,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 			this.annotationProcessorManager.reset();
 			this.annotationProcessorManager.cleanUp();
 		}
+		if (listener != null)
+			notifyEvent(listener, ICompilerEventListener.Phase.ANNOTATION_PROCESSING, String.valueOf(++round).toCharArray(), eventStart);
 		// Units added in final round don't get annotation processed
 		this.annotationProcessorStartIndex = this.totalUnits;
 	}
@@ -923,6 +1025,7 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		this.lookupEnvironment.reset();
 		this.parser.scanner.source = null;
 		this.unitsToProcess = null;
+		this.resultCacheSession = null;
 		if (DebugRequestor != null) DebugRequestor.reset();
 		this.problemReporter.reset();
 	}
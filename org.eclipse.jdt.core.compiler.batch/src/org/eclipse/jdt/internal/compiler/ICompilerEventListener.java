@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler;
+
+/**
+ * A callback interface for observing where a compiler spends its time, see {@link Compiler#setEventListener}.
+ * <p>
+ * Events are notified once completed, from the thread that did the work: method bodies parsed ahead of processing
+ * are notified by the parsing worker threads. Events may nest, e.g. a class path lookup happens while resolving a
+ * unit, the duration of an event includes the one of its nested events.
+ * </p>
+ */
+public interface ICompilerEventListener {
+
+	enum Phase {
+		/** Parsing of a compilation unit, subject is the file name of the unit */
+		PARSE,
+		/** Building, completing and resolving the bindings of a compilation unit, subject is the file name of the unit */
+		RESOLVE,
+		/** Flow analysis of a compilation unit, subject is the file name of the unit */
+		ANALYZE,
+		/** Code generation and problem finalization of a compilation unit, subject is the file name of the unit */
+		GENERATE,
+		/** Type inference of a generic method invocation, subject is the selector of the method */
+		INFERENCE,
+		/** Round of annotation processing, subject is the number of the round */
+		ANNOTATION_PROCESSING,
+		/** Lookup of a type in the name environment, subject is the qualified name of the type, using '/' */
+		LOOKUP,
+		/** Writing of a class file, subject is the name of the class file */
+		WRITE
+	}
+
+	/**
+	 * Notifies a completed event.
+	 *
+	 * @param phase the kind of work done
+	 * @param subject what the work was done on, see {@link Phase}
+	 * @param startNanos start of the event, as answered by {@link System#nanoTime()}
+	 * @param durationNanos duration of the event in nanoseconds
+	 */
+	void event(Phase phase, char[] subject, long startNanos, long durationNanos);
+}
@@ -296,7 +296,8 @@ public void finalizeProblems() {
 		}
 	}
 	// flag SuppressWarnings which had no effect (only if no (mandatory) error got detected within unit
-	if (!hasMandatoryErrors) {
+	// and if method bodies got compiled)
+	if (!hasMandatoryErrors && !options.headersOnly) {
 		int severity = options.getSeverity(CompilerOptions.UnusedWarningToken);
 		if (severity != ProblemSeverities.Ignore) {
 			boolean unusedWarningTokenIsWarning = (severity & ProblemSeverities.Error) == 0;
@@ -661,7 +662,8 @@ public void resolve() {
 				this.types[i].resolve(this.scope);
 			}
 		}
-		if (!this.compilationResult.hasMandatoryErrors()) checkUnusedImports();
+		// method bodies are not parsed when generating headers only, the imports they use would look unused
+		if (!this.compilationResult.hasMandatoryErrors() && !this.scope.compilerOptions().headersOnly) checkUnusedImports();
 		reportNLSProblems();
 	} catch (AbortCompilationUnit e) {
 		this.ignoreFurtherInvestigation = true;
@@ -630,13 +630,37 @@ public void generateCode(ClassFile enclosingClassFile) {
 		}
 		// generate all methods
 		classFile.setForMethodInfos();
-		if (this.methods != null) {
-			for (AbstractMethodDeclaration method : this.methods) {
-				method.generateCode(this.scope, classFile);
+		if (this.scope.compilerOptions().headersOnly) {
+			// method infos without code, for the members visible outside of the type
+			if (this.methods != null) {
+				for (AbstractMethodDeclaration method : this.methods) {
+					if (method.binding == null || method.isClinit() || method.binding.isPrivate())
+						continue;
+					if (method instanceof AnnotationMethodDeclaration annotationMethod)
+						annotationMethod.generateCode(classFile); // with its AnnotationDefault attribute
+					else
+						classFile.addAbstractMethod(method, method.binding);
+				}
+			}
+			classFile.addSpecialMethodHeaders();
+			// the bodies of the enum constants, generated along with the code of <clinit> otherwise
+			if (this.fields != null) {
+				for (FieldDeclaration field : this.fields) {
+					if (field.getKind() == AbstractVariableDeclaration.ENUM_CONSTANT
+							&& field.initialization instanceof QualifiedAllocationExpression constantAllocation
+							&& constantAllocation.anonymousType != null)
+						constantAllocation.anonymousType.generateCode(classFile);
+				}
+			}
+		} else {
+			if (this.methods != null) {
+				for (AbstractMethodDeclaration method : this.methods) {
+					method.generateCode(this.scope, classFile);
+				}
 			}
+			// generate all synthetic and abstract methods
+			classFile.addSpecialMethods(this);
 		}
-		// generate all synthetic and abstract methods
-		classFile.addSpecialMethods(this);
 
 		if (this.ignoreFurtherInvestigation) { // trigger problem type generation for code gen errors
 			throw new AbortType(this.scope.referenceCompilationUnit().compilationResult, null);
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.eclipse.jdt.internal.compiler.ICompilerEventListener;
+import org.eclipse.jdt.internal.compiler.util.Util;
+
+/**
+ * Writes the class files of a batch compilation into their destination directories on a background thread, so that
+ * the file system calls overlap with the compilation of the next units. Enabled by the
+ * <code>jdt.compiler.asyncWrite</code> system property.
+ * <p>
+ * The writer takes the class files queued since its last batch all at once, and creates each package directory only
+ * once. A failure to write a class file does not stop the writer: the failures are answered by {@link #close()}, to
+ * be reported by the compiler thread.
+ * </p>
+ */
+public class AsyncClassFileWriter {
+
+	/** A class file waiting to be written, or, with a <code>null</code> name, the end of the compilation */
+	private record Pending(String destinationPath, String relativeFileName, byte[] bytes) {}
+
+	/** A class file that could not be written */
+	public record Failure(String destinationPath, String relativeFileName, IOException exception) {}
+
+	private static final int QUEUE_SIZE = 256;
+	private static final Pending END = new Pending(null, null, null);
+
+	private final BlockingQueue<Pending> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+	private final ICompilerEventListener listener;
+	private final Thread thread;
+	/** The path of the package directories already created, with a trailing separator, by destination and package */
+	private final Map<String, String> directories = new HashMap<>();
+	private final List<Failure> failures = new ArrayList<>();
+
+	/**
+	 * Starts the writer thread.
+	 *
+	 * @param listener the listener notified of the write events, on the writer thread, or <code>null</code>
+	 */
+	public AsyncClassFileWriter(ICompilerEventListener listener) {
+		this.listener = listener;
+		this.thread = new Thread(this::writing, "Compiler Class File Writer"); //$NON-NLS-1$
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * Queues the given class file, blocking while the writer is too far behind.
+	 *
+	 * @param destinationPath the root of the package directories
+	 * @param relativeFileName the name of the class file relative to the destination, as in
+	 *            <code>java/lang/String.class</code>
+	 */
+	public void write(String destinationPath, String relativeFileName, byte[] bytes) {
+		put(new Pending(destinationPath, relativeFileName, bytes));
+	}
+
+	private void put(Pending pending) {
+		try {
+			this.queue.put(pending);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+	}
+
+	private void writing() {
+		List<Pending> batch = new ArrayList<>(QUEUE_SIZE);
+		try {
+			while (true) {
+				batch.add(this.queue.take());
+				this.queue.drainTo(batch);
+				for (Pending pending : batch) {
+					if (pending == END)
+						return;
+					write(pending);
+				}
+				batch.clear();
+			}
+		} catch (InterruptedException e) {
+			// abandoned, close() reports nothing more
+		}
+	}
+
+	private void write(Pending pending) {
+		long start = this.listener == null ? 0 : System.nanoTime();
+		try {
+			Files.write(Path.of(fileName(pending.destinationPath, pending.relativeFileName)), pending.bytes);
+		} catch (IOException e) {
+			this.failures.add(new Failure(pending.destinationPath, pending.relativeFileName, e));
+			return;
+		} catch (RuntimeException e) {
+			// as an invalid path
+			this.failures.add(new Failure(pending.destinationPath, pending.relativeFileName, new IOException(e)));
+			return;
+		}
+		if (this.listener != null)
+			this.listener.event(ICompilerEventListener.Phase.WRITE, pending.relativeFileName.toCharArray(), start,
+					System.nanoTime() - start);
+	}
+
+	private String fileName(String destinationPath, String relativeFileName) throws IOException {
+		relativeFileName = relativeFileName.replace('/', File.separatorChar);
+		int separator = relativeFileName.lastIndexOf(File.separatorChar);
+		String key = destinationPath + File.pathSeparatorChar + relativeFileName.substring(0, separator + 1);
+		String directory = this.directories.get(key);
+		if (directory != null)
+			return directory + relativeFileName.substring(separator + 1);
+		// creates the missing directories, or explains why they cannot be created
+		String fileName = Util.buildAllDirectoriesInto(destinationPath, relativeFileName);
+		this.directories.put(key, fileName.substring(0, fileName.length() - (relativeFileName.length() - separator - 1)));
+		return fileName;
+	}
+
+	/**
+	 * Waits until all the queued class files are written, and stops the writer thread.
+	 *
+	 * @return the class files that could not be written
+	 */
+	public List<Failure> close() {
+		put(END);
+		try {
+			this.thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+		return this.failures;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.batch;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -51,7 +52,11 @@ protected ZipFile zipFile;
 protected ZipFile annotationZipFile;
 protected boolean closeZipFileAtEnd;
 protected Set<String> packageCache;
+/** persisted packages of the jar, the jar is only opened when reading its entries, see {@link JarIndex} */
+protected JarIndex jarIndex;
 protected List<String> annotationPaths;
+/** jar files kept open by the compile server running this compilation, <code>null</code> otherwise */
+protected ZipFileCache zipFileCache;
 
 public ClasspathJar(File file, boolean closeZipFileAtEnd,
 		AccessRuleSet accessRuleSet, String destinationPath) {
@@ -67,13 +72,10 @@ public List<Classpath> fetchLinkedJars(FileSystem.ClasspathSectionProblemReporte
 	try {
 		initialize();
 		ArrayList<Classpath> result = new ArrayList<>();
-		ZipEntry manifest = this.zipFile.getEntry(TypeConstants.META_INF_MANIFEST_MF);
+		byte[] manifest = readManifest();
 		if (manifest != null) { // non-null implies regular file
 			ManifestAnalyzer analyzer = new ManifestAnalyzer();
-			boolean success;
-			try (InputStream inputStream = this.zipFile.getInputStream(manifest)) {
-				success = analyzer.analyzeManifestContents(inputStream);
-			}
+			boolean success = analyzer.analyzeManifestContents(new ByteArrayInputStream(manifest));
 			List<String> calledFileNames = analyzer.getCalledFileNames();
 			if (problemReporter != null) {
 				if (!success || analyzer.getClasspathSectionsCount() == 1 &&  calledFileNames == null) {
@@ -112,6 +114,7 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 		return null; // most common case
 
 	try {
+		openZipFile();
 		IBinaryType reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
 		if (reader != null) {
 			char[] modName = this.module == null ? null : this.module.name();
@@ -151,14 +154,24 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 }
 @Override
 public boolean hasAnnotationFileFor(String qualifiedTypeName) {
-	if (this.zipFile == null)
+	if (this.zipFile == null && this.jarIndex == null)
+		return false;
+	try {
+		openZipFile();
+	} catch (IOException e) {
 		return false;
+	}
 	return this.zipFile.getEntry(qualifiedTypeName+ExternalAnnotationProvider.ANNOTATION_FILE_SUFFIX) != null;
 }
 @Override
 public char[][][] findTypeNames(final String qualifiedPackageName, String moduleName) {
 	if (!isPackage(qualifiedPackageName, moduleName))
 		return null; // most common case
+	try {
+		openZipFile();
+	} catch (IOException e) {
+		return null;
+	}
 	final char[] packageArray = qualifiedPackageName.toCharArray();
 	final ArrayList answers = new ArrayList();
 	nextEntry : for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
@@ -192,10 +205,44 @@ public char[][][] findTypeNames(final String qualifiedPackageName, String module
 
 @Override
 public void initialize() throws IOException {
+	if (this.zipFile == null && this.jarIndex == null) {
+		if (canUseIndex())
+			this.jarIndex = JarIndex.load(this.file);
+		if (this.jarIndex == null)
+			openZipFile();
+	}
+}
+/**
+ * Answers the contents of the manifest of this jar, or <code>null</code> if it has none.
+ */
+private byte[] readManifest() throws IOException {
+	if (this.jarIndex != null)
+		return this.jarIndex.getManifest();
+	ZipEntry entry = this.zipFile.getEntry(TypeConstants.META_INF_MANIFEST_MF);
+	if (entry == null)
+		return null;
+	try (InputStream inputStream = this.zipFile.getInputStream(entry)) {
+		return inputStream.readAllBytes();
+	}
+}
+/**
+ * Opens the jar if not done yet, it stays closed as long as package lookups are answered by the {@link #jarIndex}.
+ */
+protected void openZipFile() throws IOException {
 	if (this.zipFile == null) {
-		this.zipFile = new ZipFile(this.file);
+		if (this.zipFileCache != null)
+			this.zipFile = this.zipFileCache.open(this.file);
+		else
+			this.zipFile = new ZipFile(this.file);
 	}
 }
+/**
+ * Answers whether the packages of this jar can be answered by a {@link JarIndex}, subclasses reading the jar
+ * differently must not use the index.
+ */
+protected boolean canUseIndex() {
+	return getClass() == ClasspathJar.class;
+}
 void acceptModule(ClassFileReader reader) {
 	if (reader != null) {
 		acceptModule(reader.getModuleDeclaration());
@@ -227,9 +274,25 @@ protected void addToPackageCache(String fileName, boolean endsWithSep) {
 }
 @Override
 public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageName, String moduleName) {
+	if (this.packageCache == null && this.jarIndex != null)
+		this.packageCache = this.jarIndex.getPackages();
+	ZipFileCache cache = this.zipFileCache;
+	if (this.packageCache == null && cache != null)
+		this.packageCache = cache.getPackages(this.zipFile);
 	if (this.packageCache != null)
 		return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
 
+	if (canUseIndex() && JarIndex.getDirectory() != null) {
+		try {
+			this.jarIndex = JarIndex.create(this.file, this.zipFile);
+			this.packageCache = this.jarIndex.getPackages();
+			if (cache != null)
+				cache.setPackages(this.zipFile, this.packageCache);
+			return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
+		} catch (IOException e) {
+			// fall back to walking the entries
+		}
+	}
 	this.packageCache = new HashSet<>(41);
 	this.packageCache.add(Util.EMPTY_STRING);
 
@@ -237,10 +300,17 @@ public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageN
 		String fileName = e.nextElement().getName();
 		addToPackageCache(fileName, false);
 	}
+	if (cache != null)
+		cache.setPackages(this.zipFile, this.packageCache);
 	return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
 }
 @Override
 public boolean hasCompilationUnit(String qualifiedPackageName, String moduleName) {
+	try {
+		openZipFile();
+	} catch (IOException e) {
+		return false;
+	}
 	qualifiedPackageName += '/';
 	for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
 		String fileName = e.nextElement().getName();
@@ -257,6 +327,11 @@ public boolean hasCompilationUnit(String qualifiedPackageName, String moduleName
 
 @Override
 public char[][] listPackages() {
+	try {
+		openZipFile();
+	} catch (IOException e) {
+		return CharOperation.NO_CHAR_CHAR;
+	}
 	Set<String> packageNames = new HashSet<>();
 	for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
 		String fileName = e.nextElement().getName();
@@ -272,10 +347,12 @@ public void reset() {
 	super.reset();
 	if (this.closeZipFileAtEnd) {
 		if (this.zipFile != null) {
-			try {
-				this.zipFile.close();
-			} catch(IOException e) {
-				// ignore
+			if (this.zipFileCache == null || !this.zipFileCache.isShared(this.zipFile)) {
+				try {
+					this.zipFile.close();
+				} catch(IOException e) {
+					// ignore
+				}
 			}
 			this.zipFile = null;
 		}
@@ -289,6 +366,7 @@ public void reset() {
 		}
 	}
 	this.packageCache = null;
+	this.jarIndex = null;
 	this.annotationPaths = null;
 }
 @Override
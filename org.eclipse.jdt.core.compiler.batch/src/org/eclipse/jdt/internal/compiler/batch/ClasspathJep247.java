@@ -74,24 +74,22 @@ public class ClasspathJep247 extends ClasspathJrt {
 		try {
 			//TODO: Check if any conversion needed for path separator
 			IBinaryType reader = null;
-			byte[] content = null;
 			qualifiedBinaryFileName = qualifiedBinaryFileName.replace(".class", ".sig"); //$NON-NLS-1$ //$NON-NLS-2$
 			Path p = null;
 			if (this.subReleases != null && this.subReleases.length > 0) {
 				for (String rel : this.subReleases) {
 					p = this.fs.getPath(rel, qualifiedBinaryFileName);
 					if (Files.exists(p)) {
-						content = JRTUtil.safeReadBytes(p);
-						if (content != null)
+						reader = readClassfile(p, qualifiedBinaryFileName);
+						if (reader != null)
 							break;
 					}
 				}
 			} else {
 				p = this.fs.getPath(this.releaseInHex, qualifiedBinaryFileName);
-				content = JRTUtil.safeReadBytes(p);
+				reader = readClassfile(p, qualifiedBinaryFileName);
 			}
-			if (content != null) {
-				reader = new ClassFileReader(p.toUri(), content, qualifiedBinaryFileName.toCharArray());
+			if (reader != null) {
 				reader = maybeDecorateForExternalAnnotations(qualifiedBinaryFileName, reader);
 				char[] modName = moduleName != null ? moduleName.toCharArray() : null;
 				return new NameEnvironmentAnswer(reader, fetchAccessRestriction(qualifiedBinaryFileName), modName);
@@ -102,6 +100,17 @@ public class ClasspathJep247 extends ClasspathJrt {
 		return null;
 	}
 
+	/**
+	 * Answers the reader of the given signature file of ct.sym, shared with the other compilers if enabled (see
+	 * {@link JRTUtil#getSnapshot()}), or <code>null</code> if it does not exist.
+	 */
+	protected static ClassFileReader readClassfile(Path path, String fileName) throws IOException, ClassFormatException {
+		return JRTUtil.getSnapshot().getReader(path, () -> {
+			byte[] content = JRTUtil.safeReadBytes(path);
+			return content == null ? null : new ClassFileReader(path.toUri(), content, fileName.toCharArray());
+		});
+	}
+
 	@Override
 	public void initialize() throws IOException {
 		if (this.compliance == null) {
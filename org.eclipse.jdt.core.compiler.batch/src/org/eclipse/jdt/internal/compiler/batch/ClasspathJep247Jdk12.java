@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -38,6 +39,7 @@ import org.eclipse.jdt.internal.compiler.env.IModule;
 import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
 import org.eclipse.jdt.internal.compiler.util.CtSym;
 import org.eclipse.jdt.internal.compiler.util.JRTUtil;
+import org.eclipse.jdt.internal.compiler.util.JdkIndex;
 import org.eclipse.jdt.internal.compiler.util.Util;
 
 public class ClasspathJep247Jdk12 extends ClasspathJep247 {
@@ -64,7 +66,6 @@ public class ClasspathJep247Jdk12 extends ClasspathJep247 {
 		try {
 			IBinaryType reader = null;
 			Path p = null;
-			byte[] content = null;
 			char[] foundModName = null;
 			qualifiedBinaryFileName = qualifiedBinaryFileName.replace(".class", ".sig"); //$NON-NLS-1$ //$NON-NLS-2$
 			if (this.subReleases != null && this.subReleases.length > 0) {
@@ -75,9 +76,9 @@ public class ClasspathJep247Jdk12 extends ClasspathJep247 {
 							for (final java.nio.file.Path subdir: stream) {
 								p = this.fs.getPath(rel, JRTUtil.sanitizedFileName(subdir), qualifiedBinaryFileName);
 								if (Files.exists(p)) {
-									content = JRTUtil.safeReadBytes(p);
+									reader = readClassfile(p, qualifiedBinaryFileName);
 									foundModName = JRTUtil.sanitizedFileName(subdir).toCharArray();
-									if (content != null)
+									if (reader != null)
 										break done;
 								}
 							}
@@ -85,18 +86,17 @@ public class ClasspathJep247Jdk12 extends ClasspathJep247 {
 					} else {
 						p = this.fs.getPath(rel, moduleName, qualifiedBinaryFileName);
 						if (Files.exists(p)) {
-							content = JRTUtil.safeReadBytes(p);
-							if (content != null)
+							reader = readClassfile(p, qualifiedBinaryFileName);
+							if (reader != null)
 								break;
 						}
 					}
 				}
 			} else {
 				p = this.fs.getPath(this.releaseInHex, qualifiedBinaryFileName);
-				content = JRTUtil.safeReadBytes(p);
+				reader = readClassfile(p, qualifiedBinaryFileName);
 			}
-			if (content != null) {
-				reader = new ClassFileReader(p.toUri(), content, qualifiedBinaryFileName.toCharArray());
+			if (reader != null) {
 				reader = maybeDecorateForExternalAnnotations(qualifiedBinaryFileName, reader);
 				char[] modName = moduleName != null ? moduleName.toCharArray() : foundModName;
 				return new NameEnvironmentAnswer(reader, fetchAccessRestriction(qualifiedBinaryFileName), modName);
@@ -156,6 +156,15 @@ public class ClasspathJep247Jdk12 extends ClasspathJep247 {
 		this.modulePath = this.file.getPath() + "|" + modPath.toString(); //$NON-NLS-1$
 		Map<String, IModule> cache = ModulesCache.computeIfAbsent(this.modulePath, key -> {
 			HashMap<String,IModule> newCache = new HashMap<>();
+			JdkIndex index = JdkIndex.get(this.jdkHome.toPath());
+			String section = JdkIndex.ctSymSection(this.releaseInHex);
+			Map<String, byte[]> indexed = index != null ? index.getModuleDescriptors(section) : null;
+			if (indexed != null) {
+				for (Map.Entry<String, byte[]> entry : indexed.entrySet())
+					acceptModule(entry.getKey(), entry.getValue(), newCache);
+				return newCache.isEmpty() ? null : Collections.unmodifiableMap(newCache);
+			}
+			Map<String, byte[]> descriptors = new LinkedHashMap<>();
 			try (DirectoryStream<java.nio.file.Path> stream = Files.newDirectoryStream(this.releasePath)) {
 				for (final java.nio.file.Path subdir: stream) {
 					String rel = JRTUtil.sanitizedFileName(subdir);
@@ -182,6 +191,8 @@ public class ClasspathJep247Jdk12 extends ClasspathJep247 {
 								}
 								Path m = f.subpath(1, f.getNameCount() - 1);
 								String name = JRTUtil.sanitizedFileName(m);
+								if (!descriptors.containsKey(name))
+									descriptors.put(name, content);
 								ClasspathJep247Jdk12.this.acceptModule(name, content, newCache);
 							}
 							return FileVisitResult.SKIP_SIBLINGS;
@@ -208,6 +219,8 @@ public class ClasspathJep247Jdk12 extends ClasspathJep247 {
 					return null;
 				}
 			}
+			if (index != null)
+				index.putModuleDescriptors(section, descriptors);
 			return newCache.isEmpty() ? null : Collections.unmodifiableMap(newCache);
 		});
 		this.modules = cache;
@@ -267,6 +280,13 @@ public class ClasspathJep247Jdk12 extends ClasspathJep247 {
 			return CharOperation.toCharArrays(mods);
 		}
 		if (this.packageCache == null) {
+			JdkIndex index = JdkIndex.get(this.jdkHome.toPath());
+			String section = JdkIndex.ctSymSection(this.releaseInHex);
+			Map<String, List<String>> indexed = index != null ? index.getPackages(section) : null;
+			if (indexed != null) {
+				this.packageCache = new HashSet<>(indexed.keySet());
+				return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
+			}
 			this.packageCache = new HashSet<>(41);
 			this.packageCache.add(Util.EMPTY_STRING);
 			try (DirectoryStream<java.nio.file.Path> stream = Files.newDirectoryStream(this.releasePath)) {
@@ -305,6 +325,13 @@ public class ClasspathJep247Jdk12 extends ClasspathJep247 {
 						}
 					}
 				}
+				if (index != null) {
+					// no modules below release 9, the section only records the package names
+					Map<String, List<String>> walked = new HashMap<>();
+					for (String packageName : this.packageCache)
+						walked.put(packageName, List.of());
+					index.putPackages(section, walked);
+				}
 			} catch (IOException e) {
 				String error = "Failed to find module " + moduleName + " defining package " + qualifiedPackageName //$NON-NLS-1$ //$NON-NLS-2$
 						+ " in release " + this.releasePath + " in " + this; //$NON-NLS-1$ //$NON-NLS-2$
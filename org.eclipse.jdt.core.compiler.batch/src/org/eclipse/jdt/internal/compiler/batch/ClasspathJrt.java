@@ -215,32 +215,13 @@ public class ClasspathJrt extends ClasspathLocation implements IMultiModuleEntry
 		Map<String, IModule> cache = ModulesCache.computeIfAbsent(this.file.getPath(), key -> {
 			HashMap<String,IModule> newCache = new HashMap<>();
 			try {
-				org.eclipse.jdt.internal.compiler.util.JRTUtil.walkModuleImage(this.jrtFileSystem,
-						new org.eclipse.jdt.internal.compiler.util.JRTUtil.JrtFileVisitor<Path>() {
-
-					@Override
-					public FileVisitResult visitPackage(Path dir, Path mod, BasicFileAttributes attrs)
-							throws IOException {
-						return FileVisitResult.CONTINUE;
-					}
-
-					@Override
-					public FileVisitResult visitFile(Path f, Path mod, BasicFileAttributes attrs)
-							throws IOException {
-						return FileVisitResult.CONTINUE;
+				for (Map.Entry<String, byte[]> entry : JRTUtil.getModuleDescriptors(this.jrtFileSystem).entrySet()) {
+					try {
+						acceptModule(new ClassFileReader(entry.getValue(), IModule.MODULE_INFO_CLASS.toCharArray()), newCache);
+					} catch (ClassFormatException e) {
+						throw new IOException(e);
 					}
-
-					@Override
-					public FileVisitResult visitModule(Path p, String name) throws IOException {
-						try {
-							ClasspathJrt.this.acceptModule(ClasspathJrt.this.jrtFileSystem.getClassfile(IModule.MODULE_INFO_CLASS, name), newCache);
-						} catch (ClassFormatException e) {
-							throw new IOException(e);
-						}
-						return FileVisitResult.SKIP_SUBTREE;
-					}
-				}, JRTUtil.NOTIFY_MODULES);
-
+				}
 			} catch (IOException e) {
 				String error = "Failed to walk modules for " + key; //$NON-NLS-1$
 				if (JRTUtil.PROPAGATE_IO_ERRORS) {
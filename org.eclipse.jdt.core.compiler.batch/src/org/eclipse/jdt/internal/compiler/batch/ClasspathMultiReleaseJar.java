@@ -48,6 +48,18 @@ public class ClasspathMultiReleaseJar extends ClasspathJar {
 	 *      JAR File Specification: Multi-release JAR files</a>
 	 */
 	private void initializeMultiReleaseIndex() {
+		if (this.jarIndex == null && JarIndex.getDirectory() != null) {
+			try {
+				this.jarIndex = JarIndex.create(this.file, this.zipFile);
+			} catch (IOException e) {
+				// fall back to walking the entries
+			}
+		}
+		if (this.jarIndex != null) {
+			this.packageCache = this.jarIndex.getPackages(this.releaseVersion);
+			this.releaseVersions = this.jarIndex.getReleaseVersions(this.releaseVersion);
+			return;
+		}
 		this.packageCache = new HashSet<>(41);
 		this.packageCache.add(Util.EMPTY_STRING);
 		int prefixLength = Util.METAINF_VERSIONS.length();
@@ -100,6 +112,7 @@ public class ClasspathMultiReleaseJar extends ClasspathJar {
 		if (!isPackage(qualifiedPackageName, moduleName)) return null; // most common case
 		for (String version : this.releaseVersions) {
 			try {
+				openZipFile();
 				String entryName = Util.METAINF_VERSIONS + version + '/' + qualifiedBinaryFileName;
 				IBinaryType reader = ClassFileReader.read(this.zipFile, entryName);
 				if (reader != null) {
@@ -145,6 +158,11 @@ public class ClasspathMultiReleaseJar extends ClasspathJar {
 		return super.findClass(binaryFileName, qualifiedPackageName, moduleName, qualifiedBinaryFileName, asBinaryOnly);
 	}
 
+	@Override
+	protected boolean canUseIndex() {
+		return true;
+	}
+
 	@Override
 	public void reset() {
 		super.reset();
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.eclipse.jdt.internal.compiler.ICompilerEventListener;
+import org.eclipse.jdt.internal.compiler.impl.CompilerStats;
+import org.eclipse.jdt.internal.compiler.lookup.InferenceCache;
+import org.eclipse.jdt.internal.compiler.util.BinaryTypeSnapshot;
+import org.eclipse.jdt.internal.compiler.util.ClassBytesCache;
+import org.eclipse.jdt.internal.compiler.util.JRTUtil;
+
+/**
+ * Aggregates the events of a batch compilation, and prints them as the JSON report requested by the
+ * <code>-stats:json</code> option: the number and total duration of the events of each phase, and the duration of
+ * the phases of each compilation unit. Durations are in nanoseconds, except for the ones copied from
+ * {@link CompilerStats}, in milliseconds.
+ */
+public class CompilationStatistics implements ICompilerEventListener {
+
+	/** Phases reported per compilation unit */
+	private static final Phase[] UNIT_PHASES = { Phase.PARSE, Phase.RESOLVE, Phase.ANALYZE, Phase.GENERATE };
+
+	private final Map<Phase, long[]> phases = new EnumMap<>(Phase.class); // count, total duration
+	private final Map<String, long[]> units = new TreeMap<>(); // durations, indexed by phase ordinal
+
+	@Override
+	public synchronized void event(Phase phase, char[] subject, long startNanos, long durationNanos) {
+		long[] totals = this.phases.computeIfAbsent(phase, p -> new long[2]);
+		totals[0]++;
+		totals[1] += durationNanos;
+		if (phase.ordinal() <= Phase.GENERATE.ordinal() && subject != null)
+			this.units.computeIfAbsent(new String(subject), s -> new long[UNIT_PHASES.length])[phase.ordinal()] += durationNanos;
+	}
+
+	/**
+	 * Answers the number of events of the given phase.
+	 */
+	public synchronized long getCount(Phase phase) {
+		long[] totals = this.phases.get(phase);
+		return totals == null ? 0 : totals[0];
+	}
+
+	/**
+	 * Answers the report of the given compilation as a JSON object.
+	 *
+	 * @param outputBytes the size of the class files written
+	 * @param inferenceCache the inference cache of the compilation, null if not enabled
+	 */
+	public synchronized String toJson(long elapsedMillis, CompilerStats stats, int classFiles, long outputBytes, int problems,
+			int errors, int warnings, InferenceCache inferenceCache) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("{\n"); //$NON-NLS-1$
+		buffer.append("    \"elapsedMillis\": ").append(elapsedMillis).append(",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("    \"lineCount\": ").append(stats.lineCount).append(",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("    \"classFiles\": ").append(classFiles).append(",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("    \"problems\": ").append(problems) //$NON-NLS-1$
+			.append(", \"errors\": ").append(errors) //$NON-NLS-1$
+			.append(", \"warnings\": ").append(warnings).append(",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("    \"phaseMillis\": {\"parse\": ").append(stats.parseTime) //$NON-NLS-1$
+			.append(", \"resolve\": ").append(stats.resolveTime) //$NON-NLS-1$
+			.append(", \"analyze\": ").append(stats.analyzeTime) //$NON-NLS-1$
+			.append(", \"generate\": ").append(stats.generateTime).append("},\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		long[] writes = this.phases.get(Phase.WRITE);
+		long writeNanos = writes == null ? 0 : writes[1];
+		buffer.append("    \"output\": {\"bytes\": ").append(outputBytes) //$NON-NLS-1$
+			.append(", \"writeNanos\": ").append(writeNanos) //$NON-NLS-1$
+			.append(", \"bytesPerSecond\": ").append(writeNanos == 0 ? 0 : (long) (outputBytes * 1e9 / writeNanos)).append("},\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		ClassBytesCache classCache = JRTUtil.getClassCache();
+		buffer.append("    \"jrtClassCache\": {\"hits\": ").append(classCache.getHits()) //$NON-NLS-1$
+			.append(", \"misses\": ").append(classCache.getMisses()) //$NON-NLS-1$
+			.append(", \"evictions\": ").append(classCache.getEvictions()).append("},\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		BinaryTypeSnapshot snapshot = JRTUtil.getSnapshot();
+		if (snapshot.isEnabled()) {
+			buffer.append("    \"jdkSnapshot\": {\"hits\": ").append(snapshot.getHits()) //$NON-NLS-1$
+				.append(", \"misses\": ").append(snapshot.getMisses()) //$NON-NLS-1$
+				.append(", \"size\": ").append(snapshot.getSize()).append("},\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		if (inferenceCache != null) {
+			buffer.append("    \"inferenceCache\": {\"hits\": ").append(inferenceCache.getHits()) //$NON-NLS-1$
+				.append(", \"misses\": ").append(inferenceCache.getMisses()).append("},\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		buffer.append("    \"events\": {"); //$NON-NLS-1$
+		boolean first = true;
+		for (Map.Entry<Phase, long[]> entry : this.phases.entrySet()) {
+			buffer.append(first ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			first = false;
+			buffer.append("      \"").append(name(entry.getKey())).append("\": {\"count\": ").append(entry.getValue()[0]) //$NON-NLS-1$ //$NON-NLS-2$
+				.append(", \"nanos\": ").append(entry.getValue()[1]).append('}'); //$NON-NLS-1$
+		}
+		buffer.append(first ? "},\n" : "\n    },\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("    \"units\": ["); //$NON-NLS-1$
+		first = true;
+		for (Map.Entry<String, long[]> entry : this.units.entrySet()) {
+			buffer.append(first ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			first = false;
+			buffer.append("      {\"file\": "); //$NON-NLS-1$
+			appendString(buffer, entry.getKey());
+			for (Phase phase : UNIT_PHASES)
+				buffer.append(", \"").append(name(phase)).append("\": ").append(entry.getValue()[phase.ordinal()]); //$NON-NLS-1$ //$NON-NLS-2$
+			buffer.append('}');
+		}
+		buffer.append(first ? "]\n" : "\n    ]\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buffer.append("  }"); //$NON-NLS-1$
+		return buffer.toString();
+	}
+
+	private static String name(Phase phase) {
+		// PARSE -> parse, ANNOTATION_PROCESSING -> annotationProcessing
+		StringBuilder buffer = new StringBuilder();
+		boolean upper = false;
+		for (char c : phase.name().toCharArray()) {
+			if (c == '_') {
+				upper = true;
+			} else {
+				buffer.append(upper ? c : Character.toLowerCase(c));
+				upper = false;
+			}
+		}
+		return buffer.toString();
+	}
+
+	static void appendString(StringBuilder buffer, String value) {
+		buffer.append('"');
+		for (int i = 0, length = value.length(); i < length; i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"':
+				case '\\':
+					buffer.append('\\').append(c);
+					break;
+				case '\n':
+					buffer.append("\\n"); //$NON-NLS-1$
+					break;
+				case '\r':
+					buffer.append("\\r"); //$NON-NLS-1$
+					break;
+				case '\t':
+					buffer.append("\\t"); //$NON-NLS-1$
+					break;
+				default:
+					if (c < 0x20) {
+						buffer.append(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+					} else {
+						buffer.append(c);
+					}
+			}
+		}
+		buffer.append('"');
+	}
+}
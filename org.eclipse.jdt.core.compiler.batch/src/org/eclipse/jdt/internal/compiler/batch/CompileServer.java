@@ -0,0 +1,435 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.StringTokenizer;
+
+/**
+ * Long running batch compiler, answering compilation requests sent over a loopback socket.
+ * <p>
+ * Each request is compiled by a new {@link Main}, with a new {@link FileSystem} and lookup environment, so the
+ * produced class files and problems are the ones of a cold run. What stays warm between requests is the VM itself
+ * (loaded and jitted compiler classes, parser tables), the jrt and ct.sym file systems cached by
+ * {@link org.eclipse.jdt.internal.compiler.util.JRTUtil}, and the open jar files of the classpath together with
+ * their package sets, see {@link ZipFileCache}.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * CompileServer [-port &lt;port&gt;] -connectionFile &lt;file&gt;   starts a server (port 0 picks a free port)
+ * CompileServer -connect &lt;file&gt; &lt;compiler arguments&gt;     compiles through a running server
+ * CompileServer -connect &lt;file&gt; -shutdown                  stops a running server
+ * </pre>
+ * The connection file holds the port of the server and a random access token. Only the owner of the server can read
+ * it, so that other users of the machine cannot run compilations, and the annotation processors they name, as the
+ * owner.
+ * Protocol: the client sends the token, its working directory, the number of arguments and the arguments, one per
+ * line. Requests with another token are rejected, as are the ones not received within {@link #REQUEST_TIMEOUT}.
+ * The server answers with a line holding the exit code and the lengths of the standard and error output,
+ * followed by both outputs. Requests are served one at a time. The relative paths of the arguments are resolved
+ * against the working directory of the client.
+ * </p>
+ */
+public class CompileServer {
+
+	private static final String SHUTDOWN = "-shutdown"; //$NON-NLS-1$
+	private static final int EXIT_SUCCESS = 0;
+	private static final int EXIT_FAILURE = -1;
+	/** Milliseconds to wait for the request of a connected client, before serving the next one */
+	private static final int REQUEST_TIMEOUT = 30000;
+
+	// kinds of the compiler arguments, telling which ones hold paths
+	private static final int OTHER = 0;
+	private static final int VALUE = 1;
+	private static final int PATH = 2;
+	private static final int PATH_LIST = 3;
+	private static final int DESTINATION = 4;
+	private static final int ANNOTATION_PATH = 5;
+	private static final int PATCH_MODULE = 6;
+
+	private final ServerSocket serverSocket;
+	private final String token;
+	private final ZipFileCache zipFileCache = new ZipFileCache();
+	private int requestCount;
+
+	public CompileServer(int port) throws IOException {
+		this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+		byte[] bytes = new byte[32];
+		new SecureRandom().nextBytes(bytes);
+		this.token = HexFormat.of().formatHex(bytes);
+	}
+
+	public int getPort() {
+		return this.serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Answers the token the clients must send with their requests.
+	 */
+	public String getToken() {
+		return this.token;
+	}
+
+	/**
+	 * Answers the jar files kept open for the compilations of this server.
+	 */
+	public ZipFileCache getZipFileCache() {
+		return this.zipFileCache;
+	}
+
+	/**
+	 * Writes the port and the token of this server to the given file, which only the owner of the server can read.
+	 */
+	public void writeConnectionFile(File file) throws IOException {
+		Path path = file.toPath();
+		Files.deleteIfExists(path);
+		try {
+			Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))); //$NON-NLS-1$
+		} catch (UnsupportedOperationException e) {
+			// not a POSIX file system
+			Files.createFile(path);
+			file.setReadable(false, false);
+			file.setReadable(true, true);
+			file.setWritable(false, false);
+			file.setWritable(true, true);
+		}
+		Files.writeString(path, getPort() + "\n" + this.token + '\n'); //$NON-NLS-1$
+	}
+
+	/**
+	 * Serves requests until a shutdown request is received.
+	 */
+	public void run() throws IOException {
+		try {
+			while (true) {
+				try (Socket socket = this.serverSocket.accept()) {
+					socket.setSoTimeout(REQUEST_TIMEOUT);
+					if (!serve(socket))
+						return;
+				} catch (IOException e) {
+					// broken connection or silent client, wait for the next client
+				}
+			}
+		} finally {
+			this.serverSocket.close();
+			this.zipFileCache.clear();
+		}
+	}
+
+	private boolean serve(Socket socket) throws IOException {
+		BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+		Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+		String clientToken = in.readLine();
+		if (clientToken == null)
+			return true;
+		if (!MessageDigest.isEqual(clientToken.getBytes(StandardCharsets.UTF_8), this.token.getBytes(StandardCharsets.UTF_8))) {
+			reply(out, EXIT_FAILURE, "", "Invalid compile server token\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			return true;
+		}
+		String workingDirectory = in.readLine();
+		String count = in.readLine();
+		if (workingDirectory == null || count == null)
+			return true;
+		int argCount;
+		try {
+			argCount = Integer.parseInt(count);
+		} catch (NumberFormatException e) {
+			argCount = -1;
+		}
+		if (argCount < 0) {
+			reply(out, EXIT_FAILURE, "", "Invalid argument count: " + count + '\n'); //$NON-NLS-1$ //$NON-NLS-2$
+			return true;
+		}
+		List<String> argList = new ArrayList<>(); // not sized after the count, which only the end of the stream bounds
+		for (int i = 0; i < argCount; i++) {
+			String arg = in.readLine();
+			if (arg == null)
+				break;
+			argList.add(arg);
+		}
+		if (argList.size() < argCount)
+			return true; // the connection was closed in the middle of the request
+		String[] args = argList.toArray(new String[argList.size()]);
+		if (args.length == 1 && SHUTDOWN.equals(args[0])) {
+			reply(out, EXIT_SUCCESS, "", ""); //$NON-NLS-1$ //$NON-NLS-2$
+			return false;
+		}
+		File directory = new File(workingDirectory).getAbsoluteFile();
+		if (!directory.equals(new File("").getAbsoluteFile())) { //$NON-NLS-1$
+			try {
+				args = resolveArguments(args, directory);
+			} catch (IOException e) {
+				reply(out, EXIT_FAILURE, "", e.getMessage() + '\n'); //$NON-NLS-1$
+				return true;
+			}
+		}
+		StringWriter outWriter = new StringWriter();
+		StringWriter errWriter = new StringWriter();
+		Main main = new Main(new PrintWriter(outWriter), new PrintWriter(errWriter), false /* systemExit */,
+				null /* options */, null /* progress */);
+		main.zipFileCache = this.zipFileCache;
+		boolean success = main.compile(args);
+		this.requestCount++;
+		reply(out, success ? EXIT_SUCCESS : EXIT_FAILURE, outWriter.toString(), errWriter.toString());
+		return true;
+	}
+
+	/**
+	 * Answers the given compiler arguments with their relative paths resolved against the given working directory of
+	 * the client, since the server resolves them against its own. Argument files are expanded first, their contents
+	 * holding paths as well.
+	 */
+	static String[] resolveArguments(String[] args, File workingDirectory) throws IOException {
+		List<String> expanded = new ArrayList<>();
+		for (String arg : args) {
+			String trimmed = arg.trim();
+			if (trimmed.startsWith("@")) { //$NON-NLS-1$
+				File file = resolve(trimmed.substring(1), workingDirectory);
+				StringBuilder buffer = new StringBuilder();
+				for (String line : Files.readAllLines(file.toPath())) {
+					line = line.trim();
+					if (!line.startsWith("#")) //$NON-NLS-1$
+						buffer.append(line).append(' ');
+				}
+				expanded.addAll(Arrays.asList(Main.tokenize(buffer.toString())));
+			} else {
+				expanded.add(trimmed);
+			}
+		}
+		String[] resolved = new String[expanded.size()];
+		int kind = OTHER;
+		for (int i = 0; i < resolved.length; i++) {
+			String arg = expanded.get(i);
+			switch (kind) {
+				case PATH:
+					resolved[i] = resolvePath(arg, workingDirectory);
+					break;
+				case PATH_LIST:
+					resolved[i] = resolvePathList(arg, workingDirectory);
+					break;
+				case DESTINATION:
+					resolved[i] = arg.equals(Main.NONE) || arg.equals(Main.NONE + ']') ? arg : resolvePath(arg, workingDirectory);
+					break;
+				case ANNOTATION_PATH:
+					resolved[i] = Main.ANNOTATION_SOURCE_CLASSPATH.equals(arg) ? arg : resolvePathList(arg, workingDirectory);
+					break;
+				case PATCH_MODULE:
+					int separator = arg.indexOf('=');
+					resolved[i] = separator < 0 ? arg
+							: arg.substring(0, separator + 1) + resolvePathList(arg.substring(separator + 1), workingDirectory);
+					break;
+				case VALUE:
+					resolved[i] = arg;
+					break;
+				default:
+					// source files and directories, as well as the unknown options, left to Main to report
+					resolved[i] = arg.startsWith("-") ? arg : resolvePath(arg, workingDirectory); //$NON-NLS-1$
+			}
+			if (resolved[i].endsWith("[-d")) { //$NON-NLS-1$
+				kind = DESTINATION; // of a source directory, as in src[-d bin]
+				continue;
+			}
+			kind = kind == OTHER ? kindOfValue(arg) : OTHER;
+		}
+		return resolved;
+	}
+
+	/**
+	 * Answers the kind of the value expected after the given option.
+	 */
+	private static int kindOfValue(String option) {
+		switch (option) {
+			case "-d": //$NON-NLS-1$
+			case "-s": //$NON-NLS-1$
+				return DESTINATION;
+			case "-log": //$NON-NLS-1$
+			case "-properties": //$NON-NLS-1$
+			case "--system": //$NON-NLS-1$
+				return PATH;
+			case "-cp": //$NON-NLS-1$
+			case "-classpath": //$NON-NLS-1$
+			case "-bootclasspath": //$NON-NLS-1$
+			case "-sourcepath": //$NON-NLS-1$
+			case "-extdirs": //$NON-NLS-1$
+			case "-endorseddirs": //$NON-NLS-1$
+			case "-p": //$NON-NLS-1$
+			case "--module-path": //$NON-NLS-1$
+			case "--module-source-path": //$NON-NLS-1$
+			case "-processorpath": //$NON-NLS-1$
+			case "--processor-module-path": //$NON-NLS-1$
+				return PATH_LIST;
+			case "-annotationpath": //$NON-NLS-1$
+				return ANNOTATION_PATH;
+			case "--patch-module": //$NON-NLS-1$
+				return PATCH_MODULE;
+			case "-repeat": //$NON-NLS-1$
+			case "-maxProblems": //$NON-NLS-1$
+			case "--release": //$NON-NLS-1$
+			case "-source": //$NON-NLS-1$
+			case "-target": //$NON-NLS-1$
+			case "-encoding": //$NON-NLS-1$
+			case "--add-exports": //$NON-NLS-1$
+			case "--add-reads": //$NON-NLS-1$
+			case "--add-modules": //$NON-NLS-1$
+			case "--limit-modules": //$NON-NLS-1$
+			case "--module-version": //$NON-NLS-1$
+			case "-processor": //$NON-NLS-1$
+			case "-classNames": //$NON-NLS-1$
+				return VALUE;
+			default:
+				return OTHER;
+		}
+	}
+
+	private static String resolvePathList(String paths, File workingDirectory) {
+		StringBuilder buffer = new StringBuilder();
+		StringTokenizer tokenizer = new StringTokenizer(paths, File.pathSeparator, true);
+		while (tokenizer.hasMoreTokens()) {
+			String token = tokenizer.nextToken();
+			buffer.append(token.equals(File.pathSeparator) ? token : resolvePath(token, workingDirectory));
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Answers the given path resolved against the given directory, keeping the bracketed suffix of a classpath entry
+	 * or of a source file, as in lib.jar[+p/*] or X.java[UTF-8].
+	 */
+	private static String resolvePath(String arg, File workingDirectory) {
+		int bracket = arg.indexOf('[');
+		String path = bracket < 0 ? arg : arg.substring(0, bracket);
+		if (path.isEmpty() || new File(path).isAbsolute())
+			return arg;
+		return resolve(path, workingDirectory).getPath() + (bracket < 0 ? "" : arg.substring(bracket)); //$NON-NLS-1$
+	}
+
+	private static File resolve(String path, File workingDirectory) {
+		File file = new File(path);
+		return file.isAbsolute() ? file : new File(workingDirectory, path);
+	}
+
+	private static void reply(Writer out, int exitCode, String output, String errors) throws IOException {
+		out.write(exitCode + " " + output.length() + " " + errors.length() + '\n'); //$NON-NLS-1$ //$NON-NLS-2$
+		out.write(output);
+		out.write(errors);
+		out.flush();
+	}
+
+	public int getRequestCount() {
+		return this.requestCount;
+	}
+
+	/**
+	 * Sends the given compiler arguments to the server listening on the given port, with its token, and copies its
+	 * output to the given writers.
+	 *
+	 * @return the exit code of the compilation
+	 */
+	public static int compile(int port, String token, String[] args, PrintWriter outWriter, PrintWriter errWriter) throws IOException {
+		return compile(port, token, new File(""), args, outWriter, errWriter); //$NON-NLS-1$
+	}
+
+	/**
+	 * Sends the given compiler arguments to the server listening on the given port, with its token, their relative
+	 * paths standing for paths in the given working directory, and copies its output to the given writers.
+	 *
+	 * @return the exit code of the compilation
+	 */
+	public static int compile(int port, String token, File workingDirectory, String[] args, PrintWriter outWriter, PrintWriter errWriter) throws IOException {
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+			Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+			out.write(token + '\n');
+			out.write(workingDirectory.getAbsolutePath() + '\n');
+			out.write(String.valueOf(args.length) + '\n');
+			for (String arg : args) {
+				out.write(arg + '\n');
+			}
+			out.flush();
+			BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+			String header = in.readLine();
+			if (header == null)
+				throw new IOException("Compile server closed the connection"); //$NON-NLS-1$
+			String[] fields = header.split(" "); //$NON-NLS-1$
+			outWriter.write(read(in, Integer.parseInt(fields[1])));
+			outWriter.flush();
+			errWriter.write(read(in, Integer.parseInt(fields[2])));
+			errWriter.flush();
+			return Integer.parseInt(fields[0]);
+		}
+	}
+
+	private static char[] read(BufferedReader in, int length) throws IOException {
+		char[] contents = new char[length];
+		int read = 0;
+		while (read < length) {
+			int n = in.read(contents, read, length - read);
+			if (n < 0)
+				throw new IOException("Incomplete answer from compile server"); //$NON-NLS-1$
+			read += n;
+		}
+		return contents;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length >= 2 && "-connect".equals(args[0])) { //$NON-NLS-1$
+			String[] compilerArgs = new String[args.length - 2];
+			System.arraycopy(args, 2, compilerArgs, 0, compilerArgs.length);
+			List<String> connection = Files.readAllLines(new File(args[1]).toPath());
+			if (connection.size() < 2)
+				throw new IOException("Invalid compile server connection file: " + args[1]); //$NON-NLS-1$
+			int exitCode = compile(Integer.parseInt(connection.get(0)), connection.get(1), compilerArgs,
+					new PrintWriter(System.out), new PrintWriter(System.err));
+			System.exit(exitCode);
+		}
+		int port = 0;
+		String connectionFile = null;
+		for (int i = 0; i < args.length - 1; i += 2) {
+			if ("-port".equals(args[i])) { //$NON-NLS-1$
+				port = Integer.parseInt(args[i + 1]);
+			} else if ("-connectionFile".equals(args[i])) { //$NON-NLS-1$
+				connectionFile = args[i + 1];
+			}
+		}
+		if (connectionFile == null) {
+			System.err.println("Usage: CompileServer [-port <port>] -connectionFile <file>"); //$NON-NLS-1$
+			System.exit(EXIT_FAILURE);
+		}
+		CompileServer server = new CompileServer(port);
+		server.writeConnectionFile(new File(connectionFile));
+		System.out.println("Compile server listening on port " + server.getPort()); //$NON-NLS-1$
+		server.run();
+	}
+}
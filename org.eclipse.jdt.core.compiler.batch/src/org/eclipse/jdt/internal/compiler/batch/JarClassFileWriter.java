@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes the class files of a batch compilation into the jar file given as destination (<code>-d out.jar</code>),
+ * streaming them as they are generated instead of writing one file per class.
+ * <p>
+ * The jar is reproducible: its entries are written in the order the class files are generated, which only depends
+ * on the order of the compilation units, each package directory entry right before the first class file of the
+ * package, and all the entries have the same time stamp. The entries are deflated, unless the
+ * <code>jdt.compiler.jarStored</code> system property is <code>true</code>.
+ * </p>
+ */
+public class JarClassFileWriter {
+
+	/** Time stamp of all the entries, the earliest one most zip tools handle in any time zone */
+	private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 2, 1, 0, 0);
+	private static final String MANIFEST_DIRECTORY = "META-INF/"; //$NON-NLS-1$
+	private static final String MANIFEST = "META-INF/MANIFEST.MF"; //$NON-NLS-1$
+	private static final byte[] MANIFEST_CONTENTS = "Manifest-Version: 1.0\r\nCreated-By: Eclipse Compiler for Java(TM)\r\n\r\n" //$NON-NLS-1$
+			.getBytes(StandardCharsets.UTF_8);
+
+	private final Path jarPath;
+	private final boolean stored;
+	private final CRC32 crc = new CRC32();
+	private final Set<String> directories = new HashSet<>();
+	private ZipOutputStream out;
+	private int classFiles;
+
+	public JarClassFileWriter(String jarPath) {
+		this.jarPath = Path.of(jarPath);
+		this.stored = Boolean.getBoolean("jdt.compiler.jarStored"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Answers whether the given destination path names a jar file rather than a directory.
+	 */
+	public static boolean isJar(String destinationPath) {
+		return destinationPath.toLowerCase(Locale.ROOT).endsWith(".jar"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Adds the given class file to the jar, creating the jar on the first call.
+	 *
+	 * @param relativeFileName the name of the class file relative to the root of the jar, as in
+	 *            <code>java/lang/String.class</code>, with either separator
+	 * @throws IOException if the jar cannot be created or the entry is already present
+	 */
+	public void write(String relativeFileName, byte[] bytes) throws IOException {
+		if (this.out == null)
+			open();
+		String entryName = relativeFileName.replace(File.separatorChar, '/');
+		int separator = entryName.lastIndexOf('/');
+		if (separator != -1)
+			addDirectories(entryName.substring(0, separator + 1));
+		addEntry(entryName, bytes);
+		this.classFiles++;
+	}
+
+	private void open() throws IOException {
+		Path parent = this.jarPath.toAbsolutePath().getParent();
+		if (parent != null)
+			Files.createDirectories(parent);
+		this.out = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(this.jarPath), 64 * 1024));
+		this.directories.add(MANIFEST_DIRECTORY);
+		addEntry(MANIFEST_DIRECTORY, null);
+		addEntry(MANIFEST, MANIFEST_CONTENTS);
+	}
+
+	private void addDirectories(String directory) throws IOException {
+		if (this.directories.contains(directory))
+			return;
+		// parent first, as jar tools do
+		int separator = directory.lastIndexOf('/', directory.length() - 2);
+		if (separator != -1)
+			addDirectories(directory.substring(0, separator + 1));
+		this.directories.add(directory);
+		addEntry(directory, null);
+	}
+
+	private void addEntry(String name, byte[] bytes) throws IOException {
+		ZipEntry entry = new ZipEntry(name);
+		entry.setTimeLocal(ENTRY_TIME);
+		if (this.stored || bytes == null) {
+			int size = bytes == null ? 0 : bytes.length;
+			this.crc.reset();
+			if (bytes != null)
+				this.crc.update(bytes);
+			entry.setMethod(ZipEntry.STORED);
+			entry.setSize(size);
+			entry.setCompressedSize(size);
+			entry.setCrc(this.crc.getValue());
+		}
+		this.out.putNextEntry(entry);
+		if (bytes != null)
+			this.out.write(bytes);
+		this.out.closeEntry();
+	}
+
+	/**
+	 * Answers the number of class files written into the jar.
+	 */
+	public int getClassFileCount() {
+		return this.classFiles;
+	}
+
+	public String getJarPath() {
+		return this.jarPath.toString();
+	}
+
+	/**
+	 * Writes the central directory of the jar and closes it. Does nothing if no class file was written.
+	 */
+	public void close() throws IOException {
+		if (this.out != null) {
+			try {
+				this.out.close();
+			} finally {
+				this.out = null;
+			}
+		}
+	}
+}
@@ -0,0 +1,416 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.eclipse.jdt.internal.compiler.env.IModule;
+import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.util.Util;
+
+/**
+ * Packages, multi-release versions, manifest and module descriptors of a jar file, persisted in the directory named
+ * by the <code>jdt.compiler.jarIndex</code> system property so that later compilations can answer package lookups
+ * without opening the jar and walking its entries.
+ * <p>
+ * An index is only used while the length, the time stamp and the CRC of the central directory of the jar match the
+ * ones recorded when the index was written. The jar is still opened as soon as a class file is read from it.
+ * </p>
+ */
+public class JarIndex {
+
+	private static final int MAGIC = 0x4A444958; // "JDIX"
+	private static final int FORMAT_VERSION = 1;
+	private static final int ROOT = 0;
+	private static final String VERSIONS_PACKAGE = Util.METAINF_VERSIONS.substring(0, Util.METAINF_VERSIONS.length() - 1);
+
+	/** All the packages of the jar, as seen by a reader ignoring multi-release versions */
+	private final Set<String> packages;
+	private final boolean multiRelease;
+	/** Packages of the versioned entries, by version, without the META-INF/versions/N prefix */
+	private final Map<Integer, Set<String>> versionedPackages;
+	/** Contents of the module-info.class entries, by version, {@link #ROOT} for the unversioned one */
+	private final Map<Integer, byte[]> moduleDescriptors;
+	/** Contents of the manifest, <code>null</code> if none */
+	private final byte[] manifest;
+
+	private JarIndex(Set<String> packages, boolean multiRelease, Map<Integer, Set<String>> versionedPackages,
+			Map<Integer, byte[]> moduleDescriptors, byte[] manifest) {
+		this.packages = packages;
+		this.multiRelease = multiRelease;
+		this.versionedPackages = versionedPackages;
+		this.moduleDescriptors = moduleDescriptors;
+		this.manifest = manifest;
+	}
+
+	/**
+	 * Answers the directory of the persisted indexes, or <code>null</code> if jar indexes are disabled.
+	 */
+	public static File getDirectory() {
+		String directory = System.getProperty("jdt.compiler.jarIndex"); //$NON-NLS-1$
+		if (directory == null || directory.isEmpty())
+			return null;
+		return new File(directory).getAbsoluteFile();
+	}
+
+	/**
+	 * Answers the persisted index of the given jar, or <code>null</code> if jar indexes are disabled, the jar was
+	 * not indexed yet or changed since.
+	 */
+	public static JarIndex load(File jar) {
+		File directory = getDirectory();
+		if (directory == null)
+			return null;
+		Stamp stamp = Stamp.of(jar);
+		if (stamp == null)
+			return null;
+		byte[] contents;
+		try {
+			contents = Files.readAllBytes(indexFile(directory, jar).toPath());
+		} catch (IOException e) {
+			return null; // not indexed yet
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(contents))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION)
+				return null;
+			if (!stamp.equals(new Stamp(in.readLong(), in.readLong(), in.readLong())))
+				return null;
+			Set<String> packages = readPackages(in);
+			boolean multiRelease = in.readBoolean();
+			Map<Integer, Set<String>> versionedPackages = new TreeMap<>();
+			for (int i = 0, count = in.readInt(); i < count; i++) {
+				int version = in.readInt();
+				versionedPackages.put(version, readPackages(in));
+			}
+			Map<Integer, byte[]> moduleDescriptors = new TreeMap<>();
+			for (int i = 0, count = in.readInt(); i < count; i++) {
+				int version = in.readInt();
+				byte[] descriptor = new byte[in.readInt()];
+				in.readFully(descriptor);
+				moduleDescriptors.put(version, descriptor);
+			}
+			byte[] manifest = null;
+			int manifestLength = in.readInt();
+			if (manifestLength >= 0) {
+				manifest = new byte[manifestLength];
+				in.readFully(manifest);
+			}
+			return new JarIndex(packages, multiRelease, versionedPackages, moduleDescriptors, manifest);
+		} catch (IOException e) {
+			return null; // truncated or corrupted index, will be written again
+		}
+	}
+
+	/**
+	 * Indexes the entries of the given open jar, and persists the index if jar indexes are enabled.
+	 */
+	public static JarIndex create(File jar, ZipFile zipFile) throws IOException {
+		Stamp stamp = Stamp.of(jar); // before reading the entries, a concurrent change invalidates the index
+		Set<String> packages = new HashSet<>(41);
+		packages.add(Util.EMPTY_STRING);
+		Map<Integer, Set<String>> versionedPackages = new TreeMap<>();
+		Map<Integer, byte[]> moduleDescriptors = new TreeMap<>();
+		byte[] manifest = null;
+		int prefixLength = Util.METAINF_VERSIONS.length();
+		for (Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements();) {
+			ZipEntry entry = entries.nextElement();
+			String fileName = entry.getName();
+			addPackages(packages, fileName);
+			if (fileName.equals(TypeConstants.META_INF_MANIFEST_MF)) {
+				try (InputStream stream = zipFile.getInputStream(entry)) {
+					manifest = Util.getInputStreamAsByteArray(stream);
+				}
+			}
+			int version = ROOT;
+			if (fileName.startsWith(Util.METAINF_VERSIONS)) {
+				int separator = fileName.indexOf('/', prefixLength);
+				if (separator == -1)
+					continue;
+				version = parseVersion(fileName.substring(prefixLength, separator));
+				if (version == -1)
+					continue;
+				fileName = fileName.substring(separator + 1);
+				addPackages(versionedPackages.computeIfAbsent(version, v -> new HashSet<>()), fileName);
+			}
+			if (fileName.equals(IModule.MODULE_INFO_CLASS)) {
+				try (InputStream stream = zipFile.getInputStream(entry)) {
+					moduleDescriptors.put(version, Util.getInputStreamAsByteArray(stream));
+				}
+			}
+		}
+		JarIndex index = new JarIndex(packages, Util.isMultiRelease(zipFile), versionedPackages, moduleDescriptors, manifest);
+		File directory = getDirectory();
+		if (directory != null && stamp != null)
+			index.store(directory, jar, stamp);
+		return index;
+	}
+
+	/**
+	 * Answers the version number of a META-INF/versions/N directory name, or -1 if the name is not a valid version.
+	 */
+	private static int parseVersion(String versionSegment) {
+		try {
+			int version = Integer.parseInt(versionSegment);
+			// The JAR specification requires N to match {1-9}{0-9}*, excluding signs and leading zeroes.
+			if (version < 9 || !Integer.toString(version).equals(versionSegment))
+				return -1;
+			return version;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static void addPackages(Set<String> packageSet, String fileName) {
+		int last = fileName.lastIndexOf('/');
+		while (last > 0) {
+			String packageName = fileName.substring(0, last);
+			if (!packageSet.add(packageName))
+				return;
+			last = packageName.lastIndexOf('/');
+		}
+	}
+
+	private void store(File directory, File jar, Stamp stamp) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		File temp = null;
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeLong(stamp.length);
+			out.writeLong(stamp.lastModified);
+			out.writeLong(stamp.directoryChecksum);
+			writePackages(out, this.packages);
+			out.writeBoolean(this.multiRelease);
+			out.writeInt(this.versionedPackages.size());
+			for (Map.Entry<Integer, Set<String>> entry : this.versionedPackages.entrySet()) {
+				out.writeInt(entry.getKey());
+				writePackages(out, entry.getValue());
+			}
+			out.writeInt(this.moduleDescriptors.size());
+			for (Map.Entry<Integer, byte[]> entry : this.moduleDescriptors.entrySet()) {
+				out.writeInt(entry.getKey());
+				out.writeInt(entry.getValue().length);
+				out.write(entry.getValue());
+			}
+			if (this.manifest == null) {
+				out.writeInt(-1);
+			} else {
+				out.writeInt(this.manifest.length);
+				out.write(this.manifest);
+			}
+			out.flush();
+			Files.createDirectories(directory.toPath());
+			File file = indexFile(directory, jar);
+			// other compilers may share the directory, never expose a partially written index
+			temp = File.createTempFile(file.getName(), ".tmp", directory); //$NON-NLS-1$
+			Files.write(temp.toPath(), bytes.toByteArray());
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			if (temp != null)
+				temp.delete();
+			// the index is an optimization only
+		}
+	}
+
+	private static void writePackages(DataOutputStream out, Set<String> packageSet) throws IOException {
+		out.writeInt(packageSet.size());
+		for (String packageName : packageSet)
+			out.writeUTF(packageName);
+	}
+
+	private static Set<String> readPackages(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		Set<String> packageSet = new HashSet<>(Math.max(16, count * 2));
+		for (int i = 0; i < count; i++)
+			packageSet.add(in.readUTF());
+		return packageSet;
+	}
+
+	private static File indexFile(File directory, File jar) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			byte[] hash = digest.digest(jar.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+			return new File(directory, HexFormat.of().formatHex(hash) + ".index"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e); // mandatory algorithm of every Java platform
+		}
+	}
+
+	/**
+	 * Answers all the packages of the jar, including the empty package and the packages of the versioned entries
+	 * taken literally. The answered set must not be modified.
+	 */
+	public Set<String> getPackages() {
+		return this.packages;
+	}
+
+	/**
+	 * Answers the packages visible to a compilation for the given release, see
+	 * {@link ClasspathMultiReleaseJar}. The answered set must not be modified.
+	 */
+	public Set<String> getPackages(int release) {
+		if (!this.multiRelease)
+			return this.packages;
+		Set<String> result = new HashSet<>(this.packages.size());
+		for (String packageName : this.packages) {
+			if (!packageName.equals(VERSIONS_PACKAGE) && !packageName.startsWith(Util.METAINF_VERSIONS))
+				result.add(packageName);
+		}
+		for (Map.Entry<Integer, Set<String>> entry : this.versionedPackages.entrySet()) {
+			if (entry.getKey() <= release)
+				result.addAll(entry.getValue());
+		}
+		return result;
+	}
+
+	/**
+	 * Answers the versions of the jar applicable to the given release, in descending order.
+	 */
+	public List<String> getReleaseVersions(int release) {
+		if (!this.multiRelease)
+			return Collections.emptyList();
+		List<String> result = new ArrayList<>();
+		for (Integer version : this.versionedPackages.keySet()) {
+			if (version <= release)
+				result.add(0, version.toString());
+		}
+		return result;
+	}
+
+	/**
+	 * Answers the contents of the module-info.class selected for the given release, <code>-1</code> to ignore the
+	 * versioned entries, or <code>null</code> if the jar has no module descriptor.
+	 */
+	public byte[] getModuleDescriptor(int release) {
+		if (this.multiRelease) {
+			for (int version = release; version >= 9; version--) {
+				byte[] descriptor = this.moduleDescriptors.get(version);
+				if (descriptor != null)
+					return descriptor;
+			}
+		}
+		return this.moduleDescriptors.get(ROOT);
+	}
+
+	/**
+	 * Answers the contents of the META-INF/MANIFEST.MF entry, or <code>null</code> if the jar has no manifest.
+	 */
+	public byte[] getManifest() {
+		return this.manifest;
+	}
+
+	/**
+	 * Answers the entry name of the module-info.class selected for the given release, see
+	 * {@link #getModuleDescriptor(int)}.
+	 */
+	public String getModuleDescriptorPath(int release) {
+		if (this.multiRelease) {
+			for (int version = release; version >= 9; version--) {
+				if (this.moduleDescriptors.containsKey(version))
+					return Util.METAINF_VERSIONS + version + '/' + IModule.MODULE_INFO_CLASS;
+			}
+		}
+		return IModule.MODULE_INFO_CLASS;
+	}
+
+	/**
+	 * Length, time stamp and checksum of the central directory of a jar file.
+	 */
+	private record Stamp(long length, long lastModified, long directoryChecksum) {
+
+		private static final int END_HEADER = 0x06054b50;
+		private static final int END_HEADER_SIZE = 22;
+		private static final int ZIP64_LOCATOR = 0x07064b50;
+		private static final int ZIP64_LOCATOR_SIZE = 20;
+		private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+		/**
+		 * Answers the stamp of the given jar, or <code>null</code> if its central directory cannot be located.
+		 */
+		static Stamp of(File jar) {
+			long length = jar.length();
+			long lastModified = jar.lastModified();
+			try (RandomAccessFile file = new RandomAccessFile(jar, "r")) { //$NON-NLS-1$
+				int tailLength = (int) Math.min(length, END_HEADER_SIZE + MAX_COMMENT_SIZE);
+				byte[] tail = new byte[tailLength];
+				file.seek(length - tailLength);
+				file.readFully(tail);
+				int end = tailLength - END_HEADER_SIZE;
+				while (end >= 0 && u4(tail, end) != END_HEADER)
+					end--;
+				if (end < 0)
+					return null;
+				long directorySize = u4(tail, end + 12) & 0xFFFFFFFFL;
+				long directoryEnd = length - tailLength + end;
+				if (directorySize == 0xFFFFFFFFL) {
+					// zip64, the directory ends at the zip64 end of central directory record
+					if (end < ZIP64_LOCATOR_SIZE || u4(tail, end - ZIP64_LOCATOR_SIZE) != ZIP64_LOCATOR)
+						return null;
+					directoryEnd = u8(tail, end - ZIP64_LOCATOR_SIZE + 8);
+					byte[] record = new byte[56];
+					file.seek(directoryEnd);
+					file.readFully(record);
+					directorySize = u8(record, 40);
+				}
+				if (directorySize > directoryEnd)
+					return null;
+				CRC32 crc = new CRC32();
+				byte[] buffer = new byte[8192];
+				file.seek(directoryEnd - directorySize);
+				for (long remaining = directorySize; remaining > 0;) {
+					int read = file.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+					if (read < 0)
+						return null;
+					crc.update(buffer, 0, read);
+					remaining -= read;
+				}
+				return new Stamp(length, lastModified, crc.getValue());
+			} catch (IOException e) {
+				return null;
+			}
+		}
+
+		private static int u4(byte[] bytes, int offset) {
+			return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8 | (bytes[offset + 2] & 0xFF) << 16
+					| (bytes[offset + 3] & 0xFF) << 24;
+		}
+
+		private static long u8(byte[] bytes, int offset) {
+			return (u4(bytes, offset) & 0xFFFFFFFFL) | (long) u4(bytes, offset + 4) << 32;
+		}
+	}
+}
@@ -38,6 +38,9 @@ import java.io.*;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.DateFormat;
@@ -55,7 +58,9 @@ import org.eclipse.jdt.core.compiler.batch.BatchCompiler;
 import org.eclipse.jdt.internal.compiler.AbstractAnnotationProcessorManager;
 import org.eclipse.jdt.internal.compiler.ClassFile;
 import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.CompilationResultCache;
 import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.ICompilerEventListener;
 import org.eclipse.jdt.internal.compiler.ICompilerRequestor;
 import org.eclipse.jdt.internal.compiler.IErrorHandlingPolicy;
 import org.eclipse.jdt.internal.compiler.IProblemFactory;
@@ -1000,6 +1005,25 @@ public class Main implements ProblemSeverities, SuffixConstants {
 								String.valueOf(compilerStats.generateTime),
 								String.valueOf(((int) (compilerStats.generateTime * 1000.0 / time)) / 10.0),
 							}));
+				if (compilerStats.parseWorkers > 1) {
+					printlnOut(
+							this.main.bind("compile.parallelParseTime", //$NON-NLS-1$
+								new String[] {
+									String.valueOf(compilerStats.parallelParseTime),
+									String.valueOf(compilerStats.parseWorkers),
+									String.valueOf(compilerStats.parseWorkerTime),
+									String.valueOf(((int) (compilerStats.parallelParseSpeedup() * 10.0)) / 10.0),
+								}));
+				}
+				if (compilerStats.resultCacheHits + compilerStats.resultCacheMisses > 0) {
+					printlnOut(
+							this.main.bind("compile.resultCache", //$NON-NLS-1$
+								new String[] {
+									String.valueOf(compilerStats.resultCacheHits),
+									String.valueOf(compilerStats.resultCacheMisses),
+									String.valueOf(compilerStats.resultCacheTime),
+								}));
+				}
 			}
 		}
 
@@ -1304,7 +1328,7 @@ public class Main implements ProblemSeverities, SuffixConstants {
 	}
 
 	// used with -annotationpath to declare that annotations should be read from the classpath:
-	private static final String ANNOTATION_SOURCE_CLASSPATH = "CLASSPATH"; //$NON-NLS-1$
+	static final String ANNOTATION_SOURCE_CLASSPATH = "CLASSPATH"; //$NON-NLS-1$
 
 	// javadoc analysis tuning
 	boolean enableJavadocOn;
@@ -1322,6 +1346,8 @@ public class Main implements ProblemSeverities, SuffixConstants {
 	// paths to external annotations:
 	protected List<String> annotationPaths;
 	protected boolean annotationsFromClasspath;
+	// jar files kept open by the compile server running this compilation
+	ZipFileCache zipFileCache;
 
 	private List<String> addonExports = Collections.EMPTY_LIST;
 	private List<String> addonReads = Collections.EMPTY_LIST;
@@ -1376,6 +1402,15 @@ public class Main implements ProblemSeverities, SuffixConstants {
 	public boolean proceedOnError = false;
 	public boolean failOnWarning = false;
 	public boolean produceRefInfo = false;
+	public boolean headersOnly = false;
+	public boolean jsonStats = false;
+	public String jsonStatsFile;
+	private List<String> jsonStatsReports;
+	// writers of the class files of the current compilation, see outputClassFiles(..)
+	private Map<String, JarClassFileWriter> jarWriters;
+	private boolean asyncWrite;
+	private AsyncClassFileWriter asyncWriter;
+	private long writtenBytes;
 	public int currentRepetition, maxRepetition;
 	public boolean showProgress = false;
 	public long startTime;
@@ -1682,6 +1717,9 @@ public boolean compile(String[] argv) {
 			if (this.compilerStats != null) {
 				this.logger.logAverage();
 			}
+			if (this.jsonStatsReports != null) {
+				writeJsonStats();
+			}
 			if (this.showProgress) this.logger.printNewLine();
 		}
 		if (this.systemExitWhenFinished) {
@@ -2197,6 +2235,22 @@ public void configure(String[] argv) {
 					mode = DEFAULT;
 					continue;
 				}
+				if (currentArg.equals("-headersOnly")) { //$NON-NLS-1$
+					this.headersOnly = true;
+					mode = DEFAULT;
+					continue;
+				}
+				if (currentArg.equals("-stats:json")) { //$NON-NLS-1$
+					this.jsonStats = true;
+					mode = DEFAULT;
+					continue;
+				}
+				if (currentArg.startsWith("-stats:json:")) { //$NON-NLS-1$
+					this.jsonStats = true;
+					this.jsonStatsFile = currentArg.substring("-stats:json:".length()); //$NON-NLS-1$
+					mode = DEFAULT;
+					continue;
+				}
 				if (currentArg.equals("-inlineJSR")) { //$NON-NLS-1$
 					// ignore, it is enabled by default from 1.5 on
 					mode = DEFAULT;
@@ -3654,6 +3708,8 @@ protected ArrayList<FileSystem.Classpath> handleClasspath(ArrayList<String> clas
 		if (knownNames.get(currentPath) == null) {
 			knownNames.put(currentPath, current);
 			current.setPathKind(PathKind.CP);
+			if (current instanceof ClasspathJar)
+				((ClasspathJar) current).zipFileCache = this.zipFileCache; // before its linked jars are read
 			result.add(current);
 			List<Classpath> linkedJars = current.fetchLinkedJars(problemReporter);
 			if (linkedJars != null) {
@@ -4647,6 +4703,22 @@ public void outputClassFiles(CompilationResult unitResult) {
 			generateClasspathStructure = true;
 		} // else leave currentDestinationPath null
 		if (currentDestinationPath != null) {
+			JarClassFileWriter jarWriter = null;
+			AsyncClassFileWriter writer = null;
+			if (generateClasspathStructure) {
+				if (JarClassFileWriter.isJar(currentDestinationPath)) {
+					if (this.jarWriters == null)
+						this.jarWriters = new HashMap<>();
+					jarWriter = this.jarWriters.computeIfAbsent(currentDestinationPath, JarClassFileWriter::new);
+					// the order of the class files of a unit varies from one run to the next, not the one of their entries
+					classFiles = classFiles.clone();
+					Arrays.sort(classFiles, (c1, c2) -> CharOperation.compareTo(c1.fileName(), c2.fileName()));
+				} else if (this.asyncWrite) {
+					if (this.asyncWriter == null)
+						this.asyncWriter = new AsyncClassFileWriter(this.batchCompiler.getEventListener());
+					writer = this.asyncWriter;
+				}
+			}
 			for (ClassFile classFile : classFiles) {
 				char[] filename = classFile.fileName();
 				int length = filename.length;
@@ -4664,11 +4736,25 @@ public void outputClassFiles(CompilationResult unitResult) {
 									String.valueOf(this.exportedClassFilesCounter+1),
 									relativeStringName
 								}));
-					Util.writeToDisk(
-						generateClasspathStructure,
-						currentDestinationPath,
-						relativeStringName,
-						classFile);
+					if (writer != null) {
+						// the writer notifies the listener once the class file is written
+						writer.write(currentDestinationPath, relativeStringName, classFile.getBytes());
+					} else {
+						ICompilerEventListener listener = this.batchCompiler.getEventListener();
+						long start = listener == null ? 0 : System.nanoTime();
+						if (jarWriter != null) {
+							jarWriter.write(relativeStringName, classFile.getBytes());
+						} else {
+							Util.writeToDisk(
+								generateClasspathStructure,
+								currentDestinationPath,
+								relativeStringName,
+								classFile);
+						}
+						if (listener != null)
+							listener.event(ICompilerEventListener.Phase.WRITE, relativeName, start, System.nanoTime() - start);
+					}
+					this.writtenBytes += classFile.headerOffset + classFile.contentsOffset;
 					this.logger.logClassFile(
 						generateClasspathStructure,
 						currentDestinationPath,
@@ -4682,6 +4768,29 @@ public void outputClassFiles(CompilationResult unitResult) {
 		}
 	}
 }
+/*
+ * Wait for the class files still being written, close the jars, and report the class files that could not be written
+ */
+private void closeClassFileWriters() {
+	if (this.asyncWriter != null) {
+		for (AsyncClassFileWriter.Failure failure : this.asyncWriter.close()) {
+			this.logger.logNoClassFileCreated(failure.destinationPath(), failure.relativeFileName(), failure.exception());
+			this.exportedClassFilesCounter--;
+		}
+		this.asyncWriter = null;
+	}
+	if (this.jarWriters != null) {
+		for (JarClassFileWriter jarWriter : this.jarWriters.values()) {
+			try {
+				jarWriter.close();
+			} catch (IOException e) {
+				this.logger.logPendingError(this.bind("output.cannotWriteJar", jarWriter.getJarPath(), e.getMessage())); //$NON-NLS-1$
+				this.exportedClassFilesCounter -= jarWriter.getClassFileCount();
+			}
+		}
+		this.jarWriters = null;
+	}
+}
 /*
  *  Low-level API performing the actual compilation
  */
@@ -4706,6 +4815,18 @@ public void performCompilation() {
 		// temporary code to allow the compiler to revert to a single thread
 		String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 		this.batchCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+		// opt-in parsing of method bodies on several worker threads
+		this.batchCompiler.parseWorkers = Integer.getInteger("jdt.compiler.parseWorkers", 1).intValue(); //$NON-NLS-1$
+		// opt-in cache of the results of the units compiled against unchanged types
+		this.batchCompiler.resultCache = CompilationResultCache.fromSystemProperties(this.bind("compiler.version")); //$NON-NLS-1$
+		// opt-in writing of the class files on a background thread
+		this.asyncWrite = Boolean.getBoolean("jdt.compiler.asyncWrite"); //$NON-NLS-1$
+		this.writtenBytes = 0;
+		CompilationStatistics statistics = null;
+		if (this.jsonStats) {
+			statistics = new CompilationStatistics();
+			this.batchCompiler.setEventListener(statistics);
+		}
 
 		if (this.compilerOptions.processAnnotations) {
 			initializeAnnotationProcessorManager();
@@ -4717,11 +4838,14 @@ public void performCompilation() {
 
 		// set the non-externally configurable options.
 		this.compilerOptions.verbose = this.verbose;
-		this.compilerOptions.produceReferenceInfo = this.produceRefInfo;
+		this.compilerOptions.headersOnly = this.headersOnly;
+		// the result cache validates its entries against the references of the units
+		this.compilerOptions.produceReferenceInfo = this.produceRefInfo || this.batchCompiler.resultCache != null;
 		try {
 			this.logger.startLoggingSources();
 			this.batchCompiler.compile(getCompilationUnits());
 		} finally {
+			closeClassFileWriters();
 			this.logger.endLoggingSources();
 		}
 
@@ -4733,12 +4857,45 @@ public void performCompilation() {
 			this.compilerStats[this.currentRepetition] = this.batchCompiler.stats;
 		}
 		this.logger.printStats();
+		if (statistics != null) {
+			if (this.jsonStatsReports == null)
+				this.jsonStatsReports = new ArrayList<>();
+			this.jsonStatsReports.add(statistics.toJson(System.currentTimeMillis() - this.startTime,
+					this.batchCompiler.stats, this.exportedClassFilesCounter, this.writtenBytes, this.globalProblemsCount,
+					this.globalErrorsCount, this.globalWarningsCount, this.batchCompiler.lookupEnvironment.getInferenceCache()));
+		}
 	}
 	finally {
 	// cleanup
 		environment.cleanup();
 	}
 }
+/*
+ * Write the reports collected for -stats:json, one per repetition
+ */
+private void writeJsonStats() {
+	StringBuilder buffer = new StringBuilder();
+	buffer.append("{\n  \"compiler\": "); //$NON-NLS-1$
+	CompilationStatistics.appendString(buffer, this.bind("compiler.version")); //$NON-NLS-1$
+	buffer.append(",\n  \"repetitions\": [\n  "); //$NON-NLS-1$
+	for (int i = 0, size = this.jsonStatsReports.size(); i < size; i++) {
+		if (i > 0)
+			buffer.append(", "); //$NON-NLS-1$
+		buffer.append(this.jsonStatsReports.get(i));
+	}
+	buffer.append("\n  ]\n}\n"); //$NON-NLS-1$
+	this.jsonStatsReports = null;
+	if (this.jsonStatsFile == null) {
+		this.out.print(buffer);
+		this.out.flush();
+		return;
+	}
+	try {
+		Files.writeString(Path.of(this.jsonStatsFile), buffer, StandardCharsets.UTF_8);
+	} catch (IOException | InvalidPathException e) {
+		this.logger.logWarning(this.bind("configure.cannotWriteStats", this.jsonStatsFile, e.getMessage())); //$NON-NLS-1$
+	}
+}
 protected void loggingExtraProblems() {
 	this.logger.loggingExtraProblems(this);
 }
@@ -5254,6 +5411,12 @@ protected void setPaths(ArrayList<String> bootclasspaths,
 	allPaths.toArray(this.checkedClasspaths);
 	this.logger.logClasspath(this.checkedClasspaths);
 
+	if (this.zipFileCache != null) {
+		for (FileSystem.Classpath c : this.checkedClasspaths) {
+			if (c instanceof ClasspathJar)
+				((ClasspathJar) c).zipFileCache = this.zipFileCache;
+		}
+	}
 	if (this.annotationPaths != null && CompilerOptions.ENABLED.equals(this.options.get(CompilerOptions.OPTION_AnnotationBasedNullAnalysis))) {
 		for (FileSystem.Classpath c : this.checkedClasspaths) {
 			if (c instanceof ClasspathJar)
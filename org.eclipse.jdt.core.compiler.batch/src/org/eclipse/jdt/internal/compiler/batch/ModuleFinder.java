@@ -241,6 +241,15 @@ public class ModuleFinder {
 		return null;
 	}
 	private static IModule extractModuleFromArchive(File file, Classpath pathEntry, String path, String release) {
+		if (JarIndex.getDirectory() != null && path.equals(IModule.MODULE_INFO_CLASS)) {
+			try {
+				return extractModuleFromIndex(file, release);
+			} catch (ClassFormatException e) {
+				return null;
+			} catch (IOException e) {
+				// report the problem reading the jar below
+			}
+		}
 		try (ZipFile zipFile = new ZipFile(file)) {
 			if (release != null && Util.isMultiRelease(zipFile)) {
 				// A versioned module descriptor is selected like any other entry in an MR-JAR:
@@ -302,6 +311,30 @@ public class ModuleFinder {
 		}
 		return null;
 	}
+	/**
+	 * Reads the module descriptor of the given jar from its {@link JarIndex}, indexing the jar if needed.
+	 */
+	private static IModule extractModuleFromIndex(File file, String release) throws IOException, ClassFormatException {
+		JarIndex index = JarIndex.load(file);
+		if (index == null) {
+			try (ZipFile zipFile = new ZipFile(file)) {
+				index = JarIndex.create(file, zipFile);
+			}
+		}
+		int releaseVersion = -1;
+		if (release != null) {
+			try {
+				releaseVersion = Integer.parseInt(release);
+			} catch (NumberFormatException e) {
+				releaseVersion = 0;
+			}
+		}
+		byte[] descriptor = index.getModuleDescriptor(releaseVersion);
+		if (descriptor == null)
+			return null;
+		ClassFileReader reader = ClassFileReader.read(descriptor, file.getPath(), index.getModuleDescriptorPath(releaseVersion));
+		return getModule(reader);
+	}
 	private static IModule getModule(ClassFileReader classfile) {
 		if (classfile != null) {
 			return classfile.getModuleDeclaration();
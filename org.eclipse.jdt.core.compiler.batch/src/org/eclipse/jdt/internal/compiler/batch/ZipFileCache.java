@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipFile;
+
+/**
+ * Keeps the jar files of the classpath open, together with the packages they contain, across the compilations run by
+ * a {@link CompileServer}.
+ * <p>
+ * Entries are validated against the length and time stamp of the file each time the jar is opened, a modified jar
+ * is closed and read again. Only the raw jar contents are shared, every compilation still creates its own
+ * {@link FileSystem} and lookup environment. A cache belongs to one server and is only used by its compilations,
+ * which run one at a time, so that no jar file is closed while another compilation reads it.
+ * </p>
+ */
+public class ZipFileCache {
+
+	private static class Entry {
+		final long length;
+		final long lastModified;
+		final ZipFile zipFile;
+		Set<String> packages;
+
+		Entry(long length, long lastModified, ZipFile zipFile) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.zipFile = zipFile;
+		}
+	}
+
+	private final Map<String, Entry> entries = new HashMap<>();
+	private final Map<ZipFile, Entry> entriesByZipFile = new IdentityHashMap<>();
+	private int hits;
+	private int misses;
+
+	/**
+	 * Answers an open zip file for the given file, reusing the one opened by a previous compilation if the file did
+	 * not change since then. The answered zip file must not be closed by the caller.
+	 */
+	public synchronized ZipFile open(File file) throws IOException {
+		String key = file.getAbsolutePath();
+		long length = file.length();
+		long lastModified = file.lastModified();
+		Entry entry = this.entries.get(key);
+		if (entry != null) {
+			if (entry.length == length && entry.lastModified == lastModified) {
+				this.hits++;
+				return entry.zipFile;
+			}
+			remove(key, entry);
+		}
+		this.misses++;
+		ZipFile zipFile = new ZipFile(file);
+		entry = new Entry(length, lastModified, zipFile);
+		this.entries.put(key, entry);
+		this.entriesByZipFile.put(zipFile, entry);
+		return zipFile;
+	}
+
+	public synchronized boolean isShared(ZipFile zipFile) {
+		return this.entriesByZipFile.containsKey(zipFile);
+	}
+
+	/**
+	 * Answers the packages of the given shared zip file if already computed, <code>null</code> otherwise.
+	 * The answered set must not be modified.
+	 */
+	public synchronized Set<String> getPackages(ZipFile zipFile) {
+		Entry entry = this.entriesByZipFile.get(zipFile);
+		return entry == null ? null : entry.packages;
+	}
+
+	public synchronized void setPackages(ZipFile zipFile, Set<String> packages) {
+		Entry entry = this.entriesByZipFile.get(zipFile);
+		if (entry != null)
+			entry.packages = packages;
+	}
+
+	public synchronized int getHits() {
+		return this.hits;
+	}
+
+	public synchronized int getMisses() {
+		return this.misses;
+	}
+
+	public synchronized void clear() {
+		for (Entry entry : this.entries.values()) {
+			close(entry.zipFile);
+		}
+		this.entries.clear();
+		this.entriesByZipFile.clear();
+	}
+
+	private void remove(String key, Entry entry) {
+		this.entries.remove(key);
+		this.entriesByZipFile.remove(entry.zipFile);
+		close(entry.zipFile);
+	}
+
+	private static void close(ZipFile zipFile) {
+		try {
+			zipFile.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.classfmt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.env.IBinaryAnnotation;
+import org.eclipse.jdt.internal.compiler.env.IBinaryField;
+import org.eclipse.jdt.internal.compiler.env.IBinaryMethod;
+import org.eclipse.jdt.internal.compiler.env.IBinaryNestedType;
+import org.eclipse.jdt.internal.compiler.env.IBinaryType;
+import org.eclipse.jdt.internal.compiler.env.IBinaryTypeAnnotation;
+import org.eclipse.jdt.internal.compiler.env.IRecordComponent;
+import org.eclipse.jdt.internal.compiler.impl.Constant;
+
+/**
+ * Digest of everything a binary type exposes to the code compiled against it: modifiers, tag bits, annotations,
+ * hierarchy, member types and the signatures, constants and annotations of its non synthetic fields and methods.
+ * Method bodies, debug attributes and the order of the members do not contribute, so two class files compiled from
+ * sources that only differ in method bodies answer the same fingerprint.
+ * <p>
+ * This is a superset of the criteria of {@link ClassFileReader#hasStructuralChanges(byte[])}: private members and all
+ * the tag bits are included since they can still change the problems reported against the dependent code.
+ * </p>
+ */
+public class BinaryTypeFingerprint {
+
+	private static final byte SEPARATOR = 0;
+
+	private final MessageDigest digest;
+
+	private BinaryTypeFingerprint() {
+		try {
+			this.digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e); // mandatory algorithm of every Java platform
+		}
+	}
+
+	/**
+	 * Answers the SHA-256 digest of the structure of the given binary type.
+	 */
+	public static byte[] compute(IBinaryType binaryType) {
+		BinaryTypeFingerprint fingerprint = new BinaryTypeFingerprint();
+		fingerprint.addType(binaryType);
+		return fingerprint.digest.digest();
+	}
+
+	/**
+	 * Answers the structure of the given method as digested by {@link #compute(IBinaryType)}, e.g. to compare single
+	 * members of two versions of a type.
+	 */
+	public static String toString(IBinaryMethod method) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(method.getModifiers()).append(' ').append(method.getTagBits()).append(' ');
+		buffer.append(method.getSelector()).append(method.getMethodDescriptor());
+		char[] genericSignature = method.getGenericSignature();
+		if (genericSignature != null)
+			buffer.append(' ').append(genericSignature);
+		char[][] exceptions = method.getExceptionTypeNames();
+		if (exceptions != null) {
+			for (char[] exception : exceptions)
+				buffer.append(" throws ").append(exception); //$NON-NLS-1$
+		}
+		Object defaultValue = method.getDefaultValue();
+		if (defaultValue != null)
+			buffer.append(" default ").append(valueToString(defaultValue)); //$NON-NLS-1$
+		appendAnnotations(buffer, method.getAnnotations());
+		for (int i = 0, count = method.getAnnotatedParametersCount(); i < count; i++) {
+			buffer.append(" param").append(i); //$NON-NLS-1$
+			appendAnnotations(buffer, method.getParameterAnnotations(i, CharOperation.NO_CHAR));
+		}
+		appendTypeAnnotations(buffer, method.getTypeAnnotations());
+		return buffer.toString();
+	}
+
+	/**
+	 * Answers the structure of the given field as digested by {@link #compute(IBinaryType)}.
+	 */
+	public static String toString(IBinaryField field) {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(field.getModifiers()).append(' ').append(field.getTagBits()).append(' ');
+		buffer.append(field.getName()).append(' ').append(field.getTypeName());
+		char[] genericSignature = field.getGenericSignature();
+		if (genericSignature != null)
+			buffer.append(' ').append(genericSignature);
+		Constant constant = field.getConstant();
+		if (constant != null && constant != Constant.NotAConstant)
+			buffer.append(" = ").append(constant); //$NON-NLS-1$
+		appendAnnotations(buffer, field.getAnnotations());
+		appendTypeAnnotations(buffer, field.getTypeAnnotations());
+		return buffer.toString();
+	}
+
+	private void addType(IBinaryType binaryType) {
+		add(String.valueOf(binaryType.getModifiers()));
+		add(String.valueOf(binaryType.getTagBits()));
+		add(binaryType.getName());
+		add(binaryType.getSourceName());
+		add(binaryType.getEnclosingTypeName());
+		add(binaryType.getEnclosingMethod());
+		add(binaryType.isAnonymous() ? "anonymous" : binaryType.isLocal() ? "local" : binaryType.isMember() ? "member" : "toplevel"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		add(binaryType.getModule());
+		add(binaryType.getGenericSignature());
+		add(binaryType.getSuperclassName());
+		addAll(binaryType.getInterfaceNames());
+		addAll(binaryType.getPermittedSubtypesNames());
+		char[][][] missingTypeNames = binaryType.getMissingTypeNames();
+		if (missingTypeNames != null) {
+			for (char[][] missingTypeName : missingTypeNames)
+				addAll(missingTypeName);
+		}
+		StringBuilder buffer = new StringBuilder();
+		appendAnnotations(buffer, binaryType.getAnnotations());
+		appendTypeAnnotations(buffer, binaryType.getTypeAnnotations());
+		add(buffer.toString());
+
+		IBinaryNestedType[] memberTypes = binaryType.getMemberTypes();
+		List<String> members = new ArrayList<>();
+		if (memberTypes != null) {
+			for (IBinaryNestedType memberType : memberTypes)
+				members.add(new String(memberType.getName()) + ' ' + memberType.getModifiers());
+		}
+		addSorted(members);
+
+		IBinaryField[] fields = binaryType.getFields();
+		if (fields != null) {
+			for (IBinaryField field : fields) {
+				if ((field.getModifiers() & ClassFileConstants.AccSynthetic) == 0)
+					members.add(toString(field));
+			}
+		}
+		addSorted(members);
+
+		IRecordComponent[] components = binaryType.getRecordComponents();
+		if (components != null) {
+			for (IRecordComponent component : components) // component order is significant
+				add(toString(component));
+		}
+
+		IBinaryMethod[] methods = binaryType.getMethods();
+		if (methods != null) {
+			for (IBinaryMethod method : methods) {
+				if ((method.getModifiers() & ClassFileConstants.AccSynthetic) == 0 && !method.isClinit())
+					members.add(toString(method));
+			}
+		}
+		addSorted(members);
+	}
+
+	private void addSorted(List<String> members) {
+		Collections.sort(members);
+		add(String.valueOf(members.size()));
+		for (String member : members)
+			add(member);
+		members.clear();
+	}
+
+	private void addAll(char[][] names) {
+		if (names == null) {
+			add((char[]) null);
+			return;
+		}
+		add(String.valueOf(names.length));
+		for (char[] name : names)
+			add(name);
+	}
+
+	private void add(char[] value) {
+		add(value == null ? null : new String(value));
+	}
+
+	private void add(String value) {
+		if (value != null)
+			this.digest.update(value.getBytes(StandardCharsets.UTF_8));
+		this.digest.update(SEPARATOR);
+	}
+
+	private static void appendAnnotations(StringBuilder buffer, IBinaryAnnotation[] annotations) {
+		if (annotations == null)
+			return;
+		for (IBinaryAnnotation annotation : annotations)
+			buffer.append(' ').append(BinaryTypeFormatter.annotationToString(annotation));
+	}
+
+	private static void appendTypeAnnotations(StringBuilder buffer, IBinaryTypeAnnotation[] annotations) {
+		if (annotations == null)
+			return;
+		for (IBinaryTypeAnnotation annotation : annotations)
+			buffer.append(' ').append(BinaryTypeFormatter.annotationToString(annotation));
+	}
+
+	private static String valueToString(Object value) {
+		if (value instanceof Object[] values) {
+			StringBuilder buffer = new StringBuilder("{"); //$NON-NLS-1$
+			for (Object element : values)
+				buffer.append(valueToString(element)).append(',');
+			return buffer.append('}').toString();
+		}
+		return String.valueOf(value);
+	}
+}
@@ -39,6 +39,7 @@ import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
 import org.eclipse.jdt.internal.compiler.lookup.TypeIds;
 import org.eclipse.jdt.internal.compiler.util.CharDeduplication;
 import org.eclipse.jdt.internal.compiler.util.JRTUtil;
+import org.eclipse.jdt.internal.compiler.util.SimpleSetOfCharArray;
 import org.eclipse.jdt.internal.compiler.util.Util;
 
 public class ClassFileReader extends ClassFileStruct implements IBinaryType {
@@ -50,7 +51,8 @@ public class ClassFileReader extends ClassFileStruct implements IBinaryType {
 	private final int constantPoolCount;
 	private AnnotationInfo[] annotations;
 	private TypeAnnotationInfo[] typeAnnotations;
-	private FieldInfo[] fields;
+	private volatile FieldInfo[] fields;
+	private final int fieldsOffset;
 	private ModuleInfo moduleDeclaration;
 	public char[] moduleName;
 	private final int fieldsCount;
@@ -62,7 +64,8 @@ public class ClassFileReader extends ClassFileStruct implements IBinaryType {
 	private final int interfacesCount;
 	private char[][] permittedSubtypesNames;
 	private int permittedSubtypesCount;
-	private MethodInfo[] methods;
+	private volatile MethodInfo[] methods;
+	private final int methodsOffset;
 	private final int methodsCount;
 	private final char[] signature;
 	private char[] sourceName;
@@ -130,6 +133,15 @@ public static ClassFileReader read(byte[] classFileBytes, String fileName, boole
 	return classFileReader;
 }
 
+/**
+ * Answers the given reader fully initialized, as the <code>read</code> methods do when asked to, so that it can be
+ * shared by the compilations of several threads. See {@link org.eclipse.jdt.internal.compiler.util.BinaryTypeSnapshot}.
+ */
+public static ClassFileReader fullyInitialized(ClassFileReader classFileReader) throws ClassFormatException {
+	classFileReader.initialize();
+	return classFileReader;
+}
+
 public static ClassFileReader read(
 	java.util.zip.ZipFile zip,
 	String filename)
@@ -162,9 +174,7 @@ public static ClassFileReader read(java.util.zip.ZipFile zip, String filename, b
 		return null;
 	}
 	try (InputStream stream = zip.getInputStream(ze)) {
-		URI uri =  URI.create("jar:file://" + toUri(zip.getName()).getRawPath() + "!/" + filename); //$NON-NLS-1$ //$NON-NLS-2$
-		ClassFileReader classFileReader = new ClassFileReader(uri, Util.getInputStreamAsByteArray(stream),
-				filename.toCharArray());
+		ClassFileReader classFileReader = read(Util.getInputStreamAsByteArray(stream), zip.getName(), filename);
 		if (fullyInitialize) {
 			classFileReader.initialize();
 		}
@@ -172,6 +182,14 @@ public static ClassFileReader read(java.util.zip.ZipFile zip, String filename, b
 	}
 }
 
+/**
+ * Answers a reader on the given contents of an entry of an archive, e.g. read from an index of the archive.
+ */
+public static ClassFileReader read(byte[] classFileBytes, String archiveName, String entryName) throws ClassFormatException {
+	URI uri =  URI.create("jar:file://" + toUri(archiveName).getRawPath() + "!/" + entryName); //$NON-NLS-1$ //$NON-NLS-2$
+	return new ClassFileReader(uri, classFileBytes, entryName.toCharArray());
+}
+
 /**
  * same as <code>new java.io.File(absoluteNormalFilePath).toURI()</code> if absoluteNormalFilePath is not a directory
  * but faster because it avoid IO for the isDirectory check.
@@ -365,30 +383,18 @@ public ClassFileReader(byte[] classFileBytes, char[] fileName, boolean fullyInit
 		} else {
 			this.interfaceNames = null;
 		}
-		// Read the fields, use exception handlers to catch bad format
+		// Skip the fields and the methods, they are decoded on first access (see fields() and methods())
 		this.fieldsCount = u2At(readOffset);
 		readOffset += 2;
-		if (this.fieldsCount != 0) {
-			FieldInfo field;
-			this.fields = new FieldInfo[this.fieldsCount];
-			for (int i = 0; i < this.fieldsCount; i++) {
-				field = FieldInfo.createField(this.reference, this.constantPoolOffsets, readOffset, this.version);
-				this.fields[i] = field;
-				readOffset += field.sizeInBytes();
-			}
+		this.fieldsOffset = readOffset;
+		for (int i = 0; i < this.fieldsCount; i++) {
+			readOffset = skipMember(readOffset);
 		}
-		// Read the methods
 		this.methodsCount = u2At(readOffset);
 		readOffset += 2;
-		if (this.methodsCount != 0) {
-			this.methods = new MethodInfo[this.methodsCount];
-			boolean isAnnotationType = (accessFlag & ClassFileConstants.AccAnnotation) != 0;
-			for (int i = 0; i < this.methodsCount; i++) {
-				this.methods[i] = isAnnotationType
-					? AnnotationMethodInfo.createAnnotationMethod(this.reference, this.constantPoolOffsets, readOffset, this.version)
-					: MethodInfo.createMethod(this.reference, this.constantPoolOffsets, readOffset, this.version);
-				readOffset += this.methods[i].sizeInBytes();
-			}
+		this.methodsOffset = readOffset;
+		for (int i = 0; i < this.methodsCount; i++) {
+			readOffset = skipMember(readOffset);
 		}
 
 		// Read the attributes
@@ -540,6 +546,56 @@ public ClassFileReader(byte[] classFileBytes, char[] fileName, boolean fullyInit
 	}
 }
 
+/**
+ * Answers the offset following the field_info or method_info structure at the given offset.
+ */
+private int skipMember(int offset) {
+	int attributesCount = u2At(offset + 6);
+	int readOffset = offset + 8;
+	for (int i = 0; i < attributesCount; i++) {
+		readOffset += (6 + u4At(readOffset + 2));
+	}
+	return readOffset;
+}
+
+/**
+ * Decodes the field infos on first access, readers only asked for the hierarchy, annotations or member types of
+ * a type never decode its members.
+ */
+private FieldInfo[] fields() {
+	FieldInfo[] fieldInfos = this.fields;
+	if (fieldInfos == null && this.fieldsCount != 0) {
+		fieldInfos = new FieldInfo[this.fieldsCount];
+		int readOffset = this.fieldsOffset;
+		for (int i = 0; i < this.fieldsCount; i++) {
+			fieldInfos[i] = FieldInfo.createField(this.reference, this.constantPoolOffsets, readOffset, this.version);
+			readOffset += fieldInfos[i].sizeInBytes();
+		}
+		this.fields = fieldInfos;
+	}
+	return fieldInfos;
+}
+
+/**
+ * Decodes the method infos on first access.
+ */
+private MethodInfo[] methods() {
+	MethodInfo[] methodInfos = this.methods;
+	if (methodInfos == null && this.methodsCount != 0) {
+		methodInfos = new MethodInfo[this.methodsCount];
+		boolean isAnnotationType = (this.accessFlags & ClassFileConstants.AccAnnotation) != 0;
+		int readOffset = this.methodsOffset;
+		for (int i = 0; i < this.methodsCount; i++) {
+			methodInfos[i] = isAnnotationType
+				? AnnotationMethodInfo.createAnnotationMethod(this.reference, this.constantPoolOffsets, readOffset, this.version)
+				: MethodInfo.createMethod(this.reference, this.constantPoolOffsets, readOffset, this.version);
+			readOffset += methodInfos[i].sizeInBytes();
+		}
+		this.methods = methodInfos;
+	}
+	return methodInfos;
+}
+
 private void decodeRecords(int readOffset, char[] attributeName) {
 	if (CharOperation.equals(attributeName, AttributeNamesConstants.RecordClass)) {
 		this.isRecord = true;
@@ -715,7 +771,7 @@ public char[] getEnclosingTypeName() {
  */
 @Override
 public IBinaryField[] getFields() {
-	return this.fields;
+	return fields();
 }
 /**
  * @see IBinaryType#getModule()
@@ -840,7 +896,7 @@ public IBinaryNestedType[] getMemberTypes() {
  */
 @Override
 public IBinaryMethod[] getMethods() {
-	return this.methods;
+	return methods();
 }
 
 /*
@@ -1055,78 +1111,18 @@ public boolean hasStructuralChanges(byte[] newBytes, boolean orderRequired, bool
 	try {
 		ClassFileReader newClassFile =
 			new ClassFileReader(newBytes, this.classFileName);
-		// type level comparison
-		// modifiers
-		if (getModifiers() != newClassFile.getModifiers())
+		if (hasStructuralTypeChanges(newClassFile))
 			return true;
 
-		// only consider a portion of the tagbits which indicate a structural change for dependents
-		// e.g. @Override change has no influence outside
-		long OnlyStructuralTagBits = TagBits.AnnotationTargetMASK // different @Target status ?
-			| TagBits.AnnotationDeprecated // different @Deprecated status ?
-			| TagBits.AnnotationRetentionMASK // different @Retention status ?
-			| TagBits.HierarchyHasProblems; // different hierarchy status ?
-
-		// meta-annotations
-		if ((getTagBits() & OnlyStructuralTagBits) != (newClassFile.getTagBits() & OnlyStructuralTagBits))
-			return true;
-		// annotations
-		if (hasStructuralAnnotationChanges(getAnnotations(), newClassFile.getAnnotations()))
-			return true;
-		if (this.version >= ClassFileConstants.JDK1_8
-				&& hasStructuralTypeAnnotationChanges(getTypeAnnotations(), newClassFile.getTypeAnnotations()))
-			return true;
-
-		// generic signature
-		if (!CharOperation.equals(getGenericSignature(), newClassFile.getGenericSignature()))
-			return true;
-		// superclass
-		if (!CharOperation.equals(getSuperclassName(), newClassFile.getSuperclassName()))
-			return true;
-		// interfaces
-		char[][] newInterfacesNames = newClassFile.getInterfaceNames();
-		if (this.interfaceNames != newInterfacesNames) { // TypeConstants.NoSuperInterfaces
-			int newInterfacesLength = newInterfacesNames == null ? 0 : newInterfacesNames.length;
-			if (newInterfacesLength != this.interfacesCount)
-				return true;
-			for (int i = 0, max = this.interfacesCount; i < max; i++)
-				if (!CharOperation.equals(this.interfaceNames[i], newInterfacesNames[i]))
-					return true;
-		}
-
-		// permitted subtypes
-		char[][] newPermittedSubtypesNames = newClassFile.getPermittedSubtypesNames();
-		if (this.permittedSubtypesNames != newPermittedSubtypesNames) {
-			int newPermittedSubtypesLength = newPermittedSubtypesNames == null ? 0 : newPermittedSubtypesNames.length;
-			if (newPermittedSubtypesLength != this.permittedSubtypesCount)
-				return true;
-			for (int i = 0, max = this.permittedSubtypesCount; i < max; i++)
-				if (!CharOperation.equals(this.permittedSubtypesNames[i], newPermittedSubtypesNames[i]))
-					return true;
-		}
-
-		// member types
-		IBinaryNestedType[] currentMemberTypes = getMemberTypes();
-		IBinaryNestedType[] otherMemberTypes = newClassFile.getMemberTypes();
-		if (currentMemberTypes != otherMemberTypes) { // TypeConstants.NoMemberTypes
-			int currentMemberTypeLength = currentMemberTypes == null ? 0 : currentMemberTypes.length;
-			int otherMemberTypeLength = otherMemberTypes == null ? 0 : otherMemberTypes.length;
-			if (currentMemberTypeLength != otherMemberTypeLength)
-				return true;
-			for (int i = 0; i < currentMemberTypeLength; i++)
-				if (!CharOperation.equals(currentMemberTypes[i].getName(), otherMemberTypes[i].getName())
-					|| currentMemberTypes[i].getModifiers() != otherMemberTypes[i].getModifiers())
-						return true;
-		}
-
 		// fields
+		FieldInfo[] fieldInfos = fields();
 		FieldInfo[] otherFieldInfos = (FieldInfo[]) newClassFile.getFields();
 		int otherFieldInfosLength = otherFieldInfos == null ? 0 : otherFieldInfos.length;
 		boolean compareFields = true;
 		if (this.fieldsCount == otherFieldInfosLength) {
 			int i = 0;
 			for (; i < this.fieldsCount; i++)
-				if (hasStructuralFieldChanges(this.fields[i], otherFieldInfos[i])) break;
+				if (hasStructuralFieldChanges(fieldInfos[i], otherFieldInfos[i])) break;
 			if ((compareFields = i != this.fieldsCount) && !orderRequired && !excludesSynthetic)
 				return true;
 		}
@@ -1135,28 +1131,29 @@ public boolean hasStructuralChanges(byte[] newBytes, boolean orderRequired, bool
 				return true;
 			if (orderRequired) {
 				if (this.fieldsCount != 0)
-					Arrays.sort(this.fields);
+					Arrays.sort(fieldInfos);
 				if (otherFieldInfosLength != 0)
 					Arrays.sort(otherFieldInfos);
 			}
 			if (excludesSynthetic) {
-				if (hasNonSyntheticFieldChanges(this.fields, otherFieldInfos))
+				if (hasNonSyntheticFieldChanges(fieldInfos, otherFieldInfos))
 					return true;
 			} else {
 				for (int i = 0; i < this.fieldsCount; i++)
-					if (hasStructuralFieldChanges(this.fields[i], otherFieldInfos[i]))
+					if (hasStructuralFieldChanges(fieldInfos[i], otherFieldInfos[i]))
 						return true;
 			}
 		}
 
 		// methods
+		MethodInfo[] methodInfos = methods();
 		MethodInfo[] otherMethodInfos = (MethodInfo[]) newClassFile.getMethods();
 		int otherMethodInfosLength = otherMethodInfos == null ? 0 : otherMethodInfos.length;
 		boolean compareMethods = true;
 		if (this.methodsCount == otherMethodInfosLength) {
 			int i = 0;
 			for (; i < this.methodsCount; i++)
-				if (hasStructuralMethodChanges(this.methods[i], otherMethodInfos[i])) break;
+				if (hasStructuralMethodChanges(methodInfos[i], otherMethodInfos[i])) break;
 			if ((compareMethods = i != this.methodsCount) && !orderRequired && !excludesSynthetic)
 				return true;
 		}
@@ -1165,43 +1162,268 @@ public boolean hasStructuralChanges(byte[] newBytes, boolean orderRequired, bool
 				return true;
 			if (orderRequired) {
 				if (this.methodsCount != 0)
-					Arrays.sort(this.methods);
+					Arrays.sort(methodInfos);
 				if (otherMethodInfosLength != 0)
 					Arrays.sort(otherMethodInfos);
 			}
 			if (excludesSynthetic) {
-				if (hasNonSyntheticMethodChanges(this.methods, otherMethodInfos))
+				if (hasNonSyntheticMethodChanges(methodInfos, otherMethodInfos))
 					return true;
 			} else {
 				for (int i = 0; i < this.methodsCount; i++)
-					if (hasStructuralMethodChanges(this.methods[i], otherMethodInfos[i]))
+					if (hasStructuralMethodChanges(methodInfos[i], otherMethodInfos[i]))
 						return true;
 			}
 		}
 
-		// missing types
-		char[][][] missingTypes = getMissingTypeNames();
-		char[][][] newMissingTypes = newClassFile.getMissingTypeNames();
-		if (missingTypes != null) {
-			if (newMissingTypes == null) {
-				return true;
-			}
-			int length = missingTypes.length;
-			if (length != newMissingTypes.length) {
-				return true;
+		return false;
+	} catch (ClassFormatException e) {
+		return true;
+	}
+}
+
+/**
+ * Answers the names of the fields and methods of the receiver that have structural changes, as defined by
+ * {@link #hasStructuralChanges(byte[])}, in the given new version of its class file: the added and removed members,
+ * and those whose modifiers, signature, constant, annotations or thrown exceptions changed. A dependent that uses none
+ * of these names, nor declares or inherits a member of the same name, is not affected by the changes.
+ * <p>
+ * Answers <code>null</code> when the changes are not confined to members which dependents can only reach by name:
+ * when the type itself changed, when it is an interface, an annotation type or an enum, whose abstract methods,
+ * elements and constants are also used implicitly by lambda expressions, annotations and switches, when a
+ * constructor or an abstract method changed, and when the annotations of a non private member changed.
+ * </p>
+ * @param newBytes the bytes of the .class file we want to compare the receiver to
+ * @return the names of the changed members, empty if no member changed, or <code>null</code>
+ */
+public char[][] getStructurallyChangedMemberNames(byte[] newBytes) {
+	if ((getModifiers() & (ClassFileConstants.AccInterface | ClassFileConstants.AccEnum)) != 0) // includes annotation types
+		return null;
+	try {
+		ClassFileReader newClassFile =
+			new ClassFileReader(newBytes, this.classFileName);
+		if (hasStructuralTypeChanges(newClassFile))
+			return null;
+
+		SimpleSetOfCharArray names = new SimpleSetOfCharArray(3);
+		FieldInfo[] fieldInfos = sortedNonSynthetic(fields());
+		FieldInfo[] otherFieldInfos = sortedNonSynthetic(newClassFile.fields());
+		for (int i = 0, j = 0; i < fieldInfos.length || j < otherFieldInfos.length;) {
+			int order = i == fieldInfos.length ? 1
+					: j == otherFieldInfos.length ? -1 : fieldInfos[i].compareTo(otherFieldInfos[j]);
+			FieldInfo changed = null;
+			if (order < 0) {
+				changed = fieldInfos[i++]; // removed
+				if (isVisiblyAnnotated(changed))
+					return null;
+			} else if (order > 0) {
+				changed = otherFieldInfos[j++]; // added
+				if (isVisiblyAnnotated(changed))
+					return null;
+			} else {
+				if (hasStructuralFieldChanges(fieldInfos[i], otherFieldInfos[j])) {
+					changed = fieldInfos[i];
+					if (hasVisibleAnnotationChanges(fieldInfos[i], otherFieldInfos[j]))
+						return null;
+				}
+				i++;
+				j++;
 			}
-			for (int i = 0; i < length; i++) {
-				if (!CharOperation.equals(missingTypes[i], newMissingTypes[i])) {
-					return true;
+			if (changed != null)
+				names.add(changed.getName());
+		}
+		MethodInfo[] methodInfos = sortedNonSynthetic(methods());
+		MethodInfo[] otherMethodInfos = sortedNonSynthetic(newClassFile.methods());
+		for (int i = 0, j = 0; i < methodInfos.length || j < otherMethodInfos.length;) {
+			int order = i == methodInfos.length ? 1
+					: j == otherMethodInfos.length ? -1 : methodInfos[i].compareTo(otherMethodInfos[j]);
+			MethodInfo changed = null;
+			if (order < 0) {
+				changed = methodInfos[i++]; // removed
+				if (isVisiblyAnnotated(changed))
+					return null;
+			} else if (order > 0) {
+				changed = otherMethodInfos[j++]; // added
+				if (isVisiblyAnnotated(changed))
+					return null;
+			} else {
+				if (hasStructuralMethodChanges(methodInfos[i], otherMethodInfos[j])) {
+					changed = (otherMethodInfos[j].getModifiers() & ClassFileConstants.AccAbstract) != 0
+						? otherMethodInfos[j] : methodInfos[i];
+					if (hasVisibleAnnotationChanges(methodInfos[i], otherMethodInfos[j]))
+						return null;
 				}
+				i++;
+				j++;
+			}
+			if (changed != null) {
+				if (changed.isConstructor() || (changed.getModifiers() & ClassFileConstants.AccAbstract) != 0)
+					return null; // invoked implicitly, or implemented by subclasses
+				names.add(changed.getSelector());
 			}
-		} else if (newMissingTypes != null) {
-			return true;
 		}
-		return false;
+		char[][] result = new char[names.elementSize][];
+		names.asArray(result);
+		return result;
 	} catch (ClassFormatException e) {
+		return null;
+	}
+}
+
+/*
+ * The annotations of the non private members are read by the annotation processors of the dependents, whether they
+ * use the members or not (see http://bugs.eclipse.org/149768).
+ */
+private boolean isVisiblyAnnotated(FieldInfo fieldInfo) {
+	return (fieldInfo.getModifiers() & ClassFileConstants.AccPrivate) == 0
+			&& ((fieldInfo.getTagBits() & TagBits.AnnotationDeprecated) != 0 // older class files only have the tag bit
+				|| hasStructuralAnnotationChanges(fieldInfo.getAnnotations(), null)
+				|| hasStructuralTypeAnnotationChanges(fieldInfo.getTypeAnnotations(), null));
+}
+
+private boolean isVisiblyAnnotated(MethodInfo methodInfo) {
+	return (methodInfo.getModifiers() & ClassFileConstants.AccPrivate) == 0
+			&& ((methodInfo.getTagBits() & TagBits.AnnotationDeprecated) != 0 // older class files only have the tag bit
+				|| hasStructuralAnnotationChanges(methodInfo.getAnnotations(), null)
+				|| methodInfo.getAnnotatedParametersCount() > 0
+				|| hasStructuralTypeAnnotationChanges(methodInfo.getTypeAnnotations(), null));
+}
+
+private boolean hasVisibleAnnotationChanges(FieldInfo currentFieldInfo, FieldInfo otherFieldInfo) {
+	if ((currentFieldInfo.getModifiers() & otherFieldInfo.getModifiers() & ClassFileConstants.AccPrivate) != 0)
+		return false;
+	if ((currentFieldInfo.getTagBits() & TagBits.AnnotationDeprecated) != (otherFieldInfo.getTagBits() & TagBits.AnnotationDeprecated))
+		return true;
+	if (hasStructuralAnnotationChanges(currentFieldInfo.getAnnotations(), otherFieldInfo.getAnnotations()))
+		return true;
+	return this.version >= ClassFileConstants.JDK1_8
+			&& hasStructuralTypeAnnotationChanges(currentFieldInfo.getTypeAnnotations(), otherFieldInfo.getTypeAnnotations());
+}
+
+private boolean hasVisibleAnnotationChanges(MethodInfo currentMethodInfo, MethodInfo otherMethodInfo) {
+	if ((currentMethodInfo.getModifiers() & otherMethodInfo.getModifiers() & ClassFileConstants.AccPrivate) != 0)
+		return false;
+	if ((currentMethodInfo.getTagBits() & TagBits.AnnotationDeprecated) != (otherMethodInfo.getTagBits() & TagBits.AnnotationDeprecated))
+		return true;
+	if (hasStructuralAnnotationChanges(currentMethodInfo.getAnnotations(), otherMethodInfo.getAnnotations()))
+		return true;
+	int currentAnnotatedParamsCount = currentMethodInfo.getAnnotatedParametersCount();
+	if (currentAnnotatedParamsCount != otherMethodInfo.getAnnotatedParametersCount())
+		return true;
+	for (int i = 0; i < currentAnnotatedParamsCount; i++) {
+		if (hasStructuralAnnotationChanges(currentMethodInfo.getParameterAnnotations(i, this.classFileName), otherMethodInfo.getParameterAnnotations(i, this.classFileName)))
+			return true;
+	}
+	return this.version >= ClassFileConstants.JDK1_8
+			&& hasStructuralTypeAnnotationChanges(currentMethodInfo.getTypeAnnotations(), otherMethodInfo.getTypeAnnotations());
+}
+
+private static FieldInfo[] sortedNonSynthetic(FieldInfo[] fieldInfos) {
+	if (fieldInfos == null)
+		return new FieldInfo[0];
+	FieldInfo[] result = Arrays.stream(fieldInfos).filter(f -> !f.isSynthetic()).toArray(FieldInfo[]::new);
+	Arrays.sort(result);
+	return result;
+}
+
+private static MethodInfo[] sortedNonSynthetic(MethodInfo[] methodInfos) {
+	if (methodInfos == null)
+		return new MethodInfo[0];
+	MethodInfo[] result = Arrays.stream(methodInfos).filter(m -> !(m.isSynthetic() || m.isClinit())).toArray(MethodInfo[]::new);
+	Arrays.sort(result);
+	return result;
+}
+
+/**
+ * Check if the receiver has structural changes at the type level compare to the given new version of its class
+ * file: modifiers, meta-annotations, annotations, generic signature, super types, permitted subtypes, member types
+ * and missing types. Fields and methods are not compared.
+ */
+private boolean hasStructuralTypeChanges(ClassFileReader newClassFile) {
+	// type level comparison
+	// modifiers
+	if (getModifiers() != newClassFile.getModifiers())
 		return true;
+
+	// only consider a portion of the tagbits which indicate a structural change for dependents
+	// e.g. @Override change has no influence outside
+	long OnlyStructuralTagBits = TagBits.AnnotationTargetMASK // different @Target status ?
+		| TagBits.AnnotationDeprecated // different @Deprecated status ?
+		| TagBits.AnnotationRetentionMASK // different @Retention status ?
+		| TagBits.HierarchyHasProblems; // different hierarchy status ?
+
+	// meta-annotations
+	if ((getTagBits() & OnlyStructuralTagBits) != (newClassFile.getTagBits() & OnlyStructuralTagBits))
+		return true;
+	// annotations
+	if (hasStructuralAnnotationChanges(getAnnotations(), newClassFile.getAnnotations()))
+		return true;
+	if (this.version >= ClassFileConstants.JDK1_8
+			&& hasStructuralTypeAnnotationChanges(getTypeAnnotations(), newClassFile.getTypeAnnotations()))
+		return true;
+
+	// generic signature
+	if (!CharOperation.equals(getGenericSignature(), newClassFile.getGenericSignature()))
+		return true;
+	// superclass
+	if (!CharOperation.equals(getSuperclassName(), newClassFile.getSuperclassName()))
+		return true;
+	// interfaces
+	char[][] newInterfacesNames = newClassFile.getInterfaceNames();
+	if (this.interfaceNames != newInterfacesNames) { // TypeConstants.NoSuperInterfaces
+		int newInterfacesLength = newInterfacesNames == null ? 0 : newInterfacesNames.length;
+		if (newInterfacesLength != this.interfacesCount)
+			return true;
+		for (int i = 0, max = this.interfacesCount; i < max; i++)
+			if (!CharOperation.equals(this.interfaceNames[i], newInterfacesNames[i]))
+				return true;
 	}
+
+	// permitted subtypes
+	char[][] newPermittedSubtypesNames = newClassFile.getPermittedSubtypesNames();
+	if (this.permittedSubtypesNames != newPermittedSubtypesNames) {
+		int newPermittedSubtypesLength = newPermittedSubtypesNames == null ? 0 : newPermittedSubtypesNames.length;
+		if (newPermittedSubtypesLength != this.permittedSubtypesCount)
+			return true;
+		for (int i = 0, max = this.permittedSubtypesCount; i < max; i++)
+			if (!CharOperation.equals(this.permittedSubtypesNames[i], newPermittedSubtypesNames[i]))
+				return true;
+	}
+
+	// member types
+	IBinaryNestedType[] currentMemberTypes = getMemberTypes();
+	IBinaryNestedType[] otherMemberTypes = newClassFile.getMemberTypes();
+	if (currentMemberTypes != otherMemberTypes) { // TypeConstants.NoMemberTypes
+		int currentMemberTypeLength = currentMemberTypes == null ? 0 : currentMemberTypes.length;
+		int otherMemberTypeLength = otherMemberTypes == null ? 0 : otherMemberTypes.length;
+		if (currentMemberTypeLength != otherMemberTypeLength)
+			return true;
+		for (int i = 0; i < currentMemberTypeLength; i++)
+			if (!CharOperation.equals(currentMemberTypes[i].getName(), otherMemberTypes[i].getName())
+				|| currentMemberTypes[i].getModifiers() != otherMemberTypes[i].getModifiers())
+					return true;
+	}
+
+	// missing types
+	char[][][] missingTypes = getMissingTypeNames();
+	char[][][] newMissingTypes = newClassFile.getMissingTypeNames();
+	if (missingTypes != null) {
+		if (newMissingTypes == null) {
+			return true;
+		}
+		int length = missingTypes.length;
+		if (length != newMissingTypes.length) {
+			return true;
+		}
+		for (int i = 0; i < length; i++) {
+			if (!CharOperation.equals(missingTypes[i], newMissingTypes[i])) {
+				return true;
+			}
+		}
+	} else if (newMissingTypes != null) {
+		return true;
+	}
+	return false;
 }
 
 private boolean hasStructuralAnnotationChanges(IBinaryAnnotation[] currentAnnotations, IBinaryAnnotation[] otherAnnotations) {
@@ -1391,14 +1613,19 @@ private boolean affectsSignature(IBinaryTypeAnnotation typeAnnotation) {
 /**
  * This method is used to fully initialize the contents of the receiver. All methodinfos, fields infos
  * will be therefore fully initialized and we can get rid of the bytes.
+ * <p>
+ * A fully initialized reader is not modified any more, it can be read by several threads once safely published.
+ * </p>
  */
 private void initialize() throws ClassFormatException {
 	try {
+		FieldInfo[] fieldInfos = fields();
 		for (int i = 0, max = this.fieldsCount; i < max; i++) {
-			this.fields[i].initialize();
+			fieldInfos[i].initialize();
 		}
+		MethodInfo[] methodInfos = methods();
 		for (int i = 0, max = this.methodsCount; i < max; i++) {
-			this.methods[i].initialize();
+			methodInfos[i].initialize();
 		}
 		if (this.innerInfos != null) {
 			for (InnerClassInfo info : this.innerInfos) {
@@ -1410,7 +1637,18 @@ private void initialize() throws ClassFormatException {
 				annotation.initialize();
 			}
 		}
+		if (this.typeAnnotations != null) {
+			for (TypeAnnotationInfo typeAnnotation : this.typeAnnotations) {
+				typeAnnotation.initialize();
+			}
+		}
+		if (this.recordComponents != null) {
+			for (RecordComponentInfo component : this.recordComponents) {
+				component.initialize();
+			}
+		}
 		this.getEnclosingMethod();
+		this.getSourceName();
 		reset();
 	} catch(RuntimeException e) {
 		ClassFormatException exception = new ClassFormatException(e, this.classFileName);
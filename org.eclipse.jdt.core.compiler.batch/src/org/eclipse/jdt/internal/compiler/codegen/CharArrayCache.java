@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.codegen;
 
+import java.util.Arrays;
 import org.eclipse.jdt.core.compiler.CharOperation;
 
 public class CharArrayCache {
@@ -21,6 +22,7 @@ public class CharArrayCache {
 	// to avoid using Enumerations, walk the individual tables skipping nulls
 	public char[] keyTable[];
 	public int valueTable[];
+	int hashTable[]; // hash codes of the keys, compared before the keys
 	int elementSize; // number of elements in the table
 	int threshold;
 /**
@@ -32,6 +34,7 @@ public CharArrayCache() {
 	this.threshold = 0;
 	this.keyTable = EMPTY_CHARS;
 	this.valueTable = EMPTY_INTS;
+	this.hashTable = EMPTY_INTS;
 }
 /**
  * Constructs a new, empty hashtable with the specified initial
@@ -44,15 +47,18 @@ private CharArrayCache(int initialCapacity) {
 	this.threshold = (initialCapacity * 2) / 3; // faster than float operation
 	this.keyTable = new char[initialCapacity][];
 	this.valueTable = new int[initialCapacity];
+	this.hashTable = new int[initialCapacity];
 }
 /**
  * Clears the hash table so that it has no more elements in it.
+ * The table keeps its capacity, as a cache is reused for the class files of a compilation.
  */
 public void clear() {
+	if (this.elementSize == 0)
+		return;
 	this.elementSize = 0;
-	this.threshold = 0;
-	this.keyTable = EMPTY_CHARS;
-	this.valueTable = EMPTY_INTS;
+	Arrays.fill(this.keyTable, null);
+	Arrays.fill(this.valueTable, 0);
 }
 /** Returns true if the collection contains an element for the key.
  *
@@ -64,9 +70,10 @@ public boolean containsKey(char[] key) {
 	if (length == 0) {
 		return false;
 	}
-	int index = CharOperation.hashCode(key) % length;
+	int hash = CharOperation.hashCode(key);
+	int index = hash % length;
 	while (this.keyTable[index] != null) {
-		if (CharOperation.equals(this.keyTable[index], key))
+		if (this.hashTable[index] == hash && CharOperation.equals(this.keyTable[index], key))
 			return true;
 		if (++index == length) { // faster than modulo
 			index = 0;
@@ -85,9 +92,10 @@ public int get(char[] key) {
 	if (length == 0) {
 		return -1;
 	}
-	int index = CharOperation.hashCode(key) % length;
+	int hash = CharOperation.hashCode(key);
+	int index = hash % length;
 	while (this.keyTable[index] != null) {
-		if (CharOperation.equals(this.keyTable[index], key))
+		if (this.hashTable[index] == hash && CharOperation.equals(this.keyTable[index], key))
 			return this.valueTable[index];
 		if (++index == length) { // faster than modulo
 			index = 0;
@@ -110,9 +118,10 @@ public int putIfAbsent(char[] key, int value) {
 		rehash();
 	}
 	int length = this.keyTable.length;
-	int index = CharOperation.hashCode(key) % length;
+	int hash = CharOperation.hashCode(key);
+	int index = hash % length;
 	while (this.keyTable[index] != null) {
-		if (CharOperation.equals(this.keyTable[index], key))
+		if (this.hashTable[index] == hash && CharOperation.equals(this.keyTable[index], key))
 			return this.valueTable[index];
 		if (++index == length) { // faster than modulo
 			index = 0;
@@ -120,6 +129,7 @@ public int putIfAbsent(char[] key, int value) {
 	}
 	this.keyTable[index] = key;
 	this.valueTable[index] = value;
+	this.hashTable[index] = hash;
 
 	return -value; // negative when added (value is assumed to be > 0)
 }
@@ -133,10 +143,10 @@ public int putIfAbsent(char[] key, int value) {
  * @param value <CODE>int</CODE> the specified element
  * @return int the old value of the key, or -1 if it did not have one.
  */
-private int put(char[] key, int value) {
-	int length = this.keyTable.length, index = CharOperation.hashCode(key) % length;
+private int put(char[] key, int hash, int value) {
+	int length = this.keyTable.length, index = hash % length;
 	while (this.keyTable[index] != null) {
-		if (CharOperation.equals(this.keyTable[index], key))
+		if (this.hashTable[index] == hash && CharOperation.equals(this.keyTable[index], key))
 			return this.valueTable[index] = value;
 		if (++index == length) { // faster than modulo
 			index = 0;
@@ -144,6 +154,7 @@ private int put(char[] key, int value) {
 	}
 	this.keyTable[index] = key;
 	this.valueTable[index] = value;
+	this.hashTable[index] = hash;
 
 	// assumes the threshold is never equal to the size of the table
 	if (++this.elementSize > this.threshold)
@@ -159,10 +170,11 @@ private void rehash() {
 	CharArrayCache newHashtable = new CharArrayCache(Math.max(5, this.keyTable.length * 2));
 	for (int i = this.keyTable.length; --i >= 0;)
 		if (this.keyTable[i] != null)
-			newHashtable.put(this.keyTable[i], this.valueTable[i]);
+			newHashtable.put(this.keyTable[i], this.hashTable[i], this.valueTable[i]);
 
 	this.keyTable = newHashtable.keyTable;
 	this.valueTable = newHashtable.valueTable;
+	this.hashTable = newHashtable.hashTable;
 	this.threshold = newHashtable.threshold;
 }
 /** Remove the object associated with the specified key in the
@@ -174,9 +186,10 @@ public void remove(char[] key) {
 	if (length == 0) {
 		return;
 	}
-	int index = CharOperation.hashCode(key) % length;
+	int hash = CharOperation.hashCode(key);
+	int index = hash % length;
 	while (this.keyTable[index] != null) {
-		if (CharOperation.equals(this.keyTable[index], key)) {
+		if (this.hashTable[index] == hash && CharOperation.equals(this.keyTable[index], key)) {
 			this.valueTable[index] = 0;
 			this.keyTable[index] = null;
 			return;
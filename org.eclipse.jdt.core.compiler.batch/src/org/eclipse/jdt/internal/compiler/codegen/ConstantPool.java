@@ -21,7 +21,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.codegen;
 
-import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.compiler.ClassFile;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.internal.compiler.lookup.MethodBinding;
@@ -29,28 +28,22 @@ import org.eclipse.jdt.internal.compiler.lookup.TagBits;
 import org.eclipse.jdt.internal.compiler.lookup.TypeBinding;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
 import org.eclipse.jdt.internal.compiler.lookup.TypeIds;
-import org.eclipse.jdt.internal.compiler.util.HashtableOfInteger;
-import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
 import org.eclipse.jdt.internal.compiler.util.Util;
 /**
  * This type is used to store all the constant pool entries.
  */
 public class ConstantPool implements ClassFileConstants, TypeIds {
-	private static final int METHODS_AND_FIELDS_INITIAL_SIZE = 450;
-	private static final int NAMEANDTYPE_INITIAL_SIZE = 272;
-	private static final int DYNAMIC_INITIAL_SIZE = 10;
+	private static final int INDEX_INITIAL_SIZE = 722;
 	protected DoubleCache doubleCache;
 	protected FloatCache floatCache;
 	protected IntegerCache intCache;
 	protected LongCache longCache;
 	public CharArrayCache UTF8Cache;
 	protected CharArrayCache stringCache;
-	protected HashtableOfObject methodsAndFieldsCache;
 	protected CharArrayCache classCache;
 	protected CharArrayCache moduleCache;
 	protected CharArrayCache packageCache;
-	protected HashtableOfObject nameAndTypeCacheForFieldsAndMethods;
-	protected HashtableOfInteger dynamicCache;
+	protected ConstantPoolIndex memberIndex; // member references, name and types, dynamic entries
 	public byte[] poolContent;
 	public int currentIndex = 1;
 	public int currentOffset;
@@ -382,12 +375,10 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	public ConstantPool(ClassFile classFile) {
 		this.UTF8Cache = new CharArrayCache();
 		this.stringCache = new CharArrayCache();
-		this.methodsAndFieldsCache = new HashtableOfObject(METHODS_AND_FIELDS_INITIAL_SIZE);
 		this.classCache = new CharArrayCache();
 		this.moduleCache = new CharArrayCache();
 		this.packageCache = new CharArrayCache();
-		this.nameAndTypeCacheForFieldsAndMethods = new HashtableOfObject(NAMEANDTYPE_INITIAL_SIZE);
-		this.dynamicCache = new HashtableOfInteger(DYNAMIC_INITIAL_SIZE);
+		this.memberIndex = new ConstantPoolIndex(INDEX_INITIAL_SIZE);
 		this.offsets = new int[5];
 		initialize(classFile);
 	}
@@ -851,7 +842,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndexForMethod(char[] declaringClass, char[] selector, char[] signature, boolean isInterface) {
 		int index;
-		if ((index = putInCacheIfAbsent(declaringClass, selector, signature, this.currentIndex)) < 0) {
+		if ((index = this.memberIndex.putIfAbsent(ConstantPoolIndex.MEMBER, 0, declaringClass, selector, signature, this.currentIndex)) < 0) {
 			// it doesn't exist yet
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
@@ -891,7 +882,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndexForNameAndType(char[] name, char[] signature) {
 		int index;
-		if ((index = putInNameAndTypeCacheIfAbsent(name, signature, this.currentIndex)) < 0) {
+		if ((index = this.memberIndex.putIfAbsent(ConstantPoolIndex.NAME_AND_TYPE, 0, name, signature, null, this.currentIndex)) < 0) {
 			// The entry doesn't exit yet
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
@@ -984,7 +975,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	private int literalIndexForInvokeAndConstantDynamic(int bootStrapIndex, char[] selector, char[] descriptor, int tag) {
 		int index;
-		if ((index = putInDynamicCacheIfAbsent(bootStrapIndex, selector, descriptor, this.currentIndex)) < 0) {
+		if ((index = this.memberIndex.putIfAbsent(ConstantPoolIndex.DYNAMIC, bootStrapIndex, selector, descriptor, null, this.currentIndex)) < 0) {
 			this.currentIndex++;
 			if ((index = -index) > 0xFFFF){
 				this.classFile.referenceBinding.scope.problemReporter().noMoreAvailableSpaceInConstantPool(this.classFile.referenceBinding.scope.referenceType());
@@ -1021,7 +1012,7 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 	}
 	public int literalIndexForField(char[] declaringClass, char[] name, char[] signature) {
 		int index;
-		if ((index = putInCacheIfAbsent(declaringClass, name, signature, this.currentIndex)) < 0) {
+		if ((index = this.memberIndex.putIfAbsent(ConstantPoolIndex.MEMBER, 0, declaringClass, name, signature, this.currentIndex)) < 0) {
 			this.currentIndex++;
 			// doesn't exist yet
 			if ((index = -index) > 0xFFFF){
@@ -1158,117 +1149,6 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		}
 		return index;
 	}
-	/**
-	 * @param key1 the given name
-	 * @param key2 the given signature
-	 * @param value the given index
-	 * @return the new index
-	 */
-	private int putInNameAndTypeCacheIfAbsent(final char[] key1, final char[] key2, int value) {
-		int index ;
-		Object key1Value = this.nameAndTypeCacheForFieldsAndMethods.get(key1);
-		if (key1Value == null) {
-			CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(key2, value);
-			index = -value;
-			this.nameAndTypeCacheForFieldsAndMethods.put(key1, cachedIndexEntry);
-		} else if (key1Value instanceof CachedIndexEntry) {
-			// adding a second entry
-			CachedIndexEntry entry = (CachedIndexEntry) key1Value;
-			if (CharOperation.equals(key2, entry.signature)) {
-				index = entry.index;
-			} else {
-				CharArrayCache charArrayCache = new CharArrayCache();
-				charArrayCache.putIfAbsent(entry.signature, entry.index);
-				index = charArrayCache.putIfAbsent(key2, value);
-				this.nameAndTypeCacheForFieldsAndMethods.put(key1, charArrayCache);
-			}
-		} else {
-			CharArrayCache charArrayCache = (CharArrayCache) key1Value;
-			index = charArrayCache.putIfAbsent(key2, value);
-		}
-		return index;
-	}
-
-	/**
-	 * @param bootstrapIndex the given bootstrap index
-	 * @param selector the given method selector
-	 * @param descriptor the given signature
-	 * @param value the new index
-	 * @return the given index
-	 */	private int putInDynamicCacheIfAbsent(int bootstrapIndex, final char[] selector, final char[] descriptor, final int value) {
-		int index;
-		HashtableOfObject key1Value = (HashtableOfObject) this.dynamicCache.get(bootstrapIndex);
-		if (key1Value == null) {
-			key1Value = new HashtableOfObject();
-			this.dynamicCache.put(bootstrapIndex, key1Value);
-			CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(descriptor, value);
-			index = -value;
-			key1Value.put(selector, cachedIndexEntry);
-		} else {
-			Object key2Value = key1Value.get(selector);
-			if (key2Value == null) {
-				CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(descriptor, value);
-				index = -value;
-				key1Value.put(selector, cachedIndexEntry);
-			} else if (key2Value instanceof CachedIndexEntry) {
-				// adding a second entry
-				CachedIndexEntry entry = (CachedIndexEntry) key2Value;
-				if (CharOperation.equals(descriptor, entry.signature)) {
-					index = entry.index;
-				} else {
-					CharArrayCache charArrayCache = new CharArrayCache();
-					charArrayCache.putIfAbsent(entry.signature, entry.index);
-					index = charArrayCache.putIfAbsent(descriptor, value);
-					key1Value.put(selector, charArrayCache);
-				}
-			} else {
-				CharArrayCache charArrayCache = (CharArrayCache) key2Value;
-				index = charArrayCache.putIfAbsent(descriptor, value);
-			}
-		}
-		return index;
-	}
-
-	/**
-	 * @param key1 the given declaring class name
-	 * @param key2 the given field name or method selector
-	 * @param key3 the given signature
-	 * @param value the new index
-	 * @return the given index
-	 */
-	private int putInCacheIfAbsent(final char[] key1, final char[] key2, final char[] key3, int value) {
-		int index;
-		HashtableOfObject key1Value = (HashtableOfObject) this.methodsAndFieldsCache.get(key1);
-		if (key1Value == null) {
-			key1Value = new HashtableOfObject();
-			this.methodsAndFieldsCache.put(key1, key1Value);
-			CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(key3, value);
-			index = -value;
-			key1Value.put(key2, cachedIndexEntry);
-		} else {
-			Object key2Value = key1Value.get(key2);
-			if (key2Value == null) {
-				CachedIndexEntry cachedIndexEntry = new CachedIndexEntry(key3, value);
-				index = -value;
-				key1Value.put(key2, cachedIndexEntry);
-			} else if (key2Value instanceof CachedIndexEntry) {
-				// adding a second entry
-				CachedIndexEntry entry = (CachedIndexEntry) key2Value;
-				if (CharOperation.equals(key3, entry.signature)) {
-					index = entry.index;
-				} else {
-					CharArrayCache charArrayCache = new CharArrayCache();
-					charArrayCache.putIfAbsent(entry.signature, entry.index);
-					index = charArrayCache.putIfAbsent(key3, value);
-					key1Value.put(key2, charArrayCache);
-				}
-			} else {
-				CharArrayCache charArrayCache = (CharArrayCache) key2Value;
-				index = charArrayCache.putIfAbsent(key3, value);
-			}
-		}
-		return index;
-	}
 	/**
 	 * This method is used to clean the receiver in case of a clinit header is generated, but the
 	 * clinit has no code.
@@ -1329,12 +1209,10 @@ public class ConstantPool implements ClassFileConstants, TypeIds {
 		if (this.longCache != null) this.longCache.clear();
 		this.UTF8Cache.clear();
 		this.stringCache.clear();
-		this.methodsAndFieldsCache.clear();
 		this.classCache.clear();
 		this.packageCache.clear();
 		this.moduleCache.clear();
-		this.nameAndTypeCacheForFieldsAndMethods.clear();
-		this.dynamicCache.clear();
+		this.memberIndex.clear();
 		this.currentIndex = 1;
 		this.currentOffset = 0;
 	}
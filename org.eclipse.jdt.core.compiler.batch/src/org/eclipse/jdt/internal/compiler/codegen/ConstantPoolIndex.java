@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.codegen;
+
+import java.util.Arrays;
+import org.eclipse.jdt.core.compiler.CharOperation;
+
+/**
+ * Index of the constant pool entries made of several names: field and method references (declaring class, name and
+ * descriptor), name and types (name and descriptor) and dynamic entries (bootstrap method, name and descriptor).
+ * <p>
+ * All these entries are kept in a single open-addressing table, whose keys are compared once their hash codes are,
+ * and which keeps its capacity when cleared, as a constant pool is reused for the class files of a compilation.
+ * </p>
+ */
+public class ConstantPoolIndex {
+	public static final int MEMBER = 1;
+	public static final int NAME_AND_TYPE = 2;
+	public static final int DYNAMIC = 3;
+
+	private int[] kinds; // 0 for a free slot
+	private int[] numbers;
+	private char[][] keys1;
+	private char[][] keys2;
+	private char[][] keys3;
+	private int[] hashes;
+	private int[] values;
+	private int elementSize;
+	private int threshold;
+
+	/**
+	 * @param initialCapacity the expected number of entries
+	 */
+	public ConstantPoolIndex(int initialCapacity) {
+		int capacity = Integer.highestOneBit(Math.max(initialCapacity, 4) * 2 - 1) << 1; // at most half full
+		allocate(capacity);
+	}
+
+	private void allocate(int capacity) {
+		this.kinds = new int[capacity];
+		this.numbers = new int[capacity];
+		this.keys1 = new char[capacity][];
+		this.keys2 = new char[capacity][];
+		this.keys3 = new char[capacity][];
+		this.hashes = new int[capacity];
+		this.values = new int[capacity];
+		this.threshold = capacity / 2;
+	}
+
+	/**
+	 * Removes all the entries, keeping the capacity of the table.
+	 */
+	public void clear() {
+		if (this.elementSize == 0)
+			return;
+		Arrays.fill(this.kinds, 0);
+		Arrays.fill(this.keys1, null);
+		Arrays.fill(this.keys2, null);
+		Arrays.fill(this.keys3, null);
+		this.elementSize = 0;
+	}
+
+	/**
+	 * Puts the given value for the given key if there is none.
+	 *
+	 * @param kind the kind of entry: {@link #MEMBER}, {@link #NAME_AND_TYPE} or {@link #DYNAMIC}
+	 * @param number the index of the bootstrap method of a dynamic entry, 0 otherwise
+	 * @param key1 the declaring class of a member, the name of another entry
+	 * @param key2 the name of a member, the descriptor of another entry
+	 * @param key3 the descriptor of a member, null for another entry
+	 * @param value the index of the new entry, greater than 0
+	 * @return the index of the existing entry, or -value if added
+	 */
+	public int putIfAbsent(int kind, int number, char[] key1, char[] key2, char[] key3, int value) {
+		int hash = ((kind * 31 + number) * 31 + CharOperation.hashCode(key1)) * 31 + CharOperation.hashCode(key2);
+		if (key3 != null)
+			hash = hash * 31 + CharOperation.hashCode(key3);
+		int mask = this.kinds.length - 1;
+		int index = mix(hash) & mask;
+		while (this.kinds[index] != 0) {
+			if (this.hashes[index] == hash && this.kinds[index] == kind && this.numbers[index] == number
+					&& CharOperation.equals(this.keys1[index], key1) && CharOperation.equals(this.keys2[index], key2)
+					&& (key3 == null ? this.keys3[index] == null : CharOperation.equals(this.keys3[index], key3)))
+				return this.values[index];
+			index = (index + 1) & mask;
+		}
+		this.kinds[index] = kind;
+		this.numbers[index] = number;
+		this.keys1[index] = key1;
+		this.keys2[index] = key2;
+		this.keys3[index] = key3;
+		this.hashes[index] = hash;
+		this.values[index] = value;
+		if (++this.elementSize > this.threshold)
+			rehash();
+		return -value;
+	}
+
+	private static int mix(int hash) {
+		return hash ^ (hash >>> 16); // spread the high bits into the masked ones
+	}
+
+	private void rehash() {
+		int[] oldKinds = this.kinds, oldNumbers = this.numbers, oldHashes = this.hashes, oldValues = this.values;
+		char[][] oldKeys1 = this.keys1, oldKeys2 = this.keys2, oldKeys3 = this.keys3;
+		allocate(oldKinds.length * 2);
+		int mask = this.kinds.length - 1;
+		for (int i = 0; i < oldKinds.length; i++) {
+			if (oldKinds[i] == 0)
+				continue;
+			int index = mix(oldHashes[i]) & mask;
+			while (this.kinds[index] != 0)
+				index = (index + 1) & mask;
+			this.kinds[index] = oldKinds[i];
+			this.numbers[index] = oldNumbers[i];
+			this.keys1[index] = oldKeys1[i];
+			this.keys2[index] = oldKeys2[i];
+			this.keys3[index] = oldKeys3[i];
+			this.hashes[index] = oldHashes[i];
+			this.values[index] = oldValues[i];
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ConstantPoolIndex: " + this.elementSize + " entries"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
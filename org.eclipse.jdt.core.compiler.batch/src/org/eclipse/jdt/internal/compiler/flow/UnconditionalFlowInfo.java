@@ -106,6 +106,9 @@ public class UnconditionalFlowInfo extends FlowInfo {
 		// extra[DEFINN] is iDefNNBit
 		// lifecycle is extra == null or else all extra[]'s are allocated
 		// arrays which have the same size
+	private int extraShared;
+		// bit j is set when extra[j] may be shared with a copy of this flow
+		// info, see unshareExtra(int); extra itself is never shared
 
 	public int maxFieldCount; // limit between fields and locals
 
@@ -115,6 +118,11 @@ public class UnconditionalFlowInfo extends FlowInfo {
 	public static final int INN = 7;
 	public static final int DEFIN = 8;
 	public static final int DEFINN = 9;
+	// masks of the rows of extra, for unshareExtra(int)
+	private static final int INITS_ROWS = 0x3;
+	private static final int NULL_ROWS = 0x3C;
+	private static final int INCOMING_ROWS = 0x3C0;
+	private static final int ALL_ROWS = INITS_ROWS | NULL_ROWS | INCOMING_ROWS;
 
 /* fakeInitializedFlowInfo: For Lambda expressions tentative analysis during overload resolution.
    We presume that any and all outer locals touched by the lambda are definitely assigned and
@@ -315,6 +323,9 @@ private FlowInfo addInfoFrom(FlowInfo inits, boolean handleInits) {
 				}
 			}
 		}
+		if (mergeLimit > 0) {
+			unshareExtra((handleInits ? INITS_ROWS : 0) | (otherHasNulls ? NULL_ROWS | INCOMING_ROWS : 0));
+		}
 		int i;
 		if (handleInits) {
 			// manage definite assignment info
@@ -443,6 +454,7 @@ public FlowInfo addPotentialInitializationsFrom(FlowInfo inits) {
 			}
 			else {
 				// current storage is longer
+				unshareExtra(INITS_ROWS);
 				for (; i < otherLength; i++) {
 					this.extra[1][i] |= otherInits.extra[1][i];
 				}
@@ -563,6 +575,9 @@ public UnconditionalFlowInfo addPotentialNullInfoFrom(
 				}
 			}
 		}
+		if (mergeLimit > 0) {
+			unshareExtra(NULL_ROWS | INCOMING_ROWS);
+		}
 		// PREMATURE skip operations for fields
 		int i;
 		for (i = 0 ; i < mergeLimit ; i++) {
@@ -663,6 +678,7 @@ public void acceptIncomingNullnessFrom(UnconditionalFlowInfo other) {
 				long acceptNN = extraINN & b1 & nb2 & b3 & nb4;
 				if (acceptNN != 0) {
 					long nAcceptNN = ~acceptNN;
+					unshareExtra(NULL_ROWS);
 					this.extra[1+1][i] |= acceptNN;
 					this.extra[2+1][i] &= nAcceptNN;
 					this.extra[3+1][i] |= acceptNN;
@@ -672,6 +688,7 @@ public void acceptIncomingNullnessFrom(UnconditionalFlowInfo other) {
 				long acceptN = extraIN & b1 & b2 & nb3 & nb4;
 				if (acceptN != 0) {
 					long nAcceptN = ~acceptN;
+					unshareExtra(NULL_ROWS);
 					this.extra[1+1][i] |= acceptN;
 					this.extra[2+1][i] |= acceptN;
 					this.extra[3+1][i] &= nAcceptN;
@@ -793,28 +810,14 @@ public FlowInfo copy() {
 	copy.tagBits = this.tagBits;
 	copy.maxFieldCount = this.maxFieldCount;
 	if (this.extra != null) {
-		int length;
+		// share the rows until either side updates them
+		int shared = hasNullInfo ? ALL_ROWS : INITS_ROWS | INCOMING_ROWS;
 		copy.extra = new long[extraLength][];
-		System.arraycopy(this.extra[0], 0,
-			(copy.extra[0] = new long[length = this.extra[0].length]), 0,
-			length);
-		System.arraycopy(this.extra[1], 0,
-			(copy.extra[1] = new long[length]), 0, length);
-		if (hasNullInfo) {
-			for (int j = 2; j < 6; j++) {
-				System.arraycopy(this.extra[j], 0,
-					(copy.extra[j] = new long[length]), 0, length);
-			}
-		}
-		else {
-			for (int j = 2; j < 6; j++) {
-				copy.extra[j] = new long[length];
-			}
+		for (int j = 0; j < extraLength; j++) {
+			copy.extra[j] = (shared & (1 << j)) != 0 ? this.extra[j] : new long[this.extra[0].length];
 		}
-		System.arraycopy(this.extra[IN], 0, (copy.extra[IN] = new long[length]), 0, length);
-		System.arraycopy(this.extra[INN], 0, (copy.extra[INN] = new long[length]), 0, length);
-		System.arraycopy(this.extra[DEFIN], 0, (copy.extra[DEFIN] = new long[length]), 0, length);
-		System.arraycopy(this.extra[DEFINN], 0, (copy.extra[DEFINN] = new long[length]), 0, length);
+		copy.extraShared = shared;
+		this.extraShared |= shared;
 	}
 	return copy;
 }
@@ -831,6 +834,7 @@ public UnconditionalFlowInfo discardInitializationInfo() {
 	this.definiteInits =
 		this.potentialInits = 0;
 	if (this.extra != null) {
+		unshareExtra(INITS_ROWS);
 		for (int i = 0, length = this.extra[0].length; i < length; i++) {
 			this.extra[0][i] = this.extra[1][i] = 0;
 		}
@@ -865,6 +869,7 @@ public UnconditionalFlowInfo discardNonFieldInitializations() {
 	if ((vectorIndex = (limit / BitCacheSize) - 1) >= length) {
 		return this; // not enough room yet
 	}
+	unshareExtra(ALL_ROWS);
 	if (vectorIndex >= 0) {
 		// else we only have complete non field array items left
 		long mask = (1L << (limit % BitCacheSize))-1;
@@ -1295,6 +1300,7 @@ public void markAsComparedEqualToNonNull(LocalVariableBinding local) {
 					}
 				}
 			}
+			unshareExtra(NULL_ROWS | INCOMING_ROWS);
 			// MACRO :'b,'es/nullBit\(.\)/extra[\1 + 1][vectorIndex]/gc
 			if (((mask = 1L << (position % BitCacheSize))
   				& (a1 = this.extra[1 + 1][vectorIndex])
@@ -1389,6 +1395,7 @@ public void markAsComparedEqualToNull(LocalVariableBinding local) {
 					}
 				}
 			}
+			unshareExtra(NULL_ROWS | INCOMING_ROWS);
 			if ((mask & this.extra[1 + 1][vectorIndex]) != 0) {
   			  	if ((mask
   			  		& (~this.extra[2 + 1][vectorIndex] | this.extra[3 + 1][vectorIndex]
@@ -1439,6 +1446,7 @@ private void markAsDefinitelyAssigned(int position) {
 					growSpace(vectorIndex + 1, 0, oldLength);
 				}
 			}
+			unshareExtra(INITS_ROWS);
 			long mask;
 			this.extra[0][vectorIndex] |=
 				(mask = 1L << (position % BitCacheSize));
@@ -1497,6 +1505,7 @@ public void markAsDefinitelyNonNull(LocalVariableBinding local) {
     				growSpace(vectorIndex + 1, 0, oldLength);
     			}
     		}
+    		unshareExtra(NULL_ROWS | INCOMING_ROWS);
     		this.extra[2][vectorIndex]
     		    |= (mask = 1L << (position % BitCacheSize));
     		this.extra[4][vectorIndex] |= mask;
@@ -1553,6 +1562,7 @@ public void markAsDefinitelyNull(LocalVariableBinding local) {
     				growSpace(vectorIndex + 1, 0, oldLength);
     			}
     		}
+    		unshareExtra(NULL_ROWS | INCOMING_ROWS);
     		this.extra[2][vectorIndex]
     		    |= (mask = 1L << (position % BitCacheSize));
     		this.extra[3][vectorIndex] |= mask;
@@ -1617,6 +1627,7 @@ public void markAsDefinitelyUnknown(LocalVariableBinding local) {
 					growSpace(vectorIndex+1, 0, oldLength);
 				}
 			}
+			unshareExtra(NULL_ROWS | INCOMING_ROWS);
 			this.extra[2][vectorIndex]
 			    |= (mask = 1L << (position % BitCacheSize));
 			this.extra[5][vectorIndex] |= mask;
@@ -1660,6 +1671,7 @@ public void resetNullInfo(LocalVariableBinding local) {
     			// before and for which no null bits exist.
     			return;
     		}
+    		unshareExtra(NULL_ROWS | INCOMING_ROWS);
     		this.extra[2][vectorIndex]
     		    &= (mask = ~(1L << (position % BitCacheSize)));
     		this.extra[3][vectorIndex] &= mask;
@@ -1705,6 +1717,7 @@ public void markPotentiallyUnknownBit(LocalVariableBinding local) {
     				growSpace(vectorIndex + 1, 0, oldLength);
 				}
 			}
+    		unshareExtra(NULL_ROWS);
     		mask = 1L << (position % BitCacheSize);
     		isTrue((this.extra[2][vectorIndex] & mask) == 0, "Adding 'unknown' mark in unexpected state"); //$NON-NLS-1$
     		this.extra[5][vectorIndex] |= mask;
@@ -1750,6 +1763,7 @@ public void markPotentiallyNullBit(LocalVariableBinding local) {
     				growSpace(vectorIndex + 1, 0, oldLength);
 				}
 			}
+    		unshareExtra(NULL_ROWS);
     		mask = 1L << (position % BitCacheSize);
     		this.extra[3][vectorIndex] |= mask;
     		isTrue((this.extra[2][vectorIndex] & mask) == 0, "Adding 'potentially null' mark in unexpected state"); //$NON-NLS-1$
@@ -1795,6 +1809,7 @@ public void markPotentiallyNonNullBit(LocalVariableBinding local) {
 					growSpace(vectorIndex + 1, 0, oldLength);
 				}
 			}
+    		unshareExtra(NULL_ROWS);
     		mask = 1L << (position % BitCacheSize);
     		isTrue((this.extra[2][vectorIndex] & mask) == 0, "Adding 'potentially non-null' mark in unexpected state"); //$NON-NLS-1$
     		this.extra[4][vectorIndex] |= mask;
@@ -1990,6 +2005,7 @@ public UnconditionalFlowInfo mergedWith(UnconditionalFlowInfo otherInits) {
 				}
 			}
 		}
+		unshareExtra(ALL_ROWS);
         // MACRO :'b,'es/nullBit\(.\)/extra[\1 + 1][i]/g
 		// manage definite assignment
 		for (i = 0; i < mergeLimit; i++) {
@@ -2152,13 +2168,13 @@ public UnconditionalFlowInfo nullInfoLessUnconditionalCopy() {
 	copy.tagBits |= UNROOTED;
 	copy.maxFieldCount = this.maxFieldCount;
 	if (this.extra != null) {
-		int length;
+		int length = this.extra[0].length;
+		// share the assignment rows until either side updates them
 		copy.extra = new long[extraLength][];
-		System.arraycopy(this.extra[0], 0,
-			(copy.extra[0] =
-				new long[length = this.extra[0].length]), 0, length);
-		System.arraycopy(this.extra[1], 0,
-			(copy.extra[1] = new long[length]), 0, length);
+		copy.extra[0] = this.extra[0];
+		copy.extra[1] = this.extra[1];
+		copy.extraShared = INITS_ROWS;
+		this.extraShared |= INITS_ROWS;
 		for (int j = 2; j < extraLength; j++) {
 			copy.extra[j] = new long[length];
 		}
@@ -2191,6 +2207,7 @@ public FlowInfo setReachMode(int reachMode) {
 			// see InitializationTest#test090 (and others)
 			this.potentialInits = 0;
 			if (this.extra != null) {
+				unshareExtra(INITS_ROWS);
 				for (int i = 0, length = this.extra[0].length;
 						i < length; i++) {
 					this.extra[1][i] = 0;
@@ -2371,6 +2388,7 @@ public UnconditionalFlowInfo mergeDefiniteInitsWith(UnconditionalFlowInfo otherI
 			}
 			else {
 				// current storage is longer
+				unshareExtra(INITS_ROWS);
 				for (; i < otherLength; i++) {
 					this.extra[0][i] &= otherInits.extra[0][i];
 				}
@@ -2379,6 +2397,7 @@ public UnconditionalFlowInfo mergeDefiniteInitsWith(UnconditionalFlowInfo otherI
 				}
 			}
 		} else {
+			unshareExtra(INITS_ROWS);
 			for (int i = 0; i < this.extra[0].length; i++) {
 				this.extra[0][i] = 0;
 			}
@@ -2410,6 +2429,7 @@ public void resetAssignmentInfo(int position) {
 			// use extra vector
 			int vectorIndex = (position / BitCacheSize) - 1;
 			if (this.extra == null || vectorIndex >= this.extra[0].length) return;	// variable doesnt exist in flow info
+			unshareExtra(INITS_ROWS);
 			long mask;
 			this.extra[0][vectorIndex] &=
 				(mask = ~(1L << (position % BitCacheSize)));
@@ -2423,6 +2443,7 @@ private void createExtraSpace(int length) {
 	for (int j = 0; j < extraLength; j++) {
 		this.extra[j] = new long[length];
 	}
+	this.extraShared = 0;
 	if ((this.tagBits & UNROOTED) != 0) {
 		Arrays.fill(this.extra[IN], -1L);
 		Arrays.fill(this.extra[INN], -1L);
@@ -2437,6 +2458,7 @@ public void growSpace(int newLength, int copyStart, int copyLength) {
 			(this.extra[j] = new long[newLength]), copyStart,
 			copyLength);
 	}
+	this.extraShared = 0;
 	if ((this.tagBits & UNROOTED) != 0) {
 		Arrays.fill(this.extra[IN], copyStart+copyLength, newLength, -1);
 		Arrays.fill(this.extra[INN], copyStart+copyLength, newLength, -1);
@@ -2445,12 +2467,32 @@ public void growSpace(int newLength, int copyStart, int copyLength) {
 	}
 }
 
+/**
+ * Copy the given rows of extra which this flow info may share with a copy,
+ * before they get updated. Rows are shared by {@link #copy()}, so that copies
+ * only pay for the rows they actually change.
+ * @param rows a mask of the rows of extra, bit j standing for extra[j]
+ */
+private void unshareExtra(int rows) {
+	int shared = this.extraShared & rows;
+	if (shared == 0) {
+		return;
+	}
+	for (int j = 0; j < extraLength; j++) {
+		if ((shared & (1 << j)) != 0) {
+			this.extra[j] = this.extra[j].clone();
+		}
+	}
+	this.extraShared &= ~shared;
+}
+
 public void acceptAllIncomingNullness() {
 	this.iNBit = -1L;
 	this.iNNBit = -1L;
 	this.iDefNBit = -1L;
 	this.iDefNNBit = -1L;
 	if (this.extra != null) {
+		unshareExtra(INCOMING_ROWS);
 		Arrays.fill(this.extra[IN], -1L);
 		Arrays.fill(this.extra[INN], -1L);
 		Arrays.fill(this.extra[DEFIN], -1L);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,16 @@ public class CompilerStats implements Comparable {
 	public long analyzeTime;
 	public long generateTime;
 
+	// parallel method body parsing (part of parseTime)
+	public int parseWorkers;
+	public long parallelParseTime;
+	public long parseWorkerTime;
+
+	// compilation result cache (lookups and stores, not part of the compile phases)
+	public int resultCacheHits;
+	public int resultCacheMisses;
+	public long resultCacheTime;
+
 /**
  * Returns the total elapsed time (between start and end)
  * @return the time spent between start and end
@@ -36,6 +46,17 @@ public long elapsedTime() {
 	return this.overallTime;
 }
 
+/**
+ * Returns the speedup of the parallel method body parsing, i.e. the time the workers spent parsing
+ * divided by the elapsed time of the parallel parsing
+ * @return the speedup of the parallel parsing, or 1 if no parallel parsing was done
+ */
+public double parallelParseSpeedup() {
+	if (this.parallelParseTime == 0)
+		return 1;
+	return (double) this.parseWorkerTime / this.parallelParseTime;
+}
+
 @Override
 public int compareTo(Object o) {
 	CompilerStats otherStats = (CompilerStats) o;
@@ -1368,7 +1368,7 @@ public MethodBinding getExactConstructor(TypeBinding[] argumentTypes) {
 	}
 	int argCount = argumentTypes.length;
 	long range;
-	if ((range = ReferenceBinding.binarySearch(TypeConstants.INIT, this.methods)) >= 0) {
+	if ((range = methodRange(TypeConstants.INIT, this.methods)) >= 0) {
 		nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 			MethodBinding method = this.methods[imethod];
 			if (method.parameters.length == argCount) {
@@ -1405,7 +1405,7 @@ public MethodBinding getExactMethod(char[] selector, TypeBinding[] argumentTypes
 	boolean foundNothing = true;
 
 	long range;
-	if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+	if ((range = methodRange(selector, this.methods)) >= 0) {
 		nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 			MethodBinding method = this.methods[imethod];
 			foundNothing = false; // inner type lookups must know that a method with this name exists
@@ -1449,7 +1449,7 @@ public FieldBinding getField(char[] fieldName, boolean needResolve) {
 			ReferenceBinding.sortFields(this.fields, 0, length);
 		this.tagBits |= TagBits.AreFieldsSorted;
 	}
-	FieldBinding field = ReferenceBinding.binarySearch(fieldName, this.fields);
+	FieldBinding field = fieldNamed(fieldName, this.fields);
 	return needResolve && field != null ? resolveTypeFor(field) : field;
 }
 
@@ -1505,7 +1505,7 @@ public MethodBinding[] getMethods(char[] selector) {
 
 	if ((this.tagBits & TagBits.AreMethodsComplete) != 0) {
 		long range;
-		if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+		if ((range = methodRange(selector, this.methods)) >= 0) {
 			int start = (int) range, end = (int) (range >> 32);
 			int length = end - start + 1;
 			if ((this.tagBits & TagBits.AreMethodsComplete) != 0) {
@@ -1525,7 +1525,7 @@ public MethodBinding[] getMethods(char[] selector) {
 		this.tagBits |= TagBits.AreMethodsSorted;
 	}
 	long range;
-	if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+	if ((range = methodRange(selector, this.methods)) >= 0) {
 		int start = (int) range, end = (int) (range >> 32);
 		int length = end - start + 1;
 		MethodBinding[] result = new MethodBinding[length];
@@ -1554,7 +1554,7 @@ public MethodBinding[] getMethods(char[] selector, int suggestedParameterLength)
 		this.tagBits |= TagBits.AreMethodsSorted;
 	}
 	long range;
-	if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+	if ((range = methodRange(selector, this.methods)) >= 0) {
 		int start = (int) range, end = (int) (range >> 32);
 		int length = end - start + 1;
 		int count = 0;
@@ -51,6 +51,11 @@ class BoundSet {
 	 * For a given inference variable this structure holds all type bounds
 	 * with a relation in { SUPERTYPE, SAME, SUBTYPE }.
 	 * These are internally stored in three sets, one for each of the relations.
+	 * <p>
+	 * A copy of a bound set shares the instances of its original, which are then
+	 * {@link #shared} and no longer modified: a bound set adding a bound for a
+	 * variable first replaces a shared instance with a private copy.
+	 * </p>
 	 */
 	private static class ThreeSets {
 		Set<TypeBound> superBounds;
@@ -58,6 +63,8 @@ class BoundSet {
 		Set<TypeBound> subBounds;
 		TypeBinding	instantiation;
 		Set<InferenceVariable> dependencies;
+		/** Whether this instance is used by more than one bound set. */
+		boolean shared;
 		public ThreeSets() {
 			// empty, the sets are lazily initialized
 		}
@@ -73,6 +80,15 @@ class BoundSet {
 			}
 			return result;
 		}
+		public boolean contains(TypeBound bound) {
+			Set<TypeBound> bounds = switch (bound.relation) {
+				case ReductionResult.SUPERTYPE -> this.superBounds;
+				case ReductionResult.SAME -> this.sameBounds;
+				case ReductionResult.SUBTYPE -> this.subBounds;
+				default -> null;
+			};
+			return bounds != null && bounds.contains(bound);
+		}
 		private boolean addBound1(TypeBound bound) {
 			switch (bound.relation) {
 				case ReductionResult.SUPERTYPE:
@@ -359,9 +375,10 @@ class BoundSet {
 	public BoundSet copy() {
 		BoundSet copy = new BoundSet();
 		if (!this.boundsPerVariable.isEmpty()) {
-			for (Entry<InferenceVariable, ThreeSets> entry : this.boundsPerVariable.entrySet()) {
-				copy.boundsPerVariable.put(entry.getKey(), entry.getValue().copy());
-			}
+			// copy on write, see ThreeSets
+			for (ThreeSets three : this.boundsPerVariable.values())
+				three.shared = true;
+			copy.boundsPerVariable.putAll(this.boundsPerVariable);
 		}
 		copy.inThrows.addAll(this.inThrows);
 		copy.captures.putAll(this.captures);
@@ -404,8 +421,9 @@ class BoundSet {
 
 		InferenceVariable variable = bound.left.prototype();
 		ThreeSets three = this.boundsPerVariable.get(variable);
-		if (three == null)
-			this.boundsPerVariable.put(variable, (three = new ThreeSets()));
+		if (three != null && three.shared && three.contains(bound))
+			return; // not worth a private copy
+		three = threeSetsForUpdate(variable);
 		if (three.addBound(bound)) {
 			if (InferenceContext18.DEBUG) {
 				System.out.println("Added "+bound); //$NON-NLS-1$
@@ -428,13 +446,22 @@ class BoundSet {
 				};
 				if (relation != -1) {
 					InferenceVariable rightIV = (InferenceVariable) bound.right.prototype();
-					three = this.boundsPerVariable.computeIfAbsent(rightIV, k -> new ThreeSets());
-					three.addBound(new TypeBound(rightIV, bound.left, relation, bound.isSoft));
+					threeSetsForUpdate(rightIV).addBound(new TypeBound(rightIV, bound.left, relation, bound.isSoft));
 				}
 			}
 		}
 	}
 
+	/** Answer the bounds of the given variable that this bound set may modify, creating them if needed. */
+	private ThreeSets threeSetsForUpdate(InferenceVariable variable) {
+		ThreeSets three = this.boundsPerVariable.get(variable);
+		if (three == null)
+			this.boundsPerVariable.put(variable, (three = new ThreeSets()));
+		else if (three.shared)
+			this.boundsPerVariable.put(variable, (three = three.copy())); // keeps the order of the variables
+		return three;
+	}
+
 	private boolean addBounds(TypeBound[] newBounds, LookupEnvironment environment) {
 		boolean hasProperBound = false;
 		for (TypeBound newBound : newBounds) {
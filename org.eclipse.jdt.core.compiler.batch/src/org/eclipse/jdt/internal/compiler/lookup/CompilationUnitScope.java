@@ -59,6 +59,7 @@ public class CompilationUnitScope extends Scope {
 	private SortedCompoundNameVector qualifiedReferences;
 	private SortedSimpleNameVector simpleNameReferences;
 	private SortedSimpleNameVector rootReferences;
+	private SortedSimpleNameVector memberNameReferences;
 	private LinkedHashSet<ReferenceBindingSetWrapper> referencedTypes;
 	private Set<ReferenceBindingSetWrapper> referencedSuperTypesSet;
 	private ObjectVector referencedSuperTypes;
@@ -95,6 +96,7 @@ public CompilationUnitScope(CompilationUnitDeclaration unit, CompilerOptions com
 		this.qualifiedReferences = new SortedCompoundNameVector();
 		this.simpleNameReferences = new SortedSimpleNameVector();
 		this.rootReferences = new SortedSimpleNameVector();
+		this.memberNameReferences = new SortedSimpleNameVector();
 		this.referencedTypes = new LinkedHashSet<>();
 		this.referencedSuperTypesSet = new HashSet<>();
 		this.referencedSuperTypes = new ObjectVector();
@@ -102,6 +104,7 @@ public CompilationUnitScope(CompilationUnitDeclaration unit, CompilerOptions com
 		this.qualifiedReferences = null; // used to test if dependencies should be recorded
 		this.simpleNameReferences = null;
 		this.rootReferences = null;
+		this.memberNameReferences = null;
 		this.referencedTypes = null;
 		this.referencedSuperTypesSet = null;
 		this.referencedSuperTypes = null;
@@ -691,6 +694,7 @@ private Binding findSingleStaticImport(char[][] compoundName, int mask) {
 	if (!binding.isValidBinding()) return binding;
 
 	char[] name = compoundName[compoundName.length - 1];
+	recordMemberReference(name);
 	if (binding instanceof PackageBinding) {
 		Binding temp = ((PackageBinding) binding).getTypeOrPackage(name, module(), false);
 		if (temp != null && temp instanceof ReferenceBinding) // must resolve to a member type or field, not a top level type
@@ -887,6 +891,16 @@ void recordReference(ReferenceBinding type, char[] simpleName) {
 	if (actualType != null)
 		recordReference(actualType.compoundName, simpleName);
 }
+/*
+Member names are recorded separately from the type names: the name of every field and method looked up, whatever
+its receiver, and the names of the fields and methods declared or inherited by the types of the unit. A change
+confined to the fields or methods of a class only affects its dependents which use the name of a changed member.
+*/
+public void recordMemberReference(char[] name) {
+	if (this.memberNameReferences == null) return; // not recording dependencies
+
+	this.memberNameReferences.add(name);
+}
 void recordRootReference(char[] simpleName) {
 	if (this.rootReferences == null) return; // not recording dependencies
 
@@ -993,6 +1007,12 @@ public void storeDependencyInfo() {
 	for (int i = 0; i < size; i++)
 		rootRefs[i] = this.rootReferences.elementAt(i);
 	this.referenceContext.compilationResult.rootReferences = rootRefs;
+
+	size = this.memberNameReferences.size;
+	char[][] memberRefs = new char[size][];
+	for (int i = 0; i < size; i++)
+		memberRefs[i] = this.memberNameReferences.elementAt(i);
+	this.referenceContext.compilationResult.memberNameReferences = memberRefs;
 }
 @Override
 public String toString() {
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.lookup;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jdt.internal.compiler.ast.ConditionalExpression;
+import org.eclipse.jdt.internal.compiler.ast.Expression;
+import org.eclipse.jdt.internal.compiler.ast.ExpressionContext;
+import org.eclipse.jdt.internal.compiler.ast.FunctionalExpression;
+import org.eclipse.jdt.internal.compiler.ast.Invocation;
+import org.eclipse.jdt.internal.compiler.ast.MessageSend;
+import org.eclipse.jdt.internal.compiler.ast.SwitchExpression;
+import org.eclipse.jdt.internal.compiler.ast.Wildcard;
+import org.eclipse.jdt.internal.compiler.impl.Constant;
+
+/**
+ * Results of the type inference of generic method invocations (JLS 18.5.1 and 18.5.2), remembered by a
+ * {@link LookupEnvironment} so that an invocation of the same method with the same argument types and target type is
+ * not inferred again. Enabled by the <code>jdt.compiler.inferenceCache</code> system property.
+ * <p>
+ * Only the invocations whose inference depends on nothing but these types are cached: message sends outside of an
+ * invocation context and outside of any other inference, whose arguments are standalone expressions of proper types,
+ * and whose inference completes with a proper target type, without unchecked conversion nor problem. Types mentioning
+ * captures, inference variables, missing types or type annotations are never part of a key nor of a result, as they
+ * belong to the site they were created for. A failed applicability inference is remembered as well, as it is the
+ * common outcome of overload resolution.
+ * </p>
+ * <p>
+ * The bindings being unique in an environment, keys compare them by identity. The cache is dropped with the bindings
+ * when the environment is reset.
+ * </p>
+ */
+public class InferenceCache {
+
+	/** Entries beyond which results are no longer added */
+	private static final int MAX_ENTRIES = 100_000;
+	/** Nesting of type arguments beyond which a type is not considered */
+	private static final int MAX_DEPTH = 8;
+
+	static final class Key {
+		final MethodBinding method;
+		final TypeBinding[] arguments;
+		final TypeBinding targetType;
+		final int flags;
+		private final int hashCode;
+
+		Key(MethodBinding method, TypeBinding[] arguments, TypeBinding targetType, int flags) {
+			this.method = method;
+			this.arguments = arguments;
+			this.targetType = targetType;
+			this.flags = flags;
+			int hash = 31 * System.identityHashCode(method) + System.identityHashCode(targetType) + flags;
+			for (TypeBinding argument : arguments)
+				hash = 31 * hash + System.identityHashCode(argument);
+			this.hashCode = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			if (this.method != other.method || this.targetType != other.targetType || this.flags != other.flags //$IDENTITY-COMPARISON$
+					|| this.arguments.length != other.arguments.length)
+				return false;
+			for (int i = 0; i < this.arguments.length; i++) {
+				if (this.arguments[i] != other.arguments[i]) //$IDENTITY-COMPARISON$
+					return false;
+			}
+			return true;
+		}
+	}
+
+	static final class Result {
+		/** Inferred method, null if the method is not applicable */
+		final ParameterizedGenericMethodBinding method;
+		final int inferenceKind;
+
+		Result(ParameterizedGenericMethodBinding method, int inferenceKind) {
+			this.method = method;
+			this.inferenceKind = inferenceKind;
+		}
+	}
+
+	private final Map<Key, Result> results = new HashMap<>();
+	private long hits;
+	private long misses;
+
+	/**
+	 * Answers a new cache if enabled by the <code>jdt.compiler.inferenceCache</code> system property, null otherwise.
+	 */
+	public static InferenceCache fromSystemProperties() {
+		return Boolean.getBoolean("jdt.compiler.inferenceCache") ? new InferenceCache() : null; //$NON-NLS-1$
+	}
+
+	/**
+	 * Answers the key of the inference of the given method for the given site, or null if its result cannot be
+	 * cached.
+	 *
+	 * @param arguments the types of the arguments of the invocation, as given to the inference
+	 */
+	Key keyFor(MethodBinding method, TypeBinding[] arguments, InvocationSite site) {
+		if (!(site instanceof MessageSend))
+			return null;
+		MessageSend messageSend = (MessageSend) site;
+		ExpressionContext context = messageSend.getExpressionContext();
+		if (context == ExpressionContext.INVOCATION_CONTEXT)
+			return null; // inferred along with the enclosing invocation
+		Expression[] expressions = messageSend.arguments;
+		int length = expressions == null ? 0 : expressions.length;
+		if (length != arguments.length)
+			return null;
+		for (int i = 0; i < length; i++) {
+			if (expressions[i].resolvedType != arguments[i] || !isCacheable(arguments[i], 0) //$IDENTITY-COMPARISON$
+					|| !isStandalone(expressions[i]))
+				return null;
+		}
+		TypeBinding targetType = messageSend.invocationTargetType();
+		if (targetType != null && !isCacheable(targetType, 0))
+			return null;
+		int flags = context.ordinal() << 1 | (messageSend.isPolyExpression(method) ? 1 : 0);
+		return new Key(method, arguments.clone(), targetType, flags);
+	}
+
+	/**
+	 * Answers whether the compatibility of the given argument with a parameter only depends on its type.
+	 */
+	private static boolean isStandalone(Expression argument) {
+		if (argument instanceof FunctionalExpression || argument instanceof ConditionalExpression
+				|| argument instanceof SwitchExpression)
+			return false;
+		if (argument instanceof Invocation) {
+			MethodBinding binding = ((Invocation) argument).binding();
+			if (binding == null || binding instanceof ParameterizedGenericMethodBinding)
+				return false; // may be a poly expression
+		}
+		if (argument.resolvedType.isBaseType() && argument.constant != Constant.NotAConstant)
+			return false; // boxing of a constant depends on its value
+		// as ConstraintExpressionFormula.canBePolyExpression(Expression)
+		ExpressionContext previousExpressionContext = argument.getExpressionContext();
+		if (previousExpressionContext == ExpressionContext.VANILLA_CONTEXT)
+			argument.setExpressionContext(ExpressionContext.ASSIGNMENT_CONTEXT);
+		try {
+			return !argument.isPolyExpression();
+		} finally {
+			argument.setExpressionContext(previousExpressionContext);
+		}
+	}
+
+	/**
+	 * Answers whether the given type is the same in every site it appears in.
+	 */
+	static boolean isCacheable(TypeBinding type, int depth) {
+		if (type == null || depth > MAX_DEPTH || !type.isValidBinding() || type.hasTypeAnnotations()
+				|| (type.tagBits & TagBits.HasMissingType) != 0)
+			return false;
+		switch (type.kind()) {
+			case Binding.BASE_TYPE:
+				return true;
+			case Binding.TYPE:
+			case Binding.GENERIC_TYPE:
+			case Binding.RAW_TYPE:
+				return !(type instanceof UnresolvedReferenceBinding);
+			case Binding.TYPE_PARAMETER:
+				return !(type instanceof CaptureBinding) && !(type instanceof InferenceVariable);
+			case Binding.PARAMETERIZED_TYPE:
+				ParameterizedTypeBinding parameterizedType = (ParameterizedTypeBinding) type;
+				ReferenceBinding enclosingType = parameterizedType.enclosingType();
+				if (enclosingType != null && !isCacheable(enclosingType, depth + 1))
+					return false;
+				return areCacheable(parameterizedType.arguments, depth + 1);
+			case Binding.ARRAY_TYPE:
+				return isCacheable(((ArrayBinding) type).leafComponentType, depth + 1);
+			case Binding.WILDCARD_TYPE:
+			case Binding.INTERSECTION_TYPE:
+				WildcardBinding wildcard = (WildcardBinding) type;
+				if (wildcard.boundKind == Wildcard.UNBOUND)
+					return true;
+				return isCacheable(wildcard.bound, depth + 1) && areCacheable(wildcard.otherBounds, depth + 1);
+			case Binding.INTERSECTION_TYPE18:
+				return areCacheable(((IntersectionTypeBinding18) type).intersectingTypes, depth + 1);
+			default:
+				return false;
+		}
+	}
+
+	private static boolean areCacheable(TypeBinding[] types, int depth) {
+		if (types != null) {
+			for (TypeBinding type : types) {
+				if (!isCacheable(type, depth))
+					return false;
+			}
+		}
+		return true;
+	}
+
+	Result get(Key key) {
+		Result result = this.results.get(key);
+		if (result == null)
+			this.misses++;
+		else
+			this.hits++;
+		return result;
+	}
+
+	void putInapplicable(Key key) {
+		if (this.results.size() < MAX_ENTRIES)
+			this.results.put(key, new Result(null, InferenceContext18.CHECK_UNKNOWN));
+	}
+
+	void put(Key key, ParameterizedGenericMethodBinding method, int inferenceKind) {
+		if (this.results.size() < MAX_ENTRIES && areCacheable(method.typeArguments, 0))
+			this.results.put(key, new Result(method, inferenceKind));
+	}
+
+	void clear() {
+		this.results.clear();
+	}
+
+	/** Answers the number of inferences answered from the cache. */
+	public long getHits() {
+		return this.hits;
+	}
+
+	/** Answers the number of cacheable inferences that were not in the cache. */
+	public long getMisses() {
+		return this.misses;
+	}
+
+	/** Answers the number of cached results. */
+	public int size() {
+		return this.results.size();
+	}
+
+	@Override
+	public String toString() {
+		return "Inference cache: " + this.hits + " hits, " + this.misses + " misses, " + size() + " entries"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
@@ -52,6 +52,7 @@ import java.util.function.Supplier;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.compiler.ClassFile;
 import org.eclipse.jdt.internal.compiler.ClassFilePool;
+import org.eclipse.jdt.internal.compiler.ICompilerEventListener;
 import org.eclipse.jdt.internal.compiler.ast.ASTNode;
 import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
 import org.eclipse.jdt.internal.compiler.ast.Location;
@@ -95,6 +96,7 @@ public class LookupEnvironment implements ProblemReasons, TypeConstants {
 	/** All visible toplevel packages, i.e. observable packages associated with modules read by the current module. */
 	HashtableOfPackage<PackageBinding> knownPackages;
 	private int lastCompletedUnitIndex = -1; 	// ROOT_ONLY
+	public ICompilerEventListener eventListener;	// ROOT_ONLY, notified of the type lookups (null: none)
 	private int lastUnitIndex = -1; 			// ROOT_ONLY
 
 	TypeSystem typeSystem;					 	// SHARED
@@ -140,6 +142,8 @@ public class LookupEnvironment implements ProblemReasons, TypeConstants {
 
 	/** Global access to the outermost active inference context as the universe for inference variable interning. */
 	InferenceContext18 currentInferenceContext;
+	/** Results of closed inferences, null unless enabled. */
+	final InferenceCache inferenceCache; // SHARED
 
 	/**
 	 * Flag that should be set during annotation traversal or similar runs
@@ -256,6 +260,7 @@ public LookupEnvironment(ITypeRequestor typeRequestor, CompilerOptions globalOpt
 	this.knownModules = new HashtableOfModule();
 	this.useModuleSystem = nameEnvironment instanceof IModuleAwareNameEnvironment && globalOptions.complianceLevel >= ClassFileConstants.JDK9;
 	this.resolutionListeners = new IQualifiedTypeResolutionListener[0];
+	this.inferenceCache = InferenceCache.fromSystemProperties();
 }
 
 /** Construct a specific LookupEnvironment, corresponding to the given module. */
@@ -280,6 +285,7 @@ LookupEnvironment(LookupEnvironment rootEnv, ModuleBinding module) {
 	this.typeSystem = rootEnv.typeSystem;
 	// knownModules is unused in specific LookupEnvironments
 	this.useModuleSystem = rootEnv.useModuleSystem;
+	this.inferenceCache = rootEnv.inferenceCache;
 }
 
 // NOTE: only for resolving!
@@ -308,6 +314,18 @@ public ModuleBinding getModule(char[] name) {
  */
 
 public ReferenceBinding askForType(char[][] compoundName, /*@NonNull*/ModuleBinding clientModule) {
+	ICompilerEventListener listener = this.root.eventListener;
+	if (listener == null)
+		return askForType0(compoundName, clientModule);
+	long start = System.nanoTime();
+	try {
+		return askForType0(compoundName, clientModule);
+	} finally {
+		listener.event(ICompilerEventListener.Phase.LOOKUP, CharOperation.concatWith(compoundName, '/'), start, System.nanoTime() - start);
+	}
+}
+
+private ReferenceBinding askForType0(char[][] compoundName, ModuleBinding clientModule) {
 	assert clientModule != null : "lookup needs a module"; //$NON-NLS-1$
 	NameEnvironmentAnswer[] answers = null;
 	if (this.useModuleSystem) {
@@ -371,6 +389,19 @@ public ReferenceBinding askForType(char[][] compoundName, /*@NonNull*/ModuleBind
 * Answer null if the name cannot be found.
 */
 ReferenceBinding askForType(PackageBinding packageBinding, char[] name, ModuleBinding clientModule) {
+	ICompilerEventListener listener = this.root.eventListener;
+	if (listener == null)
+		return askForType0(packageBinding, name, clientModule);
+	long start = System.nanoTime();
+	try {
+		return askForType0(packageBinding, name, clientModule);
+	} finally {
+		char[][] packageName = packageBinding == null ? CharOperation.NO_CHAR_CHAR : packageBinding.compoundName;
+		listener.event(ICompilerEventListener.Phase.LOOKUP, CharOperation.concatWith(packageName, name, '/'), start, System.nanoTime() - start);
+	}
+}
+
+private ReferenceBinding askForType0(PackageBinding packageBinding, char[] name, ModuleBinding clientModule) {
 	assert clientModule != null : "lookup needs a module"; //$NON-NLS-1$
 	if (packageBinding == null) {
 		packageBinding = this.defaultPackage;
@@ -2381,6 +2412,13 @@ public void releaseClassFiles(org.eclipse.jdt.internal.compiler.ClassFile[] clas
 		this.classFilePool.release(classFile);
 }
 
+/**
+ * Answers the cache of the inference results of this environment, or null if not enabled.
+ */
+public InferenceCache getInferenceCache() {
+	return this.inferenceCache;
+}
+
 public void reset() {
 	if (this.root != this) {
 		this.root.reset();
@@ -2405,6 +2443,8 @@ public void reset() {
 	this.uniqueGetClassMethodBinding = null;
 	this.missingTypes = null;
 	this.typesBeingConnected.clear();
+	if (this.inferenceCache != null)
+		this.inferenceCache.clear();
 
 	for (int i = this.units.length; --i >= 0;)
 		this.units[i] = null;
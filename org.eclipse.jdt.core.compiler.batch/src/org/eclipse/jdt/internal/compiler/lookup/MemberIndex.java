@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.lookup;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+
+/**
+ * Hash index of the methods or fields of a type, sorted by name as done by {@link ReferenceBinding#sortMethods} and
+ * {@link ReferenceBinding#sortFields}, answering the same ranges as {@link ReferenceBinding#binarySearch}.
+ * <p>
+ * An index describes the array it was built from, and is replaced by its type when the members of that type are
+ * replaced, which is how source types under construction change their members. It is only worth building for types
+ * with many members, like generated code, as a binary search is as fast for the others.
+ * </p>
+ */
+final class MemberIndex {
+
+	/** Number of members from which a type indexes them */
+	static final int THRESHOLD = 64;
+
+	/** The indexed members */
+	final Object[] members;
+	private final char[][] names;
+	private final long[] ranges;
+
+	private MemberIndex(Object[] members, char[][] sortedNames) {
+		this.members = members;
+		int length = sortedNames.length;
+		int size = Integer.highestOneBit(Math.max(length, 2) * 2 - 1) << 1; // load factor below 0.5
+		this.names = new char[size][];
+		this.ranges = new long[size];
+		int mask = size - 1;
+		for (int start = 0, end; start < length; start = end + 1) {
+			char[] name = sortedNames[start];
+			end = start;
+			while (end + 1 < length && CharOperation.equals(sortedNames[end + 1], name))
+				end++;
+			int index = CharOperation.hashCode(name) & mask;
+			while (this.names[index] != null)
+				index = (index + 1) & mask;
+			this.names[index] = name;
+			this.ranges[index] = start + ((long) end << 32);
+		}
+	}
+
+	static MemberIndex of(MethodBinding[] sortedMethods) {
+		char[][] selectors = new char[sortedMethods.length][];
+		for (int i = 0; i < selectors.length; i++)
+			selectors[i] = sortedMethods[i].selector;
+		return new MemberIndex(sortedMethods, selectors);
+	}
+
+	static MemberIndex of(FieldBinding[] sortedFields) {
+		char[][] names = new char[sortedFields.length][];
+		for (int i = 0; i < names.length; i++)
+			names[i] = sortedFields[i].name;
+		return new MemberIndex(sortedFields, names);
+	}
+
+	/**
+	 * Answers the range of the members with the given name, as {@code (start + (end<<32))}, or -1 if there is none.
+	 */
+	long rangeOf(char[] name) {
+		int mask = this.names.length - 1;
+		int index = CharOperation.hashCode(name) & mask;
+		char[] current;
+		while ((current = this.names[index]) != null) {
+			if (CharOperation.equals(current, name))
+				return this.ranges[index];
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+}
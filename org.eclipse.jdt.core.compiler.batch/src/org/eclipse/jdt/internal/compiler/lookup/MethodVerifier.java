@@ -1010,11 +1010,26 @@ ReferenceBinding[] resolvedExceptionTypesFor(MethodBinding method) {
 void verify() {
 	computeMethods();
 	computeInheritedMethods();
+	recordMemberReferences();
 	checkMethods();
 	if (this.type.isClass())
 		checkForMissingHashCodeMethod();
 }
 
+// a change to a member of a supertype can change the problems of the type if it declares or inherits another member
+// of the same name, even if it never uses it
+void recordMemberReferences() {
+	if (this.type.scope == null) return;
+	CompilationUnitScope unitScope = this.type.scope.compilationUnitScope();
+	for (char[] selector : this.currentMethods.keyTable)
+		if (selector != null)
+			unitScope.recordMemberReference(selector);
+	for (char[] selector : this.inheritedMethods.keyTable)
+		if (selector != null)
+			unitScope.recordMemberReference(selector);
+	for (FieldBinding field : this.type.fields())
+		unitScope.recordMemberReference(field.name);
+}
 void verify(SourceTypeBinding someType) {
 	if (this.type == null) {
 		try {
@@ -29,6 +29,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.lookup;
 
+import org.eclipse.jdt.internal.compiler.ICompilerEventListener;
 import org.eclipse.jdt.internal.compiler.ast.ASTNode;
 import org.eclipse.jdt.internal.compiler.ast.Expression;
 import org.eclipse.jdt.internal.compiler.ast.Invocation;
@@ -132,6 +133,18 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 	}
 
 	public static MethodBinding computeCompatibleMethod18(MethodBinding originalMethod, TypeBinding[] arguments, final Scope scope, InvocationSite invocationSite) {
+		ICompilerEventListener listener = scope.environment().root.eventListener;
+		if (listener == null)
+			return inferCompatibleMethod18(originalMethod, arguments, scope, invocationSite);
+		long start = System.nanoTime();
+		try {
+			return inferCompatibleMethod18(originalMethod, arguments, scope, invocationSite);
+		} finally {
+			listener.event(ICompilerEventListener.Phase.INFERENCE, originalMethod.selector, start, System.nanoTime() - start);
+		}
+	}
+
+	private static MethodBinding inferCompatibleMethod18(MethodBinding originalMethod, TypeBinding[] arguments, final Scope scope, InvocationSite invocationSite) {
 
 		TypeVariableBinding[] typeVariables = originalMethod.typeVariables;
 		if (invocationSite.checkingPotentialCompatibility()) {
@@ -149,6 +162,18 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 		boolean requireBoxing = false;
 		boolean allArgumentsAreProper = true;
 
+		LookupEnvironment environment = scope.environment();
+		InferenceCache cache = environment.inferenceCache;
+		InferenceCache.Key cacheKey = null;
+		if (cache != null && environment.currentInferenceContext == null && !compilerOptions.isAnnotationBasedNullAnalysisEnabled) {
+			cacheKey = cache.keyFor(originalMethod, arguments, invocationSite);
+			if (cacheKey != null) {
+				InferenceCache.Result cached = cache.get(cacheKey);
+				if (cached != null)
+					return reuseInference(cached, infCtx18, arguments, scope, (Invocation) invocationSite);
+			}
+		}
+
 		// See if we should start in loose inference mode.
 		TypeBinding [] argumentsCopy = new TypeBinding[arguments.length];
 		for (int i = 0, length = arguments.length, parametersLength = parameters.length ; i < length; i++) {
@@ -164,7 +189,6 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 		}
 		arguments = argumentsCopy; // either way, this allows the engine to update arguments without harming the callers.
 
-		LookupEnvironment environment = scope.environment();
 		InferenceContext18 previousContext = environment.currentInferenceContext;
 		if (previousContext == null)
 			environment.currentInferenceContext = infCtx18;
@@ -201,13 +225,12 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 					System.out.println("Result=\n"+result); //$NON-NLS-1$
 				}
 			}
-			if (result == null)
-				return null;
-			if (infCtx18.isResolved(result)) {
-				infCtx18.stepCompleted = InferenceContext18.APPLICABILITY_INFERRED;
-			} else {
+			if (result == null || !infCtx18.isResolved(result)) {
+				if (cacheKey != null)
+					cache.putInapplicable(cacheKey);
 				return null;
 			}
+			infCtx18.stepCompleted = InferenceContext18.APPLICABILITY_INFERRED;
 			// Applicability succeeded, proceed to infer invocation type, if possible.
 			TypeBinding expectedType = invocationSite.invocationTargetType();
 			boolean hasReturnProblem = false;
@@ -258,6 +281,9 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 							if (compilerOptions.isAnnotationBasedNullAnalysisEnabled)
 								NullAnnotationMatching.checkForContradictions(methodSubstitute, invocationSite, scope);
 							methodSubstitute.boundCheck18(scope, arguments, invocationSite); // detect unchecked type arguments
+							if (cacheKey != null && infCtx18.missingType == null && !hasReturnProblem && !infCtx18.usesUncheckedConversion
+									&& !isInexactVarargsInference && !infCtx18.hasPrematureOverloadResolution() && methodSubstitute.isValidBinding())
+								cache.put(cacheKey, methodSubstitute, infCtx18.inferenceKind);
 						} else {
 							methodSubstitute = new PolyParameterizedGenericMethodBinding(methodSubstitute);
 							if (InferenceContext18.DEBUG) {
@@ -286,6 +312,25 @@ public class ParameterizedGenericMethodBinding extends ParameterizedMethodBindin
 		}
 	}
 
+	/**
+	 * Completes the inference of an invocation from the result of an identical inference: the fresh context of the
+	 * site is given the outcome of the cached one, and the site gets the same side effects as from a full inference.
+	 */
+	private static MethodBinding reuseInference(InferenceCache.Result cached, InferenceContext18 infCtx18, TypeBinding[] arguments, Scope scope, Invocation invocation) {
+		ParameterizedGenericMethodBinding methodSubstitute = cached.method;
+		if (methodSubstitute == null)
+			return null;
+		infCtx18.inferenceKind = cached.inferenceKind;
+		infCtx18.stepCompleted = InferenceContext18.TYPE_INFERRED_FINAL;
+		TypeBinding expectedType = invocation.invocationTargetType();
+		if (expectedType != null)
+			invocation.registerResult(expectedType, methodSubstitute);
+		InferenceContext18.updateInnerDiamonds(methodSubstitute, invocation.arguments());
+		methodSubstitute.boundCheck18(scope, arguments, invocation); // problems are reported against the site
+		invocation.registerInferenceContext(methodSubstitute, infCtx18);
+		return methodSubstitute;
+	}
+
 	void boundCheck18(Scope scope, TypeBinding[] arguments, InvocationSite site) {
 		Substitution substitution = this;
 		ParameterizedGenericMethodBinding methodSubstitute = this;
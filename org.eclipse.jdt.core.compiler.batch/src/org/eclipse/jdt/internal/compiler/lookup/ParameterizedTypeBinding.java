@@ -626,7 +626,7 @@ public class ParameterizedTypeBinding extends ReferenceBinding implements Substi
 
 		if ((this.tagBits & TagBits.AreMethodsComplete) != 0) { // have resolved all arg types & return type of the methods
 			long range;
-			if ((range = ReferenceBinding.binarySearch(TypeConstants.INIT, this.methods)) >= 0) {
+			if ((range = methodRange(TypeConstants.INIT, this.methods)) >= 0) {
 				nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 					MethodBinding method = this.methods[imethod];
 					if (method.parameters.length == argCount) {
@@ -668,7 +668,7 @@ public class ParameterizedTypeBinding extends ReferenceBinding implements Substi
 
 		if ((this.tagBits & TagBits.AreMethodsComplete) != 0) { // have resolved all arg types & return type of the methods
 			long range;
-			if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+			if ((range = methodRange(selector, this.methods)) >= 0) {
 				nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 					MethodBinding method = this.methods[imethod];
 					foundNothing = false; // inner type lookups must know that a method with this name exists
@@ -733,7 +733,7 @@ public class ParameterizedTypeBinding extends ReferenceBinding implements Substi
 				return null; // avoid useless, possibly premature resolving
 		}
 		fields(); // ensure fields have been initialized... must create all at once unlike methods
-		return ReferenceBinding.binarySearch(fieldName, this.fields);
+		return fieldNamed(fieldName, this.fields);
 	}
 
 	/**
@@ -743,7 +743,7 @@ public class ParameterizedTypeBinding extends ReferenceBinding implements Substi
 	public MethodBinding[] getMethods(char[] selector) {
 		if (this.methods != null) {
 			long range;
-			if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+			if ((range = methodRange(selector, this.methods)) >= 0) {
 				int start = (int) range;
 				int length = (int) (range >> 32) - start + 1;
 				// cannot optimize since some clients rely on clone array
@@ -96,6 +96,9 @@ abstract public class ReferenceBinding extends TypeBinding {
 	int typeBits; // additional bits characterizing this type
 	protected MethodBinding [] singleAbstractMethod;
 
+	private MemberIndex methodIndex; // lazily built for many methods, see methodRange(..)
+	private MemberIndex fieldIndex; // lazily built for many fields, see fieldNamed(..)
+
 	protected static final DysfunctionalInterfaceException DYSFUNCTIONAL_INTERFACE_EXCEPTION = new DysfunctionalInterfaceException("Not a functional interface"); //$NON-NLS-1$
 
 	public static final ReferenceBinding LUB_GENERIC = new ReferenceBinding() { /* used for lub computation */
@@ -210,6 +213,33 @@ public static long binarySearch(char[] selector, MethodBinding[] sortedMethods)
 	return -1;
 }
 
+/**
+ * Answers the same as {@link #binarySearch(char[], MethodBinding[])} for the sorted methods of this type, from an
+ * index built on first use if they are many. The index is rebuilt if the methods of this type are replaced.
+ */
+long methodRange(char[] selector, MethodBinding[] sortedMethods) {
+	if (sortedMethods == null || sortedMethods.length < MemberIndex.THRESHOLD)
+		return binarySearch(selector, sortedMethods);
+	MemberIndex index = this.methodIndex;
+	if (index == null || index.members != sortedMethods)
+		this.methodIndex = index = MemberIndex.of(sortedMethods);
+	return index.rangeOf(selector);
+}
+
+/**
+ * Answers the same as {@link #binarySearch(char[], FieldBinding[])} for the sorted fields of this type, from an
+ * index built on first use if they are many. The index is rebuilt if the fields of this type are replaced.
+ */
+FieldBinding fieldNamed(char[] name, FieldBinding[] sortedFields) {
+	if (sortedFields == null || sortedFields.length < MemberIndex.THRESHOLD)
+		return binarySearch(name, sortedFields);
+	MemberIndex index = this.fieldIndex;
+	if (index == null || index.members != sortedFields)
+		this.fieldIndex = index = MemberIndex.of(sortedFields);
+	long range = index.rangeOf(name);
+	return range < 0 ? null : sortedFields[(int) range];
+}
+
 /**
  * Compares two strings lexicographically.
  * The comparison is based on the Unicode value of each character in
@@ -1402,7 +1432,7 @@ boolean implementsMethod(MethodBinding method) {
 	while (type != null) {
 		MethodBinding[] methods = type.methods();
 		long range;
-		if ((range = ReferenceBinding.binarySearch(selector, methods)) >= 0) {
+		if ((range = type.methodRange(selector, methods)) >= 0) {
 			int start = (int) range, end = (int) (range >> 32);
 			for (int i = start; i <= end; i++) {
 				if (methods[i].areParametersEqual(method))
@@ -1245,7 +1245,7 @@ public MethodBinding getExactConstructor(TypeBinding[] argumentTypes) {
 	int argCount = argumentTypes.length;
 	if ((this.tagBits & TagBits.AreMethodsComplete) != 0) { // have resolved all arg types & return type of the methods
 		long range;
-		if ((range = ReferenceBinding.binarySearch(TypeConstants.INIT, this.methods)) >= 0) {
+		if ((range = methodRange(TypeConstants.INIT, this.methods)) >= 0) {
 			nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 				MethodBinding method = this.methods[imethod];
 				if (method.parameters.length == argCount) {
@@ -1266,7 +1266,7 @@ public MethodBinding getExactConstructor(TypeBinding[] argumentTypes) {
 			this.tagBits |= TagBits.AreMethodsSorted;
 		}
 		long range;
-		if ((range = ReferenceBinding.binarySearch(TypeConstants.INIT, this.methods)) >= 0) {
+		if ((range = methodRange(TypeConstants.INIT, this.methods)) >= 0) {
 			nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 				MethodBinding method = this.methods[imethod];
 				if (resolveTypesFor(method) == null || method.returnType == null) {
@@ -1303,7 +1303,7 @@ public MethodBinding getExactMethod(char[] selector, TypeBinding[] argumentTypes
 
 	if ((this.tagBits & TagBits.AreMethodsComplete) != 0) { // have resolved all arg types & return type of the methods
 		long range;
-		if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+		if ((range = methodRange(selector, this.methods)) >= 0) {
 			nextMethod: for (int imethod = (int)range, end = (int)(range >> 32); imethod <= end; imethod++) {
 				MethodBinding method = this.methods[imethod];
 				foundNothing = false; // inner type lookups must know that a method with this name exists
@@ -1326,7 +1326,7 @@ public MethodBinding getExactMethod(char[] selector, TypeBinding[] argumentTypes
 		}
 
 		long range;
-		if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+		if ((range = methodRange(selector, this.methods)) >= 0) {
 			// check unresolved method
 			int start = (int) range, end = (int) (range >> 32);
 			for (int imethod = start; imethod <= end; imethod++) {
@@ -1389,7 +1389,7 @@ public FieldBinding getField(char[] fieldName, boolean needResolve) {
 		return this.prototype.getField(fieldName, needResolve);
 
 	if ((this.tagBits & TagBits.AreFieldsComplete) != 0)
-		return ReferenceBinding.binarySearch(fieldName, this.fields);
+		return fieldNamed(fieldName, this.fields);
 
 	if (needResolve && (this.tagBits & TagBits.HasUnresolvedComponents) != 0)
 		components();
@@ -1402,7 +1402,7 @@ public FieldBinding getField(char[] fieldName, boolean needResolve) {
 		this.tagBits |= TagBits.AreFieldsSorted;
 	}
 	// always resolve anyway on source types
-	FieldBinding field = ReferenceBinding.binarySearch(fieldName, this.fields);
+	FieldBinding field = fieldNamed(fieldName, this.fields);
 	if (field != null) {
 		FieldBinding result = null;
 		try {
@@ -1437,7 +1437,7 @@ public MethodBinding[] getMethods(char[] selector) {
 
 	if ((this.tagBits & TagBits.AreMethodsComplete) != 0) {
 		long range;
-		if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+		if ((range = methodRange(selector, this.methods)) >= 0) {
 			int start = (int) range, end = (int) (range >> 32);
 			int length = end - start + 1;
 			MethodBinding[] result;
@@ -1460,7 +1460,7 @@ public MethodBinding[] getMethods(char[] selector) {
 	}
 	MethodBinding[] result;
 	long range;
-	if ((range = ReferenceBinding.binarySearch(selector, this.methods)) >= 0) {
+	if ((range = methodRange(selector, this.methods)) >= 0) {
 		int start = (int) range, end = (int) (range >> 32);
 		for (int i = start; i <= end; i++) {
 			MethodBinding method = this.methods[i];
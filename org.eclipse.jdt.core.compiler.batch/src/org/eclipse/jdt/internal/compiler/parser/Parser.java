@@ -40,6 +40,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.Runtime.Version;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -109,6 +111,8 @@ public class Parser implements ParserBasicInformation, ConflictedParser, Operato
 	public static char nasr[] = null;
 	public static char non_terminal_index[] = null;
 	private final static String READABLE_NAMES_FILE = "readableNames"; //$NON-NLS-1$
+	// all the tables, and the readable names, in a single resource read at once
+	private final static String TABLES_FILE = FILEPREFIX + ".rsc"; //$NON-NLS-1$
 
 	public static String readableName[] = null;
 
@@ -583,9 +587,40 @@ public class Parser implements ParserBasicInformation, ConflictedParser, Operato
 				newLhs,
 				tokens);
 
+		String[] files = new String[i + 1];
+		for (int f = 0; f < i; f++) {
+			files[f] = prefix + (f + 1) + ".rsc"; //$NON-NLS-1$
+		}
+		files[i] = READABLE_NAMES_FILE + ".props"; //$NON-NLS-1$
+		buildFileForTables(TABLES_FILE, files);
 
 		System.out.println(Messages.parser_moveFiles);
 	}
+	/*
+	 * Concatenates the given files, each preceded by its length, into the single resource read by initTables(),
+	 * then deletes them.
+	 */
+	private static void buildFileForTables(String filename, String[] files) {
+		try {
+			byte[][] contents = new byte[files.length][];
+			int length = 0;
+			for (int i = 0; i < files.length; i++) {
+				contents[i] = Files.readAllBytes(new File(files[i]).toPath());
+				length += 4 + contents[i].length;
+			}
+			ByteBuffer buffer = ByteBuffer.allocate(length);
+			for (byte[] content : contents) {
+				buffer.putInt(content.length);
+				buffer.put(content);
+			}
+			buildFileForTable(filename, buffer.array());
+			for (String file : files) {
+				Files.delete(new File(file).toPath());
+			}
+		} catch (IOException e) {
+			System.out.println(e.getMessage());
+		}
+	}
 	protected static int[] computeReverseTable(char[] newTerminalIndex, char[] newNonTerminalIndex, String[] newName) {
 		int[] newReverseTable = new int[newName.length];
 		for (int j = 0; j < newName.length; j++) {
@@ -620,46 +655,49 @@ public class Parser implements ParserBasicInformation, ConflictedParser, Operato
 	}
 	public final static void initTables() throws java.io.IOException {
 
-		final String prefix = FILEPREFIX;
-		int i = 0;
-		lhs = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		char[] chars = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		// the tables are stored in the order of their former parser<n>.rsc files, see buildFilesFromLPG(..)
+		ByteBuffer tables = ByteBuffer.wrap(readByteTable(TABLES_FILE));
+		lhs = readTable(tables);
+		char[] chars = readTable(tables);
 		check_table = new short[chars.length];
 		for (int c = chars.length; c-- > 0;) {
 			check_table[c] = (short) (chars[c] - 32768);
 		}
-		asb = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		asr = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		nasb = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		nasr = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		terminal_index = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		non_terminal_index = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		term_action = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-
-		scope_prefix = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_suffix = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_lhs = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_state_set = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_rhs = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_state = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		in_symb = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		asb = readTable(tables);
+		asr = readTable(tables);
+		nasb = readTable(tables);
+		nasr = readTable(tables);
+		terminal_index = readTable(tables);
+		non_terminal_index = readTable(tables);
+		term_action = readTable(tables);
 
-		rhs = readByteTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		term_check = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		scope_la = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		scope_prefix = readTable(tables);
+		scope_suffix = readTable(tables);
+		scope_lhs = readTable(tables);
+		scope_state_set = readTable(tables);
+		scope_rhs = readTable(tables);
+		scope_state = readTable(tables);
+		in_symb = readTable(tables);
 
-		name = readNameTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		rhs = readByteTable(tables);
+		term_check = readTable(tables);
+		scope_la = readTable(tables);
 
-		rules_compliance = readLongTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		name = readNameTable(tables);
 
-		readableName = readReadableNameTable(READABLE_NAMES_FILE + ".props"); //$NON-NLS-1$
+		rules_compliance = readLongTable(tables);
 
 		reverse_index = computeReverseTable(terminal_index, non_terminal_index, name);
 
-		recovery_templates_index = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
-		recovery_templates = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		recovery_templates_index = readTable(tables);
+		recovery_templates = readTable(tables);
 
-		statements_recovery_filter = readTable(prefix + (++i) + ".rsc"); //$NON-NLS-1$
+		statements_recovery_filter = readTable(tables);
+
+		readableName = readReadableNameTable(tables);
+
+		if (tables.hasRemaining())
+			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, TABLES_FILE));
 
 		base_action = lhs;
 	}
@@ -686,47 +724,34 @@ public class Parser implements ParserBasicInformation, ConflictedParser, Operato
 		}
 		return bytes;
 	}
-	protected static long[] readLongTable(String filename) throws java.io.IOException {
-
-		//files are located at Parser.class directory
-
-		byte[] bytes = null;
-		try (InputStream stream = Parser.class.getResourceAsStream(filename)){
-			if (stream == null) {
-				throw new java.io.IOException(Messages.bind(Messages.parser_missingFile, filename));
-			}
-			bytes = Util.getInputStreamAsByteArray(new BufferedInputStream(stream));
-		}
-
-		//minimal integrity check (even size expected)
-		int length = bytes.length;
-		if (length % 8 != 0)
-			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, filename));
-
-		// convert bytes into longs
-		long[] longs = new long[length / 8];
-		int i = 0;
-		int longIndex = 0;
-
-		while (true) {
-			longs[longIndex++] =
-			  (((long) (bytes[i++] & 0xFF)) << 56)
-			+ (((long) (bytes[i++] & 0xFF)) << 48)
-			+ (((long) (bytes[i++] & 0xFF)) << 40)
-			+ (((long) (bytes[i++] & 0xFF)) << 32)
-			+ (((long) (bytes[i++] & 0xFF)) << 24)
-			+ (((long) (bytes[i++] & 0xFF)) << 16)
-			+ (((long) (bytes[i++] & 0xFF)) << 8)
-			+ (bytes[i++] & 0xFF);
-
-			if (i == length)
-				break;
-		}
+	/*
+	 * Answers the bytes of the next table of the given tables, each table being preceded by its length.
+	 */
+	private static ByteBuffer nextTable(ByteBuffer tables, int unitSize) throws java.io.IOException {
+		if (tables.remaining() < 4)
+			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, TABLES_FILE));
+		int length = tables.getInt();
+		//minimal integrity check (whole number of units expected)
+		if (length < 0 || length > tables.remaining() || length % unitSize != 0)
+			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, TABLES_FILE));
+		ByteBuffer table = tables.slice(tables.position(), length);
+		tables.position(tables.position() + length);
+		return table;
+	}
+	protected static byte[] readByteTable(ByteBuffer tables) throws java.io.IOException {
+		ByteBuffer table = nextTable(tables, 1);
+		byte[] bytes = new byte[table.remaining()];
+		table.get(bytes);
+		return bytes;
+	}
+	protected static long[] readLongTable(ByteBuffer tables) throws java.io.IOException {
+		ByteBuffer table = nextTable(tables, 8);
+		long[] longs = new long[table.remaining() / 8];
+		table.asLongBuffer().get(longs);
 		return longs;
 	}
-
-	protected static String[] readNameTable(String filename) throws java.io.IOException {
-		char[] contents = readTable(filename);
+	protected static String[] readNameTable(ByteBuffer tables) throws java.io.IOException {
+		char[] contents = readTable(tables);
 		char[][] nameAsChar = CharOperation.splitOn('\n', contents);
 
 		String[] result = new String[nameAsChar.length + 1];
@@ -737,16 +762,12 @@ public class Parser implements ParserBasicInformation, ConflictedParser, Operato
 
 		return result;
 	}
-	protected static String[] readReadableNameTable(String filename){
+	protected static String[] readReadableNameTable(ByteBuffer tables) throws java.io.IOException {
 		String[] result = new String[name.length];
 
+		ByteBuffer table = nextTable(tables, 1);
 		Properties props = new Properties();
-		try (InputStream is = Parser.class.getResourceAsStream(filename)) {
-			props.load(is);
-		} catch (IOException e) {
-			result = name;
-			return result;
-		}
+		props.load(new java.io.ByteArrayInputStream(table.array(), table.arrayOffset(), table.remaining()));
 		System.arraycopy(name, 0, result, 0, NT_OFFSET + 1);
 		for (int i = NT_OFFSET; i < name.length; i++) {
 			String n = props.getProperty(name[i]);
@@ -758,33 +779,10 @@ public class Parser implements ParserBasicInformation, ConflictedParser, Operato
 		}
 		return result;
 	}
-	protected static char[] readTable(String filename) throws java.io.IOException {
-
-		//files are located at Parser.class directory
-
-		byte[] bytes = null;
-		try (InputStream stream = Parser.class.getResourceAsStream(filename)) {
-			if (stream == null) {
-				throw new java.io.IOException(Messages.bind(Messages.parser_missingFile, filename));
-			}
-			bytes = Util.getInputStreamAsByteArray(new BufferedInputStream(stream));
-		}
-
-		//minimal integrity check (even size expected)
-		int length = bytes.length;
-		if ((length & 1) != 0)
-			throw new java.io.IOException(Messages.bind(Messages.parser_corruptedFile, filename));
-
-		// convert bytes into chars
-		char[] chars = new char[length / 2];
-		int i = 0;
-		int charIndex = 0;
-
-		while (true) {
-			chars[charIndex++] = (char) (((bytes[i++] & 0xFF) << 8) + (bytes[i++] & 0xFF));
-			if (i == length)
-				break;
-		}
+	protected static char[] readTable(ByteBuffer tables) throws java.io.IOException {
+		ByteBuffer table = nextTable(tables, 2);
+		char[] chars = new char[table.remaining() / 2];
+		table.asCharBuffer().get(chars);
 		return chars;
 	}
 	public static int tAction(int state, int sym) {
@@ -210,6 +210,91 @@ public class Scanner {
 	public static final int HIGH_SURROGATE_MAX_VALUE = 0xDBFF;
 	public static final int LOW_SURROGATE_MAX_VALUE = 0xDFFF;
 
+	// keyword recognition: a perfect hash of the words which may not be identifiers, see keywordSlot(..)
+	private static final int MAX_KEYWORD_LENGTH = 12; // "synchronized"
+	private static final int KEYWORD_TABLE_SIZE = 128;
+	private static final int[] KEYWORD_ASSOCIATED_VALUES = {
+		98, 44, 65, 111, 126, 115, 53, 55, 17, 67, 65, 78, 88, // a..m
+		25, 87, 46, 75, 15, 90, 81, 96, 126, 94, 71, 100, 85 // n..z
+	};
+	private static final byte KEYWORD = 1; // always a keyword
+	private static final byte MODULE_KEYWORD = 2; // a keyword where the restricted module keywords are active
+	private static final byte CONTEXTUAL_KEYWORD = 3; // a keyword depending on the context, or with side effects
+	private static final char[][] KEYWORDS = new char[KEYWORD_TABLE_SIZE][];
+	private static final TerminalToken[] KEYWORD_TOKENS = new TerminalToken[KEYWORD_TABLE_SIZE];
+	private static final byte[] KEYWORD_KINDS = new byte[KEYWORD_TABLE_SIZE];
+	static {
+		addKeyword("abstract", TokenNameabstract, KEYWORD); //$NON-NLS-1$
+		addKeyword("assert", TokenNameassert, CONTEXTUAL_KEYWORD); //$NON-NLS-1$
+		addKeyword("boolean", TokenNameboolean, KEYWORD); //$NON-NLS-1$
+		addKeyword("break", TokenNamebreak, KEYWORD); //$NON-NLS-1$
+		addKeyword("byte", TokenNamebyte, KEYWORD); //$NON-NLS-1$
+		addKeyword("case", TokenNamecase, KEYWORD); //$NON-NLS-1$
+		addKeyword("catch", TokenNamecatch, KEYWORD); //$NON-NLS-1$
+		addKeyword("char", TokenNamechar, KEYWORD); //$NON-NLS-1$
+		addKeyword("class", TokenNameclass, KEYWORD); //$NON-NLS-1$
+		addKeyword("const", TokenNameconst, KEYWORD); //$NON-NLS-1$
+		addKeyword("continue", TokenNamecontinue, KEYWORD); //$NON-NLS-1$
+		addKeyword("default", TokenNamedefault, KEYWORD); //$NON-NLS-1$
+		addKeyword("do", TokenNamedo, KEYWORD); //$NON-NLS-1$
+		addKeyword("double", TokenNamedouble, KEYWORD); //$NON-NLS-1$
+		addKeyword("else", TokenNameelse, KEYWORD); //$NON-NLS-1$
+		addKeyword("enum", TokenNameenum, KEYWORD); //$NON-NLS-1$
+		addKeyword("exports", TokenNameexports, MODULE_KEYWORD); //$NON-NLS-1$
+		addKeyword("extends", TokenNameextends, KEYWORD); //$NON-NLS-1$
+		addKeyword("false", TokenNamefalse, KEYWORD); //$NON-NLS-1$
+		addKeyword("final", TokenNamefinal, KEYWORD); //$NON-NLS-1$
+		addKeyword("finally", TokenNamefinally, KEYWORD); //$NON-NLS-1$
+		addKeyword("float", TokenNamefloat, KEYWORD); //$NON-NLS-1$
+		addKeyword("for", TokenNamefor, KEYWORD); //$NON-NLS-1$
+		addKeyword("goto", TokenNamegoto, KEYWORD); //$NON-NLS-1$
+		addKeyword("if", TokenNameif, KEYWORD); //$NON-NLS-1$
+		addKeyword("implements", TokenNameimplements, KEYWORD); //$NON-NLS-1$
+		addKeyword("import", TokenNameimport, CONTEXTUAL_KEYWORD); //$NON-NLS-1$
+		addKeyword("instanceof", TokenNameinstanceof, KEYWORD); //$NON-NLS-1$
+		addKeyword("int", TokenNameint, KEYWORD); //$NON-NLS-1$
+		addKeyword("interface", TokenNameinterface, KEYWORD); //$NON-NLS-1$
+		addKeyword("long", TokenNamelong, KEYWORD); //$NON-NLS-1$
+		addKeyword("module", TokenNamemodule, MODULE_KEYWORD); //$NON-NLS-1$
+		addKeyword("native", TokenNamenative, KEYWORD); //$NON-NLS-1$
+		addKeyword("new", TokenNamenew, KEYWORD); //$NON-NLS-1$
+		addKeyword("non", TokenNamenon_sealed, CONTEXTUAL_KEYWORD); //$NON-NLS-1$
+		addKeyword("null", TokenNamenull, KEYWORD); //$NON-NLS-1$
+		addKeyword("open", TokenNameopen, MODULE_KEYWORD); //$NON-NLS-1$
+		addKeyword("opens", TokenNameopens, MODULE_KEYWORD); //$NON-NLS-1$
+		addKeyword("package", TokenNamepackage, KEYWORD); //$NON-NLS-1$
+		addKeyword("permits", TokenNameRestrictedIdentifierpermits, CONTEXTUAL_KEYWORD); //$NON-NLS-1$
+		addKeyword("private", TokenNameprivate, KEYWORD); //$NON-NLS-1$
+		addKeyword("protected", TokenNameprotected, KEYWORD); //$NON-NLS-1$
+		addKeyword("provides", TokenNameprovides, MODULE_KEYWORD); //$NON-NLS-1$
+		addKeyword("public", TokenNamepublic, KEYWORD); //$NON-NLS-1$
+		addKeyword("record", TokenNameRestrictedIdentifierrecord, CONTEXTUAL_KEYWORD); //$NON-NLS-1$
+		addKeyword("requires", TokenNamerequires, MODULE_KEYWORD); //$NON-NLS-1$
+		addKeyword("return", TokenNamereturn, KEYWORD); //$NON-NLS-1$
+		addKeyword("sealed", TokenNameRestrictedIdentifiersealed, CONTEXTUAL_KEYWORD); //$NON-NLS-1$
+		addKeyword("short", TokenNameshort, KEYWORD); //$NON-NLS-1$
+		addKeyword("static", TokenNamestatic, KEYWORD); //$NON-NLS-1$
+		addKeyword("strictfp", TokenNamestrictfp, KEYWORD); //$NON-NLS-1$
+		addKeyword("super", TokenNamesuper, KEYWORD); //$NON-NLS-1$
+		addKeyword("switch", TokenNameswitch, KEYWORD); //$NON-NLS-1$
+		addKeyword("synchronized", TokenNamesynchronized, KEYWORD); //$NON-NLS-1$
+		addKeyword("this", TokenNamethis, KEYWORD); //$NON-NLS-1$
+		addKeyword("throw", TokenNamethrow, KEYWORD); //$NON-NLS-1$
+		addKeyword("throws", TokenNamethrows, KEYWORD); //$NON-NLS-1$
+		addKeyword("to", TokenNameto, MODULE_KEYWORD); //$NON-NLS-1$
+		addKeyword("transient", TokenNametransient, KEYWORD); //$NON-NLS-1$
+		addKeyword("transitive", TokenNametransitive, MODULE_KEYWORD); //$NON-NLS-1$
+		addKeyword("true", TokenNametrue, KEYWORD); //$NON-NLS-1$
+		addKeyword("try", TokenNametry, KEYWORD); //$NON-NLS-1$
+		addKeyword("uses", TokenNameuses, MODULE_KEYWORD); //$NON-NLS-1$
+		addKeyword("void", TokenNamevoid, KEYWORD); //$NON-NLS-1$
+		addKeyword("volatile", TokenNamevolatile, KEYWORD); //$NON-NLS-1$
+		addKeyword("when", TokenNameRestrictedIdentifierWhen, CONTEXTUAL_KEYWORD); //$NON-NLS-1$
+		addKeyword("while", TokenNamewhile, KEYWORD); //$NON-NLS-1$
+		addKeyword("with", TokenNamewith, MODULE_KEYWORD); //$NON-NLS-1$
+		addKeyword("yield", TokenNameRestrictedIdentifierYield, CONTEXTUAL_KEYWORD); //$NON-NLS-1$
+	}
+
 	// Text block support - Java 15
 	private StringBuilder normalizedTextBlock = new StringBuilder();
 
@@ -1353,11 +1438,20 @@ protected TerminalToken getNextToken0() throws InvalidInputException {
 					//isWhiteSpace =
 					//	(this.currentCharacter == ' ') || ScannerHelper.isWhitespace(this.currentCharacter);
 					switch (this.currentCharacter) {
+						case 32 : /* \ u0020: SPACE                   */
+						case 9 : /* \ u0009: HORIZONTAL TABULATION   */
+							// jump over the following spaces and tabs, like an indentation, at once
+							int end = Math.min(this.eofPosition, this.source.length);
+							char next;
+							while (this.currentPosition < end
+									&& ((next = this.source[this.currentPosition]) == ' ' || next == '\t')) {
+								this.currentPosition++;
+							}
+							isWhiteSpace = true;
+							break;
 						case 10 : /* \ u000a: LINE FEED               */
 						case 12 : /* \ u000c: FORM FEED               */
 						case 13 : /* \ u000d: CARRIAGE RETURN         */
-						case 32 : /* \ u0020: SPACE                   */
-						case 9 : /* \ u0009: HORIZONTAL TABULATION   */
 							isWhiteSpace = true;
 							break;
 						default :
@@ -3161,10 +3255,7 @@ protected final void scanEscapeCharacter() throws InvalidInputException {
 public TerminalToken scanIdentifierOrKeywordWithBoundCheck() {
 	//test keywords
 
-	//first dispatch on the first char.
-	//then the length. If there are several
-	//keywors with the same length AND the same first char, then do another
-	//dispatch on the second char
+	//first scan the identifier, then look it up in the keyword table
 	this.useAssertAsAnIndentifier = false;
 	this.useEnumAsAnIndentifier = false;
 
@@ -3223,10 +3314,7 @@ public TerminalToken scanIdentifierOrKeywordWithBoundCheck() {
 public TerminalToken scanIdentifierOrKeyword() {
 	//test keywords
 
-	//first dispatch on the first char.
-	//then the length. If there are several
-	//keywords with the same length AND the same first char, then do another
-	//dispatch on the second char
+	//first scan the identifier, then look it up in the keyword table
 	this.useAssertAsAnIndentifier = false;
 	this.useEnumAsAnIndentifier = false;
 
@@ -3291,703 +3379,82 @@ public TerminalToken scanIdentifierOrKeyword() {
 
 	return internalScanIdentifierOrKeyword(index, length, data);
 }
+private static void addKeyword(String keyword, TerminalToken token, byte kind) {
+	int length = keyword.length();
+	int slot = keywordSlot(keyword.charAt(0), keyword.charAt(length - 2), keyword.charAt(length - 1), length);
+	if (KEYWORDS[slot] != null)
+		throw new IllegalStateException("Keyword hash collision: " + keyword); //$NON-NLS-1$
+	KEYWORDS[slot] = keyword.toCharArray();
+	KEYWORD_TOKENS[slot] = token;
+	KEYWORD_KINDS[slot] = kind;
+}
+/*
+ * The slot of a word in the keyword table, computed from lowercase letters: its first and last two characters, whose
+ * associated values were chosen so that no two keywords share a slot.
+ */
+private static int keywordSlot(char first, char beforeLast, char last, int length) {
+	return (length + KEYWORD_ASSOCIATED_VALUES[first - 'a'] + KEYWORD_ASSOCIATED_VALUES[beforeLast - 'a']
+			+ KEYWORD_ASSOCIATED_VALUES[last - 'a']) & (KEYWORD_TABLE_SIZE - 1);
+}
 private TerminalToken internalScanIdentifierOrKeyword(int index, int length, char[] data) {
-	switch (data[index]) {
-		case 'a' :
-			switch(length) {
-				case 8: //abstract
-					if ((data[++index] == 'b')
-						&& (data[++index] == 's')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'c')
-						&& (data[++index] == 't')) {
-							return TokenNameabstract;
-						} else {
-							return TokenNameIdentifier;
-						}
-				case 6: // assert
-					if ((data[++index] == 's')
-						&& (data[++index] == 's')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 't')) {
-							this.containsAssertKeyword = true;
-							return TokenNameassert;
-						} else {
-							return TokenNameIdentifier;
-						}
-				default:
-					return TokenNameIdentifier;
-			}
-		case 'b' : //boolean break byte
-			switch (length) {
-				case 4 :
-					if ((data[++index] == 'y') && (data[++index] == 't') && (data[++index] == 'e'))
-						return TokenNamebyte;
-					else
-						return TokenNameIdentifier;
-				case 5 :
-					if ((data[++index] == 'r')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'k'))
-						return TokenNamebreak;
-					else
-						return TokenNameIdentifier;
-				case 7 :
-					if ((data[++index] == 'o')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'n'))
-						return TokenNameboolean;
-					else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'c' : //case char catch const class continue
-			switch (length) {
-				case 4 :
-					if (data[++index] == 'a')
-						if ((data[++index] == 's') && (data[++index] == 'e'))
-							return TokenNamecase;
-						else
-							return TokenNameIdentifier;
-					else
-						if ((data[index] == 'h') && (data[++index] == 'a') && (data[++index] == 'r'))
-							return TokenNamechar;
-						else
-							return TokenNameIdentifier;
-				case 5 :
-					if (data[++index] == 'a')
-						if ((data[++index] == 't') && (data[++index] == 'c') && (data[++index] == 'h'))
-							return TokenNamecatch;
-						else
-							return TokenNameIdentifier;
-					else
-						if (data[index] == 'l')
-							if ((data[++index] == 'a')
-								&& (data[++index] == 's')
-								&& (data[++index] == 's'))
-								return TokenNameclass;
-							else
-								return TokenNameIdentifier;
-						else if ((data[index] == 'o')
-							&& (data[++index] == 'n')
-							&& (data[++index] == 's')
-							&& (data[++index] == 't'))
-							return TokenNameconst; //const is not used in java ???????
-						else
-							return TokenNameIdentifier;
-				case 8 :
-					if ((data[++index] == 'o')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 'u')
-						&& (data[++index] == 'e'))
-						return TokenNamecontinue;
-					else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'd' : //default do double
-			switch (length) {
-				case 2 :
-					if ((data[++index] == 'o'))
-						return TokenNamedo;
-					else
-						return TokenNameIdentifier;
-				case 6 :
-					if ((data[++index] == 'o')
-						&& (data[++index] == 'u')
-						&& (data[++index] == 'b')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'e'))
-						return TokenNamedouble;
-					else
-						return TokenNameIdentifier;
-				case 7 :
-					if ((data[++index] == 'e')
-						&& (data[++index] == 'f')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'u')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 't'))
-						return TokenNamedefault;
-					else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-		case 'e' : //else extends exports
-			switch (length) {
-				case 4 :
-					if (data[++index] == 'l') {
-						if ((data[++index] == 's') && (data[++index] == 'e')) {
-							return TokenNameelse;
-						} else {
-							return TokenNameIdentifier;
-						}
-					} else if ((data[index] == 'n')
-							&& (data[++index] == 'u')
-							&& (data[++index] == 'm')) {
-						return TokenNameenum;
-					}
-					return TokenNameIdentifier;
-				case 7 :
-						if ((data[++index] == 'x')) {
-							if ((data[++index] == 't') && (data[++index] == 'e') && (data[++index] == 'n')
-									&& (data[++index] == 'd') && (data[++index] == 's')) {
-								return TokenNameextends;
-							} else if (areRestrictedModuleKeywordsActive()
-									&& (data[index] == 'p') && (data[++index] == 'o') && (data[++index] == 'r')
-									&& (data[++index] == 't') && (data[++index] == 's')) {
-								return TokenNameexports;
-							} else
-								return TokenNameIdentifier;
-						} else
-							return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'f' : //final finally float for false
-			switch (length) {
-				case 3 :
-					if ((data[++index] == 'o') && (data[++index] == 'r'))
-						return TokenNamefor;
-					else
-						return TokenNameIdentifier;
-				case 5 :
-					if (data[++index] == 'i')
-						if ((data[++index] == 'n')
-							&& (data[++index] == 'a')
-							&& (data[++index] == 'l')) {
-							return TokenNamefinal;
-						} else
-							return TokenNameIdentifier;
-					else
-						if (data[index] == 'l')
-							if ((data[++index] == 'o')
-								&& (data[++index] == 'a')
-								&& (data[++index] == 't'))
-								return TokenNamefloat;
-							else
-								return TokenNameIdentifier;
-						else
-							if ((data[index] == 'a')
-								&& (data[++index] == 'l')
-								&& (data[++index] == 's')
-								&& (data[++index] == 'e'))
-								return TokenNamefalse;
-							else
-								return TokenNameIdentifier;
-				case 7 :
-					if ((data[++index] == 'i')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'y'))
-						return TokenNamefinally;
-					else
-						return TokenNameIdentifier;
-
-				default :
-					return TokenNameIdentifier;
-			}
-		case 'g' : //goto
-			if (length == 4) {
-				if ((data[++index] == 'o')
-					&& (data[++index] == 't')
-					&& (data[++index] == 'o')) {
-					return TokenNamegoto;
-				}
-			} //no goto in java are allowed, so why java removes this keyword ???
-			return TokenNameIdentifier;
-
-		case 'i' : //if implements import instanceof int interface
-			switch (length) {
-				case 2 :
-					if (data[++index] == 'f')
-						return TokenNameif;
-					else
-						return TokenNameIdentifier;
-				case 3 :
-					if ((data[++index] == 'n') && (data[++index] == 't'))
-						return TokenNameint;
-					else
-						return TokenNameIdentifier;
-				case 6 :
-					if ((data[++index] == 'm')
-						&& (data[++index] == 'p')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 't')) {
-						// initialize scanContext, because we need disambiguation when the next token is 'module':
-						if (this.scanContext == null || this.scanContext == ScanContext.INACTIVE)
-							this.scanContext = ScanContext.EXPECTING_IDENTIFIER;
-						return TokenNameimport;
-					} else {
-						return TokenNameIdentifier;
-					}
-				case 9 :
-					if ((data[++index] == 'n')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'f')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'c')
-						&& (data[++index] == 'e'))
-						return TokenNameinterface;
-					else
-						return TokenNameIdentifier;
-				case 10 :
-					if (data[++index] == 'm')
-						if ((data[++index] == 'p')
-							&& (data[++index] == 'l')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'm')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'n')
-							&& (data[++index] == 't')
-							&& (data[++index] == 's'))
-							return TokenNameimplements;
-						else
-							return TokenNameIdentifier;
-					else
-						if ((data[index] == 'n')
-							&& (data[++index] == 's')
-							&& (data[++index] == 't')
-							&& (data[++index] == 'a')
-							&& (data[++index] == 'n')
-							&& (data[++index] == 'c')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'o')
-							&& (data[++index] == 'f'))
-							return TokenNameinstanceof;
-						else
-							return TokenNameIdentifier;
-
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'l' : //long
-			if (length == 4) {
-				if ((data[++index] == 'o')
-					&& (data[++index] == 'n')
-					&& (data[++index] == 'g')) {
-					return TokenNamelong;
-				}
-			}
+	if (length < 2 || length > MAX_KEYWORD_LENGTH)
+		return TokenNameIdentifier;
+	char first = data[index], beforeLast = data[index + length - 2], last = data[index + length - 1];
+	if (first < 'a' || first > 'z' || beforeLast < 'a' || beforeLast > 'z' || last < 'a' || last > 'z')
+		return TokenNameIdentifier;
+	int slot = keywordSlot(first, beforeLast, last, length);
+	char[] keyword = KEYWORDS[slot];
+	if (keyword == null || keyword.length != length)
+		return TokenNameIdentifier;
+	for (int i = 0; i < length; i++) {
+		if (data[index + i] != keyword[i])
 			return TokenNameIdentifier;
-
-		case 'm': //module
-			switch (length) {
-				case 6 :
-					if ((areRestrictedModuleKeywordsActive()) // JEP 467: import module
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'd')
-						&& (data[++index] == 'u')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'e'))
-						return TokenNamemodule;
-					else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'n' : //native new null
-			switch (length) {
-				case 3 :
-					if ((data[++index] == 'e') && (data[++index] == 'w'))
-						return TokenNamenew;
-					else if (data == this.source && (data.length >= index + 10) // "non-sealed".length();  not handling unicode as of now in non-sealed
-							&& (data[index] == 'o')
-							&& (data[++index] == 'n')
-							&& (data[++index] == '-')
-							&& (data[++index] == 's')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'a')
-							&& (data[++index] == 'l')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'd')
-							&& !ScannerHelper.isJavaIdentifierPart(data[++index])) {
-								this.currentPosition += 7;
-								TerminalToken t = disambiguatesRestrictedIdentifierWithLookAhead(TokenNamenon_sealed);
-								if (t == TokenNamenon_sealed) {
-									return TokenNamenon_sealed;
-								} else {
-									this.currentPosition -= 7;
-									return TokenNameIdentifier;
-								}
-
-					} else
-						return TokenNameIdentifier;
-				case 4 :
-					if ((data[++index] == 'u') && (data[++index] == 'l') && (data[++index] == 'l'))
-						return TokenNamenull;
-					else
-						return TokenNameIdentifier;
-				case 6 :
-					if ((data[++index] == 'a')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'v')
-						&& (data[++index] == 'e')) {
-						return TokenNamenative;
-					} else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'o':
-			switch (length) {
-				case 4 :
-					if (areRestrictedModuleKeywordsActive() && (data[++index] == 'p') && (data[++index] == 'e') && (data[++index] == 'n'))
-						return TokenNameopen;
-					else
-						return TokenNameIdentifier;
-				case 5 :
-					if (areRestrictedModuleKeywordsActive()
-							&& (data[++index] == 'p')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'n')
-							&& (data[++index] == 's'))
-						return TokenNameopens;
-					else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-		case 'p' : //package private protected public provides
-			switch (length) {
-				case 6 :
-					if ((data[++index] == 'u')
-						&& (data[++index] == 'b')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'c')) {
-						return TokenNamepublic;
-					} else
-						return TokenNameIdentifier;
-				case 7 :
-					if (data[++index] == 'a') {
-						if ((data[++index] == 'c')
-							&& (data[++index] == 'k')
-							&& (data[++index] == 'a')
-							&& (data[++index] == 'g')
-							&& (data[++index] == 'e'))
-							return TokenNamepackage;
-						else
-							return TokenNameIdentifier;
-					} else {
-						if ((data[index] == 'r')
-							&& (data[++index] == 'i')
-							&& (data[++index] == 'v')
-							&& (data[++index] == 'a')
-							&& (data[++index] == 't')
-							&& (data[++index] == 'e')) {
-							return TokenNameprivate;
-						} else if ((data[index] == 'e')
-								&& (data[++index] == 'r')
-								&& (data[++index] == 'm')
-								&& (data[++index] == 'i')
-								&& (data[++index] == 't')
-								&& (data[++index] == 's')) {
-								return disambiguatesRestrictedIdentifierWithLookAhead(TokenNameRestrictedIdentifierpermits);
-							} else
-								return TokenNameIdentifier;
-					}
-				case 8 :
-					if (areRestrictedModuleKeywordsActive()
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'v')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'd')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 's')) {
-						return TokenNameprovides;
-					} else
-						return TokenNameIdentifier;
-				case 9 :
-					if ((data[++index] == 'r')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'c')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'd')) {
-						return TokenNameprotected;
-					} else
-						return TokenNameIdentifier;
-
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'r' : //return requires
-			switch (length) {
-				case 6:
-					if (data[++index] == 'e') {
-						if ((data[++index] == 't')
-							&& (data[++index] == 'u')
-							&& (data[++index] == 'r')
-							&& (data[++index] == 'n'))
-								return TokenNamereturn;
-						else if ((data[index] == 'c')
-							&& (data[++index] == 'o')
-							&& (data[++index] == 'r')
-							&& (data[++index] == 'd'))
-								return disambiguateRecord();
-					}
-					return TokenNameIdentifier;
-				case 8:
-					if (areRestrictedModuleKeywordsActive()
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'q')
-						&& (data[++index] == 'u')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 's')) {
-						return TokenNamerequires;
-					} else
-						return TokenNameIdentifier;
+	}
+	TerminalToken token = KEYWORD_TOKENS[slot];
+	switch (KEYWORD_KINDS[slot]) {
+		case KEYWORD :
+			return token;
+		case MODULE_KEYWORD :
+			return areRestrictedModuleKeywordsActive() ? token : TokenNameIdentifier;
+		default :
+			break;
+	}
+	switch (token) {
+		case TokenNameassert :
+			this.containsAssertKeyword = true;
+			return token;
+		case TokenNameimport :
+			// initialize scanContext, because we need disambiguation when the next token is 'module':
+			if (this.scanContext == null || this.scanContext == ScanContext.INACTIVE)
+				this.scanContext = ScanContext.EXPECTING_IDENTIFIER;
+			return token;
+		case TokenNamenon_sealed :
+			// "non" followed by "-sealed"
+			if (data == this.source && (data.length >= index + 11) // not handling unicode as of now in non-sealed
+					&& (data[index + 3] == '-')
+					&& (data[index + 4] == 's')
+					&& (data[index + 5] == 'e')
+					&& (data[index + 6] == 'a')
+					&& (data[index + 7] == 'l')
+					&& (data[index + 8] == 'e')
+					&& (data[index + 9] == 'd')
+					&& !ScannerHelper.isJavaIdentifierPart(data[index + 10])) {
+				this.currentPosition += 7;
+				if (disambiguatesRestrictedIdentifierWithLookAhead(TokenNamenon_sealed) == TokenNamenon_sealed)
+					return TokenNamenon_sealed;
+				this.currentPosition -= 7;
 			}
 			return TokenNameIdentifier;
-
-		case 's' : //short static super switch synchronized strictfp
-			switch (length) {
-				case 5 :
-					if (data[++index] == 'h')
-						if ((data[++index] == 'o') && (data[++index] == 'r') && (data[++index] == 't'))
-							return TokenNameshort;
-						else
-							return TokenNameIdentifier;
-					else
-						if ((data[index] == 'u')
-							&& (data[++index] == 'p')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'r'))
-							return TokenNamesuper;
-						else
-							return TokenNameIdentifier;
-
-				case 6 :
-					if (data[++index] == 't')
-						if ((data[++index] == 'a')
-							&& (data[++index] == 't')
-							&& (data[++index] == 'i')
-							&& (data[++index] == 'c')) {
-							return TokenNamestatic;
-						} else
-							return TokenNameIdentifier;
-					else
-						if ((data[index] == 'w')
-							&& (data[++index] == 'i')
-							&& (data[++index] == 't')
-							&& (data[++index] == 'c')
-							&& (data[++index] == 'h')) {
-							return TokenNameswitch;
-						} else if ((data[index] == 'e')
-							&& (data[++index] == 'a')
-							&& (data[++index] == 'l')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'd')) {
-								return disambiguatesRestrictedIdentifierWithLookAhead(TokenNameRestrictedIdentifiersealed);
-						} else
-							return TokenNameIdentifier;
-				case 8 :
-					if ((data[++index] == 't')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'c')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'f')
-						&& (data[++index] == 'p'))
-						return TokenNamestrictfp;
-					else
-						return TokenNameIdentifier;
-				case 12 :
-					if ((data[++index] == 'y')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 'c')
-						&& (data[++index] == 'h')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'z')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'd')) {
-						return TokenNamesynchronized;
-					} else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 't' : //try throw throws transient this true
-			switch (length) {
-				case 2:
-					if (areRestrictedModuleKeywordsActive() && data[++index] == 'o')
-						return TokenNameto;
-					else
-						return TokenNameIdentifier;
-				case 3 :
-					if ((data[++index] == 'r') && (data[++index] == 'y'))
-						return TokenNametry;
-					else
-						return TokenNameIdentifier;
-				case 4 :
-					if (data[++index] == 'h')
-						if ((data[++index] == 'i') && (data[++index] == 's'))
-							return TokenNamethis;
-						else
-							return TokenNameIdentifier;
-					else
-						if ((data[index] == 'r') && (data[++index] == 'u') && (data[++index] == 'e'))
-							return TokenNametrue;
-						else
-							return TokenNameIdentifier;
-				case 5 :
-					if ((data[++index] == 'h')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'w'))
-						return TokenNamethrow;
-					else
-						return TokenNameIdentifier;
-				case 6 :
-					if ((data[++index] == 'h')
-						&& (data[++index] == 'r')
-						&& (data[++index] == 'o')
-						&& (data[++index] == 'w')
-						&& (data[++index] == 's'))
-						return TokenNamethrows;
-					else
-						return TokenNameIdentifier;
-				case 9 :
-					if ((data[++index] == 'r')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 's')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 't')) {
-						return TokenNametransient;
-					} else
-						return TokenNameIdentifier;
-				case 10:
-					if (areRestrictedModuleKeywordsActive() && (data[++index] == 'r')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 'n')
-						&& (data[++index] == 's')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'v')
-						&& (data[++index] == 'e')) {
-						return TokenNametransitive;
-					} else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-		case 'u' : //uses
-			switch(length) {
-				case 4 :
-					if (areRestrictedModuleKeywordsActive()
-							&& (data[++index] == 's') && (data[++index] == 'e') && (data[++index] == 's'))
-						return TokenNameuses;
-					else
-						return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-		case 'v' : //void volatile
-			switch (length) {
-				case 4 :
-					if ((data[++index] == 'o') && (data[++index] == 'i') && (data[++index] == 'd'))
-						return TokenNamevoid;
-					else
-						return TokenNameIdentifier;
-				case 8 :
-					if ((data[++index] == 'o')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'a')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'e')) {
-						return TokenNamevolatile;
-					} else
-						return TokenNameIdentifier;
-
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'w' : //while widefp with
-			switch (length) {
-				case 4:
-					if (areRestrictedModuleKeywordsActive()
-						&& (data[++index] == 'i')
-						&& (data[++index] == 't')
-						&& (data[++index] == 'h'))
-						return TokenNamewith;
-					else if ((data[++index] == 'h')
-							&& (data[++index] == 'e')
-							&& (data[++index] == 'n'))
-							return disambiguateWhen();
-					else
-						return TokenNameIdentifier;
-				case 5 :
-					if ((data[++index] == 'h')
-						&& (data[++index] == 'i')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'e'))
-						return TokenNamewhile;
-					else
-						return TokenNameIdentifier;
-					//case 6:if ( (data[++index] =='i') && (data[++index]=='d') && (data[++index]=='e') && (data[++index]=='f')&& (data[++index]=='p'))
-					//return TokenNamewidefp ;
-					//else
-					//return TokenNameIdentifier;
-				default :
-					return TokenNameIdentifier;
-			}
-
-		case 'y' :
-			switch (length) {
-				case 5 :
-					if ((data[++index] == 'i')
-						&& (data[++index] == 'e')
-						&& (data[++index] == 'l')
-						&& (data[++index] == 'd'))
-						return disambiguateYield();
-					//$FALL-THROUGH$
-				default :
-					return TokenNameIdentifier;
-			}
-
+		case TokenNameRestrictedIdentifierpermits :
+		case TokenNameRestrictedIdentifiersealed :
+			return disambiguatesRestrictedIdentifierWithLookAhead(token);
+		case TokenNameRestrictedIdentifierrecord :
+			return disambiguateRecord();
+		case TokenNameRestrictedIdentifierWhen :
+			// 'when' is no guard where the module keywords are
+			return areRestrictedModuleKeywordsActive() ? TokenNameIdentifier : disambiguateWhen();
+		case TokenNameRestrictedIdentifierYield :
+			return disambiguateYield();
 		default :
 			return TokenNameIdentifier;
 	}
@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.compiler.problem;
 
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.internal.compiler.util.HashtableOfInt;
 import org.eclipse.jdt.internal.compiler.util.Messages;
 import org.eclipse.jdt.internal.compiler.util.Util;
 
@@ -27,7 +28,11 @@ public class DefaultProblem extends CategorizedProblem {
 	public int column;
 	public int severity;
 	private final String[] arguments;
-	private final String message;
+	private String message;
+	// when not null, the message is yet to be formatted from these templates and the following arguments
+	private HashtableOfInt messageTemplates;
+	private int elaborationId;
+	private String[] messageArguments;
 
 	// cannot directly point to IJavaModelMarker constants from within batch compiler
 	private static final String MARKER_TYPE_PROBLEM = "org.eclipse.jdt.core.problem"; //$NON-NLS-1$
@@ -56,6 +61,28 @@ public DefaultProblem(
 	this.line = line;
 	this.column = column;
 }
+/*
+ * A problem whose message is formatted from the given templates when first asked for, as most problems are never
+ * displayed: they are filtered out, suppressed, or only counted.
+ */
+DefaultProblem(
+	char[] originatingFileName,
+	HashtableOfInt messageTemplates,
+	int id,
+	String[] stringArguments,
+	int elaborationId,
+	String[] messageArguments,
+	int severity,
+	int startPosition,
+	int endPosition,
+	int line,
+	int column) {
+
+	this(originatingFileName, (String) null, id, stringArguments, severity, startPosition, endPosition, line, column);
+	this.messageTemplates = messageTemplates;
+	this.elaborationId = elaborationId;
+	this.messageArguments = messageArguments;
+}
 public void reportError() {
 	// Do nothing by default
 }
@@ -197,7 +224,12 @@ public String getMarkerType() {
 
 @Override
 public String getMessage() {
-	return this.message;
+	String result = this.message;
+	if (result == null && this.messageTemplates != null) {
+		// formatting again when racing with another thread gives the same message
+		this.message = result = DefaultProblemFactory.getLocalizedMessage(this.messageTemplates, this.id, this.elaborationId, this.messageArguments);
+	}
+	return result;
 }
 
 @Override
@@ -273,8 +305,9 @@ public void setSourceStart(int sourceStart) {
 @Override
 public String toString() {
 	String s = "Pb(" + (this.id & IProblem.IgnoreCategoriesMask) + ") "; //$NON-NLS-1$ //$NON-NLS-2$
-	if (this.message != null) {
-		s += this.message;
+	String problemMessage = getMessage();
+	if (problemMessage != null) {
+		s += problemMessage;
 	} else {
 		if (this.arguments != null)
 			for (String argument : this.arguments)
@@ -1836,6 +1836,8 @@ public void defaultModifierIllegallySpecified(int sourceStart, int sourceEnd) {
 }
 
 public void deprecatedField(final FieldBinding field, ASTNode location) {
+	if (computeSeverity((field.tagBits & TagBits.AnnotationTerminallyDeprecated) == 0 ? IProblem.UsingDeprecatedField : IProblem.UsingTerminallyDeprecatedField) == ProblemSeverities.Ignore)
+		return;
 	String fieldName = new String(field.name);
 	int sourceStart = nodeSourceStart(field, location);
 	int sourceEnd = nodeSourceEnd(field, location);
@@ -1856,6 +1858,8 @@ public void deprecatedField(final FieldBinding field, ASTNode location) {
 }
 
 public void deprecatedMethod(final MethodBinding method, ASTNode location) {
+	if (computeSeverity((method.tagBits & TagBits.AnnotationTerminallyDeprecated) == 0 ? IProblem.UsingDeprecatedMethod : IProblem.UsingTerminallyDeprecatedMethod) == ProblemSeverities.Ignore)
+		return;
 	// common arguments:
 	String readableClassName = new String(method.declaringClass.readableName());
 	String shortReadableClassName = new String(method.declaringClass.shortReadableName());
@@ -1931,6 +1935,8 @@ public void deprecatedType(TypeBinding type, ASTNode location, int index) {
 	final ReferenceBinding leafType = (ReferenceBinding) type.leafComponentType();
 	if (!leafType.isReadyForAnnotations() && scheduleProblemForContext(() -> deprecatedType(type, location, index)))
 		return;
+	if (computeSeverity((leafType.tagBits & TagBits.AnnotationTerminallyDeprecated) == 0 ? IProblem.UsingDeprecatedType : IProblem.UsingTerminallyDeprecatedType) == ProblemSeverities.Ignore)
+		return;
 	int sourceStart = -1;
 	if (location instanceof QualifiedTypeReference) { // https://bugs.eclipse.org/bugs/show_bug.cgi?id=300031
 		QualifiedTypeReference ref = (QualifiedTypeReference) location;
@@ -2729,6 +2735,8 @@ protected void handleUntagged(
 	}
 }
 public void hiddenCatchBlock(ReferenceBinding exceptionType, ASTNode location) {
+	int severity = computeSeverity(IProblem.MaskedCatch);
+	if (severity == ProblemSeverities.Ignore) return;
 	this.handle(
 		IProblem.MaskedCatch,
 		new String[] {
@@ -2737,6 +2745,7 @@ public void hiddenCatchBlock(ReferenceBinding exceptionType, ASTNode location) {
 		new String[] {
 			new String(exceptionType.shortReadableName()),
 		 },
+		severity,
 		location.sourceStart,
 		location.sourceEnd);
 }
@@ -6742,11 +6751,14 @@ public void missingSemiColon(Expression expression){
 		expression.sourceEnd);
 }
 public void missingSerialVersion(TypeDeclaration typeDecl) {
+	int severity = computeSeverity(IProblem.MissingSerialVersion);
+	if (severity == ProblemSeverities.Ignore) return;
 	String[] arguments = new String[] {new String(typeDecl.name)};
 	this.handle(
 		IProblem.MissingSerialVersion,
 		arguments,
 		arguments,
+		severity,
 		typeDecl.sourceStart,
 		typeDecl.sourceEnd);
 }
@@ -7176,10 +7188,13 @@ public void nonStaticAccessToStaticField(ASTNode location, FieldBinding field, i
 		nodeSourceEnd(field, location, index));
 }
 public void nonStaticAccessToStaticMethod(ASTNode location, MethodBinding method) {
+	int severity = computeSeverity(IProblem.NonStaticAccessToStaticMethod);
+	if (severity == ProblemSeverities.Ignore) return;
 	this.handle(
 		IProblem.NonStaticAccessToStaticMethod,
 		new String[] {new String(method.declaringClass.readableName()), new String(method.selector), typesAsString(method, false)},
 		new String[] {new String(method.declaringClass.shortReadableName()), new String(method.selector), typesAsString(method, true)},
+		severity,
 		location.sourceStart,
 		location.sourceEnd);
 }
@@ -7781,11 +7796,14 @@ public void rawMemberTypeCannotBeParameterized(ASTNode location, ReferenceBindin
 		location.sourceEnd);
 }
 public void rawTypeReference(ASTNode location, TypeBinding type) {
+	int severity = computeSeverity(IProblem.RawTypeReference);
+	if (severity == ProblemSeverities.Ignore) return;
 	type = type.leafComponentType();
     this.handle(
 		IProblem.RawTypeReference,
 		new String[] {new String(type.readableName()), new String(type.erasure().readableName()), },
 		new String[] {new String(type.shortReadableName()),new String(type.erasure().shortReadableName()),},
+		severity,
 		location.sourceStart,
 		nodeSourceEnd(null, location, Integer.MAX_VALUE));
 }
@@ -8924,13 +8942,16 @@ public void unnecessaryNLSTags(int sourceStart, int sourceEnd) {
 		sourceEnd);
 }
 public void unnecessaryTypeArgumentsForMethodInvocation(MethodBinding method, TypeBinding[] genericTypeArguments, TypeReference[] typeArguments) {
+	int problemId = method.isConstructor()
+		? IProblem.UnusedTypeArgumentsForConstructorInvocation
+		: IProblem.UnusedTypeArgumentsForMethodInvocation;
+	int severity = computeSeverity(problemId);
+	if (severity == ProblemSeverities.Ignore) return;
 	String methodName = method.isConstructor()
 		? new String(method.declaringClass.shortReadableName())
 		: new String(method.selector);
 	this.handle(
-			method.isConstructor()
-				? IProblem.UnusedTypeArgumentsForConstructorInvocation
-				: IProblem.UnusedTypeArgumentsForMethodInvocation,
+		problemId,
 		new String[] {
 				methodName,
 		        typesAsString(method, false),
@@ -8941,6 +8962,7 @@ public void unnecessaryTypeArgumentsForMethodInvocation(MethodBinding method, Ty
 		        typesAsString(method, true),
 		        new String(method.declaringClass.shortReadableName()),
 		        typesAsString(genericTypeArguments, true) },
+		severity,
 		typeArguments[0].sourceStart,
 		typeArguments[typeArguments.length-1].sourceEnd);
 }
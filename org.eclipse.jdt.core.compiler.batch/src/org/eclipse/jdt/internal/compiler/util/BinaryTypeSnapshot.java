@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.util;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+
+/**
+ * Readers of the class files of the JDKs, decoded once and shared by all the compilers of the VM, so that concurrent
+ * compilations against the same JDK do not each hold their own copy of <code>java.base</code>.
+ * <p>
+ * The class files of a JDK image, or of its <code>ct.sym</code>, do not change while the VM runs. Each one is
+ * decoded by a fully initialized {@link ClassFileReader}, which drops the class bytes and is never modified
+ * afterwards, so that the lookup environments of several compilations can build their bindings from the same
+ * reader at the same time. The bindings themselves stay private to each lookup environment: they are completed,
+ * annotated and parameterized lazily, as the units of their own compilation require.
+ * </p>
+ * <p>
+ * The snapshot is enabled by the <code>jdt.compiler.sharedJdkTypes</code> system property, the maximum number of
+ * shared readers (0, the default, disables it). Once full, the readers of the types not shared yet are decoded
+ * lazily for their compilation only, as without the snapshot.
+ * </p>
+ */
+public class BinaryTypeSnapshot {
+
+	/** Decodes a class file, answers <code>null</code> if it does not exist */
+	@FunctionalInterface
+	public interface Decoder {
+		ClassFileReader decode() throws IOException, ClassFormatException;
+	}
+
+	/**
+	 * Class files are identified by their file system, one per JDK or <code>ct.sym</code>, and their path in it:
+	 * the paths of different jrt file systems are equal when their strings are.
+	 */
+	private record Key(FileSystem fileSystem, String path) {
+		@SuppressWarnings("resource") // the file system is owned by the classpath entry of the JDK, not closed here
+		static Key of(Path path) {
+			return new Key(path.getFileSystem(), path.toString());
+		}
+	}
+
+	private final ConcurrentMap<Key, ClassFileReader> readers = new ConcurrentHashMap<>();
+	private final int capacity;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	BinaryTypeSnapshot(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Answers a snapshot configured by the <code>jdt.compiler.sharedJdkTypes</code> system property.
+	 */
+	static BinaryTypeSnapshot fromSystemProperties() {
+		return new BinaryTypeSnapshot(Integer.getInteger("jdt.compiler.sharedJdkTypes", 0).intValue()); //$NON-NLS-1$
+	}
+
+	public boolean isEnabled() {
+		return this.capacity > 0;
+	}
+
+	/**
+	 * Answers the shared reader of the class file of the given path, decoding it with the given decoder on first
+	 * request. The answered reader must not be modified.
+	 *
+	 * @return the reader, or <code>null</code> if the class file does not exist
+	 */
+	public ClassFileReader getReader(Path path, Decoder decoder) throws IOException, ClassFormatException {
+		if (this.capacity <= 0)
+			return decoder.decode();
+		Key key = Key.of(path);
+		ClassFileReader reader = this.readers.get(key);
+		if (reader != null) {
+			this.hits.increment();
+			return reader;
+		}
+		reader = decoder.decode();
+		if (reader == null)
+			return null; // probing a package for a type it does not contain is not a miss
+		this.misses.increment();
+		if (this.readers.size() >= this.capacity)
+			return reader;
+		ClassFileReader.fullyInitialized(reader);
+		// a concurrent compilation may have decoded the same class file meanwhile
+		ClassFileReader shared = this.readers.putIfAbsent(key, reader);
+		return shared != null ? shared : reader;
+	}
+
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	public long getMisses() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Answers the number of shared readers.
+	 */
+	public int getSize() {
+		return this.readers.size();
+	}
+
+	public void clear() {
+		this.readers.clear();
+		this.hits.reset();
+		this.misses.reset();
+	}
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the class files read from the jrt file systems of the JDKs, shared by all the compilers of the VM.
+ * <p>
+ * The cache holds at most the number of megabytes given by the <code>jdt.compiler.jrtClassCacheSize</code> system
+ * property (64 by default, 0 disables the cache). When full, the entries are evicted in insertion order, except the
+ * ones read again since they were last considered for eviction, which are given another round: a class file read
+ * by every compilation (<code>java.lang.Object</code>, <code>java.lang.String</code>...) stays cached while the ones
+ * read by a single compilation go first. With the <code>jdt.compiler.jrtClassCacheOffHeap</code> system property set
+ * to <code>true</code>, the cached bytes are kept in direct buffers outside of the Java heap, and copied on each
+ * read.
+ * </p>
+ * <p>
+ * Unlike a cache of soft references, this cache is never dropped at once under memory pressure, and its hits,
+ * misses and evictions are counted.
+ * </p>
+ */
+public class ClassBytesCache {
+
+	/** Approximate footprint of an entry besides the class bytes: path, entry, map node and queue slot */
+	private static final int ENTRY_OVERHEAD = 128;
+	/** Number of extra eviction rounds granted to an entry read often */
+	private static final int MAX_FREQUENCY = 3;
+
+	private final ConcurrentMap<Path, Entry> entries = new ConcurrentHashMap<>(10007);
+	/** Entries in eviction order, guarded by this */
+	private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+	private final long budget;
+	private final boolean offHeap;
+	/** Footprint of the cached entries, guarded by this */
+	private long size;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	ClassBytesCache(long budget, boolean offHeap) {
+		this.budget = budget;
+		this.offHeap = offHeap;
+	}
+
+	/**
+	 * Answers a cache configured by the <code>jdt.compiler.jrtClassCacheSize</code> and
+	 * <code>jdt.compiler.jrtClassCacheOffHeap</code> system properties.
+	 */
+	static ClassBytesCache fromSystemProperties() {
+		long budget = Long.getLong("jdt.compiler.jrtClassCacheSize", 64).longValue() * 1024 * 1024; //$NON-NLS-1$
+		return new ClassBytesCache(budget, Boolean.getBoolean("jdt.compiler.jrtClassCacheOffHeap")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Answers the contents of the given file, or <code>null</code> if it does not exist. The answered array must not
+	 * be modified.
+	 */
+	public byte[] getClassBytes(Path path) throws IOException {
+		if (this.budget <= 0)
+			return JRTUtil.safeReadBytes(path);
+		Entry entry = this.entries.get(path);
+		if (entry != null) {
+			this.hits.increment();
+			entry.touch();
+			return entry.getBytes();
+		}
+		this.misses.increment();
+		byte[] bytes = JRTUtil.safeReadBytes(path);
+		entry = new Entry(path, bytes, this.offHeap);
+		if (this.entries.putIfAbsent(path, entry) == null)
+			add(entry);
+		// else read concurrently by another compiler, keep the first entry
+		return bytes;
+	}
+
+	private synchronized void add(Entry entry) {
+		this.queue.add(entry);
+		this.size += entry.weight;
+		while (this.size > this.budget) {
+			Entry candidate = this.queue.poll();
+			if (candidate == null)
+				break;
+			if (candidate.frequency > 0) {
+				candidate.frequency--;
+				this.queue.add(candidate);
+				continue;
+			}
+			this.entries.remove(candidate.path, candidate);
+			this.size -= candidate.weight;
+			this.evictions.increment();
+		}
+	}
+
+	synchronized void clear() {
+		this.entries.clear();
+		this.queue.clear();
+		this.size = 0;
+		this.hits.reset();
+		this.misses.reset();
+		this.evictions.reset();
+	}
+
+	/** Answers the number of reads answered from the cache. */
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	/** Answers the number of reads that had to read the jrt file system. */
+	public long getMisses() {
+		return this.misses.sum();
+	}
+
+	/** Answers the number of entries evicted to stay within the budget. */
+	public long getEvictions() {
+		return this.evictions.sum();
+	}
+
+	/** Answers the approximate number of bytes held by the cache. */
+	public synchronized long getSize() {
+		return this.size;
+	}
+
+	/** Answers the maximum number of bytes held by the cache, 0 if caching is disabled. */
+	public long getBudget() {
+		return Math.max(0, this.budget);
+	}
+
+	@Override
+	public String toString() {
+		return "Class bytes cache: " + getHits() + " hits, " + getMisses() + " misses, " + getEvictions() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ " evictions, " + getSize() + '/' + getBudget() + " bytes"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static final class Entry {
+		final Path path;
+		/** Contents of the file, a byte[] or a direct ByteBuffer, null if the file does not exist */
+		private final Object contents;
+		final int weight;
+		/** Reads since the entry was last considered for eviction, saturating at {@link #MAX_FREQUENCY} */
+		volatile int frequency;
+
+		Entry(Path path, byte[] bytes, boolean offHeap) {
+			this.path = path;
+			if (bytes != null && offHeap) {
+				ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+				buffer.put(bytes);
+				this.contents = buffer;
+			} else {
+				this.contents = bytes;
+			}
+			this.weight = ENTRY_OVERHEAD + (bytes == null ? 0 : bytes.length);
+		}
+
+		void touch() {
+			// racy increments may be lost, the frequency is a hint only
+			if (this.frequency < MAX_FREQUENCY)
+				this.frequency++;
+		}
+
+		byte[] getBytes() {
+			if (this.contents instanceof ByteBuffer buffer) {
+				byte[] bytes = new byte[buffer.capacity()];
+				buffer.get(0, bytes);
+				return bytes;
+			}
+			return (byte[]) this.contents;
+		}
+	}
+}
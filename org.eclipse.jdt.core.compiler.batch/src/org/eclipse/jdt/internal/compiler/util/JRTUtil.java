@@ -60,7 +60,8 @@ public class JRTUtil {
 	private static final Map<Path, CtSym> ctSymFiles = new ConcurrentHashMap<>();
 	private static final Map<Path, FileSystem> JRT_FILE_SYSTEMS = new ConcurrentHashMap<>();
 
-	static final SoftClassCache classCache = new SoftClassCache();
+	static final ClassBytesCache classCache = ClassBytesCache.fromSystemProperties();
+	static final BinaryTypeSnapshot snapshot = BinaryTypeSnapshot.fromSystemProperties();
 
 	public interface JrtFileVisitor<T> {
 
@@ -197,10 +198,25 @@ public class JRTUtil {
 		return ctSym;
 	}
 
+	/**
+	 * Answers the cache of the class files read from the jrt file systems, e.g. to observe its hits and misses.
+	 */
+	public static ClassBytesCache getClassCache() {
+		return classCache;
+	}
+
+	/**
+	 * Answers the readers of the class files of the JDKs shared by all the compilers, see {@link BinaryTypeSnapshot}.
+	 */
+	public static BinaryTypeSnapshot getSnapshot() {
+		return snapshot;
+	}
+
 	/** TEST ONLY (use when changing the "modules.to.load" property). */
 	public static void reset() {
 		images.clear();
 		classCache.clear();
+		snapshot.clear();
 		MODULE_TO_LOAD = System.getProperty("modules.to.load"); //$NON-NLS-1$
 	}
 
@@ -274,6 +290,17 @@ public class JRTUtil {
 		return system.getClassfile(fileName, module, moduleNameFilter);
 	}
 
+	/**
+	 * Answers the contents of the module-info.class of the modules of the given image, by module name. Uses the
+	 * persisted index of the JDK if enabled, see {@link JdkIndex}. The answered map must not be modified.
+	 */
+	public static Map<String, byte[]> getModuleDescriptors(JrtFileSystem system) throws IOException {
+		if (system == null) {
+			return Map.of();
+		}
+		return system.getModuleDescriptors();
+	}
+
 	public static List<String> getModulesDeclaringPackage(File jrt, String qName, String moduleName) {
 		return getModulesDeclaringPackage(getJrtSystem(jrt), qName, moduleName);
 	}
@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Packages and module descriptors of a JDK, persisted in the directory named by the <code>jdt.compiler.jdkIndex</code>
+ * system property so that later compiler instances, including the ones of other VMs, find the modules of the JDK
+ * and the module of a package without walking the jimage or the ct.sym file.
+ * <p>
+ * The index of a JDK holds named sections, one for the jimage, see {@link #JRT}, and one per <code>--release</code>
+ * read from ct.sym, see {@link #ctSymSection(String)}. Sections are added when first computed. The whole index is
+ * dropped as soon as the <code>release</code> file of the JDK, the length or the time stamp of lib/modules or
+ * lib/ct.sym, or the checksum of the jimage index (the header and lookup tables of lib/modules) change.
+ * </p>
+ */
+public class JdkIndex {
+
+	/** Section of the packages and modules of the jimage of the JDK */
+	public static final String JRT = "jrt"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x4A444B58; // "JDKX"
+	private static final int FORMAT_VERSION = 1;
+
+	private static final Map<File, JdkIndex> indexes = new ConcurrentHashMap<>();
+
+	private final File file;
+	private final Stamp stamp;
+	/** Module names by package name, by section */
+	private final Map<String, Map<String, List<String>>> packages;
+	/** Contents of the module descriptors by module name, by section */
+	private final Map<String, Map<String, byte[]>> moduleDescriptors;
+
+	private JdkIndex(File file, Stamp stamp, Map<String, Map<String, List<String>>> packages,
+			Map<String, Map<String, byte[]>> moduleDescriptors) {
+		this.file = file;
+		this.stamp = stamp;
+		this.packages = packages;
+		this.moduleDescriptors = moduleDescriptors;
+	}
+
+	/**
+	 * Answers the directory of the persisted indexes, or <code>null</code> if JDK indexes are disabled.
+	 */
+	public static File getDirectory() {
+		String directory = System.getProperty("jdt.compiler.jdkIndex"); //$NON-NLS-1$
+		if (directory == null || directory.isEmpty())
+			return null;
+		return new File(directory).getAbsoluteFile();
+	}
+
+	/**
+	 * Answers the index of the JDK installed in the given directory, or <code>null</code> if JDK indexes are
+	 * disabled. The index is empty if the JDK was not indexed yet or changed since.
+	 */
+	public static JdkIndex get(Path jdkHome) {
+		File directory = getDirectory();
+		if (directory == null)
+			return null;
+		String home = jdkHome.toAbsolutePath().normalize().toString();
+		File file = indexFile(directory, home);
+		Stamp stamp = Stamp.of(home, jdkHome);
+		JdkIndex index = indexes.get(file);
+		if (index == null || !index.stamp.equals(stamp)) {
+			index = load(file, stamp);
+			indexes.put(file, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Answers the name of the section holding the packages and modules of the given <code>--release</code>, see
+	 * {@link CtSym#getReleaseCode(String)}.
+	 */
+	public static String ctSymSection(String releaseCode) {
+		return "ct.sym/" + releaseCode; //$NON-NLS-1$
+	}
+
+	private static JdkIndex load(File file, Stamp stamp) {
+		Map<String, Map<String, List<String>>> packages = new ConcurrentHashMap<>();
+		Map<String, Map<String, byte[]>> moduleDescriptors = new ConcurrentHashMap<>();
+		byte[] contents;
+		try {
+			contents = Files.readAllBytes(file.toPath());
+		} catch (IOException e) {
+			return new JdkIndex(file, stamp, packages, moduleDescriptors); // not indexed yet
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(contents))) {
+			if (in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION && stamp.equals(Stamp.read(in))) {
+				for (int i = 0, count = in.readInt(); i < count; i++) {
+					String section = in.readUTF();
+					int size = in.readInt();
+					Map<String, List<String>> sectionPackages = new LinkedHashMap<>(size * 2);
+					for (int j = 0; j < size; j++) {
+						String packageName = in.readUTF();
+						String[] modules = new String[in.readInt()];
+						for (int k = 0; k < modules.length; k++)
+							modules[k] = in.readUTF();
+						sectionPackages.put(packageName, Collections.unmodifiableList(Arrays.asList(modules)));
+					}
+					packages.put(section, Collections.unmodifiableMap(sectionPackages));
+				}
+				for (int i = 0, count = in.readInt(); i < count; i++) {
+					String section = in.readUTF();
+					int size = in.readInt();
+					Map<String, byte[]> descriptors = new LinkedHashMap<>(size * 2);
+					for (int j = 0; j < size; j++) {
+						String moduleName = in.readUTF();
+						byte[] descriptor = new byte[in.readInt()];
+						in.readFully(descriptor);
+						descriptors.put(moduleName, descriptor);
+					}
+					moduleDescriptors.put(section, Collections.unmodifiableMap(descriptors));
+				}
+			}
+		} catch (IOException e) {
+			// truncated or corrupted index, will be written again
+			packages.clear();
+			moduleDescriptors.clear();
+		}
+		return new JdkIndex(file, stamp, packages, moduleDescriptors);
+	}
+
+	/**
+	 * Answers the module names by package name (using '/' as separator) recorded in the given section, or
+	 * <code>null</code> if the section was not indexed yet. The answered map must not be modified.
+	 */
+	public Map<String, List<String>> getPackages(String section) {
+		return this.packages.get(section);
+	}
+
+	/**
+	 * Records the module names by package name of the given section, and persists the index.
+	 */
+	public void putPackages(String section, Map<String, List<String>> sectionPackages) {
+		Map<String, List<String>> copy = new LinkedHashMap<>(sectionPackages.size() * 2);
+		for (Map.Entry<String, List<String>> entry : sectionPackages.entrySet())
+			copy.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+		this.packages.put(section, Collections.unmodifiableMap(copy));
+		store();
+	}
+
+	/**
+	 * Answers the contents of the module descriptors by module name recorded in the given section, or
+	 * <code>null</code> if the section was not indexed yet. The answered map must not be modified.
+	 */
+	public Map<String, byte[]> getModuleDescriptors(String section) {
+		return this.moduleDescriptors.get(section);
+	}
+
+	/**
+	 * Records the contents of the module descriptors by module name of the given section, and persists the index.
+	 */
+	public void putModuleDescriptors(String section, Map<String, byte[]> descriptors) {
+		this.moduleDescriptors.put(section, Collections.unmodifiableMap(new LinkedHashMap<>(descriptors)));
+		store();
+	}
+
+	private synchronized void store() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		File temp = null;
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			this.stamp.write(out);
+			Map<String, Map<String, List<String>>> allPackages = new LinkedHashMap<>(this.packages);
+			out.writeInt(allPackages.size());
+			for (Map.Entry<String, Map<String, List<String>>> section : allPackages.entrySet()) {
+				out.writeUTF(section.getKey());
+				out.writeInt(section.getValue().size());
+				for (Map.Entry<String, List<String>> entry : section.getValue().entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeInt(entry.getValue().size());
+					for (String moduleName : entry.getValue())
+						out.writeUTF(moduleName);
+				}
+			}
+			Map<String, Map<String, byte[]>> allDescriptors = new LinkedHashMap<>(this.moduleDescriptors);
+			out.writeInt(allDescriptors.size());
+			for (Map.Entry<String, Map<String, byte[]>> section : allDescriptors.entrySet()) {
+				out.writeUTF(section.getKey());
+				out.writeInt(section.getValue().size());
+				for (Map.Entry<String, byte[]> entry : section.getValue().entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeInt(entry.getValue().length);
+					out.write(entry.getValue());
+				}
+			}
+			out.flush();
+			File directory = this.file.getParentFile();
+			Files.createDirectories(directory.toPath());
+			// other compilers may share the directory, never expose a partially written index
+			temp = File.createTempFile(this.file.getName(), ".tmp", directory); //$NON-NLS-1$
+			Files.write(temp.toPath(), bytes.toByteArray());
+			Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			if (temp != null)
+				temp.delete();
+			// the index is an optimization only
+		}
+	}
+
+	private static File indexFile(File directory, String jdkHome) {
+		// a CRC is enough to name the file since the stamp records the path, and is much cheaper to set up than a
+		// message digest in a starting VM
+		CRC32 crc = new CRC32();
+		crc.update(jdkHome.getBytes(StandardCharsets.UTF_8));
+		return new File(directory, Long.toHexString(crc.getValue()) + ".jdkindex"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Path and contents of the release file, length, time stamp and index checksum of the jimage, length and time
+	 * stamp of ct.sym of a JDK. Missing files are recorded with a length of -1. Not a record, whose bootstrapped
+	 * equals method would cost more than the index saves in a starting VM.
+	 */
+	private static final class Stamp {
+
+		final String home;
+		final String release;
+		final long modulesLength;
+		final long modulesLastModified;
+		final long modulesChecksum;
+		final long ctSymLength;
+		final long ctSymLastModified;
+
+		Stamp(String home, String release, long modulesLength, long modulesLastModified, long modulesChecksum,
+				long ctSymLength, long ctSymLastModified) {
+			this.home = home;
+			this.release = release;
+			this.modulesLength = modulesLength;
+			this.modulesLastModified = modulesLastModified;
+			this.modulesChecksum = modulesChecksum;
+			this.ctSymLength = ctSymLength;
+			this.ctSymLastModified = ctSymLastModified;
+		}
+
+		private static final int JIMAGE_MAGIC = 0xCAFEDADA;
+		private static final int JIMAGE_HEADER_SIZE = 28;
+
+		static Stamp of(String home, Path jdkHome) {
+			String release;
+			try {
+				release = new String(Files.readAllBytes(jdkHome.resolve("release")), StandardCharsets.UTF_8); //$NON-NLS-1$
+			} catch (IOException e) {
+				release = ""; //$NON-NLS-1$
+			}
+			File modules = jdkHome.resolve("lib").resolve("modules").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+			File ctSym = jdkHome.resolve("lib").resolve("ct.sym").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+			return new Stamp(home, release, length(modules), modules.lastModified(), jimageChecksum(modules),
+					length(ctSym), ctSym.lastModified());
+		}
+
+		static Stamp read(DataInputStream in) throws IOException {
+			return new Stamp(in.readUTF(), in.readUTF(), in.readLong(), in.readLong(), in.readLong(), in.readLong(),
+					in.readLong());
+		}
+
+		void write(DataOutputStream out) throws IOException {
+			out.writeUTF(this.home);
+			out.writeUTF(this.release);
+			out.writeLong(this.modulesLength);
+			out.writeLong(this.modulesLastModified);
+			out.writeLong(this.modulesChecksum);
+			out.writeLong(this.ctSymLength);
+			out.writeLong(this.ctSymLastModified);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Stamp other))
+				return false;
+			return this.modulesLength == other.modulesLength && this.modulesLastModified == other.modulesLastModified
+					&& this.modulesChecksum == other.modulesChecksum && this.ctSymLength == other.ctSymLength
+					&& this.ctSymLastModified == other.ctSymLastModified && this.home.equals(other.home)
+					&& this.release.equals(other.release);
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(this.modulesChecksum) ^ this.home.hashCode();
+		}
+
+		private static long length(File file) {
+			return file.isFile() ? file.length() : -1;
+		}
+
+		/**
+		 * Answers the CRC of the header, the lookup tables and the strings of the given jimage, which name and
+		 * locate all its resources, or -1 if the file is not a jimage.
+		 */
+		private static long jimageChecksum(File modules) {
+			if (!modules.isFile())
+				return -1;
+			try (RandomAccessFile file = new RandomAccessFile(modules, "r")) { //$NON-NLS-1$
+				byte[] header = new byte[JIMAGE_HEADER_SIZE];
+				file.readFully(header);
+				// the jimage is written in the native byte order, which the magic number reveals
+				boolean bigEndian = u4(header, 0, true) == JIMAGE_MAGIC;
+				if (!bigEndian && u4(header, 0, false) != JIMAGE_MAGIC)
+					return -1;
+				long tableLength = u4(header, 16, bigEndian) & 0xFFFFFFFFL;
+				long locationsSize = u4(header, 20, bigEndian) & 0xFFFFFFFFL;
+				long stringsSize = u4(header, 24, bigEndian) & 0xFFFFFFFFL;
+				long indexSize = JIMAGE_HEADER_SIZE + tableLength * 8 + locationsSize + stringsSize;
+				if (indexSize > file.length())
+					return -1;
+				CRC32 crc = new CRC32();
+				crc.update(header);
+				byte[] buffer = new byte[8192];
+				for (long remaining = indexSize - JIMAGE_HEADER_SIZE; remaining > 0;) {
+					int read = file.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+					if (read < 0)
+						return -1;
+					crc.update(buffer, 0, read);
+					remaining -= read;
+				}
+				return crc.getValue();
+			} catch (IOException e) {
+				return -1;
+			}
+		}
+
+		private static int u4(byte[] bytes, int offset, boolean bigEndian) {
+			if (bigEndian)
+				return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 | (bytes[offset + 2] & 0xFF) << 8
+						| (bytes[offset + 3] & 0xFF);
+			return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8 | (bytes[offset + 2] & 0xFF) << 16
+					| (bytes[offset + 3] & 0xFF) << 24;
+		}
+	}
+}
@@ -26,12 +26,14 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.IModule;
 
 public class JrtFileSystem {
 
@@ -63,7 +65,41 @@ public class JrtFileSystem {
 		this.fs = JRTUtil.getJrtFileSystem(this.jdk.path);
 		this.modRoot = this.fs.getPath(JRTUtil.MODULES_SUBDIR);
 		// Set up the root directory where modules are located
+		initializePackages();
+	}
+
+	/**
+	 * Fills the package to module maps from the index of the JDK, walking the /packages directory of the image if the
+	 * JDK was not indexed yet.
+	 */
+	private void initializePackages() throws IOException {
+		JdkIndex index = JdkIndex.get(this.jdk.path);
+		Map<String, List<String>> packages = index != null ? index.getPackages(JdkIndex.JRT) : null;
+		if (packages != null) {
+			for (Map.Entry<String, List<String>> entry : packages.entrySet()) {
+				String packageName = entry.getKey().intern();
+				List<String> modules = entry.getValue();
+				if (modules.size() == 1) {
+					this.packageToModule.put(packageName, modules.get(0).intern());
+				} else {
+					List<String> list = new ArrayList<>(modules.size());
+					for (String module : modules)
+						list.add(module.intern());
+					this.packageToModule.put(packageName, JRTUtil.MULTIPLE);
+					this.packageToModules.put(packageName, list);
+				}
+			}
+			return;
+		}
 		walkJrtForModules();
+		if (index != null) {
+			Map<String, List<String>> walked = new HashMap<>();
+			for (Map.Entry<String, String> entry : this.packageToModule.entrySet()) {
+				String module = entry.getValue();
+				walked.put(entry.getKey(), module == JRTUtil.MULTIPLE ? this.packageToModules.get(entry.getKey()) : List.of(module));
+			}
+			index.putPackages(JdkIndex.JRT, walked);
+		}
 	}
 
 	public List<String> getModulesDeclaringPackage(String qualifiedPackageName, String moduleName) {
@@ -185,17 +221,21 @@ public class JrtFileSystem {
 		if(JRTUtil.DISABLE_CACHE) {
 			return JRTUtil.safeReadBytes(path);
 		} else {
-			return JRTUtil.classCache.getClassBytes(this.jdk, path);
+			return JRTUtil.classCache.getClassBytes(path);
 		}
 	}
 
 	ClassFileReader getClassfileFromModule(String fileName, String module) throws IOException, ClassFormatException {
 		Path path = this.fs.getPath(JRTUtil.MODULES_SUBDIR, module, fileName);
+		return JRTUtil.snapshot.getReader(path, () -> readClassfile(path, fileName, module));
+	}
+
+	private ClassFileReader readClassfile(Path path, String fileName, String module) throws IOException, ClassFormatException {
 		byte[] content = null;
 		if(JRTUtil.DISABLE_CACHE) {
 			content = JRTUtil.safeReadBytes(path);
 		} else {
-			content = JRTUtil.classCache.getClassBytes(this.jdk, path);
+			content = JRTUtil.classCache.getClassBytes(path);
 		}
 		if (content != null) {
 			ClassFileReader reader = new ClassFileReader(path.toUri(), content, fileName.toCharArray());
@@ -223,6 +263,30 @@ public class JrtFileSystem {
 		}
 	}
 
+	/**
+	 * Answers the contents of the module-info.class of the modules of the image, by module name.
+	 */
+	Map<String, byte[]> getModuleDescriptors() throws IOException {
+		boolean allModules = JRTUtil.MODULE_TO_LOAD == null || JRTUtil.MODULE_TO_LOAD.isEmpty();
+		JdkIndex index = allModules && this.release == null ? JdkIndex.get(this.jdk.path) : null;
+		Map<String, byte[]> descriptors = index != null ? index.getModuleDescriptors(JdkIndex.JRT) : null;
+		if (descriptors != null)
+			return descriptors;
+		Map<String, byte[]> walked = new LinkedHashMap<>();
+		walkModuleImage(new JRTUtil.JrtFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitModule(Path path, String name) throws IOException {
+				byte[] content = getFileBytes(IModule.MODULE_INFO_CLASS, name);
+				if (content != null)
+					walked.put(name, content);
+				return FileVisitResult.SKIP_SUBTREE;
+			}
+		}, JRTUtil.NOTIFY_MODULES);
+		if (index != null)
+			index.putModuleDescriptors(JdkIndex.JRT, walked);
+		return walked;
+	}
+
 	void walkJrtForModules() throws IOException {
 		Iterable<Path> roots = this.fs.getRootDirectories();
 		for (Path path : roots) {
@@ -13,10 +13,21 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.tests.builder;
 
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.Map;
 import junit.framework.Test;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.core.builder.State;
 
 /**
  * Basic efficiency tests of the image builder.
@@ -148,8 +159,97 @@ public class EfficiencyTests extends BuilderTests {
 
 		incrementalBuild(projectPath);
 
-		expectingCompiledClasses(new String[]{"p1.X", "p2.Y"}); //$NON-NLS-1$ //$NON-NLS-2$
-		expectingCompilingOrder(new String[] { "/Project/src/p1/X.java", "/Project/src/p2/Y.java" });
+		// Y neither uses nor inherits bar()
+		expectingCompiledClasses(new String[]{"p1.X"}); //$NON-NLS-1$
+		expectingCompilingOrder(new String[] { "/Project/src/p1/X.java" });
+	}
+
+	public void testMemberChange() throws JavaModelException {
+
+		IPath projectPath = env.addProject("Project"); //$NON-NLS-1$
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+		fullBuild(projectPath);
+
+		// remove old package fragment root so that names don't collide
+		env.removePackageFragmentRoot(projectPath, ""); //$NON-NLS-1$
+
+		IPath root = env.addPackageFragmentRoot(projectPath, "src"); //$NON-NLS-1$
+		env.setOutputFolder(projectPath, "bin"); //$NON-NLS-1$
+
+		env.addClass(root, "p1", "X", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p1;\n"+ //$NON-NLS-1$
+			"public class X {\n"+ //$NON-NLS-1$
+			"	public void foo(int i) {}\n" + //$NON-NLS-1$
+			"	public void bar() {}\n" + //$NON-NLS-1$
+			"}\n" //$NON-NLS-1$
+			);
+
+		env.addClass(root, "p2", "Foo", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p2;\n"+ //$NON-NLS-1$
+			"public class Foo {\n"+ //$NON-NLS-1$
+			"	void m(p1.X x) { x.foo(1); }\n" + //$NON-NLS-1$
+			"}\n" //$NON-NLS-1$
+			);
+
+		env.addClass(root, "p2", "Bar", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p2;\n"+ //$NON-NLS-1$
+			"public class Bar {\n"+ //$NON-NLS-1$
+			"	void m(p1.X x) { x.bar(); }\n" + //$NON-NLS-1$
+			"}\n" //$NON-NLS-1$
+			);
+
+		env.addClass(root, "p2", "Y", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p2;\n"+ //$NON-NLS-1$
+			"public class Y extends p1.X {\n"+ //$NON-NLS-1$
+			"}\n" //$NON-NLS-1$
+			);
+
+		fullBuild(projectPath);
+		expectingNoProblems();
+
+		// overload foo: its callers and the subclasses inheriting it are recompiled
+		env.addClass(root, "p1", "X", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p1;\n"+ //$NON-NLS-1$
+			"public class X {\n"+ //$NON-NLS-1$
+			"	public void foo(int i) {}\n" + //$NON-NLS-1$
+			"	public void foo(long l) {}\n" + //$NON-NLS-1$
+			"	public void bar() {}\n" + //$NON-NLS-1$
+			"}\n" //$NON-NLS-1$
+			);
+
+		incrementalBuild(projectPath);
+		expectingNoProblems();
+		expectingUniqueCompiledClasses(new String[]{"p1.X", "p2.Foo", "p2.Y"}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		// add a private annotated method: no dependent is recompiled
+		env.addClass(root, "p1", "X", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p1;\n"+ //$NON-NLS-1$
+			"public class X {\n"+ //$NON-NLS-1$
+			"	public void foo(int i) {}\n" + //$NON-NLS-1$
+			"	public void foo(long l) {}\n" + //$NON-NLS-1$
+			"	public void bar() {}\n" + //$NON-NLS-1$
+			"	@Deprecated private void baz() {}\n" + //$NON-NLS-1$
+			"}\n" //$NON-NLS-1$
+			);
+
+		incrementalBuild(projectPath);
+		expectingNoProblems();
+		expectingUniqueCompiledClasses(new String[]{"p1.X"}); //$NON-NLS-1$
+
+		// remove bar: only its caller is recompiled, and reports the problem
+		env.addClass(root, "p1", "X", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p1;\n"+ //$NON-NLS-1$
+			"public class X {\n"+ //$NON-NLS-1$
+			"	public void foo(int i) {}\n" + //$NON-NLS-1$
+			"	public void foo(long l) {}\n" + //$NON-NLS-1$
+			"	@Deprecated private void baz() {}\n" + //$NON-NLS-1$
+			"}\n" //$NON-NLS-1$
+			);
+
+		incrementalBuild(projectPath);
+		expectingUniqueCompiledClasses(new String[]{"p1.X", "p2.Bar", "p2.Y"}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		expectingOnlySpecificProblemFor(projectPath.append("src/p2/Bar.java"), //$NON-NLS-1$
+			new Problem("", "The method bar() is undefined for the type X", projectPath.append("src/p2/Bar.java"), 51, 54, CategorizedProblem.CAT_MEMBER, IMarker.SEVERITY_ERROR)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 	}
 
 	public void testLocalTypeAddition() throws JavaModelException {
@@ -412,4 +512,112 @@ public class EfficiencyTests extends BuilderTests {
 		expectingCompilingOrder(
 				new String[] { "/Project/src/p2/Z.java", "/Project/src/p2/Y.java", "/Project/src/p1/X.java" });
 	}
+	/*
+	 * Creates the jar lib.jar of the given project, holding p.A with the given body and p.B
+	 */
+	private void createLibrary(IPath projectPath, String bodyOfA) throws Exception {
+		String lib = env.getProject(projectPath).getLocation().toOSString() + File.separator + "lib.jar";
+		Util.createJar(
+			new String[] {
+				"p/A.java",
+				"package p;\n" +
+				"public class A {\n" +
+				bodyOfA +
+				"}\n",
+				"p/B.java",
+				"package p;\n" +
+				"public class B {\n" +
+				"	public int bar() { return 0; }\n" +
+				"}\n"
+			},
+			lib,
+			CompilerOptions.getFirstSupportedJavaVersion());
+		env.getProject(projectPath).refreshLocal(IResource.DEPTH_INFINITE, null);
+	}
+
+	/*
+	 * Sets up a project with the jar lib.jar and the source types q.UsesA, q.UsesB and q.Other
+	 */
+	private IPath setUpLibraryProject() throws Exception {
+		IPath projectPath = env.addProject("Project"); //$NON-NLS-1$
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+		env.removePackageFragmentRoot(projectPath, ""); //$NON-NLS-1$
+		IPath root = env.addPackageFragmentRoot(projectPath, "src"); //$NON-NLS-1$
+		env.setOutputFolder(projectPath, "bin"); //$NON-NLS-1$
+
+		createLibrary(projectPath, "	public int foo() { return 1; }\n");
+		env.addEntry(projectPath, JavaCore.newLibraryEntry(new Path("/Project/lib.jar"), null, null));
+
+		env.addClass(root, "q", "UsesA", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n"+ //$NON-NLS-1$
+			"public class UsesA {\n"+ //$NON-NLS-1$
+			"	int foo(p.A a) { return a.foo(); }\n"+ //$NON-NLS-1$
+			"}\n" //$NON-NLS-1$
+			);
+		env.addClass(root, "q", "UsesB", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n"+ //$NON-NLS-1$
+			"public class UsesB {\n"+ //$NON-NLS-1$
+			"	int bar(p.B b) { return b.bar(); }\n"+ //$NON-NLS-1$
+			"}\n" //$NON-NLS-1$
+			);
+		env.addClass(root, "q", "Other", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n"+ //$NON-NLS-1$
+			"public class Other {\n"+ //$NON-NLS-1$
+			"}\n" //$NON-NLS-1$
+			);
+
+		fullBuild(projectPath);
+		expectingNoProblems();
+
+		if (Util.isMacOS()) {
+			// Wait a moment so the jar timestamp will be different
+			Thread.sleep(2000);
+		}
+		return projectPath;
+	}
+
+	// a rebuilt jar of the workspace only recompiles the dependents of its structurally changed types
+	public void testChangedLibraryType() throws Exception {
+		IPath projectPath = setUpLibraryProject();
+
+		createLibrary(projectPath,
+			"	public int foo() { return 1; }\n" +
+			"	public int foo2() { return 2; }\n");
+
+		incrementalBuild(projectPath);
+		expectingNoProblems();
+
+		// if a full build happens instead of an incremental, then all types will be recompiled
+		expectingCompiledClasses(new String[]{"q.UsesA"}); //$NON-NLS-1$
+	}
+
+	// a jar of the workspace rebuilt with changed method bodies only does not recompile anything
+	public void testChangedLibraryMethodBody() throws Exception {
+		IPath projectPath = setUpLibraryProject();
+
+		createLibrary(projectPath, "	public int foo() { return 2; }\n");
+
+		incrementalBuild(projectPath);
+		expectingNoProblems();
+		expectingCompiledClasses(new String[0]);
+	}
+
+	// a rebuilt jar of the workspace whose types were not fingerprinted by the last build causes a full build
+	public void testChangedLibraryWithoutFingerprints() throws Exception {
+		IPath projectPath = setUpLibraryProject();
+
+		// as if the last build had not recorded the fingerprints of the types of the jar
+		State state = (State) JavaModelManager.getJavaModelManager().getLastBuiltState(env.getProject(projectPath), null);
+		Field field = State.class.getDeclaredField("jarFingerprints");
+		field.setAccessible(true);
+		((Map<?, ?>) field.get(state)).clear();
+
+		createLibrary(projectPath,
+			"	public int foo() { return 1; }\n" +
+			"	public int foo2() { return 2; }\n");
+
+		incrementalBuild(projectPath);
+		expectingNoProblems();
+		expectingCompiledClasses(new String[]{"q.Other", "q.UsesA", "q.UsesB"}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
 }
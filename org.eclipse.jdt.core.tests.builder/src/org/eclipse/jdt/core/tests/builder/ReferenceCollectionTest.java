@@ -15,7 +15,6 @@ package org.eclipse.jdt.core.tests.builder;
 
 import static org.junit.Assert.assertArrayEquals;
 
-import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collections;
 import junit.framework.Test;
@@ -33,45 +32,14 @@ public class ReferenceCollectionTest extends BuilderTests {
 	}
 
 	private static class TestableReferenceCollection extends ReferenceCollection {
-		/*
-		    Make the package visible fields reflectively available for testing
-			char[][][] qualifiedNameReferences;
-			char[][] simpleNameReferences;
-			char[][] rootReferences;
-		 */
 		protected TestableReferenceCollection(char[][][] qualifiedNameReferences, char[][] simpleNameReferences,
 				char[][] rootReferences) {
 			super(qualifiedNameReferences, simpleNameReferences, rootReferences);
 		}
 
-		char[][][] getQualifiedNameReferences() {
-			try {
-				Field fld = ReferenceCollection.class.getDeclaredField("qualifiedNameReferences");
-				fld.setAccessible(true);
-				return (char[][][]) fld.get(this);
-			} catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-				throw new RuntimeException(e);
-			}
-		}
-
-		char[][] getSimpleNameReferences() {
-			try {
-				Field fld = ReferenceCollection.class.getDeclaredField("simpleNameReferences");
-				fld.setAccessible(true);
-				return (char[][]) fld.get(this);
-			} catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-				throw new RuntimeException(e);
-			}
-		}
-
-		char[][] getRootReferences() {
-			try {
-				Field fld = ReferenceCollection.class.getDeclaredField("rootReferences");
-				fld.setAccessible(true);
-				return (char[][]) fld.get(this);
-			} catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-				throw new RuntimeException(e);
-			}
+		protected TestableReferenceCollection(char[][][] qualifiedNameReferences, char[][] simpleNameReferences,
+				char[][] rootReferences, char[][] memberNameReferences) {
+			super(qualifiedNameReferences, simpleNameReferences, rootReferences, memberNameReferences);
 		}
 	}
 
@@ -367,4 +335,24 @@ public class ReferenceCollectionTest extends BuilderTests {
 
 		assertTrue("Should include", collection.includes(qualifiedNames, simpleNames, rootNames));
 	}
+
+	public void testMemberNames() {
+		TestableReferenceCollection unknown = new TestableReferenceCollection(null, null, null);
+		assertNull(unknown.getMemberNameReferences());
+		assertTrue(unknown.includesMemberName(new char[][] {"foo".toCharArray()}));
+
+		TestableReferenceCollection refColl = new TestableReferenceCollection(null, null, null, new char[][] {
+			"foo".toCharArray(), "bar".toCharArray(), "foo".toCharArray()
+		});
+		assertArrayEquals(new String[] {
+			"bar",
+			"foo"
+		}, CharOperation.toStrings(refColl.getMemberNameReferences()));
+		assertTrue(refColl.includesMemberName(new char[][] {"baz".toCharArray(), "foo".toCharArray()}));
+		assertFalse(refColl.includesMemberName(new char[][] {"baz".toCharArray()}));
+		assertFalse(refColl.equals(unknown));
+		assertEquals(refColl, new TestableReferenceCollection(null, null, null, new char[][] {
+			"bar".toCharArray(), "foo".toCharArray()
+		}));
+	}
 }
@@ -20,7 +20,6 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
@@ -292,18 +291,18 @@ public class StateTest extends BuilderTests {
 	private void assertEqualReferenceCollections(ReferenceCollection expectedReferenceCollection,
 			ReferenceCollection actualReferenceCollection) {
 		{
-			char[][] expected = getSimpleNameReferences(expectedReferenceCollection);
-			char[][] actual = getSimpleNameReferences(actualReferenceCollection);
+			char[][] expected = expectedReferenceCollection.getSimpleNameReferences();
+			char[][] actual = actualReferenceCollection.getSimpleNameReferences();
 			assertArrayEquals(toStringArray(expected), toStringArray(actual));
 		}
 		{
-			char[][] expected = getRootReferences(expectedReferenceCollection);
-			char[][] actual = getRootReferences(actualReferenceCollection);
+			char[][] expected = expectedReferenceCollection.getRootReferences();
+			char[][] actual = actualReferenceCollection.getRootReferences();
 			assertArrayEquals(toStringArray(expected), toStringArray(actual));
 		}
 		{
-			char[][][] expected = getQualifiedNameReferences(expectedReferenceCollection);
-			char[][][] actual = getQualifiedNameReferences(actualReferenceCollection);
+			char[][][] expected = expectedReferenceCollection.getQualifiedNameReferences();
+			char[][][] actual = actualReferenceCollection.getQualifiedNameReferences();
 			assertArrayEquals(toStringArray(expected), toStringArray(actual));
 		}
 	}
@@ -316,34 +315,4 @@ public class StateTest extends BuilderTests {
 		return Arrays.stream(qualifiedNameReferences).map(CharOperation::charToString).toArray(String[]::new);
 	}
 
-	char[][][] getQualifiedNameReferences(ReferenceCollection collection) {
-		try {
-			Field fld = ReferenceCollection.class.getDeclaredField("qualifiedNameReferences");
-			fld.setAccessible(true);
-			return (char[][][]) fld.get(collection);
-		} catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-			throw new RuntimeException(e);
-		}
-	}
-
-	char[][] getSimpleNameReferences(ReferenceCollection collection) {
-		try {
-			Field fld = ReferenceCollection.class.getDeclaredField("simpleNameReferences");
-			fld.setAccessible(true);
-			return (char[][]) fld.get(collection);
-		} catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-			throw new RuntimeException(e);
-		}
-	}
-
-	char[][] getRootReferences(ReferenceCollection collection) {
-		try {
-			Field fld = ReferenceCollection.class.getDeclaredField("rootReferences");
-			fld.setAccessible(true);
-			return (char[][]) fld.get(collection);
-		} catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-			throw new RuntimeException(e);
-		}
-	}
-
 }
@@ -44,9 +44,16 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.text.MessageFormat;
 import java.util.Iterator;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import javax.lang.model.SourceVersion;
 import junit.framework.Test;
 import org.eclipse.jdt.core.JavaCore;
@@ -56,13 +63,19 @@ import org.eclipse.jdt.core.tests.util.AbstractCompilerTest;
 import org.eclipse.jdt.core.tests.util.Util;
 import org.eclipse.jdt.internal.compiler.batch.ClasspathDirectory;
 import org.eclipse.jdt.internal.compiler.batch.ClasspathJar;
+import org.eclipse.jdt.internal.compiler.batch.CompileServer;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
 import org.eclipse.jdt.internal.compiler.batch.Main;
+import org.eclipse.jdt.internal.compiler.batch.ZipFileCache;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.util.BinaryTypeSnapshot;
+import org.eclipse.jdt.internal.compiler.util.ClassBytesCache;
+import org.eclipse.jdt.internal.compiler.util.JRTUtil;
 import org.eclipse.jdt.internal.compiler.util.ManifestAnalyzer;
 
 public class BatchCompilerTest extends AbstractBatchCompilerTest {
@@ -637,6 +650,7 @@ public void test012(){
         "    -d <dir>           destination directory (if omitted, no directory is\n" +
         "                       created); this option can be overridden per source\n" +
         "                       directory\n" +
+        "    -d <file.jar>      write the .class files into the given jar file\n" +
         "    -d none            generate no .class files\n" +
         "    -encoding <enc>    specify default encoding for all source files. Each\n" +
         "                       file/directory can override it when suffixed with\n" +
@@ -755,8 +769,15 @@ public void test012(){
         "    -failOnWarning     fail compilation if there are warnings\n" +
         "    -verbose           enable verbose output\n" +
         "    -referenceInfo     compute reference info\n" +
+        "    -headersOnly       generate class files holding only the API of the types:\n" +
+        "                       no code, no private members but the record fields,\n" +
+        "                       no local or anonymous types but the enum constant\n" +
+        "                       bodies\n" +
         "    -progress          show progress (only in -log mode)\n" +
         "    -time              display speed information \n" +
+        "    -stats:json[:<file>]\n" +
+        "                       write the time spent per phase and per unit as JSON\n" +
+        "                       to the standard output, or to <file>\n" +
         "    -noExit            do not call System.exit(n) at end of compilation (n==0\n" +
         "                       if no error)\n" +
         "    -repeat <n>        repeat compilation process <n> times for perf analysis\n" +
@@ -13528,4 +13549,657 @@ public void testIssue4768(){
 
 		true);
 }
-}
\ No newline at end of file
+// parsing method bodies on worker threads must report problems in the same order as a sequential compile
+public void testParallelBodyParsing() {
+	String setting = System.getProperty("jdt.compiler.parseWorkers");
+	try {
+		System.setProperty("jdt.compiler.parseWorkers", "4");
+		this.runNegativeTest(
+			new String[] {
+				"X.java",
+				"""
+				public class X {
+					void foo() {
+						new Y().bar();
+					}
+				}
+				""",
+				"Y.java",
+				"""
+				public class Y {
+					void bar() {
+						int i = 0
+					}
+				}
+				""",
+				"Z.java",
+				"""
+				public class Z {
+					void baz() {
+						String s = "";
+					}
+				}
+				""",
+			},
+			"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Z.java\""
+			+ " -1.8 -proc:none -d \"" + OUTPUT_DIR + "\"",
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Y.java (at line 3)\n" +
+			"	int i = 0\n" +
+			"	        ^\n" +
+			"Syntax error, insert \";\" to complete BlockStatements\n" +
+			"----------\n" +
+			"----------\n" +
+			"2. WARNING in ---OUTPUT_DIR_PLACEHOLDER---/Z.java (at line 3)\n" +
+			"	String s = \"\";\n" +
+			"	       ^\n" +
+			"The value of the local variable s is not used\n" +
+			"----------\n" +
+			"2 problems (1 error, 1 warning)\n",
+			true);
+	} finally {
+		if (setting == null) {
+			System.clearProperty("jdt.compiler.parseWorkers");
+		} else {
+			System.setProperty("jdt.compiler.parseWorkers", setting);
+		}
+	}
+}
+// a compile server answers the same problems for repeated requests as a cold compilation, to the clients knowing its token
+public void testCompileServer() throws Exception {
+	String sourceFile = OUTPUT_DIR + File.separator + "X.java";
+	Util.writeToFile(
+		"public class X {\n" +
+		"	void foo() {\n" +
+		"		String s = \"\";\n" +
+		"	}\n" +
+		"}\n",
+		sourceFile);
+	String[] args = new String[] { sourceFile, "-1.8", "-proc:none", "-d", OUTPUT_DIR };
+	String expectedErrors =
+		"----------\n" +
+		"1. WARNING in " + sourceFile + " (at line 3)\n" +
+		"	String s = \"\";\n" +
+		"	       ^\n" +
+		"The value of the local variable s is not used\n" +
+		"----------\n" +
+		"1 problem (1 warning)\n";
+	CompileServer server = new CompileServer(0);
+	Thread serverThread = new Thread(() -> {
+		try {
+			server.run();
+		} catch (IOException e) {
+			// reported through the failing requests
+		}
+	});
+	serverThread.start();
+	try {
+		for (int i = 0; i < 2; i++) {
+			StringWriter out = new StringWriter();
+			StringWriter err = new StringWriter();
+			int exitCode = CompileServer.compile(server.getPort(), server.getToken(), args, new PrintWriter(out), new PrintWriter(err));
+			assertEquals("Unexpected exit code", 0, exitCode);
+			assertEquals("Unexpected output", "", out.toString());
+			assertEquals("Unexpected errors", expectedErrors, Util.convertToIndependantLineDelimiter(err.toString()));
+			assertTrue("Missing class file", new File(OUTPUT_DIR + File.separator + "X.class").exists());
+		}
+		assertEquals("Unexpected request count", 2, server.getRequestCount());
+		StringWriter err = new StringWriter();
+		int exitCode = CompileServer.compile(server.getPort(), "not the token", args, new PrintWriter(new StringWriter()), new PrintWriter(err));
+		assertEquals("Unexpected exit code", -1, exitCode);
+		assertEquals("Unexpected errors", "Invalid compile server token\n", Util.convertToIndependantLineDelimiter(err.toString()));
+		assertEquals("Unexpected request count", 2, server.getRequestCount());
+	} finally {
+		CompileServer.compile(server.getPort(), server.getToken(), new String[] { "-shutdown" }, new PrintWriter(new StringWriter()), new PrintWriter(new StringWriter()));
+		serverThread.join(10000);
+	}
+}
+// a compile server resolves the relative paths of the arguments against the working directory of the client
+public void testCompileServerWorkingDirectory() throws Exception {
+	Util.writeToFile(
+		"public class X {}\n",
+		OUTPUT_DIR + File.separator + "src" + File.separator + "X.java");
+	String[] args = new String[] { "src" + File.separator + "X.java", "-1.8", "-proc:none", "-d", "bin" };
+	CompileServer server = new CompileServer(0);
+	Thread serverThread = new Thread(() -> {
+		try {
+			server.run();
+		} catch (IOException e) {
+			// reported through the failing requests
+		}
+	});
+	serverThread.start();
+	try {
+		StringWriter out = new StringWriter();
+		StringWriter err = new StringWriter();
+		int exitCode = CompileServer.compile(server.getPort(), server.getToken(), new File(OUTPUT_DIR), args, new PrintWriter(out), new PrintWriter(err));
+		assertEquals("Unexpected errors", "", err.toString());
+		assertEquals("Unexpected exit code", 0, exitCode);
+		assertTrue("Missing class file", new File(OUTPUT_DIR + File.separator + "bin" + File.separator + "X.class").exists());
+	} finally {
+		CompileServer.compile(server.getPort(), server.getToken(), new String[] { "-shutdown" }, new PrintWriter(new StringWriter()), new PrintWriter(new StringWriter()));
+		serverThread.join(10000);
+	}
+}
+// a compile server reads again a jar of the classpath which changed since the previous request
+public void testCompileServerChangedJar() throws Exception {
+	String jarPath = OUTPUT_DIR + File.separator + "lib.jar";
+	Util.createJar(
+		new String[] {
+			"p/L.java",
+			"package p;\n" +
+			"public class L {\n" +
+			"	public static int a() { return 1; }\n" +
+			"}\n"
+		},
+		jarPath,
+		"1.8");
+	String sourceFile = OUTPUT_DIR + File.separator + "X.java";
+	Util.writeToFile(
+		"public class X {\n" +
+		"	int foo() { return p.L.b(); }\n" +
+		"}\n",
+		sourceFile);
+	String[] args = new String[] { sourceFile, "-1.8", "-proc:none", "-cp", jarPath, "-d", OUTPUT_DIR };
+	CompileServer server = new CompileServer(0);
+	Thread serverThread = new Thread(() -> {
+		try {
+			server.run();
+		} catch (IOException e) {
+			// reported through the failing requests
+		}
+	});
+	serverThread.start();
+	try {
+		int exitCode = CompileServer.compile(server.getPort(), server.getToken(), args, new PrintWriter(new StringWriter()), new PrintWriter(new StringWriter()));
+		assertEquals("Unexpected exit code", -1, exitCode); // b() is missing
+		ZipFileCache cache = server.getZipFileCache();
+		int misses = cache.getMisses();
+		File jar = new File(jarPath);
+		long lastModified = jar.lastModified();
+		Util.createJar(
+			new String[] {
+				"p/L.java",
+				"package p;\n" +
+				"public class L {\n" +
+				"	public static int a() { return 1; }\n" +
+				"	public static int b() { return 2; }\n" +
+				"}\n"
+			},
+			jarPath,
+			"1.8");
+		jar.setLastModified(lastModified + 2000); // beyond the time stamp resolution of the file system
+		StringWriter err = new StringWriter();
+		exitCode = CompileServer.compile(server.getPort(), server.getToken(), args, new PrintWriter(new StringWriter()), new PrintWriter(err));
+		assertEquals("Unexpected errors", "", err.toString());
+		assertEquals("Unexpected exit code", 0, exitCode);
+		assertEquals("Unexpected misses", misses + 1, cache.getMisses());
+	} finally {
+		CompileServer.compile(server.getPort(), server.getToken(), new String[] { "-shutdown" }, new PrintWriter(new StringWriter()), new PrintWriter(new StringWriter()));
+		serverThread.join(10000);
+	}
+}
+// the result cache restores the class files and problems of units compiled against unchanged types
+public void testResultCache() throws Exception {
+	String setting = System.getProperty("jdt.compiler.resultCache");
+	String cacheDirectory = Util.getOutputDirectory() + File.separator + "resultCache";
+	String commandLine = "\"" + OUTPUT_DIR +  File.separator + "X.java\""
+		+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+		+ " -1.8 -proc:none -d \"" + OUTPUT_DIR + "\"";
+	String expectedErrors =
+		"----------\n" +
+		"1. WARNING in ---OUTPUT_DIR_PLACEHOLDER---/Y.java (at line 4)\n" +
+		"	String s = \"\";\n" +
+		"	       ^\n" +
+		"The value of the local variable s is not used\n" +
+		"----------\n" +
+		"1 problem (1 warning)\n";
+	try {
+		System.setProperty("jdt.compiler.resultCache", cacheDirectory);
+		for (int i = 0; i < 3; i++) {
+			this.runConformTest(
+				new String[] {
+					"X.java",
+					"public class X {\n" +
+					"	public static final int C = " + (i < 2 ? 1 : 2) + ";\n" +
+					"}\n",
+					"Y.java",
+					"""
+					public class Y {
+						public static final int D = X.C + 1;
+						void foo() {
+							String s = "";
+						}
+					}
+					""",
+				},
+				commandLine,
+				"",
+				expectedErrors,
+				true);
+			File[] entries = new File(cacheDirectory).listFiles();
+			assertEquals("Unexpected cache entries", i < 2 ? 2 : 3, entries == null ? 0 : entries.length);
+			ClassFileReader reader = ClassFileReader.read(OUTPUT_DIR + File.separator + "Y.class");
+			assertEquals("Unexpected constant", i < 2 ? 2 : 3, reader.getFields()[0].getConstant().intValue());
+		}
+	} finally {
+		if (setting == null) {
+			System.clearProperty("jdt.compiler.resultCache");
+		} else {
+			System.setProperty("jdt.compiler.resultCache", setting);
+		}
+		Util.delete(cacheDirectory);
+	}
+}
+// -headersOnly generates the same class files for sources that only differ in method bodies and private members
+public void testHeadersOnly() throws Exception {
+	String commandLine = "\"" + OUTPUT_DIR +  File.separator + "X.java\""
+		+ " -1.8 -proc:none -headersOnly -d \"" + OUTPUT_DIR + "\"";
+	byte[] previous = null;
+	for (int i = 0; i < 2; i++) {
+		this.runConformTest(
+			new String[] {
+				"X.java",
+				"import java.util.ArrayList;\n" +
+				"public class X {\n" +
+				"	public static final int C = 1;\n" +
+				"	private int " + (i == 0 ? "count" : "size") + ";\n" +
+				"	public int foo() {\n" +
+				"		return " + (i == 0 ? "new ArrayList<String>().size()" : "bar()") + ";\n" +
+				"	}\n" +
+				"	private int bar() {\n" +
+				"		return C;\n" +
+				"	}\n" +
+				"}\n",
+			},
+			commandLine,
+			"",
+			"",
+			true);
+		File classFile = new File(OUTPUT_DIR + File.separator + "X.class");
+		ClassFileReader reader = ClassFileReader.read(classFile);
+		assertEquals("Unexpected fields", 1, reader.getFields().length);
+		assertEquals("Unexpected constant", 1, reader.getFields()[0].getConstant().intValue());
+		assertEquals("Unexpected methods", 2, reader.getMethods().length); // <init> and foo()
+		byte[] bytes = org.eclipse.jdt.internal.compiler.util.Util.getFileByteContent(classFile);
+		if (previous != null)
+			assertTrue("Unexpected class file changes", java.util.Arrays.equals(previous, bytes));
+		previous = bytes;
+	}
+}
+// -headersOnly keeps the default values of the annotation elements, which the clients omitting them depend on
+public void testHeadersOnlyAnnotationDefaults() throws Exception {
+	String stubsPath = OUTPUT_DIR + File.separator + "stubs";
+	this.runConformTest(
+		new String[] {
+			"A.java",
+			"public @interface A {\n" +
+			"	int value() default 3;\n" +
+			"	String name() default \"x\";\n" +
+			"}\n",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "A.java\""
+		+ " -1.8 -proc:none -headersOnly -d \"" + stubsPath + "\"",
+		"",
+		"",
+		true);
+	this.runConformTest(
+		new String[] {
+			"U.java",
+			"@A\n" +
+			"public class U {\n" +
+			"}\n",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "U.java\""
+		+ " -1.8 -proc:none -cp \"" + stubsPath + "\" -d \"" + OUTPUT_DIR + File.separator + "bin\"",
+		"",
+		"",
+		false);
+}
+// -headersOnly generates the bodies of the enum constants and the private fields of the record components
+public void testHeadersOnlyEnumsAndRecords() throws Exception {
+	if (!isJRE16Plus) return;
+	String stubsPath = OUTPUT_DIR + File.separator + "stubs";
+	this.runConformTest(
+		new String[] {
+			"E.java",
+			"public enum E {\n" +
+			"	ONE {\n" +
+			"		@Override\n" +
+			"		public int size() {\n" +
+			"			return 1;\n" +
+			"		}\n" +
+			"	},\n" +
+			"	TWO;\n" +
+			"	public int size() {\n" +
+			"		return 0;\n" +
+			"	}\n" +
+			"}\n",
+			"R.java",
+			"public record R(int x, String name) {\n" +
+			"}\n",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "E.java\""
+		+ " \"" + OUTPUT_DIR +  File.separator + "R.java\""
+		+ " -16 -proc:none -headersOnly -d \"" + stubsPath + "\"",
+		"",
+		"",
+		true);
+	assertTrue("Missing enum constant body", new File(stubsPath + File.separator + "E$1.class").exists());
+	ClassFileReader reader = ClassFileReader.read(new File(stubsPath + File.separator + "R.class"));
+	assertEquals("Unexpected fields", 2, reader.getFields().length); // x and name
+	this.runConformTest(
+		new String[] {
+			"U.java",
+			"public class U {\n" +
+			"	int foo(E e, R r) {\n" +
+			"		return e.size() + E.ONE.size() + r.x() + r.name().length();\n" +
+			"	}\n" +
+			"}\n",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "U.java\""
+		+ " -16 -proc:none -cp \"" + stubsPath + "\" -d \"" + OUTPUT_DIR + File.separator + "bin\"",
+		"",
+		"",
+		false);
+}
+// the persisted jar index answers the packages and linked jars of unchanged jars, and is invalidated by changed jars
+public void testJarIndex() throws Exception {
+	String setting = System.getProperty("jdt.compiler.jarIndex");
+	String indexDirectory = Util.getOutputDirectory() + File.separator + "jarIndex";
+	String lib1Path = OUTPUT_DIR + File.separator + "lib1.jar";
+	String lib2Path = OUTPUT_DIR + File.separator + "lib2.jar";
+	try {
+		System.setProperty("jdt.compiler.jarIndex", indexDirectory);
+		Util.createJar(
+			null,
+			new String[] {
+				"META-INF/MANIFEST.MF",
+				"Manifest-Version: 1.0\n" +
+				"Created-By: Eclipse JDT Test Harness\n" +
+				"Class-Path: lib2.jar\n",
+			},
+			lib1Path,
+			JavaCore.VERSION_1_8);
+		for (int i = 0; i < 3; i++) {
+			String typeName = i < 2 ? "A" : "B";
+			if (i != 1) {
+				Util.createJar(
+					new String[] {
+						"p/" + typeName + ".java",
+						"package p;\n" +
+						"public class " + typeName + " {\n" +
+						"}",
+					},
+					null,
+					lib2Path,
+					JavaCore.VERSION_1_8);
+			}
+			this.runConformTest(
+				new String[] {
+					"src/X.java",
+					"public class X {\n" +
+					"  p." + typeName + " a;\n" +
+					"}",
+				},
+				"\"" + OUTPUT_DIR +  File.separator + "src/X.java\""
+				+ " -cp \"" + lib1Path + "\""
+				+ " -1.8 -proc:none -d \"" + OUTPUT_DIR + File.separator + "bin\" ",
+				"",
+				"",
+				false);
+			File[] entries = new File(indexDirectory).listFiles();
+			assertEquals("Unexpected index entries", 2, entries == null ? 0 : entries.length);
+		}
+	} finally {
+		if (setting == null) {
+			System.clearProperty("jdt.compiler.jarIndex");
+		} else {
+			System.setProperty("jdt.compiler.jarIndex", setting);
+		}
+		Util.delete(indexDirectory);
+	}
+}
+public void testJdkIndex() throws Exception {
+	if (!isJRE9Plus) return;
+	String setting = System.getProperty("jdt.compiler.jdkIndex");
+	String indexDirectory = Util.getOutputDirectory() + File.separator + "jdkIndex";
+	try {
+		System.setProperty("jdt.compiler.jdkIndex", indexDirectory);
+		for (int i = 0; i < 2; i++) {
+			JRTUtil.reset(); // forget the packages of the jimage
+			for (String release : new String[] { "-1.8", "--release 8" }) {
+				this.runNegativeTest(
+					new String[] {
+						"src/X.java",
+						"public class X {\n" +
+						"  java.util.List<String> l;\n" +
+						"  javax.sql.DataSource d;\n" +
+						"  java.util.Missing m;\n" +
+						"}",
+					},
+					"\"" + OUTPUT_DIR +  File.separator + "src/X.java\""
+					+ " " + release + " -proc:none -d \"" + OUTPUT_DIR + File.separator + "bin\" ",
+					"",
+					"----------\n" +
+					"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/src/X.java (at line 4)\n" +
+					"	java.util.Missing m;\n" +
+					"	^^^^^^^^^^^^^^^^^\n" +
+					"java.util.Missing cannot be resolved to a type\n" +
+					"----------\n" +
+					"1 problem (1 error)\n",
+					true);
+			}
+			File[] entries = new File(indexDirectory).listFiles();
+			assertEquals("Unexpected index entries", 1, entries == null ? 0 : entries.length);
+		}
+	} finally {
+		if (setting == null) {
+			System.clearProperty("jdt.compiler.jdkIndex");
+		} else {
+			System.setProperty("jdt.compiler.jdkIndex", setting);
+		}
+		JRTUtil.reset();
+		Util.delete(indexDirectory);
+	}
+}
+public void testJrtClassCache() throws Exception {
+	if (!isJRE9Plus) return;
+	ClassBytesCache cache = JRTUtil.getClassCache();
+	long lookups = cache.getHits() + cache.getMisses();
+	this.runConformTest(
+		new String[] {
+			"src/X.java",
+			"public class X {\n" +
+			"  java.util.List<String> l;\n" +
+			"}",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "src/X.java\""
+		+ " -1.8 -proc:none -d \"" + OUTPUT_DIR + File.separator + "bin\" ",
+		"",
+		"",
+		true);
+	if (cache.getBudget() > 0) {
+		assertTrue("Lookups should be counted", cache.getHits() + cache.getMisses() > lookups);
+		assertTrue("Cache should stay within its budget", cache.getSize() <= cache.getBudget());
+	}
+}
+// compilations sharing the readers of the JDK types, concurrently or not, report the same problems
+public void testJdkSnapshot() throws Exception {
+	if (!isJRE9Plus) return;
+	BinaryTypeSnapshot snapshot = JRTUtil.getSnapshot();
+	String[] sources = new String[] {
+		"src/X.java",
+		"import java.util.*;\n" +
+		"public class X {\n" +
+		"  List<String> l = new ArrayList<>();\n" +
+		"  Map<String, Integer> m = Collections.emptyMap();\n" +
+		"  Integer i = l;\n" +
+		"}",
+	};
+	String expectedErrors =
+		"----------\n" +
+		"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/src/X.java (at line 5)\n" +
+		"	Integer i = l;\n" +
+		"	            ^\n" +
+		"Type mismatch: cannot convert from List<String> to Integer\n" +
+		"----------\n" +
+		"1 problem (1 error)\n";
+	this.runNegativeTest(
+		sources,
+		"\"" + OUTPUT_DIR +  File.separator + "src/X.java\""
+		+ " -1.8 -proc:none -d none",
+		"",
+		expectedErrors,
+		true);
+	long hits = snapshot.getHits();
+	String[] arguments = new String[] { OUTPUT_DIR + File.separator + "src/X.java", "-1.8", "-proc:none", "-d", "none" };
+	Thread[] threads = new Thread[4];
+	String[] errors = new String[threads.length];
+	for (int i = 0; i < threads.length; i++) {
+		int index = i;
+		threads[i] = new Thread(() -> {
+			StringWriter err = new StringWriter();
+			Main.compile(arguments, new PrintWriter(new StringWriter()), new PrintWriter(err), null);
+			errors[index] = err.toString();
+		});
+		threads[i].start();
+	}
+	for (Thread thread : threads)
+		thread.join();
+	for (String error : errors)
+		assertTrue("Unexpected problems: " + error, error.contains("Type mismatch: cannot convert from List<String> to Integer"));
+	if (snapshot.isEnabled())
+		assertTrue("Later compilations should read the shared types", snapshot.getHits() > hits);
+}
+public void testStatsJson() throws Exception {
+	String statsFile = OUTPUT_DIR + File.separator + "stats.json";
+	this.runConformTest(
+		new String[] {
+			"src/X.java",
+			"public class X {\n" +
+			"  java.util.List<String> l = java.util.Collections.emptyList();\n" +
+			"}",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "src/X.java\""
+		+ " -1.8 -proc:none -d \"" + OUTPUT_DIR + File.separator + "bin\""
+		+ " -repeat 2 -stats:json:\"" + statsFile + "\" ",
+		"[repetition 1/2]\n" +
+		"[repetition 2/2]\n",
+		"",
+		true);
+	String stats = Util.fileContent(statsFile);
+	assertTrue("Missing repetitions", stats.contains("\"repetitions\""));
+	assertEquals("Unexpected number of repetitions", 2, stats.split("\"elapsedMillis\"").length - 1);
+	assertTrue("Missing unit", stats.contains("X.java\", \"parse\": "));
+	assertTrue("Missing write event", stats.contains("\"write\": {\"count\": 1"));
+	assertTrue("Missing output", stats.contains("\"output\": {\"bytes\": "));
+}
+// the class files written into a -d jar are the ones written into a -d directory, in the same jar from one run to the next
+public void testJarDestination() throws Exception {
+	String[] sources = new String[] {
+		"src/p/X.java",
+		"package p;\n" +
+		"public class X {\n" +
+		"  class M1 {}\n" +
+		"  class M2 {}\n" +
+		"  class M3 {}\n" +
+		"}",
+		"src/Y.java",
+		"public class Y extends p.X {}",
+	};
+	String jar = OUTPUT_DIR + File.separator + "bin" + File.separator + "out.jar";
+	byte[][] contents = new byte[2][];
+	for (int i = 0; i < 2; i++) {
+		this.runConformTest(
+			sources,
+			"\"" + OUTPUT_DIR +  File.separator + "src/Y.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "src/p/X.java\""
+			+ " -1.8 -proc:none -d \"" + jar + "\" ",
+			"",
+			"",
+			true);
+		contents[i] = Files.readAllBytes(new File(jar).toPath());
+	}
+	assertTrue("Jar should be reproducible", Arrays.equals(contents[0], contents[1]));
+	List<String> names = new ArrayList<>();
+	try (ZipFile zipFile = new ZipFile(jar)) {
+		for (ZipEntry entry : Collections.list(zipFile.entries())) {
+			names.add(entry.getName());
+			if (!entry.isDirectory() && entry.getName().endsWith(".class"))
+				new ClassFileReader(zipFile.getInputStream(entry).readAllBytes(), entry.getName().toCharArray());
+		}
+	}
+	assertEquals("Unexpected entries",
+		"[META-INF/, META-INF/MANIFEST.MF, Y.class, p/, p/X.class, p/X$M1.class, p/X$M2.class, p/X$M3.class]",
+		names.toString());
+}
+// invocations answered from the inference cache must report the same problems as a full inference
+public void testInferenceCache() throws Exception {
+	String setting = System.getProperty("jdt.compiler.inferenceCache");
+	String statsFile = OUTPUT_DIR + File.separator + "stats.json";
+	try {
+		System.setProperty("jdt.compiler.inferenceCache", "true");
+		this.runNegativeTest(
+			new String[] {
+				"X.java",
+				"""
+				import java.util.*;
+				public class X {
+					static <T extends Comparable<T>> T max(List<T> list) { return list.get(0); }
+					static <T> List<T> single(T t) { return Collections.singletonList(t); }
+					void foo(List<String> strings, List<Object> objects, String s) {
+						String a = max(strings);
+						String b = max(strings);
+						Object c = max(objects);
+						Object d = max(objects);
+						List<String> e = single(s);
+						List<String> f = single(s);
+						Integer g = single(s);
+						Integer h = single(s);
+					}
+				}
+				""",
+			},
+			"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+			+ " -1.8 -proc:none -d \"" + OUTPUT_DIR + "\""
+			+ " -stats:json:\"" + statsFile + "\" ",
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 8)\n" +
+			"	Object c = max(objects);\n" +
+			"	           ^^^\n" +
+			"The method max(List<T>) in the type X is not applicable for the arguments (List<Object>)\n" +
+			"----------\n" +
+			"2. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 9)\n" +
+			"	Object d = max(objects);\n" +
+			"	           ^^^\n" +
+			"The method max(List<T>) in the type X is not applicable for the arguments (List<Object>)\n" +
+			"----------\n" +
+			"3. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 12)\n" +
+			"	Integer g = single(s);\n" +
+			"	            ^^^^^^^^^\n" +
+			"Type mismatch: cannot convert from List<String> to Integer\n" +
+			"----------\n" +
+			"4. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 13)\n" +
+			"	Integer h = single(s);\n" +
+			"	            ^^^^^^^^^\n" +
+			"Type mismatch: cannot convert from List<String> to Integer\n" +
+			"----------\n" +
+			"4 problems (4 errors)\n",
+			true);
+		// b, d and f reuse the inferences of a, c and e, h is not cached as its return type is incompatible
+		String stats = Util.fileContent(statsFile);
+		assertTrue("Unexpected cache statistics", stats.contains("\"inferenceCache\": {\"hits\": 3,"));
+	} finally {
+		if (setting == null) {
+			System.clearProperty("jdt.compiler.inferenceCache");
+		} else {
+			System.setProperty("jdt.compiler.inferenceCache", setting);
+		}
+	}
+}
+}
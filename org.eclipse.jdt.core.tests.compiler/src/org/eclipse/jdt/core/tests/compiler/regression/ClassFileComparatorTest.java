@@ -19,7 +19,9 @@ import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Arrays;
 import junit.framework.Test;
+import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.compiler.batch.BatchCompiler;
 import org.eclipse.jdt.core.tests.util.Util;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
@@ -101,6 +103,21 @@ public class ClassFileComparatorTest extends AbstractRegressionTest {
 		}
 	}
 
+	private String changedMemberNames(String classFile1, String classFile2) {
+		try {
+			ClassFileReader reader = ClassFileReader.read(EVAL_DIRECTORY + File.separator + classFile1 + ".class");
+			byte[] classFileBytes = org.eclipse.jdt.internal.compiler.util.Util.getFileByteContent(
+					new File(EVAL_DIRECTORY + File.separator + classFile2 + ".class"));
+			char[][] names = reader.getStructurallyChangedMemberNames(classFileBytes);
+			if (names == null)
+				return null;
+			Arrays.sort(names, CharOperation::compareTo);
+			return String.valueOf(CharOperation.concatWith(names, ','));
+		} catch(IOException | ClassFormatException e) {
+			return null;
+		}
+	}
+
 	public void test001() {
 		try {
 			String sourceA001 =
@@ -454,4 +471,78 @@ public class ClassFileComparatorTest extends AbstractRegressionTest {
 			removeTempClass("A016");
 		}
 	}
+
+	public void test017() {
+		try {
+			String sourceA017 =
+				"public class A017 {\n" +
+				"  public int foo(int i) {\n" +
+				"    return i;\n" +
+				"  }\n" +
+				"  public int bar() {\n" +
+				"    return 1;\n" +
+				"  }\n" +
+				"}";
+			compileAndDeploy(sourceA017, "A017");
+			String sourceA017_2 =
+				"public class A017_2 {\n" +
+				"  public int foo(int i) {\n" +
+				"    return i;\n" +
+				"  }\n" +
+				"  public long foo(long l) {\n" +
+				"    return l;\n" +
+				"  }\n" +
+				"  public int bar() {\n" +
+				"    return 2;\n" +
+				"  }\n" +
+				"  @Deprecated\n" +
+				"  private void baz() {\n" +
+				"  }\n" +
+				"}";
+			compileAndDeploy(sourceA017_2, "A017_2");
+			assertEquals("baz,foo", changedMemberNames("A017", "A017_2"));
+			assertEquals("", changedMemberNames("A017", "A017"));
+		} finally {
+			removeTempClass("A017");
+		}
+	}
+
+	public void test018() {
+		try {
+			String sourceA018 =
+				"public class A018 {\n" +
+				"  public static final int K = 1;\n" +
+				"  public A018() {\n" +
+				"  }\n" +
+				"}";
+			compileAndDeploy(sourceA018, "A018");
+			String sourceA018_2 =
+				"public class A018_2 {\n" +
+				"  public static final int K = 2;\n" +
+				"  public A018_2() {\n" +
+				"  }\n" +
+				"}";
+			compileAndDeploy(sourceA018_2, "A018_2");
+			assertEquals("K", changedMemberNames("A018", "A018_2"));
+			String sourceA018_3 =
+				"public class A018_3 {\n" +
+				"  public static final int K = 1;\n" +
+				"  public A018_3(int i) {\n" +
+				"  }\n" +
+				"}";
+			compileAndDeploy(sourceA018_3, "A018_3");
+			assertNull("a constructor changed", changedMemberNames("A018", "A018_3"));
+			String sourceA018_4 =
+				"public class A018_4 {\n" +
+				"  @Deprecated\n" +
+				"  public static final int K = 1;\n" +
+				"  public A018_4() {\n" +
+				"  }\n" +
+				"}";
+			compileAndDeploy(sourceA018_4, "A018_4");
+			assertNull("the annotations of a visible member changed", changedMemberNames("A018", "A018_4"));
+		} finally {
+			removeTempClass("A018");
+		}
+	}
 }
@@ -318,6 +318,20 @@ public class CompilerInvocationTests extends AbstractRegressionTest {
 				new DefaultProblemFactory().getLocalizedMessage(0, Integer.MAX_VALUE / 2, new String[] { "Zork" }));
 	}
 
+// the message of a problem is only formatted when asked for
+	public void test013_lazy_problem_messages() {
+		DefaultProblemFactory factory = new DefaultProblemFactory();
+		String[] arguments = new String[] { "Zork" };
+		CategorizedProblem problem = factory.createProblem("X.java".toCharArray(), IProblem.UndefinedType,
+				new String[] { "p.Zork" }, arguments, ProblemSeverities.Error, 0, 3, 1, 1);
+		assertEquals("Zork cannot be resolved to a type", problem.getMessage());
+		assertSame(problem.getMessage(), problem.getMessage());
+		assertEquals("p.Zork", problem.getArguments()[0]);
+		problem = factory.createProblem("X.java".toCharArray(), IProblem.UndefinedType, arguments,
+				Integer.MAX_VALUE / 2, arguments, ProblemSeverities.Error, 0, 3, 1, 1);
+		assertEquals(factory.getLocalizedMessage(IProblem.UndefinedType, Integer.MAX_VALUE / 2, arguments), problem.getMessage());
+	}
+
 // problem categories - check that categories match expected ones
 // see also discussion in https://bugs.eclipse.org/bugs/show_bug.cgi?id=208383
 public void test011_problem_categories() {
@@ -70,4 +70,58 @@ public class InternalScannerTest extends AbstractRegressionTest {
 		assertEquals("Wrong number of line ends", 2, scanner.getLineEnds().length);
 	}
 
+	/**
+	 * The keywords, and identifiers differing from them by one character
+	 */
+	public void test003() throws InvalidInputException {
+		String[] keywords = {
+			"abstract", "boolean", "break", "byte", "case", "catch", "char", "class", "const", "continue", "default",
+			"do", "double", "else", "enum", "extends", "false", "final", "finally", "float", "for", "goto", "if",
+			"implements", "instanceof", "int", "interface", "long", "native", "new", "null", "package", "private",
+			"protected", "public", "return", "short", "static", "strictfp", "super", "switch", "synchronized", "this",
+			"throw", "throws", "transient", "true", "try", "void", "volatile", "while"
+		};
+		for (String keyword : keywords) {
+			Scanner scanner = new Scanner();
+			scanner.setSource((keyword + " " + keyword.charAt(0) + 'q' + keyword.substring(2) + " $" + keyword + " " + keyword + "_").toCharArray());
+			TerminalToken token = scanner.getNextToken();
+			assertTrue("Not a keyword: " + keyword, token != TerminalToken.TokenNameIdentifier);
+			assertEquals("Wrong keyword", keyword, new String(scanner.getCurrentTokenSource()));
+			for (int i = 0; i < 3; i++)
+				assertEquals("Wrong token type", TerminalToken.TokenNameIdentifier, scanner.getNextToken());
+			assertEquals("Wrong token type", TerminalToken.TokenNameEOF, scanner.getNextToken());
+		}
+		Scanner scanner = new Scanner();
+		scanner.setSource("assert exports module open opens provides requires to transitive uses with".toCharArray());
+		assertEquals("Wrong token type", TerminalToken.TokenNameassert, scanner.getNextToken());
+		assertTrue("Assert keyword not recorded", scanner.containsAssertKeyword);
+		TerminalToken token;
+		while ((token = scanner.getNextToken()) != TerminalToken.TokenNameEOF)
+			assertEquals("Module keyword outside of a module declaration", TerminalToken.TokenNameIdentifier, token);
+	}
+
+	/**
+	 * Runs of spaces and tabs, as white space tokens and between tokens
+	 */
+	public void test004() throws InvalidInputException {
+		String source = "a \t  \t\n\t\tb  ";
+		Scanner scanner = new Scanner(false, true /*whitespace*/, false, this.complianceLevel, null, null, true);
+		scanner.setSource(source.toCharArray());
+		assertEquals("Wrong token type", TerminalToken.TokenNameIdentifier, scanner.getNextToken());
+		assertEquals("Wrong token type", TerminalToken.TokenNameWHITESPACE, scanner.getNextToken());
+		assertEquals("Wrong white space", " \t  \t\n\t\t", new String(scanner.getCurrentTokenSource()));
+		assertEquals("Wrong token type", TerminalToken.TokenNameIdentifier, scanner.getNextToken());
+		assertEquals("Wrong identifier start", 9, scanner.startPosition);
+		assertEquals("Wrong token type", TerminalToken.TokenNameWHITESPACE, scanner.getNextToken());
+		assertEquals("Wrong white space end", source.length() - 1, scanner.getCurrentTokenEndPosition());
+		assertEquals("Wrong token type", TerminalToken.TokenNameEOF, scanner.getNextToken());
+
+		scanner = new Scanner();
+		scanner.setSource(source.toCharArray());
+		scanner.resetTo(0, 4);
+		assertEquals("Wrong token type", TerminalToken.TokenNameIdentifier, scanner.getNextToken());
+		assertEquals("Wrong token type", TerminalToken.TokenNameEOF, scanner.getNextToken());
+		assertEquals("Scanned beyond the end", 6, scanner.currentPosition);
+	}
+
 }
@@ -3553,6 +3553,67 @@ public void testBug577350_002() {
 		},
 		"");
 }
+// members of types with many methods and fields are looked up through an index
+public void testManyMembers() {
+	StringBuilder y = new StringBuilder("public class Y {\n");
+	for (int i = 0; i < 100; i++) {
+		y.append("  public static String m").append(i).append("(int i) { return \"int").append(i).append("\"; }\n");
+		y.append("  public static String m").append(i).append("(String s) { return \"String").append(i).append("\"; }\n");
+		y.append("  public static int f").append(i).append(" = ").append(i).append(";\n");
+	}
+	y.append("  public static String m100(String... s) { return \"varargs\"; }\n");
+	y.append("}");
+	this.runNegativeTest(
+		new String[] {
+			"Y.java",
+			y.toString(),
+			"X.java",
+			"public class X {\n" +
+			"  public static void main(String[] args) {\n" +
+			"    System.out.println(Y.m0(0) + Y.m42(\"a\") + Y.m99(1) + Y.m100() + (Y.f0 + Y.f99));\n" +
+			"    Y.m100(0);\n" +
+			"    Y.m101(0);\n" +
+			"    System.out.println(Y.f100);\n" +
+			"  }\n" +
+			"}",
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 4)\n" +
+		"	Y.m100(0);\n" +
+		"	  ^^^^\n" +
+		"The method m100(String...) in the type Y is not applicable for the arguments (int)\n" +
+		"----------\n" +
+		"2. ERROR in X.java (at line 5)\n" +
+		"	Y.m101(0);\n" +
+		"	  ^^^^\n" +
+		"The method m101(int) is undefined for the type Y\n" +
+		"----------\n" +
+		"3. ERROR in X.java (at line 6)\n" +
+		"	System.out.println(Y.f100);\n" +
+		"	                     ^^^^\n" +
+		"f100 cannot be resolved or is not a field\n" +
+		"----------\n");
+}
+// the error for an inapplicable invocation names the same method whatever the number of arguments
+public void testInapplicableArgumentCount() {
+	this.runNegativeTest(
+		new String[] {
+			"X.java",
+			"public class X {\n" +
+			"  void bar(String s) {}\n" +
+			"  void bar(int i, int j, int k) {}\n" +
+			"  void foo() {\n" +
+			"    bar(1, 2);\n" +
+			"  }\n" +
+			"}",
+		},
+		"----------\n" +
+		"1. ERROR in X.java (at line 5)\n" +
+		"	bar(1, 2);\n" +
+		"	^^^\n" +
+		"The method bar(int, int, int) in the type X is not applicable for the arguments (int, int)\n" +
+		"----------\n");
+}
 public static Class testClass() {	return LookupTest.class;
 }
 }
@@ -859,6 +859,26 @@ public void test2500_addInitializationsFrom_for_definites() {
 	assertTrue("nb of failures: " + failures, failures == 0);
 }
 
+// copies share the extra bits of a flow info until either of them changes
+public void test2600_copy_extra_bits() {
+	UnconditionalFlowInfo original = UnconditionalFlowInfo.fakeInitializedFlowInfo(0, 0);
+	original.markAsDefinitelyAssigned(TestLocalVariableBinding.local64);
+	original.markAsDefinitelyNull(TestLocalVariableBinding.local128);
+	UnconditionalFlowInfo copy = original.unconditionalCopy();
+	assertSame("extra bits should be shared", original.extra[0], copy.extra[0]);
+	copy.markAsDefinitelyAssigned(TestLocalVariableBinding.local128);
+	copy.markAsDefinitelyNonNull(TestLocalVariableBinding.local64);
+	original.resetAssignmentInfo(TestLocalVariableBinding.local64);
+	assertFalse(original.isPotentiallyAssigned(TestLocalVariableBinding.local64));
+	assertFalse(original.isPotentiallyAssigned(TestLocalVariableBinding.local128));
+	assertTrue(original.isDefinitelyNull(TestLocalVariableBinding.local128));
+	assertFalse(original.isPotentiallyNonNull(TestLocalVariableBinding.local64));
+	assertTrue(copy.isPotentiallyAssigned(TestLocalVariableBinding.local64));
+	assertTrue(copy.isPotentiallyAssigned(TestLocalVariableBinding.local128));
+	assertTrue(copy.isDefinitelyNull(TestLocalVariableBinding.local128));
+	assertTrue(copy.isDefinitelyNonNull(TestLocalVariableBinding.local64));
+}
+
 // Use for coverage tests only. Needs specific instrumentation of code,
 // that is controled by UnconditionalFlowInfo#coverageTestFlag.
 // Note: coverage tests tend to fill the console with messages, and the
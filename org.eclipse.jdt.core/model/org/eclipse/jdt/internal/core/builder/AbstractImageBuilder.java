@@ -24,6 +24,10 @@ import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IContainer;
@@ -55,6 +59,7 @@ import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.internal.compiler.AbstractAnnotationProcessorManager;
 import org.eclipse.jdt.internal.compiler.ClassFile;
 import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.CompilationResultCache;
 import org.eclipse.jdt.internal.compiler.Compiler;
 import org.eclipse.jdt.internal.compiler.CompilerConfiguration;
 import org.eclipse.jdt.internal.compiler.DefaultCompilerFactory;
@@ -76,6 +81,8 @@ import org.eclipse.jdt.internal.core.PackageFragment;
 import org.eclipse.jdt.internal.core.util.Messages;
 import org.eclipse.jdt.internal.core.util.Util;
 import org.eclipse.osgi.util.NLS;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * The abstract superclass of Java builders.
@@ -123,6 +130,21 @@ public final static Integer P_HIGH = Integer.valueOf(IMarker.PRIORITY_HIGH);
 public final static Integer P_NORMAL = Integer.valueOf(IMarker.PRIORITY_NORMAL);
 public final static Integer P_LOW = Integer.valueOf(IMarker.PRIORITY_LOW);
 public final static String COMPILER_FACTORY_KEY = "AbstractImageBuilder.compilerFactory"; //$NON-NLS-1$
+// whether the source files of the test group are read ahead while the main group compiles, see #readAhead(Collection)
+public static boolean READ_TEST_SOURCES_AHEAD = !"false".equals(System.getProperty("jdt.builder.readTestSourcesAhead")); //$NON-NLS-1$ //$NON-NLS-2$
+private static final long MAX_CHARS_READ_AHEAD = 50_000_000; // 100MB
+private static final ExecutorService READER_SERVICE = createReaderExecutor();
+
+private static ThreadPoolExecutor createReaderExecutor() {
+	ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+			/* keepAliveTime */ 5, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), r -> {
+				Thread t = new Thread(r, "Compiler Source Reader"); //$NON-NLS-1$
+				t.setDaemon(true);
+				return t;
+			});
+	executor.allowCoreThreadTimeOut(true);
+	return executor;
+}
 private final CompilationGroup compilationGroup;
 
 protected AbstractImageBuilder(JavaBuilder javaBuilder, boolean buildStarting, State newState, CompilationGroup compilationGroup) {
@@ -278,6 +300,13 @@ protected void acceptSecondaryType(ClassFile classFile) {
 	// noop
 }
 protected void addAllSourceFiles(final LinkedHashSet<SourceFile> sourceFiles) throws CoreException {
+	addAllSourceFiles(sourceFiles, true);
+}
+
+/**
+ * Adds the source files of the source locations, and creates their packages in the output folders if asked to.
+ */
+protected void addAllSourceFiles(final LinkedHashSet<SourceFile> sourceFiles, final boolean createOutputFolders) throws CoreException {
 	for (final ClasspathMultiDirectory sourceLocation : this.sourceLocations) {
 		final char[][] exclusionPatterns = sourceLocation.exclusionPatterns;
 		final char[][] inclusionPatterns = sourceLocation.inclusionPatterns;
@@ -314,7 +343,7 @@ protected void addAllSourceFiles(final LinkedHashSet<SourceFile> sourceFiles) th
 									return inclusionPatterns != null;
 								}
 							}
-							if (!isOutputFolder) {
+							if (createOutputFolders && !isOutputFolder) {
 								if (folderPath == null)
 									folderPath = proxy.requestFullPath();
 								String packageName = folderPath.lastSegment();
@@ -335,6 +364,22 @@ protected void addAllSourceFiles(final LinkedHashSet<SourceFile> sourceFiles) th
 	}
 }
 
+/**
+ * Reads the contents of the given source files on a background thread until the compiler asks for them, so that
+ * reading the source files of the test group overlaps the compilation of the main group. See
+ * {@link SourceFile#readAhead()}.
+ */
+protected void readAhead(Collection<SourceFile> units) {
+	if (units.isEmpty())
+		return;
+	SourceFile[] toRead = units.toArray(new SourceFile[units.size()]); // the given collection may change meanwhile
+	READER_SERVICE.execute(() -> {
+		long charsRead = 0;
+		for (int i = 0; i < toRead.length && charsRead < MAX_CHARS_READ_AHEAD; i++)
+			charsRead += toRead[i].readAhead();
+	});
+}
+
 protected void cleanUp() {
 	if (this.nameEnvironment != null) {
 		this.nameEnvironment.cleanup();
@@ -584,7 +629,7 @@ protected SourceFile findSourceFile(IFile file, boolean mustExist) {
 
 protected void finishedWith(String sourceLocator, CompilationResult result, char[] mainTypeName, ArrayList definedTypeNames, ArrayList duplicateTypeNames) {
 	if (duplicateTypeNames == null) {
-		this.newState.record(sourceLocator, result.qualifiedReferences, result.simpleNameReferences, result.rootReferences, mainTypeName, definedTypeNames);
+		this.newState.record(sourceLocator, result.qualifiedReferences, result.simpleNameReferences, result.rootReferences, result.memberNameReferences, mainTypeName, definedTypeNames);
 		return;
 	}
 
@@ -600,7 +645,7 @@ protected void finishedWith(String sourceLocator, CompilationResult result, char
 		System.arraycopy(simpleRefs, 0, simpleRefs = new char[sLength + 1][], 0, sLength);
 		simpleRefs[sLength] = typeName;
 	}
-	this.newState.record(sourceLocator, result.qualifiedReferences, simpleRefs, result.rootReferences, mainTypeName, definedTypeNames);
+	this.newState.record(sourceLocator, result.qualifiedReferences, simpleRefs, result.rootReferences, result.memberNameReferences, mainTypeName, definedTypeNames);
 }
 
 protected IContainer createFolder(IPath packagePath, IContainer outputFolder) throws CoreException {
@@ -738,6 +783,12 @@ protected Compiler newCompiler() {
 	// temporary code to allow the compiler to revert to a single thread
 	String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 	newCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+	// opt-in parsing of method bodies on several worker threads
+	newCompiler.parseWorkers = Integer.getInteger("jdt.compiler.parseWorkers", 1).intValue(); //$NON-NLS-1$
+	// opt-in cache of the results of the units compiled against unchanged types
+	Bundle compilerBundle = FrameworkUtil.getBundle(Compiler.class);
+	newCompiler.resultCache = CompilationResultCache.fromSystemProperties(
+			compilerBundle == null ? "" : compilerBundle.getVersion().toString()); //$NON-NLS-1$
 
 	// enable the compiler reference info support
 	options.produceReferenceInfo = true;
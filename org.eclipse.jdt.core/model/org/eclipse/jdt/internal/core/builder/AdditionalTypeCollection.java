@@ -18,8 +18,17 @@ public class AdditionalTypeCollection extends ReferenceCollection {
 char[][] definedTypeNames;
 
 protected AdditionalTypeCollection(char[][] definedTypeNames, char[][][] qualifiedReferences, char[][] simpleNameReferences, char[][] rootReferences) {
-	super(qualifiedReferences, simpleNameReferences, rootReferences);
+	this(definedTypeNames, qualifiedReferences, simpleNameReferences, rootReferences, null);
+}
+
+protected AdditionalTypeCollection(char[][] definedTypeNames, char[][][] qualifiedReferences, char[][] simpleNameReferences, char[][] rootReferences, char[][] memberNameReferences) {
+	super(qualifiedReferences, simpleNameReferences, rootReferences, memberNameReferences);
 	this.definedTypeNames = definedTypeNames; // do not bother interning member type names (i.e. 'A$M')
 }
+
+AdditionalTypeCollection(char[][] definedTypeNames, EncodedReferences encoded, int offset) {
+	super(encoded, offset);
+	this.definedTypeNames = definedTypeNames;
+}
 }
 
@@ -53,6 +53,7 @@ public class BatchImageBuilder extends AbstractImageBuilder {
 	private ArrayList secondaryTypes; // qualified names for all secondary types found during batch compile
 	private Set<String> typeLocatorsWithUndefinedTypes; // type locators for all source files with errors that may be caused by 'not found' secondary types
 	private final CompilationGroup compilationGroup;
+	private Map<SourceFile, SourceFile> sourceFilesReadAhead; // read while the main group compiles, see readAllSourceFilesAhead()
 
 	/*  leave 2 threads for compiler + reader.*/
 	private static final ExecutorService WRITER_SERVICE = createExecutor(Math.max(1, Runtime.getRuntime().availableProcessors() - 2));
@@ -107,6 +108,14 @@ public void build() {
 		this.notifier.subTask(Messages.build_analyzingSources);
 		LinkedHashSet<SourceFile> sourceFiles = new LinkedHashSet<>(33);
 		addAllSourceFiles(sourceFiles);
+		if (this.sourceFilesReadAhead != null) {
+			// compile the same source files with their contents read ahead
+			LinkedHashSet<SourceFile> readAhead = new LinkedHashSet<>(sourceFiles.size());
+			for (SourceFile sourceFile : sourceFiles)
+				readAhead.add(this.sourceFilesReadAhead.getOrDefault(sourceFile, sourceFile));
+			sourceFiles = readAhead;
+			this.sourceFilesReadAhead = null;
+		}
 		this.notifier.updateProgressDelta(0.10f);
 
 		if (sourceFiles.size() > 0) {
@@ -135,6 +144,23 @@ public void build() {
 	}
 }
 
+/**
+ * Starts reading the contents of all the source files on a background thread, before the build of the main group
+ * when this builds the test group, whose own build then compiles them with their contents read ahead.
+ */
+protected void readAllSourceFilesAhead() {
+	LinkedHashSet<SourceFile> sourceFiles = new LinkedHashSet<>(33);
+	try {
+		addAllSourceFiles(sourceFiles, false); // the output folders are cleaned and created by build()
+	} catch (CoreException e) {
+		return; // build() reports it
+	}
+	this.sourceFilesReadAhead = new HashMap<>((int) (sourceFiles.size() / 0.75 + 1));
+	for (SourceFile sourceFile : sourceFiles)
+		this.sourceFilesReadAhead.put(sourceFile, sourceFile);
+	readAhead(sourceFiles);
+}
+
 @Override
 protected void acceptSecondaryType(ClassFile classFile) {
 	if (this.secondaryTypes != null)
@@ -243,6 +269,7 @@ protected void cleanUp() {
 	this.incrementalBuilder = null;
 	this.secondaryTypes = null;
 	this.typeLocatorsWithUndefinedTypes = null;
+	this.sourceFilesReadAhead = null;
 	super.cleanUp();
 }
 
@@ -216,6 +216,13 @@ public boolean equals(Object o) {
 	if (this == o) return true;
 	if (!(o instanceof ClasspathJar)) return false;
 	ClasspathJar jar = (ClasspathJar) o;
+	return isSameEntry(jar) && lastModified() == jar.lastModified();
+}
+
+/**
+ * Answers whether the given jar is the same classpath entry as this one, whatever the contents of their files.
+ */
+boolean isSameEntry(ClasspathJar jar) {
 	if (this.accessRuleSet != jar.accessRuleSet)
 		if (this.accessRuleSet == null || !this.accessRuleSet.equals(jar.accessRuleSet))
 			return false;
@@ -223,7 +230,6 @@ public boolean equals(Object o) {
 		return false;
 	}
 	return this.zipFilename.equals(jar.zipFilename)
-			&& lastModified() == jar.lastModified()
 			&& this.isOnModulePath == jar.isOnModulePath
 			&& areAllModuleOptionsEqual(jar);
 }
@@ -15,8 +15,6 @@ package org.eclipse.jdt.internal.core.builder;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.FileVisitResult;
-import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -38,7 +36,6 @@ import org.eclipse.jdt.internal.compiler.env.IModule.IModuleReference;
 import org.eclipse.jdt.internal.compiler.env.IMultiModuleEntry;
 import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
 import org.eclipse.jdt.internal.compiler.util.JRTUtil;
-import org.eclipse.jdt.internal.compiler.util.JRTUtil.JrtFileVisitor;
 import org.eclipse.jdt.internal.compiler.util.JrtFileSystem;
 import org.eclipse.jdt.internal.compiler.util.SuffixConstants;
 import org.eclipse.jdt.internal.core.JavaProject;
@@ -92,13 +89,9 @@ public static void loadModules(final ClasspathJrt jrt) {
 	modulesCache.computeIfAbsent(jrtKey, key -> {
 		Map<String, IModule> newCache = new HashMap<>();
 		try {
-			JRTUtil.walkModuleImage(jrt.jrtFileSystem, new JrtFileVisitor<Path>() {
-				@Override
-				public FileVisitResult visitModule(Path path, String name) throws IOException {
-					jrt.acceptModule(JRTUtil.getClassfileContent(jrt.jrtFileSystem, IModule.MODULE_INFO_CLASS, name), name,	newCache);
-					return FileVisitResult.SKIP_SUBTREE;
-				}
-			}, JRTUtil.NOTIFY_MODULES);
+			for (Map.Entry<String, byte[]> entry : JRTUtil.getModuleDescriptors(jrt.jrtFileSystem).entrySet()) {
+				jrt.acceptModule(entry.getValue(), entry.getKey(), newCache);
+			}
 		} catch (IOException e) {
 			Util.log(e, "Failed to init packages for " + jrt); //$NON-NLS-1$
 		}
@@ -51,6 +51,11 @@ public class CompressedReader {
 		return this.in.readInt();
 	}
 
+	/** @see CompressedWriter#write(byte[]) **/
+	public void readFully(byte[] b) throws IOException {
+		this.in.readFully(b);
+	}
+
 	/** @see CompressedWriter#writeChars(char[]) **/
 	public char[] readChars() throws IOException {
 		return this.in.readUTF().toCharArray();
@@ -115,6 +120,37 @@ public class CompressedReader {
 		}
 	}
 
+	/**
+	 * Reads a non negative number written seven bits per byte.
+	 *
+	 * @see CompressedWriter#writeVarInt(int)
+	 **/
+	public int readVarInt() throws IOException {
+		int v = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			byte b = this.in.readByte();
+			v |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				return v;
+			}
+		}
+		throw new IOException("Malformed varint"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Reads ascending numbers written as their count and differences.
+	 *
+	 * @see CompressedWriter#writeSortedInts(int[])
+	 **/
+	public int[] readSortedInts() throws IOException {
+		int[] values = new int[readVarInt()];
+		int last = 0;
+		for (int i = 0; i < values.length; i++) {
+			values[i] = last += readVarInt();
+		}
+		return values;
+	}
+
 	/**
 	 * Reads an array of chars by using this first common chars of the last result. The number of common chars is
 	 * decoded from a single byte. The remaining chars are read using the dictionary.
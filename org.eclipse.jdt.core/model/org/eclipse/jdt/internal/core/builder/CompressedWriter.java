@@ -52,6 +52,11 @@ public class CompressedWriter {
 		this.out.writeInt(v);
 	}
 
+	/** @see CompressedReader#readFully(byte[]) **/
+	public void write(byte[] b) throws IOException {
+		this.out.write(b);
+	}
+
 	// ---- compressed outputs: ---
 
 	/**
@@ -125,6 +130,47 @@ public class CompressedWriter {
 		}
 	}
 
+	/**
+	 * Writes a non negative number in as many bytes as needed, seven bits per byte, the low bits first. The high bit of
+	 * a byte is set when more bytes follow.
+	 *
+	 * @param v
+	 *            the number to write
+	 * @see CompressedReader#readVarInt()
+	 **/
+	public void writeVarInt(int v) throws IOException {
+		// => typically(v<128) only one byte per int
+		if (v < 0) {
+			throw new IllegalArgumentException(Integer.toString(v));
+		}
+		while (v >= 0x80) {
+			this.out.writeByte(v & 0x7F | 0x80);
+			v >>>= 7;
+		}
+		this.out.writeByte(v);
+	}
+
+	/**
+	 * Writes the given ascending non negative numbers: their count, then the first number and the differences between
+	 * consecutive numbers, each as a {@link #writeVarInt(int) varint}.
+	 *
+	 * @param values
+	 *            the numbers to write, sorted
+	 * @see CompressedReader#readSortedInts()
+	 **/
+	public void writeSortedInts(int[] values) throws IOException {
+		// => typically(dense values) only one byte per int
+		writeVarInt(values.length);
+		int last = 0;
+		for (int v : values) {
+			if (v < last) {
+				throw new IllegalArgumentException(v + "<" + last);//$NON-NLS-1$
+			}
+			writeVarInt(v - last);
+			last = v;
+		}
+	}
+
 	/**
 	 * Writes the given String. If the String was already written before its index in the dictionary is encoded as
 	 * index+1. Otherwise a 0 index is encoded and then the String is encoded as UTF8 and stored into dictionary.
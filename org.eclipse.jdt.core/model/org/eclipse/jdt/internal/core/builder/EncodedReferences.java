@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * The names of the reference collections of a saved state, as read from the state file. Each collection keeps its
+ * offset in the encoded names and decodes them the first time it is queried, so that reading the state of a project
+ * does not decode the references of all its source files, most of which a build never looks at.
+ * <p>
+ * The names of a collection are encoded as the sorted indexes of its qualified, simple and root names, then of its
+ * member names if they are known, in the tables of names of the state. See {@link State#write(java.io.DataOutputStream)}.
+ * </p>
+ */
+final class EncodedReferences {
+
+	private final byte[] bytes;
+	// the ids in the workspace table of names of the names of the state, by their index in the state
+	private final int[] qualifiedIds;
+	private final int[] simpleIds;
+	private final int[] rootIds;
+
+	EncodedReferences(byte[] bytes, int[] qualifiedIds, int[] simpleIds, int[] rootIds) {
+		this.bytes = bytes;
+		this.qualifiedIds = qualifiedIds;
+		this.simpleIds = simpleIds;
+		this.rootIds = rootIds;
+	}
+
+	/**
+	 * Sets the names of the given collection to those encoded at the given offset.
+	 */
+	void decode(ReferenceCollection collection, int offset) {
+		CompressedReader in = new CompressedReader(
+				new DataInputStream(new ByteArrayInputStream(this.bytes, offset, this.bytes.length - offset)));
+		try {
+			collection.qualifiedNameIds = readIdSet(in, this.qualifiedIds);
+			collection.simpleNameIds = readIdSet(in, this.simpleIds);
+			collection.rootIds = readIdSet(in, this.rootIds);
+			collection.memberNameIds = in.readBoolean() ? readIdSet(in, this.simpleIds) : null;
+		} catch (IOException | ArrayIndexOutOfBoundsException e) {
+			// the bytes were read whole from the state file, only a corrupted state file can end here
+			throw new IllegalStateException("Corrupted references at " + offset, e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Answers the set of the ids of the names of the interned indexes read.
+	 */
+	private static char[] readIdSet(CompressedReader in, int[] internedIds) throws IOException {
+		int[] ids = in.readSortedInts();
+		for (int i = 0; i < ids.length; i++)
+			ids[i] = internedIds[ids[i]];
+		return IdSet.of(ids, ids.length);
+	}
+}
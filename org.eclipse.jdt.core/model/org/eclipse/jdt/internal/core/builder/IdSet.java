@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.util.Arrays;
+
+/**
+ * Sets of non negative ids encoded in a <code>char[]</code>, two bytes per id, as the array containers of roaring
+ * bitmaps: the ids are grouped by their high 16 bits, and each group is encoded as its high bits, its size - 1 and
+ * the sorted low 16 bits of its ids. The groups are sorted by their high bits.
+ */
+final class IdSet {
+
+	static final char[] EMPTY = new char[0];
+
+	private IdSet() {
+	}
+
+	/**
+	 * Answers the set of the first <code>length</code> given ids, which may be unsorted and contain duplicates.
+	 */
+	static char[] of(int[] ids, int length) {
+		if (length == 0)
+			return EMPTY;
+		int[] sorted = Arrays.copyOf(ids, length);
+		Arrays.sort(sorted);
+		int distinct = 1;
+		for (int i = 1; i < length; i++)
+			if (sorted[i] != sorted[distinct - 1])
+				sorted[distinct++] = sorted[i];
+		int groups = 1;
+		for (int i = 1; i < distinct; i++)
+			if ((sorted[i] >>> 16) != (sorted[i - 1] >>> 16))
+				groups++;
+		char[] set = new char[distinct + groups * 2];
+		int position = 0;
+		for (int i = 0; i < distinct;) {
+			int high = sorted[i] >>> 16;
+			int start = i;
+			set[position] = (char) high;
+			position += 2;
+			while (i < distinct && (sorted[i] >>> 16) == high)
+				set[position++] = (char) sorted[i++];
+			set[position - (i - start) - 1] = (char) (i - start - 1);
+		}
+		return set;
+	}
+
+	static boolean contains(char[] set, int id) {
+		int high = id >>> 16;
+		for (int position = 0, length = set.length; position < length;) {
+			int groupHigh = set[position];
+			int groupEnd = position + 2 + set[position + 1] + 1;
+			if (groupHigh == high)
+				return Arrays.binarySearch(set, position + 2, groupEnd, (char) id) >= 0;
+			if (groupHigh > high)
+				return false;
+			position = groupEnd;
+		}
+		return false;
+	}
+
+	/**
+	 * Answers whether the set contains one of the given ids.
+	 */
+	static boolean containsAny(char[] set, int[] ids) {
+		for (int id : ids)
+			if (contains(set, id))
+				return true;
+		return false;
+	}
+
+	static int size(char[] set) {
+		int size = 0;
+		for (int position = 0, length = set.length; position < length;) {
+			int groupSize = set[position + 1] + 1;
+			size += groupSize;
+			position += 2 + groupSize;
+		}
+		return size;
+	}
+
+	/**
+	 * Answers the ids of the set, sorted.
+	 */
+	static int[] toArray(char[] set) {
+		int[] ids = new int[size(set)];
+		int index = 0;
+		for (int position = 0, length = set.length; position < length;) {
+			int high = set[position] << 16;
+			int groupEnd = position + 2 + set[position + 1] + 1;
+			for (position += 2; position < groupEnd; position++)
+				ids[index++] = high | set[position];
+		}
+		return ids;
+	}
+
+	/**
+	 * Answers the set with the given id added, or the given set if it already contains it.
+	 */
+	static char[] add(char[] set, int id) {
+		if (contains(set, id))
+			return set;
+		int[] ids = toArray(set);
+		int length = ids.length;
+		System.arraycopy(ids, 0, ids = new int[length + 1], 0, length);
+		ids[length] = id;
+		return of(ids, length + 1);
+	}
+}
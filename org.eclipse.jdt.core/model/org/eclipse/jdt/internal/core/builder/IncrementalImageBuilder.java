@@ -13,9 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.builder;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -63,12 +65,18 @@ protected LinkedHashSet<SourceFile> previousSourceFiles;
 protected Set<String> qualifiedStrings;
 protected Set<String> simpleStrings;
 protected Set<String> rootStrings;
+// the names of the changed fields and methods of the types whose changes are confined to them, by type path
+// (i.e. 'p1/p2/X' for p1.p2.X and its member types), see #addDependentsOfMembers
+protected Map<IPath, Set<String>> memberStrings;
 protected Map<IContainer, List<IPath>> secondaryTypesToRemove;
 protected boolean hasStructuralChanges;
 protected boolean makeOutputFolderConsistent;
 
 private IncrementalImageBuilder testImageBuilder;
 
+/** The ids of the names of a type whose changes are confined to some of its members, and of these members */
+private record MemberChange(ReferenceCollection.Query type, int[] memberNameIds) {}
+
 public static int MaxCompileLoop = 5; // perform a full build if it takes more than ? incremental compile loops
 
 protected IncrementalImageBuilder(JavaBuilder javaBuilder, State buildState, CompilationGroup compilationGroup) {
@@ -108,7 +116,7 @@ public boolean build(Map<IProject, IResourceDelta> deltas) {
 	// walk this project's deltas, find changed source files
 	// walk prereq projects' deltas, find changed class files & add affected source files
 	//   use the build state # to skip the deltas for certain prereq projects
-	//   ignore changed zip/jar files since they caused a full build
+	//   find the changed types of the changed zip/jar files from their fingerprints, see JarFingerprints
 	// compile the source files & acceptResult()
 	// compare the produced class files against the existing ones on disk
 	// recompile all dependent source files of any type with structural changes or new/removed secondary type
@@ -151,6 +159,9 @@ public boolean build(Map<IProject, IResourceDelta> deltas) {
 							return false;
 				}
 			}
+			if (!findChangedJars(this.nameEnvironment.binaryLocations)
+					|| (this.testImageBuilder != null && !findChangedJars(this.testImageBuilder.nameEnvironment.binaryLocations)))
+				return false;
 			this.notifier.updateProgressDelta(0.10f);
 
 			this.notifier.subTask(Messages.build_analyzingSources);
@@ -161,6 +172,8 @@ public boolean build(Map<IProject, IResourceDelta> deltas) {
 			this.notifier.updateProgressDelta(0.05f);
 		}
 
+		if (this.testImageBuilder != null && READ_TEST_SOURCES_AHEAD)
+			this.testImageBuilder.readAhead(this.testImageBuilder.sourceFiles); // while the main group compiles
 		if (incrementalBuildLoop() == false) {
 			return false;
 		}
@@ -240,14 +253,18 @@ protected void buildAfterBatchBuild() {
 }
 
 protected void addAffectedSourceFiles() {
-	if (this.qualifiedStrings.size() == 0 && this.simpleStrings.size() == 0) return;
+	if (this.qualifiedStrings.size() == 0 && this.simpleStrings.size() == 0 && this.memberStrings.size() == 0) return;
 	if(this.testImageBuilder != null) {
-		this.testImageBuilder.addAffectedSourceFiles(this.qualifiedStrings, this.simpleStrings, this.rootStrings, null);
+		this.testImageBuilder.addAffectedSourceFiles(this.qualifiedStrings, this.simpleStrings, this.rootStrings, this.memberStrings, null);
 	}
-	addAffectedSourceFiles(this.qualifiedStrings, this.simpleStrings, this.rootStrings, null);
+	addAffectedSourceFiles(this.qualifiedStrings, this.simpleStrings, this.rootStrings, this.memberStrings, null);
 }
 
 protected void addAffectedSourceFiles(Set<String> qualifiedSet, Set<String> simpleSet, Set<String> rootSet, Set<String> affectedTypes) {
+	addAffectedSourceFiles(qualifiedSet, simpleSet, rootSet, Collections.emptyMap(), affectedTypes);
+}
+
+protected void addAffectedSourceFiles(Set<String> qualifiedSet, Set<String> simpleSet, Set<String> rootSet, Map<IPath, Set<String>> memberMap, Set<String> affectedTypes) {
 	// the qualifiedStrings are of the form 'p1/p2' & the simpleStrings are just 'X'
 	char[][][] internedQualifiedNames = ReferenceCollection.internQualifiedNames(qualifiedSet);
 	// if a well known qualified name was found then we can skip over these
@@ -258,12 +275,15 @@ protected void addAffectedSourceFiles(Set<String> qualifiedSet, Set<String> simp
 	if (internedSimpleNames.length < simpleSet.size())
 		internedSimpleNames = null;
 	char[][] internedRootNames = ReferenceCollection.internSimpleNames(rootSet, false);
+	// the ids of the names are looked up once for all the reference collections
+	ReferenceCollection.Query query = ReferenceCollection.query(internedQualifiedNames, internedSimpleNames, internedRootNames);
+	MemberChange[] memberChanges = internMemberChanges(memberMap);
 
 	next: for (Entry<String, ReferenceCollection> entry : this.newState.references.entrySet()) {
 		String typeLocator = entry.getKey();
 		if (affectedTypes != null && !affectedTypes.contains(typeLocator)) continue next;
 		ReferenceCollection refs = entry.getValue();
-		if (refs.includes(internedQualifiedNames, internedSimpleNames, internedRootNames)) {
+		if (refs.includes(query) || includesChangedMember(refs, memberChanges)) {
 			IFile file = this.javaBuilder.currentProject.getFile(typeLocator);
 			SourceFile sourceFile = findSourceFile(file, true);
 			if (sourceFile == null) continue next;
@@ -278,10 +298,63 @@ protected void addAffectedSourceFiles(Set<String> qualifiedSet, Set<String> simp
 	}
 }
 
+private static MemberChange[] internMemberChanges(Map<IPath, Set<String>> memberMap) {
+	MemberChange[] memberChanges = new MemberChange[memberMap.size()];
+	int index = 0;
+	for (Entry<IPath, Set<String>> entry : memberMap.entrySet()) {
+		IPath path = entry.getKey();
+		Set<String> packageName = Collections.singleton(path.removeLastSegments(1).toString());
+		Set<String> typeName = Collections.singleton(path.lastSegment());
+		char[][][] internedQualifiedNames = ReferenceCollection.internQualifiedNames(packageName);
+		if (internedQualifiedNames.length == 0)
+			internedQualifiedNames = null; // well known
+		char[][] internedSimpleNames = ReferenceCollection.internSimpleNames(typeName, true);
+		if (internedSimpleNames.length == 0)
+			internedSimpleNames = null; // well known
+		memberChanges[index++] = new MemberChange(
+			ReferenceCollection.query(
+				internedQualifiedNames,
+				internedSimpleNames,
+				ReferenceCollection.internSimpleNames(Collections.singleton(path.segment(0)), false)),
+			ReferenceCollection.simpleIds(ReferenceCollection.internSimpleNames(entry.getValue(), false)));
+	}
+	return memberChanges;
+}
+
+private static boolean includesChangedMember(ReferenceCollection refs, MemberChange[] memberChanges) {
+	for (MemberChange change : memberChanges) {
+		if (refs.includes(change.type) && refs.includesMemberName(change.memberNameIds))
+			return true;
+	}
+	return false;
+}
+
 protected void addDependentsOf(IPath path, boolean isStructuralChange) {
 	addDependentsOf(path, isStructuralChange, this.qualifiedStrings, this.simpleStrings, this.rootStrings);
 }
 
+/**
+ * Adds the dependents of the given type which use, declare or inherit a field or a method with one of the given
+ * names, the type itself and its other members being unchanged.
+ */
+protected void addDependentsOfMembers(IPath path, char[][] memberNames) {
+	path = path.setDevice(null);
+	if (!this.hasStructuralChanges) {
+		this.newState.tagAsStructurallyChanged();
+		this.hasStructuralChanges = true;
+	}
+	String typeName = path.lastSegment();
+	int memberIndex = typeName.indexOf('$');
+	if (memberIndex > 0)
+		path = path.removeLastSegments(1).append(typeName.substring(0, memberIndex));
+	Set<String> names = this.memberStrings.computeIfAbsent(path, p -> new HashSet<>(3));
+	for (char[] memberName : memberNames)
+		names.add(new String(memberName));
+	if (JavaBuilder.DEBUG)
+		System.out.println("  will look for dependents of " //$NON-NLS-1$
+			+ path + " using " + names); //$NON-NLS-1$
+}
+
 protected void addDependentsOf(IPath path, boolean isStructuralChange, Set<String> qualifiedNames, Set<String> simpleNames, Set<String> rootNames) {
 	path = path.setDevice(null);
 	if (isStructuralChange) {
@@ -356,6 +429,7 @@ protected void cleanUp() {
 	this.qualifiedStrings = null;
 	this.simpleStrings = null;
 	this.rootStrings = null;
+	this.memberStrings = null;
 	this.secondaryTypesToRemove = null;
 	this.hasStructuralChanges = false;
 }
@@ -419,6 +493,44 @@ protected void deleteGeneratedFiles(IFile[] deletedGeneratedFiles) {
 	}
 }
 
+/**
+ * Adds the dependents of the types which changed in the given jar since its fingerprints were recorded by the last
+ * build, see {@link JarFingerprints}. Answers false if they cannot be found, then the jar requires a full build.
+ */
+private boolean addDependentsOfChangedTypes(ClasspathJar jar) {
+	JarFingerprints recorded = JarFingerprints.canFingerprint(jar) ? this.newState.jarFingerprints.get(jar.zipFilename) : null;
+	if (recorded == null)
+		return false;
+	if (recorded.lastModified == jar.lastModified())
+		return true; // unchanged, or its changed types were already found
+	JarFingerprints fingerprints;
+	try {
+		fingerprints = JarFingerprints.compute(jar);
+	} catch (IOException e) {
+		if (JavaBuilder.DEBUG)
+			System.out.println("Cannot fingerprint the types of " + jar.zipFilename + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+		return false;
+	}
+	if (JavaBuilder.DEBUG)
+		System.out.println("Found changed jar " + jar.zipFilename); //$NON-NLS-1$
+	for (String typeName : recorded.changedTypesIn(fingerprints))
+		addDependentsOf(new Path(typeName), false);
+	this.newState.jarFingerprints.put(jar.zipFilename, fingerprints);
+	return true;
+}
+
+/**
+ * Adds the dependents of the changed types of the fingerprinted jars among the given locations, whether or not a
+ * resource delta was reported for them. Answers false if a full build is required.
+ */
+private boolean findChangedJars(ClasspathLocation[] locations) {
+	for (ClasspathLocation location : locations)
+		if (location instanceof ClasspathJar && this.newState.jarFingerprints.containsKey(((ClasspathJar) location).zipFilename))
+			if (!addDependentsOfChangedTypes((ClasspathJar) location))
+				return false;
+	return true;
+}
+
 protected boolean findAffectedSourceFiles(IResourceDelta delta, ClasspathLocation[] classFoldersAndJars, IProject prereqProject) {
 	for (ClasspathLocation bLocation : classFoldersAndJars) {
 		// either a .class file folder or a zip/jar file
@@ -428,6 +540,8 @@ protected boolean findAffectedSourceFiles(IResourceDelta delta, ClasspathLocatio
 				IResourceDelta binaryDelta = delta.findMember(p);
 				if (binaryDelta != null) {
 					if (bLocation instanceof ClasspathJar) {
+						if (addDependentsOfChangedTypes((ClasspathJar) bLocation))
+							continue;
 						if (JavaBuilder.DEBUG)
 							System.out.println("ABORTING incremental build... found delta to jar/zip file"); //$NON-NLS-1$
 						return false; // do full build since jar file was changed (added/removed were caught as classpath change)
@@ -842,6 +956,7 @@ protected void resetCollections() {
 		this.qualifiedStrings = new HashSet<>(3);
 		this.simpleStrings = new HashSet<>(3);
 		this.rootStrings = new HashSet<>(3);
+		this.memberStrings = new HashMap<>(3);
 		this.hasStructuralChanges = false;
 	} else {
 		this.previousSourceFiles = this.sourceFiles.isEmpty() ? null : new LinkedHashSet<>(this.sourceFiles);
@@ -849,6 +964,7 @@ protected void resetCollections() {
 		this.qualifiedStrings.clear();
 		this.simpleStrings.clear();
 		this.rootStrings.clear();
+		this.memberStrings.clear();
 		this.workQueue.clear();
 	}
 }
@@ -960,11 +1076,22 @@ protected boolean classFileChanged(IFile file, String fileName, byte[] newBytes)
 		String filePath = location.getSchemeSpecificPart();
 		ClassFileReader reader = new ClassFileReader(oldBytes, filePath.toCharArray());
 		// ignore local types since they're only visible inside a single method
-		if (!(reader.isLocal() || reader.isAnonymous()) && reader.hasStructuralChanges(newBytes)) {
-			if (JavaBuilder.DEBUG)
-				System.out.println("Type has structural changes " + fileName); //$NON-NLS-1$
-			addDependentsOf(new Path(fileName), true);
-			this.newState.wasStructurallyChanged(fileName);
+		if (!(reader.isLocal() || reader.isAnonymous())) {
+			// when only some fields or methods changed, only the dependents using their names are affected
+			char[][] changedMembers = reader.getStructurallyChangedMemberNames(newBytes);
+			if (changedMembers != null) {
+				if (changedMembers.length > 0) {
+					if (JavaBuilder.DEBUG)
+						System.out.println("Type has structural changes to its members " + fileName); //$NON-NLS-1$
+					addDependentsOfMembers(new Path(fileName), changedMembers);
+					this.newState.wasStructurallyChanged(fileName);
+				}
+			} else if (reader.hasStructuralChanges(newBytes)) {
+				if (JavaBuilder.DEBUG)
+					System.out.println("Type has structural changes " + fileName); //$NON-NLS-1$
+				addDependentsOf(new Path(fileName), true);
+				this.newState.wasStructurallyChanged(fileName);
+			}
 		}
 	} catch (JavaModelException jme) {
 		Throwable e = jme.getCause();
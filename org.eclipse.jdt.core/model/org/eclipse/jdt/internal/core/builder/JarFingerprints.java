@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.eclipse.jdt.internal.compiler.classfmt.BinaryTypeFingerprint;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.IModule;
+import org.eclipse.jdt.internal.compiler.util.SuffixConstants;
+import org.eclipse.jdt.internal.compiler.util.Util;
+
+/**
+ * The fingerprints of the types of a jar of the workspace, as recorded by the build state, so that the next build
+ * only recompiles the dependents of the types which changed structurally when the jar is rebuilt, instead of all the
+ * source files. See {@link BinaryTypeFingerprint}.
+ */
+final class JarFingerprints {
+
+	/** The modification time of the jar when its types were fingerprinted */
+	final long lastModified;
+	/**
+	 * The first 8 bytes of the fingerprints of the types, keyed by the name of their class file without extension, as
+	 * in p1/p2/A$B or META-INF/versions/11/p1/p2/A$B for a type of a multi-release jar
+	 */
+	private final Map<String, Long> types;
+
+	private JarFingerprints(long lastModified, Map<String, Long> types) {
+		this.lastModified = lastModified;
+		this.types = types;
+	}
+
+	/**
+	 * Answers whether the types of the given jar can be fingerprinted: only the jars of the workspace are, as their
+	 * changes are reported by resource deltas.
+	 */
+	static boolean canFingerprint(ClasspathLocation location) {
+		return location instanceof ClasspathJar && !(location instanceof ClasspathJMod)
+				&& ((ClasspathJar) location).resource != null;
+	}
+
+	/**
+	 * Answers the fingerprints of the types of the given jar.
+	 */
+	static JarFingerprints compute(ClasspathJar jar) throws IOException {
+		long lastModified = jar.lastModified();
+		Map<String, Long> types = new HashMap<>();
+		try (ZipFile zipFile = new ZipFile(jar.zipFilename)) {
+			for (Enumeration<? extends ZipEntry> e = zipFile.entries(); e.hasMoreElements(); ) {
+				ZipEntry entry = e.nextElement();
+				String fileName = entry.getName();
+				if (!Util.isClassFileName(fileName) || typeName(fileName).equals(IModule.MODULE_INFO_CLASS)
+						|| (fileName.startsWith("META-INF/") && !fileName.startsWith(Util.METAINF_VERSIONS))) //$NON-NLS-1$
+					continue;
+				byte[] bytes = zipFile.getInputStream(entry).readAllBytes();
+				long fingerprint;
+				try {
+					ClassFileReader reader = new ClassFileReader(bytes, fileName.toCharArray());
+					fingerprint = ByteBuffer.wrap(BinaryTypeFingerprint.compute(reader)).getLong();
+				} catch (ClassFormatException ex) {
+					fingerprint = entry.getCrc(); // still tells a changed class file
+				}
+				types.put(fileName.substring(0, fileName.length() - SuffixConstants.SUFFIX_class.length), Long.valueOf(fingerprint));
+			}
+		}
+		return new JarFingerprints(lastModified, types);
+	}
+
+	/**
+	 * Answers the names of the class files of the types which were added, removed or structurally changed in the
+	 * given newer version of the jar, in any of its versions for a multi-release jar, and of its added and removed
+	 * packages.
+	 */
+	Set<String> changedTypesIn(JarFingerprints newer) {
+		Set<String> changed = new HashSet<>();
+		Set<String> packages = packagesOf(this.types.keySet());
+		Set<String> newerPackages = packagesOf(newer.types.keySet());
+		for (Map.Entry<String, Long> entry : this.types.entrySet())
+			if (!entry.getValue().equals(newer.types.get(entry.getKey())))
+				changed.add(typeName(entry.getKey()));
+		for (String fileName : newer.types.keySet())
+			if (!this.types.containsKey(fileName))
+				changed.add(typeName(fileName));
+		for (String packageName : packages)
+			if (!newerPackages.contains(packageName))
+				changed.add(packageName);
+		for (String packageName : newerPackages)
+			if (!packages.contains(packageName))
+				changed.add(packageName);
+		return changed;
+	}
+
+	/**
+	 * Answers the name of the type of the given entry of the jar, without the version directory of a multi-release jar.
+	 */
+	private static String typeName(String fileName) {
+		if (!fileName.startsWith(Util.METAINF_VERSIONS))
+			return fileName;
+		int index = fileName.indexOf('/', Util.METAINF_VERSIONS.length());
+		return index < 0 ? fileName : fileName.substring(index + 1);
+	}
+
+	private static Set<String> packagesOf(Set<String> fileNames) {
+		Set<String> packages = new HashSet<>();
+		for (String fileName : fileNames) {
+			String typeName = typeName(fileName);
+			int index = typeName.lastIndexOf('/');
+			if (index > 0)
+				packages.add(typeName.substring(0, index));
+		}
+		return packages;
+	}
+
+	static JarFingerprints read(CompressedReader in) throws IOException {
+		long lastModified = in.readLong();
+		int length = in.readInt();
+		Map<String, Long> types = new HashMap<>((int) (length / 0.75 + 1));
+		for (int i = 0; i < length; i++)
+			types.put(in.readStringUsingLast(), Long.valueOf(in.readLong()));
+		return new JarFingerprints(lastModified, types);
+	}
+
+	void write(CompressedWriter out) throws IOException {
+		out.writeLong(this.lastModified);
+		out.writeInt(this.types.size());
+		for (Map.Entry<String, Long> entry : new TreeMap<>(this.types).entrySet()) { // sorted for writeStringUsingLast
+			out.writeStringUsingLast(entry.getKey());
+			out.writeLong(entry.getValue().longValue());
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof JarFingerprints))
+			return false;
+		JarFingerprints other = (JarFingerprints) obj;
+		return this.lastModified == other.lastModified && this.types.equals(other.types);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(Long.valueOf(this.lastModified), this.types);
+	}
+}
@@ -312,6 +312,8 @@ private void buildAll() {
 	clearLastState();
 	BatchImageBuilder imageBuilder = new BatchImageBuilder(this, true, CompilationGroup.MAIN);
 	BatchImageBuilder testImageBuilder = new BatchImageBuilder(imageBuilder, true, CompilationGroup.TEST);
+	if (testImageBuilder.sourceLocations.length > 0 && AbstractImageBuilder.READ_TEST_SOURCES_AHEAD)
+		testImageBuilder.readAllSourceFilesAhead(); // while imageBuilder compiles the main group
 	imageBuilder.build();
 	if (testImageBuilder.sourceLocations.length > 0) {
 		// Note: testImageBuilder *MUST* have a separate output folder, or it will delete the files created by imageBuilder.build()
@@ -646,6 +648,8 @@ private boolean hasClasspathChanged(CompilationGroup compilationGroup) {
 	oldLength = oldBinaryLocations.length;
 	for (n = o = 0; n < newLength && o < oldLength; n++, o++) {
 		if (newBinaryLocations[n].equals(oldBinaryLocations[o])) continue;
+		// the incremental build finds the changed types of a rebuilt jar from their fingerprints
+		if (this.lastState.hasJarFingerprints(newBinaryLocations[n], oldBinaryLocations[o])) continue;
 		if (DEBUG) {
 			trace("JavaBuilder: New test location: " + newBinaryLocations[n] + "\n!= old test location: " + oldBinaryLocations[o]); //$NON-NLS-1$ //$NON-NLS-2$
 			printLocations(newBinaryLocations, oldBinaryLocations);
@@ -893,6 +897,7 @@ private void printLocations(ClasspathLocation[] newLocations, ClasspathLocation[
 }
 
 private void recordNewState(State state) {
+	state.recordJarFingerprints(this.lastState);
 	Set<IProject> keyTable = this.binaryLocationsPerProject.keySet();
 	for (Object proj : keyTable) {
 		IProject prereqProject = (IProject) proj;
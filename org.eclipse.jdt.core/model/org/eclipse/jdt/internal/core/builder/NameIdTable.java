@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+
+/**
+ * Workspace wide table of the names referenced by the source files of all the projects: interns the simple names
+ * and the qualified names, and numbers them in the order they are first added, so that the reference collections
+ * only keep the ids of their names.
+ * <p>
+ * Names are never removed. The first array added for a name is the interned one, answered for any equal array.
+ * </p>
+ */
+final class NameIdTable {
+
+	private char[][] simpleNames = new char[1024][];
+	private int simpleNameCount;
+	// open addressing on the hash code of the name, holding the id + 1 of the names, 0 for a free slot
+	private int[] simpleSlots = new int[2048];
+
+	private char[][][] qualifiedNames = new char[1024][][];
+	private int qualifiedNameCount;
+	private int[] qualifiedSlots = new int[2048];
+
+	/**
+	 * Answers the id of the given simple name, adding it if needed.
+	 */
+	synchronized int simpleId(char[] name) {
+		int mask = this.simpleSlots.length - 1;
+		int index = CharOperation.hashCode(name) & mask;
+		int slot;
+		while ((slot = this.simpleSlots[index]) != 0) {
+			char[] current = this.simpleNames[slot - 1];
+			if (current == name || CharOperation.equals(current, name))
+				return slot - 1;
+			index = (index + 1) & mask;
+		}
+		int id = this.simpleNameCount++;
+		if (id == this.simpleNames.length)
+			System.arraycopy(this.simpleNames, 0, this.simpleNames = new char[id * 2][], 0, id);
+		this.simpleNames[id] = name;
+		this.simpleSlots[index] = id + 1;
+		if (this.simpleNameCount * 2 > this.simpleSlots.length)
+			this.simpleSlots = rehash(this.simpleNames, this.simpleNameCount, this.simpleSlots.length * 2);
+		return id;
+	}
+
+	/**
+	 * Answers the id of the given simple name, or -1 if it was never added.
+	 */
+	synchronized int findSimpleId(char[] name) {
+		int mask = this.simpleSlots.length - 1;
+		int index = CharOperation.hashCode(name) & mask;
+		int slot;
+		while ((slot = this.simpleSlots[index]) != 0) {
+			char[] current = this.simpleNames[slot - 1];
+			if (current == name || CharOperation.equals(current, name))
+				return slot - 1;
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	synchronized char[] simpleName(int id) {
+		return this.simpleNames[id];
+	}
+
+	/**
+	 * Answers the interned array of the given simple name, adding it if needed.
+	 */
+	synchronized char[] intern(char[] name) {
+		return this.simpleNames[simpleId(name)];
+	}
+
+	/**
+	 * Answers the id of the given qualified name, adding it if needed. Its segments must be interned.
+	 */
+	synchronized int qualifiedId(char[][] name) {
+		int mask = this.qualifiedSlots.length - 1;
+		int index = hashCode(name) & mask;
+		int slot;
+		while ((slot = this.qualifiedSlots[index]) != 0) {
+			char[][] current = this.qualifiedNames[slot - 1];
+			if (current == name || CharOperation.equals(current, name))
+				return slot - 1;
+			index = (index + 1) & mask;
+		}
+		int id = this.qualifiedNameCount++;
+		if (id == this.qualifiedNames.length)
+			System.arraycopy(this.qualifiedNames, 0, this.qualifiedNames = new char[id * 2][][], 0, id);
+		this.qualifiedNames[id] = name;
+		this.qualifiedSlots[index] = id + 1;
+		if (this.qualifiedNameCount * 2 > this.qualifiedSlots.length)
+			this.qualifiedSlots = rehash(this.qualifiedNames, this.qualifiedNameCount, this.qualifiedSlots.length * 2);
+		return id;
+	}
+
+	/**
+	 * Answers the id of the given qualified name, or -1 if it was never added.
+	 */
+	synchronized int findQualifiedId(char[][] name) {
+		int mask = this.qualifiedSlots.length - 1;
+		int index = hashCode(name) & mask;
+		int slot;
+		while ((slot = this.qualifiedSlots[index]) != 0) {
+			char[][] current = this.qualifiedNames[slot - 1];
+			if (current == name || CharOperation.equals(current, name))
+				return slot - 1;
+			index = (index + 1) & mask;
+		}
+		return -1;
+	}
+
+	synchronized char[][] qualifiedName(int id) {
+		return this.qualifiedNames[id];
+	}
+
+	/**
+	 * Answers the interned array of the given qualified name, adding it if needed. Its segments must be interned.
+	 */
+	synchronized char[][] intern(char[][] name) {
+		return this.qualifiedNames[qualifiedId(name)];
+	}
+
+	/**
+	 * Answers the simple names of the given ids.
+	 */
+	synchronized char[][] simpleNames(int[] ids) {
+		char[][] names = new char[ids.length][];
+		for (int i = 0; i < ids.length; i++)
+			names[i] = this.simpleNames[ids[i]];
+		return names;
+	}
+
+	/**
+	 * Answers the qualified names of the given ids.
+	 */
+	synchronized char[][][] qualifiedNames(int[] ids) {
+		char[][][] names = new char[ids.length][][];
+		for (int i = 0; i < ids.length; i++)
+			names[i] = this.qualifiedNames[ids[i]];
+		return names;
+	}
+
+	private static int hashCode(char[][] qualifiedName) {
+		int qLength = qualifiedName.length;
+		return qLength == 0 ? 0 : CharOperation.hashCode(qualifiedName[qLength - 1]) * 31 + qLength;
+	}
+
+	private static int[] rehash(char[][] names, int count, int size) {
+		int[] slots = new int[size];
+		int mask = size - 1;
+		for (int id = 0; id < count; id++) {
+			int index = CharOperation.hashCode(names[id]) & mask;
+			while (slots[index] != 0)
+				index = (index + 1) & mask;
+			slots[index] = id + 1;
+		}
+		return slots;
+	}
+
+	private static int[] rehash(char[][][] names, int count, int size) {
+		int[] slots = new int[size];
+		int mask = size - 1;
+		for (int id = 0; id < count; id++) {
+			int index = hashCode(names[id]) & mask;
+			while (slots[index] != 0)
+				index = (index + 1) & mask;
+			slots[index] = id + 1;
+		}
+		return slots;
+	}
+}
@@ -17,7 +17,6 @@
 package org.eclipse.jdt.internal.core.builder;
 
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.eclipse.jdt.core.compiler.CharOperation;
@@ -27,16 +26,73 @@ import org.eclipse.jdt.internal.compiler.util.SortedCharArrays;
 
 public class ReferenceCollection {
 
-// contains no simple names as in just 'a' which is kept in simpleNameReferences instead
+// the names are kept as sets of their ids in the workspace wide table of names, see IdSet
+// contains no simple names as in just 'a' which is kept in simpleNameIds instead
 // TODO after #addDependencies, it will contain simple names, though. See ReferenceCollectionTest
-char[][][] qualifiedNameReferences;
-char[][] simpleNameReferences;
-char[][] rootReferences;
+char[] qualifiedNameIds;
+char[] simpleNameIds;
+char[] rootIds;
+// names of the fields and methods used, declared or inherited, null if unknown
+// see CompilationUnitScope#recordMemberReference
+char[] memberNameIds;
+// the names read from a saved state, decoded when first queried then null
+private volatile EncodedReferences encoded;
+private int encodedOffset;
+
+/**
+ * The ids of the names looked for in reference collections, see {@link ReferenceCollection#includes(Query)}.
+ * A <code>null</code> array of qualified or simple names means that a well known name was looked for, and a
+ * <code>null</code> array of root names that any root matches.
+ */
+static record Query(int[] qualifiedIds, int[] singleSegmentIds, int[] simpleIds, int[] rootIds) {}
 
 protected ReferenceCollection(char[][][] qualifiedNameReferences, char[][] simpleNameReferences, char[][] rootReferences) {
-	this.qualifiedNameReferences = internQualifiedNames(qualifiedNameReferences, false);
-	this.simpleNameReferences = internSimpleNames(simpleNameReferences, true);
-	this.rootReferences = internSimpleNames(rootReferences, false);
+	this(qualifiedNameReferences, simpleNameReferences, rootReferences, null);
+}
+
+protected ReferenceCollection(char[][][] qualifiedNameReferences, char[][] simpleNameReferences, char[][] rootReferences, char[][] memberNameReferences) {
+	this.qualifiedNameIds = qualifiedIdSet(internQualifiedNames(qualifiedNameReferences, false, false));
+	this.simpleNameIds = simpleIdSet(internSimpleNames(simpleNameReferences, true, false));
+	this.rootIds = simpleIdSet(internSimpleNames(rootReferences, false, false));
+	this.memberNameIds = memberNameReferences == null ? null : simpleIdSet(internSimpleNames(memberNameReferences, false, false));
+}
+
+/**
+ * Creates the collection of the names encoded at the given offset, as read from a saved state.
+ */
+ReferenceCollection(EncodedReferences encoded, int offset) {
+	this.encodedOffset = offset;
+	this.encoded = encoded;
+}
+
+private void ensureDecoded() {
+	if (this.encoded != null) {
+		synchronized (this) {
+			EncodedReferences names = this.encoded;
+			if (names != null) {
+				names.decode(this, this.encodedOffset);
+				this.encoded = null;
+			}
+		}
+	}
+}
+
+private static char[] qualifiedIdSet(char[][][] internedNames) {
+	int length = internedNames.length;
+	if (length == 0) return IdSet.EMPTY;
+	int[] ids = new int[length];
+	for (int i = 0; i < length; i++)
+		ids[i] = Names.qualifiedId(internedNames[i]);
+	return IdSet.of(ids, length);
+}
+
+private static char[] simpleIdSet(char[][] internedNames) {
+	int length = internedNames.length;
+	if (length == 0) return IdSet.EMPTY;
+	int[] ids = new int[length];
+	for (int i = 0; i < length; i++)
+		ids[i] = Names.simpleId(internedNames[i]);
+	return IdSet.of(ids, length);
 }
 
 /**
@@ -47,24 +103,19 @@ protected ReferenceCollection(char[][][] qualifiedNameReferences, char[][] simpl
  * @see CompilationUnitScope#recordQualifiedReference
  */
 public void addDependencies(String[] typeNameDependencies) {
+	ensureDecoded();
 	// if each qualified type name is already known then all of its subNames can be skipped
 	// and its expected that very few qualified names in typeNameDependencies need to be added
 	// but could always take 'p1.p2.p3.X' and make all qualified names 'p1' 'p1.p2' 'p1.p2.p3' 'p1.p2.p3.X', then intern
 	next: for(String typeNameDependency: typeNameDependencies) {
 		char[][] qualifiedTypeName = CharOperation.splitOn('.', typeNameDependency.toCharArray());
 		if (!isWellKnownQualifiedName(qualifiedTypeName)) {
-			int qLength = qualifiedTypeName.length;
-			QualifiedNameSet internedNames = InternedQualifiedNames[qLength <= MaxQualifiedNames ? qLength - 1 : 0];
-			qualifiedTypeName = internSimpleNames(qualifiedTypeName, false, false);
-			qualifiedTypeName = internedNames.add(qualifiedTypeName);
-			int idx;
-			while ((idx = Arrays.binarySearch(this.qualifiedNameReferences, qualifiedTypeName, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR)) < 0) {
-				this.simpleNameReferences = ensureContainedInSortedOrder(this.simpleNameReferences, qualifiedTypeName[qualifiedTypeName.length - 1]);
-				this.rootReferences = ensureContainedInSortedOrder(this.rootReferences, qualifiedTypeName[0]);
-
-				int length = this.qualifiedNameReferences.length;
-				idx = -(idx+1);
-				this.qualifiedNameReferences = SortedCharArrays.insertIntoArray(this.qualifiedNameReferences, new char[length + 1][][], qualifiedTypeName, idx, this.qualifiedNameReferences.length);
+			qualifiedTypeName = Names.intern(internSimpleNames(qualifiedTypeName, false, false));
+			int id;
+			while (!IdSet.contains(this.qualifiedNameIds, id = Names.qualifiedId(qualifiedTypeName))) {
+				this.simpleNameIds = IdSet.add(this.simpleNameIds, Names.simpleId(qualifiedTypeName[qualifiedTypeName.length - 1]));
+				this.rootIds = IdSet.add(this.rootIds, Names.simpleId(qualifiedTypeName[0]));
+				this.qualifiedNameIds = IdSet.add(this.qualifiedNameIds, id);
 
 				qualifiedTypeName = CharOperation.subarray(qualifiedTypeName, 0, qualifiedTypeName.length - 1);
 				char[][][] temp = internQualifiedNames(new char[][][] {qualifiedTypeName}, false);
@@ -76,8 +127,71 @@ public void addDependencies(String[] typeNameDependencies) {
 	}
 }
 
+/**
+ * Answers the qualified names referenced by the unit, sorted.
+ */
+public char[][][] getQualifiedNameReferences() {
+	ensureDecoded();
+	char[][][] names = Names.qualifiedNames(IdSet.toArray(this.qualifiedNameIds));
+	Arrays.sort(names, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR);
+	return names;
+}
+
+/**
+ * Answers the simple names referenced by the unit, sorted.
+ */
+public char[][] getSimpleNameReferences() {
+	ensureDecoded();
+	return sortedSimpleNames(this.simpleNameIds);
+}
+
+/**
+ * Answers the root names referenced by the unit, sorted.
+ */
+public char[][] getRootReferences() {
+	ensureDecoded();
+	return sortedSimpleNames(this.rootIds);
+}
+
+/**
+ * Answers the names of the fields and methods used, declared or inherited by the unit, sorted, or
+ * <code>null</code> if unknown.
+ */
+public char[][] getMemberNameReferences() {
+	ensureDecoded();
+	return this.memberNameIds == null ? null : sortedSimpleNames(this.memberNameIds);
+}
+
+private static char[][] sortedSimpleNames(char[] ids) {
+	char[][] names = Names.simpleNames(IdSet.toArray(ids));
+	Arrays.sort(names, SortedCharArrays.CHAR_ARR_COMPARATOR);
+	return names;
+}
+
+int[] qualifiedNameIds() {
+	ensureDecoded();
+	return IdSet.toArray(this.qualifiedNameIds);
+}
+
+int[] simpleNameIds() {
+	ensureDecoded();
+	return IdSet.toArray(this.simpleNameIds);
+}
+
+int[] rootIds() {
+	ensureDecoded();
+	return IdSet.toArray(this.rootIds);
+}
+
+int[] memberNameIds() {
+	ensureDecoded();
+	return this.memberNameIds == null ? null : IdSet.toArray(this.memberNameIds);
+}
+
 public boolean includes(char[] simpleName) {
-	boolean result = sortedArrayContains(this.simpleNameReferences, simpleName, SortedCharArrays.CHAR_ARR_COMPARATOR);
+	ensureDecoded();
+	int id = Names.findSimpleId(simpleName);
+	boolean result = id >= 0 && IdSet.contains(this.simpleNameIds, id);
 	if (REFERENCE_COLLECTION_DEBUG) {
 		assertIncludes(result, simpleName);
 	}
@@ -85,7 +199,9 @@ public boolean includes(char[] simpleName) {
 }
 
 public boolean includes(char[][] qualifiedName) {
-	boolean result = sortedArrayContains(this.qualifiedNameReferences, qualifiedName, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR);
+	ensureDecoded();
+	int id = Names.findQualifiedId(qualifiedName);
+	boolean result = id >= 0 && IdSet.contains(this.qualifiedNameIds, id);
 	if (REFERENCE_COLLECTION_DEBUG) {
 		assertIncludes(result, qualifiedName);
 	}
@@ -106,134 +222,119 @@ public boolean includes(char[][][] qualifiedNames, char[][] simpleNames) {
 }
 
 public boolean includes(char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
-	boolean result = doIncludes(qualifiedNames, simpleNames, rootNames);
+	boolean result = includes(query(qualifiedNames, simpleNames, rootNames));
 	if (REFERENCE_COLLECTION_DEBUG) {
 		assertIncludes(result, qualifiedNames, simpleNames, rootNames);
 	}
 	return result;
 }
 
-private boolean doIncludes(char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
-	if (rootNames != null) {
-		if (!includesRootName(rootNames))
+/**
+ * Answers the ids of the given interned names, to look for them in many reference collections.
+ *
+ * @see #includes(char[][][], char[][], char[][])
+ */
+static Query query(char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
+	int[] qualifiedIds = null;
+	int[] singleSegmentIds = null;
+	if (qualifiedNames != null) {
+		int length = qualifiedNames.length;
+		int[] ids = new int[length];
+		int[] segmentIds = new int[length];
+		int count = 0, segmentCount = 0;
+		for (char[][] qualifiedName : qualifiedNames) {
+			// a qualified name of one segment is looked for in the simple names
+			if (qualifiedName.length == 1) {
+				int id = Names.findSimpleId(qualifiedName[0]);
+				if (id >= 0)
+					segmentIds[segmentCount++] = id;
+			} else {
+				int id = Names.findQualifiedId(qualifiedName);
+				if (id >= 0)
+					ids[count++] = id;
+			}
+		}
+		qualifiedIds = Arrays.copyOf(ids, count);
+		singleSegmentIds = Arrays.copyOf(segmentIds, segmentCount);
+	}
+	return new Query(qualifiedIds, singleSegmentIds, simpleIds(simpleNames), simpleIds(rootNames));
+}
+
+/**
+ * Answers the ids of the given simple names which are known, or <code>null</code> if no names are given.
+ */
+static int[] simpleIds(char[][] simpleNames) {
+	if (simpleNames == null)
+		return null;
+	int[] ids = new int[simpleNames.length];
+	int count = 0;
+	for (char[] simpleName : simpleNames) {
+		int id = Names.findSimpleId(simpleName);
+		if (id >= 0)
+			ids[count++] = id;
+	}
+	return count == ids.length ? ids : Arrays.copyOf(ids, count);
+}
+
+boolean includes(Query query) {
+	ensureDecoded();
+	if (query.rootIds != null) {
+		if (!IdSet.containsAny(this.rootIds, query.rootIds))
 			return false;
 	}
 	// if either collection of names is null, it means it contained a well known name so we know it already has a match
-	if (simpleNames == null || qualifiedNames == null) {
-		if (simpleNames == null && qualifiedNames == null) {
+	if (query.simpleIds == null || query.qualifiedIds == null) {
+		if (query.simpleIds == null && query.qualifiedIds == null) {
 			if (JavaBuilder.DEBUG)
 				System.out.println("Found well known match"); //$NON-NLS-1$
 			return true;
-		} else if (qualifiedNames == null) {
-			return includesSimpleName(simpleNames);
+		} else if (query.qualifiedIds == null) {
+			return IdSet.containsAny(this.simpleNameIds, query.simpleIds);
 		}
-		return includesQualifiedName(qualifiedNames);
+		return includesQualifiedName(query);
 	}
 
-	if (simpleNames.length <= qualifiedNames.length) {
-		return includesSimpleName(simpleNames) && includesQualifiedName(qualifiedNames);
+	if (query.simpleIds.length <= query.qualifiedIds.length) {
+		return IdSet.containsAny(this.simpleNameIds, query.simpleIds) && includesQualifiedName(query);
 	} else {
-		return includesQualifiedName(qualifiedNames) && includesSimpleName(simpleNames);
+		return includesQualifiedName(query) && IdSet.containsAny(this.simpleNameIds, query.simpleIds);
 	}
 }
 
-public boolean insideRoot(char[] rootName) {
-	boolean result = sortedArrayContains(this.rootReferences, rootName, SortedCharArrays.CHAR_ARR_COMPARATOR);
-	if (REFERENCE_COLLECTION_DEBUG) {
-		if (result != debugIncludes(rootName)) {
-			String message = "Mismatch: " + String.valueOf(rootName) + (result ? " should not " : " should ") + " be included in "  //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
-					+ Arrays.asList(CharOperation.toStrings(this.rootReferences));
-			throw new IllegalStateException(message);
-		}
-	}
-	return result;
-}
-
-private static <T> boolean sortedArrayContains(T[] array, T element, Comparator<? super T> comparator) {
-	int l = array.length;
-	if (l < SortedCharArrays.BINARY_SEARCH_THRESHOLD) {
-		for (int i = 0; i < l; i++)
-			if (element == array[i]) return true;
-		return false;
-	}
-	return Arrays.binarySearch(array, element, comparator) >= 0;
-}
-
-private boolean includesSimpleName(char[][] simpleNames) {
-	return intersects(simpleNames, this.simpleNameReferences, SortedCharArrays.CHAR_ARR_COMPARATOR);
+private boolean includesQualifiedName(Query query) {
+	return IdSet.containsAny(this.qualifiedNameIds, query.qualifiedIds)
+			|| IdSet.containsAny(this.simpleNameIds, query.singleSegmentIds);
 }
 
-private boolean includesQualifiedName(char[][][] qualifiedNames) {
-	if (intersects(qualifiedNames, this.qualifiedNameReferences, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR)) {
-		return true;
-	}
-	char[][] maybeSimpleName;
-	for(int i = qualifiedNames.length - 1; i >= 0 && (maybeSimpleName = qualifiedNames[i]).length == 1; i--) {
-		if (includes(maybeSimpleName[0])) {
-			return true;
-		}
-	}
-	return false;
+/**
+ * Answers whether the unit uses, declares or inherits a field or a method named like one of the given interned
+ * member names, or whether the member names it uses are unknown.
+ */
+public boolean includesMemberName(char[][] memberNames) {
+	return includesMemberName(simpleIds(memberNames));
 }
 
-private boolean includesRootName(char[][] rootNames) {
-	return intersects(rootNames, this.rootReferences, SortedCharArrays.CHAR_ARR_COMPARATOR);
+/**
+ * Answers whether the unit uses, declares or inherits a field or a method named like one of the given ids, or
+ * whether the member names it uses are unknown.
+ */
+boolean includesMemberName(int[] memberNameIds) {
+	ensureDecoded();
+	return this.memberNameIds == null || IdSet.containsAny(this.memberNameIds, memberNameIds);
 }
 
-private static <T> boolean intersects(T[] firstSortedArr, T[] secondSortedArr, Comparator<? super T> comparator) {
-	/*
-	 * Both arrays are sorted, so we can walk them in pairs.
-	 * Using binary search for the remaining array elements to figure the next
-	 * interesting index can greatly reduce the runtime cost for arrays that do
-	 * have more than a few elements.
-	 */
-	for(int i = 0, l = firstSortedArr.length, j = 0, k = secondSortedArr.length; i < l && j < k;) {
-		T firstElement = firstSortedArr[i];
-		T secondElement = secondSortedArr[j];
-		int compare = comparator.compare(firstElement, secondElement);
-		if (compare == 0) {
-			return true;
-		} else if (compare < 0) {
-			/*
-			 * left side is smaller than the right side, but not exactly the right side.
-			 * Take the next element from the left and proceed.
-			 *
-			 * If the number of remaining elements in the first array is sufficiently big,
-			 * attempt a binary search for the second element to possibly skip a few elements.
-			 */
-			i++;
-			if (l - i > SortedCharArrays.BINARY_SEARCH_THRESHOLD) {
-				i = Arrays.binarySearch(firstSortedArr, i, l, secondElement, comparator);
-				if (i >= 0) {
-					return true;
-				}
-				i = -(i + 1);
-			}
-		} else {
-			/*
-			 * the inverse logic is applied here
-			 */
-			j++;
-			if (k - j > SortedCharArrays.BINARY_SEARCH_THRESHOLD) {
-				j = Arrays.binarySearch(secondSortedArr, j, k, firstElement, comparator);
-				if (j >= 0) {
-					return true;
-				}
-				j = -(j + 1);
-			}
+public boolean insideRoot(char[] rootName) {
+	ensureDecoded();
+	int id = Names.findSimpleId(rootName);
+	boolean result = id >= 0 && IdSet.contains(this.rootIds, id);
+	if (REFERENCE_COLLECTION_DEBUG) {
+		if (result != debugInsideRoot(rootName)) {
+			String message = "Mismatch: " + String.valueOf(rootName) + (result ? " should not " : " should ") + " be included in "  //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					+ Arrays.asList(CharOperation.toStrings(getRootReferences()));
+			throw new IllegalStateException(message);
 		}
 	}
-	return false;
-}
-
-private static char[][] ensureContainedInSortedOrder(char[][] sortedArray, char[] entry) {
-	int idx = Arrays.binarySearch(sortedArray, entry, SortedCharArrays.CHAR_ARR_COMPARATOR);
-	if (idx < 0) {
-		idx = -(idx + 1);
-		char[][] result = SortedCharArrays.insertIntoArray(sortedArray, new char[sortedArray.length + 1][], entry, idx, sortedArray.length);
-		return result;
-	}
-	return sortedArray;
+	return result;
 }
 
 private static boolean isWellKnownQualifiedName(char[][] qualifiedName) {
@@ -273,17 +374,13 @@ static final char[][] WellKnownSimpleNames = new char[][] {
 static final char[][][] EmptyQualifiedNames = new char[0][][];
 static final char[][] EmptySimpleNames = CharOperation.NO_CHAR_CHAR;
 
-// each array contains qualified char[][], one for size 2, 3, 4, 5, 6, 7 & the rest
-static final int MaxQualifiedNames = 7;
-static QualifiedNameSet[] InternedQualifiedNames = new QualifiedNameSet[MaxQualifiedNames];
-// each array contains simple char[], one for size 1 to 29 & the rest
-static final int MaxSimpleNames = 30;
-static NameSet[] InternedSimpleNames = new NameSet[MaxSimpleNames];
+// the names of all the reference collections, the well known names first so that they stay the interned ones
+static final NameIdTable Names = new NameIdTable();
 static {
-	for (int i = 0; i < MaxQualifiedNames; i++)
-		InternedQualifiedNames[i] = new QualifiedNameSet(37);
-	for (int i = 0; i < MaxSimpleNames; i++)
-		InternedSimpleNames[i] = new NameSet(37);
+	for (char[] name : WellKnownSimpleNames)
+		Names.simpleId(name);
+	for (char[][] name : WellKnownQualifiedNames)
+		Names.qualifiedId(name);
 }
 
 //TODO: remove once ReferenceCollection.internQualifiedNames(StringSet) is adapted to use java.util.Set, so that git history is preserved
@@ -366,10 +463,6 @@ static char[][][] internQualifiedNames(char[][][] qualifiedNames, boolean keepWe
 			}
 		}
 
-		// InternedQualifiedNames[0] is for the rest (> 7 & 1)
-		// InternedQualifiedNames[1] is for size 2...
-		// InternedQualifiedNames[6] is for size 7
-		QualifiedNameSet internedNames = InternedQualifiedNames[qLength <= MaxQualifiedNames ? qLength - 1 : 0];
 		qualifiedName = internSimpleNames(qualifiedName, false, false);
 		// This code is duplicated to encourage the JIT to inline more stuff
 		if (doSort && isSorted) {
@@ -378,7 +471,7 @@ static char[][][] internQualifiedNames(char[][][] qualifiedNames, boolean keepWe
 			}
 			prev = qualifiedName;
 		}
-		keepers[index++] = internedNames.add(qualifiedName);
+		keepers[index++] = Names.intern(qualifiedName);
 	}
 	if (length > index) {
 		if (index == 0) return EmptyQualifiedNames;
@@ -467,11 +560,7 @@ static char[][] internSimpleNames(char[][] simpleNames, boolean removeWellKnown,
 			}
 		}
 
-		// InternedSimpleNames[0] is for the rest (> 29)
-		// InternedSimpleNames[1] is for size 1...
-		// InternedSimpleNames[29] is for size 29
-		NameSet internedNames = InternedSimpleNames[sLength < MaxSimpleNames ? sLength : 0];
-		keepers[index++] = internedNames.add(name);
+		keepers[index++] = Names.intern(name);
 		// This code is duplicated to encourage the JIT to inline more stuff
 		if (doSort && isSorted) {
 			if (prev != null && SortedCharArrays.compareCharArray(prev, name) > 0) {
@@ -496,7 +585,7 @@ public static boolean REFERENCE_COLLECTION_DEBUG = false;
 private void assertIncludes(boolean expectation, char[] simpleName) {
 	if (expectation != debugIncludes(simpleName)) {
 		String message = "Mismatch: " + String.valueOf(simpleName) + (expectation ? " should not " : " should ") + " be included in "  //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
-				+ Arrays.asList(CharOperation.toStrings(this.simpleNameReferences));
+				+ Arrays.asList(CharOperation.toStrings(getSimpleNameReferences()));
 		throw new IllegalStateException(message);
 	}
 }
@@ -504,7 +593,7 @@ private void assertIncludes(boolean expectation, char[] simpleName) {
 private void assertIncludes(boolean expectation, char[][] qualifiedName) {
 	if (expectation != debugIncludes(qualifiedName)) {
 		String message = "Mismatch: " + CharOperation.toString(qualifiedName) + (expectation ? " should not " : " should ") + " be included in "  //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
-				+ qualifiedNamesToString(this.qualifiedNameReferences);
+				+ qualifiedNamesToString(getQualifiedNameReferences());
 		throw new IllegalStateException(message);
 	}
 }
@@ -512,9 +601,9 @@ private void assertIncludes(boolean expectation, char[][] qualifiedName) {
 private void assertIncludes(boolean expectation, char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
 	if (expectation != debugIncludes(qualifiedNames, simpleNames, rootNames)) {
 		String message = String.format("Mismatched includes(..): ReferenceCollection([%s], %s, %s).includes([%s], %s, %s)", //$NON-NLS-1$
-				qualifiedNamesToString(this.qualifiedNameReferences),
-				Arrays.toString(CharOperation.toStrings(this.simpleNameReferences)),
-				Arrays.toString(CharOperation.toStrings(this.rootReferences)),
+				qualifiedNamesToString(getQualifiedNameReferences()),
+				Arrays.toString(CharOperation.toStrings(getSimpleNameReferences())),
+				Arrays.toString(CharOperation.toStrings(getRootReferences())),
 				qualifiedNamesToString(qualifiedNames),
 				Arrays.toString(CharOperation.toStrings(simpleNames)),
 				Arrays.toString(CharOperation.toStrings(rootNames))
@@ -594,19 +683,19 @@ private boolean debugIncludes(char[][][] qualifiedNames, char[][] simpleNames, c
 }
 
 private boolean debugInsideRoot(char[] rootName) {
-	for (char[] name : this.rootReferences)
+	for (char[] name : getRootReferences())
 		if (rootName == name) return true;
 	return false;
 }
 
 private boolean debugIncludes(char[] simpleName) {
-	for (char[] name : this.simpleNameReferences)
+	for (char[] name : getSimpleNameReferences())
 		if (simpleName == name) return true;
 	return false;
 }
 
 private boolean debugIncludes(char[][] qualifiedName) {
-	for (char[][] name : this.qualifiedNameReferences)
+	for (char[][] name : getQualifiedNameReferences())
 		if (qualifiedName == name) return true;
 	return false;
 }
@@ -625,9 +714,12 @@ public boolean equals(Object obj) {
 		return false;
 	}
 	ReferenceCollection other = (ReferenceCollection) obj;
-	return Arrays.deepEquals(this.qualifiedNameReferences, other.qualifiedNameReferences)
-			&& Arrays.deepEquals(this.rootReferences, other.rootReferences)
-			&& Arrays.deepEquals(this.simpleNameReferences, other.simpleNameReferences);
+	ensureDecoded();
+	other.ensureDecoded();
+	return Arrays.equals(this.qualifiedNameIds, other.qualifiedNameIds)
+			&& Arrays.equals(this.rootIds, other.rootIds)
+			&& Arrays.equals(this.simpleNameIds, other.simpleNameIds)
+			&& Arrays.equals(this.memberNameIds, other.memberNameIds);
 }
 
 }
@@ -28,6 +28,10 @@ public IFile resource;
 ClasspathMultiDirectory sourceLocation;
 String initialTypeName;
 boolean updateClassFile;
+// the contents read ahead by the reader thread and the modification stamp of the file before reading them, see #readAhead()
+private char[] contentsReadAhead;
+private long stampReadAhead;
+private boolean contentsRead;
 
 public SourceFile(IFile resource, ClasspathMultiDirectory sourceLocation) {
 	this.resource = resource;
@@ -79,6 +83,16 @@ String extractTypeName() {
 
 @Override
 public char[] getContents() {
+	char[] contents;
+	long stamp;
+	synchronized (this) {
+		this.contentsRead = true;
+		contents = this.contentsReadAhead;
+		stamp = this.stampReadAhead;
+		this.contentsReadAhead = null;
+	}
+	if (contents != null && stamp == this.resource.getModificationStamp())
+		return contents; // unchanged since read ahead
 
 	try {
 		return Util.getResourceContentsAsCharArray(this.resource);
@@ -87,6 +101,31 @@ public char[] getContents() {
 	}
 }
 
+/**
+ * Reads the contents of the file for {@link #getContents()}, unless they were already asked for. They are only
+ * answered if the file is unchanged by then. Answers the number of characters read.
+ */
+int readAhead() {
+	synchronized (this) {
+		if (this.contentsRead || this.contentsReadAhead != null)
+			return 0;
+	}
+	long stamp = this.resource.getModificationStamp();
+	char[] contents;
+	try {
+		contents = Util.getResourceContentsAsCharArray(this.resource);
+	} catch (CoreException e) {
+		return 0; // reported when getContents() reads it again
+	}
+	synchronized (this) {
+		if (this.contentsRead)
+			return 0;
+		this.contentsReadAhead = contents;
+		this.stampReadAhead = stamp;
+	}
+	return contents.length;
+}
+
 /**
  * @see org.eclipse.jdt.internal.compiler.env.IDependent#getFileName()
  */
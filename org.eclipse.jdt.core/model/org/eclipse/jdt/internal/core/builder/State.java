@@ -20,6 +20,7 @@ package org.eclipse.jdt.internal.core.builder;
 
 import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -52,8 +53,6 @@ import org.eclipse.jdt.internal.compiler.env.IUpdatableModule;
 import org.eclipse.jdt.internal.compiler.env.IUpdatableModule.AddExports;
 import org.eclipse.jdt.internal.compiler.env.IUpdatableModule.AddReads;
 import org.eclipse.jdt.internal.compiler.env.IUpdatableModule.UpdateKind;
-import org.eclipse.jdt.internal.compiler.util.CharArray;
-import org.eclipse.jdt.internal.compiler.util.CharCharArray;
 import org.eclipse.jdt.internal.compiler.util.Util;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.util.DeduplicationUtil;
@@ -75,12 +74,14 @@ public TypeLocators typeLocators;
 int buildNumber;
 long lastStructuralBuildTime;
 HashMap<String, Long> structuralBuildTimes;
+// keyed by the file name of the jars of the workspace on the classpath, see JarFingerprints
+Map<String, JarFingerprints> jarFingerprints;
 
 private long previousStructuralBuildTime;
 private StringSet structurallyChangedTypes;
 public static int MaxStructurallyChangedTypes = 100; // keep track of ? structurally changed types, otherwise consider all to be changed
 
-public static final byte VERSION = 0x0027;
+public static final byte VERSION = 0x002B;
 
 static final byte SOURCE_FOLDER = 1;
 static final byte BINARY_FOLDER = 2;
@@ -95,6 +96,7 @@ private static final int[] PROBLEM_IDS = new int[] { 0, IProblem.ForbiddenRefere
 State() {
 	// constructor with no argument
 	this.typeLocators = new TypeLocators();
+	this.jarFingerprints = new HashMap<>();
 }
 
 protected State(JavaBuilder javaBuilder) {
@@ -107,6 +109,7 @@ protected State(JavaBuilder javaBuilder) {
 	this.testBinaryLocations = javaBuilder.testNameEnvironment.binaryLocations;
 	this.references = new LinkedHashMap<>(7);
 	this.typeLocators = new TypeLocators();
+	this.jarFingerprints = new HashMap<>();
 
 	this.buildNumber = 0; // indicates a full build
 	this.lastStructuralBuildTime = computeStructuralBuildTime(javaBuilder.lastState == null ? 0 : javaBuilder.lastState.lastStructuralBuildTime);
@@ -129,6 +132,52 @@ void copyFrom(State lastState) {
 
 	this.references = new LinkedHashMap<>(lastState.references);
 	this.typeLocators = new TypeLocators(lastState.typeLocators);
+	this.jarFingerprints = new HashMap<>(lastState.jarFingerprints);
+}
+
+/**
+ * Answers whether the given jar of the classpath only differs from the given jar of this state by its contents,
+ * and the types of the latter were fingerprinted so that the builder can find which of them changed.
+ */
+boolean hasJarFingerprints(ClasspathLocation newLocation, ClasspathLocation oldLocation) {
+	if (!JarFingerprints.canFingerprint(newLocation) || !JarFingerprints.canFingerprint(oldLocation))
+		return false;
+	ClasspathJar oldJar = (ClasspathJar) oldLocation;
+	if (!((ClasspathJar) newLocation).isSameEntry(oldJar))
+		return false;
+	JarFingerprints fingerprints = this.jarFingerprints.get(oldJar.zipFilename);
+	return fingerprints != null && fingerprints.lastModified == oldJar.lastModified();
+}
+
+/**
+ * Records the fingerprints of the types of the jars of the workspace on the classpath which are not recorded yet,
+ * reusing those of the given last state for the unchanged jars.
+ */
+void recordJarFingerprints(State lastState) {
+	Map<String, JarFingerprints> fingerprints = new HashMap<>();
+	for (ClasspathLocation[] locations : new ClasspathLocation[][] {this.binaryLocations, this.testBinaryLocations}) {
+		for (ClasspathLocation location : locations) {
+			if (!JarFingerprints.canFingerprint(location))
+				continue;
+			ClasspathJar jar = (ClasspathJar) location;
+			if (fingerprints.containsKey(jar.zipFilename))
+				continue;
+			JarFingerprints recorded = this.jarFingerprints.get(jar.zipFilename);
+			if ((recorded == null || recorded.lastModified != jar.lastModified()) && lastState != null)
+				recorded = lastState.jarFingerprints.get(jar.zipFilename);
+			if (recorded == null || recorded.lastModified != jar.lastModified()) {
+				try {
+					recorded = JarFingerprints.compute(jar);
+				} catch (IOException e) {
+					if (JavaBuilder.DEBUG)
+						trace("Could not fingerprint the types of " + jar.zipFilename, e); //$NON-NLS-1$
+					continue; // a change of the jar causes a full build
+				}
+			}
+			fingerprints.put(jar.zipFilename, recorded);
+		}
+	}
+	this.jarFingerprints = fingerprints;
 }
 
 /**
@@ -151,7 +200,8 @@ public boolean equals(Object obj) {
 			&& Arrays.equals(this.testSourceLocations, other.testSourceLocations)
 			&& Arrays.equals(this.testBinaryLocations, other.testBinaryLocations)
 			&& Objects.equals(this.typeLocators, other.typeLocators)
-			&& Objects.equals(this.references, other.references);
+			&& Objects.equals(this.references, other.references)
+			&& Objects.equals(this.jarFingerprints, other.jarFingerprints);
 // Below fields aren't persisted
 //			&& this.previousStructuralBuildTime == other.previousStructuralBuildTime
 //			&& Arrays.equals(this.knownPackageNames, other.knownPackageNames)
@@ -201,13 +251,13 @@ boolean isSourceFolderEmpty(IContainer sourceFolder) {
 	return this.typeLocators.isSourceFolderEmpty(sourceFolder);
 }
 
-void record(String typeLocator, char[][][] qualifiedRefs, char[][] simpleRefs, char[][] rootRefs, char[] mainTypeName, ArrayList typeNames) {
+void record(String typeLocator, char[][][] qualifiedRefs, char[][] simpleRefs, char[][] rootRefs, char[][] memberRefs, char[] mainTypeName, ArrayList typeNames) {
 	if (typeNames.size() == 1 && CharOperation.equals(mainTypeName, (char[]) typeNames.get(0))) {
-		this.references.put(typeLocator, new ReferenceCollection(qualifiedRefs, simpleRefs, rootRefs));
+		this.references.put(typeLocator, new ReferenceCollection(qualifiedRefs, simpleRefs, rootRefs, memberRefs));
 	} else {
 		char[][] definedTypeNames = new char[typeNames.size()][]; // can be empty when no types are defined
 		typeNames.toArray(definedTypeNames);
-		this.references.put(typeLocator, new AdditionalTypeCollection(definedTypeNames, qualifiedRefs, simpleRefs, rootRefs));
+		this.references.put(typeLocator, new AdditionalTypeCollection(definedTypeNames, qualifiedRefs, simpleRefs, rootRefs, memberRefs));
 	}
 }
 
@@ -292,51 +342,46 @@ static State read(IProject project, DataInputStream input) throws IOException, C
 	/*
 	 * Here we read global arrays of names for the entire project - do not mess up the ordering while interning
 	 */
-	char[][] internedRootNames = ReferenceCollection.internSimpleNames(readNames(in), false /* keep well known */, false /* do not sort */);
+	int[] rootIds = simpleIds(ReferenceCollection.internSimpleNames(readNames(in), false /* keep well known */, false /* do not sort */));
 	char[][] internedSimpleNames = ReferenceCollection.internSimpleNames(readNames(in), false /* keep well known */, false /* do not sort */);
-	char[][][] internedQualifiedNames = new char[length = in.readInt()][][];
+	int[] simpleIds = simpleIds(internedSimpleNames);
+	int[] qualifiedIds = new int[length = in.readInt()];
 	for (int i = 0; i < length; i++) {
 		int qLength = in.readInt();
 		char[][] qName = new char[qLength][];
 		for (int j = 0; j < qLength; j++)
 			qName[j] = internedSimpleNames[in.readIntInRange(internedSimpleNames.length)];
-		internedQualifiedNames[i] = qName;
+		qualifiedIds[i] = ReferenceCollection.Names.qualifiedId(qName);
 	}
-	internedQualifiedNames = ReferenceCollection.internQualifiedNames(internedQualifiedNames, false /* drop well known */, false /* do not sort */);
+
+	// the names of the collections are only decoded when a build queries them
+	byte[] encodedNames = new byte[in.readInt()];
+	in.readFully(encodedNames);
+	EncodedReferences encoded = new EncodedReferences(encodedNames, qualifiedIds, simpleIds, rootIds);
 
 	length = in.readInt();
 	newState.references = new LinkedHashMap((int) (length / 0.75 + 1));
+	int offset = 0;
 	for (int i = 0; i < length; i++) {
 		String typeLocator = internedTypeLocators[in.readInt()];
 		ReferenceCollection collection = null;
 		switch (in.readByte()) {
 			case 1 :
 				char[][] additionalTypeNames = readNames(in);
-				char[][][] qualifiedNames = new char[in.readInt()][][];
-				for (int j = 0, m = qualifiedNames.length; j < m; j++)
-					qualifiedNames[j] = internedQualifiedNames[in.readIntInRange(internedQualifiedNames.length)];
-				char[][] simpleNames = new char[in.readInt()][];
-				for (int j = 0, m = simpleNames.length; j < m; j++)
-					simpleNames[j] = internedSimpleNames[in.readIntInRange(internedSimpleNames.length)];
-				char[][] rootNames = new char[in.readInt()][];
-				for (int j = 0, m = rootNames.length; j < m; j++)
-					rootNames[j] = internedRootNames[in.readIntInRange(internedRootNames.length)];
-				collection = new AdditionalTypeCollection(additionalTypeNames, qualifiedNames, simpleNames, rootNames);
+				collection = new AdditionalTypeCollection(additionalTypeNames, encoded, offset);
 				break;
 			case 2 :
-				char[][][] qNames = new char[in.readInt()][][];
-				for (int j = 0, m = qNames.length; j < m; j++)
-					qNames[j] = internedQualifiedNames[in.readIntInRange(internedQualifiedNames.length)];
-				char[][] sNames = new char[in.readInt()][];
-				for (int j = 0, m = sNames.length; j < m; j++)
-					sNames[j] = internedSimpleNames[in.readIntInRange(internedSimpleNames.length)];
-				char[][] rNames = new char[in.readInt()][];
-				for (int j = 0, m = rNames.length; j < m; j++)
-					rNames[j] = internedRootNames[in.readIntInRange(internedRootNames.length)];
-				collection = new ReferenceCollection(qNames, sNames, rNames);
+				collection = new ReferenceCollection(encoded, offset);
 		}
+		offset += in.readVarInt();
+		if (offset > encodedNames.length)
+			throw new IOException("Invalid references offset " + offset); //$NON-NLS-1$
 		newState.references.put(typeLocator, collection);
 	}
+
+	length = in.readInt();
+	for (int i = 0; i < length; i++)
+		newState.jarFingerprints.put(in.readStringUsingDictionary(), JarFingerprints.read(in));
 	if (JavaBuilder.DEBUG) {
 		trace("Successfully read state for " + newState.javaProjectName); //$NON-NLS-1$
 	}
@@ -561,63 +606,90 @@ void write(DataOutputStream output) throws IOException {
  * char[][][]	Interned qualified names
  * char[][]	Interned simple names
  */
-	Map<CharArray, Integer> internedRootNames = new HashMap<>();
-	Map<CharCharArray, Integer> internedQualifiedNames = new HashMap<>();
-	Map<CharArray, Integer> internedSimpleNames = new HashMap<>();
+	// the local indexes of the names, keyed by their ids in the workspace table of names
+	NameIdTable names = ReferenceCollection.Names;
+	Map<Integer, Integer> internedRootNames = new HashMap<>();
+	Map<Integer, Integer> internedQualifiedNames = new HashMap<>();
+	Map<Integer, Integer> internedSimpleNames = new HashMap<>();
 	for (ReferenceCollection collection : this.references.values()) {
-		for (char[] rName : collection.rootReferences) {
-			// remember the names have been interned
-			internedRootNames.putIfAbsent(new CharArray(rName), internedRootNames.size());
+		for (int rId : collection.rootIds()) {
+			internedRootNames.putIfAbsent(rId, internedRootNames.size());
 		}
-		for (char[][] qName : collection.qualifiedNameReferences) {
-			// remember the names have been interned
-			if (internedQualifiedNames.putIfAbsent(new CharCharArray(qName), internedQualifiedNames.size()) == null) {
-				for (char[] sName : qName) {
-					// remember the names have been interned
-					internedSimpleNames.putIfAbsent(new CharArray(sName), internedSimpleNames.size());
+		for (int qId : collection.qualifiedNameIds()) {
+			if (internedQualifiedNames.putIfAbsent(qId, internedQualifiedNames.size()) == null) {
+				for (char[] sName : names.qualifiedName(qId)) {
+					internedSimpleNames.putIfAbsent(names.simpleId(sName), internedSimpleNames.size());
 				}
 			}
 		}
-		for (char[] sName : collection.simpleNameReferences) {
-			// remember the names have been interned
-			internedSimpleNames.putIfAbsent(new CharArray(sName), internedSimpleNames.size());
+		for (int sId : collection.simpleNameIds()) {
+			internedSimpleNames.putIfAbsent(sId, internedSimpleNames.size());
+		}
+		int[] mIds = collection.memberNameIds();
+		if (mIds != null) {
+			for (int mId : mIds) {
+				internedSimpleNames.putIfAbsent(mId, internedSimpleNames.size());
+			}
 		}
 	}
 	char[][] internedArray = new char[internedRootNames.size()][];
-	for (Entry<CharArray, Integer> entry: internedRootNames.entrySet()) {
+	for (Entry<Integer, Integer> entry: internedRootNames.entrySet()) {
 			int index = entry.getValue().intValue();
-			internedArray[index] = entry.getKey().getKey();
+			internedArray[index] = names.simpleName(entry.getKey().intValue());
 	}
 	writeNames(internedArray, out);
 	// now write the interned simple names
 	internedArray = new char[internedSimpleNames.size()][];
-	for (Entry<CharArray, Integer> entry: internedSimpleNames.entrySet()) {
+	for (Entry<Integer, Integer> entry: internedSimpleNames.entrySet()) {
 		int index = entry.getValue().intValue();
-		internedArray[index] = entry.getKey().getKey();
+		internedArray[index] = names.simpleName(entry.getKey().intValue());
 	}
 	writeNames(internedArray, out);
 	// now write the interned qualified names as arrays of interned simple names
 	char[][][] internedQArray = new char[internedQualifiedNames.size()][][];
-	for (Entry<CharCharArray, Integer> entry: internedQualifiedNames.entrySet()) {
+	for (Entry<Integer, Integer> entry: internedQualifiedNames.entrySet()) {
 		int index = entry.getValue().intValue();
-		internedQArray[index] = entry.getKey().getKey();
+		internedQArray[index] = names.qualifiedName(entry.getKey().intValue());
 	}
 	out.writeInt(internedQArray.length);
 	for (char[][] qName : internedQArray) {
 		int qLength = qName.length;
 		out.writeInt(qLength);
 		for (char[] qN:qName) {
-			Integer index = internedSimpleNames.get(new CharArray(qN));
+			Integer index = internedSimpleNames.get(names.simpleId(qN));
 			out.writeIntInRange(index.intValue(), internedSimpleNames.size());
 		}
 	}
 
+/*
+ * byte[]	Encoded names of the ReferenceCollections, see EncodedReferences
+ */
+	ByteArrayOutputStream encodedNames = new ByteArrayOutputStream();
+	CompressedWriter namesOut = new CompressedWriter(new DataOutputStream(encodedNames));
+	int[] encodedLengths = new int[this.references.size()];
+	int i = 0;
+	for (ReferenceCollection collection : this.references.values()) {
+		int start = encodedNames.size();
+		namesOut.writeSortedInts(indexesOf(collection.qualifiedNameIds(), internedQualifiedNames));
+		namesOut.writeSortedInts(indexesOf(collection.simpleNameIds(), internedSimpleNames));
+		namesOut.writeSortedInts(indexesOf(collection.rootIds(), internedRootNames));
+		int[] mIds = collection.memberNameIds();
+		namesOut.writeBoolean(mIds != null);
+		if (mIds != null) {
+			namesOut.writeSortedInts(indexesOf(mIds, internedSimpleNames));
+		}
+		encodedLengths[i++] = encodedNames.size() - start;
+	}
+	out.writeInt(encodedNames.size());
+	out.write(encodedNames.toByteArray());
+
 /*
  * References table
  * int		interned locator id
- * ReferenceCollection
+ * ReferenceCollection, the length of its encoded names
 */
 	out.writeInt(this.references.size());
+	i = 0;
 	for (Entry<String, ReferenceCollection> entry : this.references.entrySet()) {
 		String key = entry.getKey();
 		Integer index = internedTypeLocators.get(key);
@@ -630,30 +702,32 @@ void write(DataOutputStream output) throws IOException {
 		} else {
 			out.writeByte(2);
 		}
-		char[][][] qNames = collection.qualifiedNameReferences;
-		int qLength = qNames.length;
-		out.writeInt(qLength);
-		for (char[][] qName:qNames) {
-			Integer i = internedQualifiedNames.get(new CharCharArray(qName));
-			out.writeIntInRange(i.intValue(), internedQualifiedNames.size());
-		}
-		char[][] sNames = collection.simpleNameReferences;
-		int sLength = sNames.length;
-		out.writeInt(sLength);
-		for (char[] sName: sNames) {
-			Integer i = internedSimpleNames.get(new CharArray(sName));
-			out.writeIntInRange(i.intValue(), internedSimpleNames.size());
-		}
-		char[][] rNames = collection.rootReferences;
-		int rLength = rNames.length;
-		out.writeInt(rLength);
-		for (char[] rName: rNames) {
-			Integer i = internedRootNames.get(new CharArray(rName));
-			out.writeIntInRange(i.intValue(), internedRootNames.size());
-		}
+		out.writeVarInt(encodedLengths[i++]);
+	}
+
+/*
+ * JarFingerprints table
+ * String	jar file name
+ * JarFingerprints
+ */
+	out.writeInt(this.jarFingerprints.size());
+	for (Entry<String, JarFingerprints> entry : this.jarFingerprints.entrySet()) {
+		out.writeStringUsingDictionary(entry.getKey());
+		entry.getValue().write(out);
 	}
 }
 
+/**
+ * Answers the sorted interned indexes of the names of the given ids.
+ */
+private static int[] indexesOf(int[] ids, Map<Integer, Integer> internedIndexes) {
+	int[] indexes = new int[ids.length];
+	for (int i = 0; i < ids.length; i++)
+		indexes[i] = internedIndexes.get(ids[i]).intValue();
+	Arrays.sort(indexes);
+	return indexes;
+}
+
 private void writeSourceLocations(CompressedWriter out, ClasspathMultiDirectory[] srcLocations) throws IOException {
 	out.writeInt(srcLocations.length);
 	for (ClasspathMultiDirectory md: srcLocations) {
@@ -782,6 +856,13 @@ private void writeNames(char[][] names, CompressedWriter out) throws IOException
 	}
 }
 
+private static int[] simpleIds(char[][] internedNames) {
+	int[] ids = new int[internedNames.length];
+	for (int i = 0; i < ids.length; i++)
+		ids[i] = ReferenceCollection.Names.simpleId(internedNames[i]);
+	return ids;
+}
+
 private static char[][] readNames(CompressedReader in) throws IOException {
 	int length = in.readInt();
 	char[][] names = new char[length][];